@@ -2,29 +2,34 @@ package com.skateboard.podcast.appconfig.service.application.adapter.in.rest;
 
 import com.skateboard.podcast.appconfig.service.application.port.in.AppConfigUseCase;
 import com.skateboard.podcast.standardbe.api.AdminConfigApi;
-import com.skateboard.podcast.standardbe.api.PublicConfigApi;
 import com.skateboard.podcast.standardbe.api.model.AppConfig;
+import com.skateboard.podcast.web.config.ConfigResponseWriter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.Optional;
 
 @RestController
-public class AppConfigController implements PublicConfigApi, AdminConfigApi {
+public class AppConfigController implements AdminConfigApi {
 
     private final AppConfigUseCase appConfigUseCase;
     private final AppConfigApiMapper mapper;
+    private final ConfigResponseWriter responseWriter;
 
     public AppConfigController(
             final AppConfigUseCase appConfigUseCase,
-            final AppConfigApiMapper mapper
+            final AppConfigApiMapper mapper,
+            final ConfigResponseWriter responseWriter
     ) {
         this.appConfigUseCase = appConfigUseCase;
         this.mapper = mapper;
+        this.responseWriter = responseWriter;
     }
 
     @Override
@@ -32,13 +37,13 @@ public class AppConfigController implements PublicConfigApi, AdminConfigApi {
         return Optional.empty();
     }
 
-    @Override
+    // Not PublicConfigApi#publicAppConfig: the body is the cached JSON bytes, not an AppConfig.
     @GetMapping(
             value = "/public/app-config",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<AppConfig> publicAppConfig() {
-        return ResponseEntity.ok(mapper.toApi(appConfigUseCase.get()));
+    public ResponseEntity<byte[]> publicAppConfig(@RequestHeader final HttpHeaders requestHeaders) {
+        return responseWriter.write(appConfigUseCase.getVersioned(), "public", mapper::toApi, requestHeaders);
     }
 
     @Override
@@ -3,14 +3,16 @@ package com.skateboard.podcast.appconfig.service.application.adapter.in.rest;
 import com.skateboard.podcast.appconfig.service.application.port.in.NavigationConfigUseCase;
 import com.skateboard.podcast.domain.security.CurrentUser;
 import com.skateboard.podcast.standardbe.api.AdminNavigationConfigApi;
-import com.skateboard.podcast.standardbe.api.PublicNavigationConfigApi;
 import com.skateboard.podcast.standardbe.api.model.NavigationConfig;
+import com.skateboard.podcast.web.config.ConfigResponseWriter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.NativeWebRequest;
 
@@ -18,17 +20,20 @@ import java.util.List;
 import java.util.Optional;
 
 @RestController
-public class NavigationConfigController implements PublicNavigationConfigApi, AdminNavigationConfigApi {
+public class NavigationConfigController implements AdminNavigationConfigApi {
 
     private final NavigationConfigUseCase navigationConfigUseCase;
     private final NavigationConfigApiMapper mapper;
+    private final ConfigResponseWriter responseWriter;
 
     public NavigationConfigController(
             final NavigationConfigUseCase navigationConfigUseCase,
-            final NavigationConfigApiMapper mapper
+            final NavigationConfigApiMapper mapper,
+            final ConfigResponseWriter responseWriter
     ) {
         this.navigationConfigUseCase = navigationConfigUseCase;
         this.mapper = mapper;
+        this.responseWriter = responseWriter;
     }
 
     @Override
@@ -36,17 +41,17 @@ public class NavigationConfigController implements PublicNavigationConfigApi, Ad
         return Optional.empty();
     }
 
-    @Override
+    // Not PublicNavigationConfigApi#publicNavigationConfigGet: the body is the cached JSON bytes.
     @GetMapping(
             value = "/public/navigation-config",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<NavigationConfig> publicNavigationConfigGet() {
+    public ResponseEntity<?> publicNavigationConfigGet(@RequestHeader final HttpHeaders requestHeaders) {
         final CurrentUser currentUser = currentUser();
         if (currentUser == null) {
             return ResponseEntity.ok(new NavigationConfig().tabs(List.of()));
         }
-        return ResponseEntity.ok(mapper.toApi(navigationConfigUseCase.get()));
+        return responseWriter.write(navigationConfigUseCase.getVersioned(), "public", mapper::toApi, requestHeaders);
     }
 
     @Override
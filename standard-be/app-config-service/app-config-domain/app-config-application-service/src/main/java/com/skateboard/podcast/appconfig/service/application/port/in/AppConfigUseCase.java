@@ -1,9 +1,17 @@
 package com.skateboard.podcast.appconfig.service.application.port.in;
 
 import com.skateboard.podcast.appconfig.service.application.dto.AppConfigView;
+import com.skateboard.podcast.domain.config.VersionedConfig;
 
 public interface AppConfigUseCase {
     AppConfigView get();
 
+    VersionedConfig<AppConfigView> getVersioned();
+
     AppConfigView update(AppConfigView config);
+
+    /**
+     * Drops the cached config so the next read reloads it, e.g. after another node wrote it.
+     */
+    void invalidateCache();
 }
@@ -1,9 +1,14 @@
 package com.skateboard.podcast.appconfig.service.application.port.in;
 
 import com.skateboard.podcast.appconfig.service.application.dto.NavigationConfigView;
+import com.skateboard.podcast.domain.config.VersionedConfig;
 
 public interface NavigationConfigUseCase {
     NavigationConfigView get();
 
+    VersionedConfig<NavigationConfigView> getVersioned();
+
     NavigationConfigView update(NavigationConfigView config);
+
+    void invalidateCache();
 }
@@ -5,8 +5,11 @@ import com.skateboard.podcast.appconfig.service.application.dto.SplashConfigView
 import com.skateboard.podcast.appconfig.service.application.port.in.AppConfigUseCase;
 import com.skateboard.podcast.appconfig.service.application.port.out.AppConfigEventPublisher;
 import com.skateboard.podcast.appconfig.service.application.port.out.AppConfigRepository;
+import com.skateboard.podcast.domain.config.ReadThroughConfigCache;
+import com.skateboard.podcast.domain.config.VersionedConfig;
 import com.skateboard.podcast.domain.exception.ValidationException;
 
+import java.time.Duration;
 import java.time.Instant;
 
 public class AppConfigService implements AppConfigUseCase {
@@ -17,29 +20,49 @@ public class AppConfigService implements AppConfigUseCase {
 
     private final AppConfigRepository repository;
     private final AppConfigEventPublisher eventPublisher;
+    private final ReadThroughConfigCache<AppConfigView> cache;
 
     public AppConfigService(
             final AppConfigRepository repository,
-            final AppConfigEventPublisher eventPublisher
+            final AppConfigEventPublisher eventPublisher,
+            final Duration cacheMaxAge
     ) {
         this.repository = repository;
         this.eventPublisher = eventPublisher;
+        this.cache = new ReadThroughConfigCache<>(this::load, cacheMaxAge);
     }
 
     @Override
     public AppConfigView get() {
-        return toView(loadOrCreate());
+        return cache.get().value();
+    }
+
+    @Override
+    public VersionedConfig<AppConfigView> getVersioned() {
+        return cache.get();
     }
 
     @Override
     public AppConfigView update(final AppConfigView updated) {
         validate(updated);
         final AppConfigRepository.AppConfigRecord existing = loadOrCreate();
+        final Instant now = Instant.now();
         final AppConfigRepository.AppConfigRecord saved = repository.save(
-                toRecord(existing.id(), updated, existing.updatedAt())
+                toRecord(existing.id(), updated, now)
         );
-        eventPublisher.publishConfigUpdated(Instant.now());
-        return toView(saved);
+        final AppConfigView view = cache.put(toView(saved), now).value();
+        eventPublisher.publishConfigUpdated(now);
+        return view;
+    }
+
+    @Override
+    public void invalidateCache() {
+        cache.invalidate();
+    }
+
+    private ReadThroughConfigCache.Loaded<AppConfigView> load() {
+        final AppConfigRepository.AppConfigRecord record = loadOrCreate();
+        return new ReadThroughConfigCache.Loaded<>(toView(record), record.updatedAt());
     }
 
     private AppConfigRepository.AppConfigRecord loadOrCreate() {
@@ -7,8 +7,11 @@ import com.skateboard.podcast.appconfig.service.application.dto.NavigationTabVie
 import com.skateboard.podcast.appconfig.service.application.port.in.NavigationConfigUseCase;
 import com.skateboard.podcast.appconfig.service.application.port.out.NavigationConfigEventPublisher;
 import com.skateboard.podcast.appconfig.service.application.port.out.NavigationConfigRepository;
+import com.skateboard.podcast.domain.config.ReadThroughConfigCache;
+import com.skateboard.podcast.domain.config.VersionedConfig;
 import com.skateboard.podcast.domain.exception.ValidationException;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
@@ -23,31 +26,51 @@ public class NavigationConfigService implements NavigationConfigUseCase {
     private final NavigationConfigRepository repository;
     private final NavigationConfigEventPublisher eventPublisher;
     private final ObjectMapper objectMapper;
+    private final ReadThroughConfigCache<NavigationConfigView> cache;
 
     public NavigationConfigService(
             final NavigationConfigRepository repository,
             final NavigationConfigEventPublisher eventPublisher,
-            final ObjectMapper objectMapper
+            final ObjectMapper objectMapper,
+            final Duration cacheMaxAge
     ) {
         this.repository = repository;
         this.eventPublisher = eventPublisher;
         this.objectMapper = objectMapper;
+        this.cache = new ReadThroughConfigCache<>(this::load, cacheMaxAge);
     }
 
     @Override
     public NavigationConfigView get() {
-        return toView(loadOrCreate());
+        return cache.get().value();
+    }
+
+    @Override
+    public VersionedConfig<NavigationConfigView> getVersioned() {
+        return cache.get();
     }
 
     @Override
     public NavigationConfigView update(final NavigationConfigView updated) {
         validate(updated);
         final NavigationConfigRepository.NavigationConfigRecord existing = loadOrCreate();
+        final Instant now = Instant.now();
         final NavigationConfigRepository.NavigationConfigRecord saved = repository.save(
-                toRecord(existing.id(), updated, existing.updatedAt())
+                toRecord(existing.id(), updated, now)
         );
-        eventPublisher.publishNavigationUpdated(Instant.now());
-        return toView(saved);
+        final NavigationConfigView view = cache.put(toView(saved), now).value();
+        eventPublisher.publishNavigationUpdated(now);
+        return view;
+    }
+
+    @Override
+    public void invalidateCache() {
+        cache.invalidate();
+    }
+
+    private ReadThroughConfigCache.Loaded<NavigationConfigView> load() {
+        final NavigationConfigRepository.NavigationConfigRecord record = loadOrCreate();
+        return new ReadThroughConfigCache.Loaded<>(toView(record), record.updatedAt());
     }
 
     private NavigationConfigRepository.NavigationConfigRecord loadOrCreate() {
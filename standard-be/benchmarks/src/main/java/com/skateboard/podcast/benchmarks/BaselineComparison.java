@@ -0,0 +1,106 @@
+package com.skateboard.podcast.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files ({@code -rf json}) and exits with status 1 when any
+ * benchmark present in both got slower than the threshold. Every score this suite reports is a
+ * time per operation, so a higher score is a regression.
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.skateboard.podcast.benchmarks.BaselineComparison \
+ *     benchmarks/baseline.json current.json 10
+ * </pre>
+ */
+public final class BaselineComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private BaselineComparison() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final Map<String, Score> baseline = read(objectMapper, Path.of(args[0]));
+        final Map<String, Score> current = read(objectMapper, Path.of(args[1]));
+
+        int regressions = 0;
+        for (final Map.Entry<String, Score> entry : current.entrySet()) {
+            final Score before = baseline.get(entry.getKey());
+            final Score after = entry.getValue();
+            if (before == null) {
+                System.out.printf(
+                        Locale.ROOT, "%-80s %12.3f %-6s (new)%n", entry.getKey(), after.value(), after.unit()
+                );
+                continue;
+            }
+            if (!before.unit().equals(after.unit())) {
+                System.out.printf(
+                        Locale.ROOT, "%-80s unit changed %s -> %s%n", entry.getKey(), before.unit(), after.unit()
+                );
+                continue;
+            }
+            final double change = (after.value() - before.value()) / before.value() * 100.0;
+            final boolean regressed = change > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf(
+                    Locale.ROOT,
+                    "%-80s %12.3f -> %12.3f %-6s %+7.1f%%%s%n",
+                    entry.getKey(), before.value(), after.value(), after.unit(), change,
+                    regressed ? "  REGRESSION" : ""
+            );
+        }
+        for (final String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) {
+                System.out.printf(Locale.ROOT, "%-80s (missing from current run)%n", missing);
+            }
+        }
+        if (regressions > 0) {
+            System.out.printf(Locale.ROOT, "%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(final ObjectMapper objectMapper, final Path file) throws IOException {
+        final Map<String, Score> scores = new LinkedHashMap<>();
+        for (final JsonNode result : objectMapper.readTree(file.toFile())) {
+            final JsonNode metric = result.path("primaryMetric");
+            scores.put(
+                    key(result),
+                    new Score(metric.path("score").asDouble(), metric.path("scoreUnit").asText())
+            );
+        }
+        return scores;
+    }
+
+    // JMH reports one result per @Param combination, so the params are part of the key.
+    private static String key(final JsonNode result) {
+        final StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+        String separator = ":";
+        for (final Map.Entry<String, JsonNode> param : result.path("params").properties()) {
+            key.append(separator).append(param.getKey()).append('=').append(param.getValue().asText());
+            separator = ",";
+        }
+        final int threads = result.path("threads").asInt(1);
+        if (threads > 1) {
+            key.append(" [").append(threads).append(" threads]");
+        }
+        return key.toString();
+    }
+
+    private record Score(double value, String unit) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.skateboard.podcast.benchmarks.common;
+
+import com.skateboard.podcast.domain.valueobject.Slug;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Slug#normalize} over a rotating set of titles like the ones admins and imports produce:
+ * punctuation, mixed case, accents, runs of separators and long episode titles.
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar SlugBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SlugBenchmark {
+
+    private static final String[] TITLES = {
+            "Episode 142: Kickflips, Coffee & the Southbank Crew",
+            "already-a-clean-slug",
+            "  Street League 2024 -- Finals (Recap!)  ",
+            "Caf\u00e9 Session \u2014 Lisbon's Best Spots",
+            "HOW_TO_OLLIE_HIGHER___part_2",
+            "Interview w/ @local_ripper: 10 years of DIY parks, bowls, ledges and everything in between",
+            "???!!! Best Slams of the Year !!!???",
+            "Nollie heelflip / switch tre / fakie bigspin"
+    };
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        next = 0;
+    }
+
+    @Benchmark
+    public String normalize() {
+        final String title = TITLES[next];
+        next = (next + 1) % TITLES.length;
+        return Slug.normalize(title);
+    }
+}
@@ -0,0 +1,91 @@
+package com.skateboard.podcast.benchmarks.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skateboard.podcast.feed.service.application.adapter.in.rest.FeedApiMapper;
+import com.skateboard.podcast.feed.service.application.dto.FeedItemSummaryView;
+import com.skateboard.podcast.feed.service.application.service.PublicFeedService;
+import com.skateboard.podcast.standardbe.api.model.FeedItemSummary;
+import com.skateboard.podcast.standardbe.api.model.PageFeedItemSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping feed views to API models, dominated by parsing the stored thumbnail JSON. Covers a full
+ * page, a single item with a stored object, and a single item whose thumbnail was stored
+ * double-encoded, which takes the fallback path.
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar FeedApiMapperBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedApiMapperBenchmark {
+
+    private FeedApiMapper mapper;
+    private ObjectMapper objectMapper;
+    private List<FeedItemSummaryView> page;
+    private FeedItemSummaryView withThumbnail;
+    private FeedItemSummaryView withEncodedThumbnail;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        mapper = new FeedApiMapper(objectMapper);
+        page = new PublicFeedService(
+                new FeedFixtures.InMemoryPostRepository(FeedFixtures.posts(200, 1L)),
+                new FeedFixtures.InMemoryFeedEventRepository(FeedFixtures.events(50, 2L))
+        ).listPublished(0, 20);
+        withThumbnail = page.stream()
+                .filter(item -> item.thumbnailJson() != null)
+                .findFirst()
+                .orElseThrow();
+        withEncodedThumbnail = withThumbnail(
+                withThumbnail,
+                objectMapper.writeValueAsString(withThumbnail.thumbnailJson())
+        );
+    }
+
+    @Benchmark
+    public PageFeedItemSummary mapPage() {
+        return mapper.toPageFeedItemSummary(page, 0, 20);
+    }
+
+    @Benchmark
+    public FeedItemSummary mapItem() {
+        return mapper.toFeedItemSummary(withThumbnail);
+    }
+
+    @Benchmark
+    public FeedItemSummary mapItemWithEncodedThumbnail() {
+        return mapper.toFeedItemSummary(withEncodedThumbnail);
+    }
+
+    @Benchmark
+    public String serializePage() throws Exception {
+        return objectMapper.writeValueAsString(mapper.toPageFeedItemSummary(page, 0, 20));
+    }
+
+    private static FeedItemSummaryView withThumbnail(final FeedItemSummaryView item, final String thumbnailJson) {
+        return new FeedItemSummaryView(
+                item.type(), item.id(), item.title(), item.slug(), item.excerpt(), item.tags(), item.status(),
+                thumbnailJson, item.publishedAt(), item.startAt(), item.endAt(), item.timezone(),
+                item.location(), item.ticketsUrl(), item.createdAt(), item.updatedAt(), item.createdBy()
+        );
+    }
+}
@@ -0,0 +1,298 @@
+package com.skateboard.podcast.benchmarks.feed;
+
+import com.skateboard.podcast.domain.valueobject.EventStatus;
+import com.skateboard.podcast.domain.valueobject.PostStatus;
+import com.skateboard.podcast.domain.valueobject.Slug;
+import com.skateboard.podcast.domain.valueobject.Tag;
+import com.skateboard.podcast.feed.service.application.dto.FeedCursor;
+import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Seeded generators for posts and events shaped like production rows (a few years of episodes,
+ * a handful of tags, a thumbnail on most items), plus read-only repositories that answer the
+ * keyset queries the feed services issue, from memory.
+ */
+public final class FeedFixtures {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration SPAN = Duration.ofDays(3 * 365);
+    private static final String[] WORDS = {
+            "kickflip", "session", "street", "park", "bowl", "vert", "crew", "interview", "deck", "trucks",
+            "wheels", "grind", "manual", "ledge", "rail", "contest", "tour", "podcast", "episode", "local",
+            "shop", "video", "part", "slam", "bails", "hardflip", "heelflip", "nollie", "fakie", "switch"
+    };
+    private static final String[] TAGS = {
+            "news", "interview", "contest", "gear", "travel", "video", "tricks", "history", "local", "events"
+    };
+    private static final String[] LOCATIONS = {
+            "Southbank, London", "MACBA, Barcelona", "FDR, Philadelphia", "Burnside, Portland", "Lisbon"
+    };
+
+    private FeedFixtures() {
+    }
+
+    public static List<PostRepository.PostSummaryRecord> posts(final int count, final long seed) {
+        final Random random = new Random(seed);
+        final List<PostRepository.PostSummaryRecord> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Instant publishedAt = instantWithinSpan(random);
+            final String title = title(random);
+            posts.add(new PostRepository.PostSummaryRecord(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    title,
+                    Slug.of(title + "-" + i),
+                    sentence(random, 12 + random.nextInt(20)),
+                    tags(random),
+                    PostStatus.PUBLISHED,
+                    random.nextInt(10) < 8 ? thumbnailJson(random, title) : null,
+                    new UUID(random.nextLong(), random.nextLong()),
+                    publishedAt.minus(Duration.ofHours(2)),
+                    publishedAt,
+                    publishedAt
+            ));
+        }
+        return posts;
+    }
+
+    public static List<FeedEventRepository.FeedEventSummaryRecord> events(final int count, final long seed) {
+        final Random random = new Random(seed);
+        final List<FeedEventRepository.FeedEventSummaryRecord> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Instant startAt = instantWithinSpan(random);
+            final String title = title(random);
+            events.add(new FeedEventRepository.FeedEventSummaryRecord(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    title,
+                    Slug.of(title + "-" + i),
+                    sentence(random, 10 + random.nextInt(15)),
+                    tags(random),
+                    EventStatus.PUBLISHED,
+                    random.nextInt(10) < 6 ? thumbnailJson(random, title) : null,
+                    startAt,
+                    startAt.plus(Duration.ofHours(3)),
+                    "Europe/London",
+                    LOCATIONS[random.nextInt(LOCATIONS.length)],
+                    "https://tickets.example.com/" + i,
+                    new UUID(random.nextLong(), random.nextLong()),
+                    startAt.minus(Duration.ofDays(14)),
+                    startAt.minus(Duration.ofDays(7))
+            ));
+        }
+        return events;
+    }
+
+    public static String title(final Random random) {
+        return capitalize(sentence(random, 3 + random.nextInt(6)));
+    }
+
+    public static String thumbnailJson(final Random random, final String alt) {
+        return "{\"url\":\"https://cdn.example.com/thumbs/" + Long.toHexString(random.nextLong())
+                + ".jpg\",\"alt\":\"" + alt + "\",\"width\":1280,\"height\":720}";
+    }
+
+    private static Instant instantWithinSpan(final Random random) {
+        return NOW.minusSeconds((long) (random.nextDouble() * SPAN.getSeconds()));
+    }
+
+    private static String sentence(final Random random, final int words) {
+        final StringBuilder out = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                out.append(' ');
+            }
+            out.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return out.toString();
+    }
+
+    private static List<Tag> tags(final Random random) {
+        final int count = random.nextInt(4);
+        final List<Tag> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tags.add(Tag.of(TAGS[random.nextInt(TAGS.length)]));
+        }
+        return tags;
+    }
+
+    private static String capitalize(final String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    /**
+     * Sorted newest first by (sortAt, id), the order of the keyset indexes.
+     */
+    private static <T> List<T> keysetOrdered(
+            final List<T> rows,
+            final Function<T, Instant> sortAt,
+            final Function<T, UUID> id
+    ) {
+        final List<T> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(sortAt).thenComparing(id, FeedCursor::compareIds).reversed());
+        return Collections.unmodifiableList(sorted);
+    }
+
+    private static <T> List<T> after(
+            final List<T> sorted,
+            final Function<T, Instant> sortAt,
+            final Function<T, UUID> id,
+            final Instant afterSortAt,
+            final UUID afterId,
+            final int limit
+    ) {
+        int from = 0;
+        if (afterSortAt != null) {
+            int low = 0;
+            int high = sorted.size();
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                final T row = sorted.get(mid);
+                final int bySortAt = sortAt.apply(row).compareTo(afterSortAt);
+                final boolean isAfter = bySortAt < 0
+                        || (bySortAt == 0 && FeedCursor.compareIds(id.apply(row), afterId) < 0);
+                if (isAfter) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            from = low;
+        }
+        return sorted.subList(from, Math.min(sorted.size(), from + limit));
+    }
+
+    public static final class InMemoryPostRepository implements PostRepository {
+
+        private final List<PostSummaryRecord> published;
+
+        public InMemoryPostRepository(final List<PostSummaryRecord> posts) {
+            this.published = keysetOrdered(posts, PostSummaryRecord::publishedAt, PostSummaryRecord::id);
+        }
+
+        @Override
+        public List<PostSummaryRecord> findPublishedAfter(final Instant sortAt, final UUID id, final int limit) {
+            return List.copyOf(
+                    after(published, PostSummaryRecord::publishedAt, PostSummaryRecord::id, sortAt, id, limit));
+        }
+
+        @Override
+        public FeedStats fetchPublishedFeedStats() {
+            return new FeedStats(published.isEmpty() ? null : published.get(0).updatedAt(), published.size());
+        }
+
+        @Override
+        public Optional<PostRecord> findBySlug(final Slug slug) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<PostRecord> findById(final UUID id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<PostSummaryRecord> findSummaries(final int page, final int size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<PostSummaryRecord> findSummariesByStatus(final PostStatus status, final int page, final int size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<PostSummaryRecord> findPublishedSummaries(final int page, final int size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PostRecord save(final PostRecord post) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(final UUID id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteAll() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    public static final class InMemoryFeedEventRepository implements FeedEventRepository {
+
+        private final List<FeedEventSummaryRecord> published;
+
+        public InMemoryFeedEventRepository(final List<FeedEventSummaryRecord> events) {
+            this.published = keysetOrdered(events, FeedEventSummaryRecord::startAt, FeedEventSummaryRecord::id);
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findPublishedAfter(final Instant sortAt, final UUID id, final int limit) {
+            return List.copyOf(
+                    after(published, FeedEventSummaryRecord::startAt, FeedEventSummaryRecord::id, sortAt, id, limit));
+        }
+
+        @Override
+        public FeedEventStats fetchPublishedStats() {
+            return new FeedEventStats(published.isEmpty() ? null : published.get(0).updatedAt(), published.size());
+        }
+
+        @Override
+        public Optional<FeedEventRecord> findBySlug(final Slug slug) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<FeedEventRecord> findById(final UUID id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findSummaries(final int page, final int size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findSummariesByStatus(
+                final EventStatus status,
+                final int page,
+                final int size
+        ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findPublishedSummaries(final int page, final int size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FeedEventRecord save(final FeedEventRecord event) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(final UUID id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteAll() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.skateboard.podcast.benchmarks.feed;
+
+import com.skateboard.podcast.feed.service.application.dto.FeedPageView;
+import com.skateboard.podcast.feed.service.application.service.PublicFeedService;
+import com.skateboard.podcast.feed.service.application.service.PublishedFeedSnapshotStore;
+import com.skateboard.podcast.feed.service.application.service.SnapshotPublicFeedService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public feed pages: the keyset merge over posts and events ({@code merge*}) against the in-memory
+ * snapshot ({@code snapshot*}), at the first page, a deep offset page and a cursor page. The
+ * repositories answer from memory, so this measures merge and sort cost, not the database.
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar PublicFeedBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PublicFeedBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 50;
+
+    @Param({"1000", "20000"})
+    public int posts;
+
+    @Param({"200"})
+    public int events;
+
+    private PublicFeedService mergeService;
+    private SnapshotPublicFeedService snapshotService;
+    private String cursor;
+
+    @Setup
+    public void setUp() {
+        final var postRepository = new FeedFixtures.InMemoryPostRepository(FeedFixtures.posts(posts, 1L));
+        final var eventRepository = new FeedFixtures.InMemoryFeedEventRepository(FeedFixtures.events(events, 2L));
+        mergeService = new PublicFeedService(postRepository, eventRepository);
+        snapshotService = new SnapshotPublicFeedService(
+                new PublishedFeedSnapshotStore(postRepository, eventRepository, Duration.ZERO));
+        snapshotService.listPublished(0, PAGE_SIZE);
+        FeedPageView page = mergeService.listPublishedAfter(null, PAGE_SIZE);
+        for (int i = 1; i < DEEP_PAGE; i++) {
+            page = mergeService.listPublishedAfter(page.nextCursor(), PAGE_SIZE);
+        }
+        cursor = page.nextCursor();
+    }
+
+    @Benchmark
+    public List<?> mergeFirstPage() {
+        return mergeService.listPublished(0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<?> mergeDeepPage() {
+        return mergeService.listPublished(DEEP_PAGE, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public FeedPageView mergeCursorPage() {
+        return mergeService.listPublishedAfter(cursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<?> snapshotFirstPage() {
+        return snapshotService.listPublished(0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<?> snapshotDeepPage() {
+        return snapshotService.listPublished(DEEP_PAGE, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public FeedPageView snapshotCursorPage() {
+        return snapshotService.listPublishedAfter(cursor, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,72 @@
+package com.skateboard.podcast.benchmarks.iam;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Verbatim copy of the original TokenService verify path (fresh Mac per call, regex split,
+ * signature re-encoding, split-based payload parsing), kept as the "before" side of
+ * {@link TokenServiceBenchmark}.
+ */
+final class LegacyAccessTokenVerifier {
+
+    private final String issuer;
+    private final String hmacSecret;
+
+    LegacyAccessTokenVerifier(final String issuer, final String hmacSecret) {
+        this.issuer = issuer;
+        this.hmacSecret = hmacSecret;
+    }
+
+    UUID verify(final String token) {
+        try {
+            final String[] parts = token.split("\\.");
+            if (parts.length != 2) return null;
+
+            final String payloadB64 = parts[0];
+            final String sigB64 = parts[1];
+
+            final byte[] expectedSig = hmacSha256(payloadB64.getBytes(StandardCharsets.UTF_8), hmacSecret);
+            final String expectedSigB64 = Base64.getUrlEncoder().withoutPadding().encodeToString(expectedSig);
+
+            if (!MessageDigest.isEqual(expectedSigB64.getBytes(StandardCharsets.UTF_8), sigB64.getBytes(StandardCharsets.UTF_8))) {
+                return null;
+            }
+
+            final String payload = new String(Base64.getUrlDecoder().decode(payloadB64), StandardCharsets.UTF_8);
+            String iss = null, sub = null;
+            long exp = 0;
+            for (final String kv : payload.split(";")) {
+                final String[] kvParts = kv.split("=", 2);
+                if (kvParts.length != 2) continue;
+                switch (kvParts[0]) {
+                    case "iss" -> iss = kvParts[1];
+                    case "sub" -> sub = kvParts[1];
+                    case "exp" -> exp = Long.parseLong(kvParts[1]);
+                    default -> {
+                    }
+                }
+            }
+            if (!issuer.equals(iss)) return null;
+            if (Instant.now().isAfter(Instant.ofEpochSecond(exp))) return null;
+            return UUID.fromString(sub);
+        } catch (final Exception e) {
+            return null;
+        }
+    }
+
+    private static byte[] hmacSha256(final byte[] data, final String secret) {
+        try {
+            final Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(data);
+        } catch (final Exception e) {
+            throw new IllegalStateException("Cannot compute HMAC", e);
+        }
+    }
+}
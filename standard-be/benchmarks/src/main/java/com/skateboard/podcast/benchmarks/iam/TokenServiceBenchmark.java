@@ -0,0 +1,73 @@
+package com.skateboard.podcast.benchmarks.iam;
+
+import com.skateboard.podcast.iam.service.dataaccess.crypto.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access-token verification throughput, current TokenService against the original implementation.
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar TokenServiceBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenServiceBenchmark {
+
+    private static final String ISSUER = "standard-be";
+    private static final String SECRET = "CHANGE_ME_TO_32+_CHARS_MINIMUM________";
+
+    private TokenService tokenService;
+    private LegacyAccessTokenVerifier legacyVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService(5_184_000, ISSUER, 900, SECRET, "pepper");
+        legacyVerifier = new LegacyAccessTokenVerifier(ISSUER, SECRET);
+        token = tokenService.createAccessToken(UUID.randomUUID(), "USER", "rider@example.com");
+    }
+
+    @Benchmark
+    public Object verify() {
+        return tokenService.verifyAccessToken(token);
+    }
+
+    @Benchmark
+    public Object verifyLegacy() {
+        return legacyVerifier.verify(token);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object verifyContended() {
+        return tokenService.verifyAccessToken(token);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object verifyLegacyContended() {
+        return legacyVerifier.verify(token);
+    }
+
+    @Benchmark
+    public String create() {
+        return tokenService.createAccessToken(UUID.randomUUID(), "USER", "rider@example.com");
+    }
+}
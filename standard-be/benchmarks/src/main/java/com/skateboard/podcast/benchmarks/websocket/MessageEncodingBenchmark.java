@@ -0,0 +1,60 @@
+package com.skateboard.podcast.benchmarks.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skateboard.podcast.web.realtime.RealtimeMessageEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RealtimeMessageEncoder}, the envelope encoding the WebSocket publishers use, for an item
+ * message ({@code post.published}) and an aggregate one ({@code feed.updated}).
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar MessageEncodingBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageEncodingBenchmark {
+
+    private RealtimeMessageEncoder encoder;
+    private UUID postId;
+    private String slug;
+    private Instant updatedAt;
+
+    @Setup
+    public void setUp() {
+        encoder = new RealtimeMessageEncoder(new ObjectMapper());
+        postId = UUID.randomUUID();
+        slug = "episode-142-kickflips-coffee-and-the-southbank-crew";
+        updatedAt = Instant.parse("2024-06-01T12:00:00Z");
+    }
+
+    @Benchmark
+    public String itemMessage() throws Exception {
+        return encoder.encode(
+                "post.published",
+                RealtimeMessageEncoder.itemPayload("postId", postId, slug, updatedAt)
+        );
+    }
+
+    @Benchmark
+    public String updatedMessage() throws Exception {
+        return encoder.encode("feed.updated", RealtimeMessageEncoder.updatedPayload(updatedAt));
+    }
+}
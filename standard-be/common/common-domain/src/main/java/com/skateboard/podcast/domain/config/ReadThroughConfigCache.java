@@ -0,0 +1,83 @@
+package com.skateboard.podcast.domain.config;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Single-entry cache for a single-row config. Reads are a volatile load; the loader runs once on
+ * first use and again after {@code maxAge} (so other nodes' writes are picked up), while readers
+ * keep getting the previous value. Writers publish the saved value with {@link #put}.
+ */
+public final class ReadThroughConfigCache<V> {
+
+    private final Supplier<Loaded<V>> loader;
+    private final Duration maxAge;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong revisions = new AtomicLong();
+    private volatile Entry<V> current;
+
+    public ReadThroughConfigCache(final Supplier<Loaded<V>> loader, final Duration maxAge) {
+        this.loader = loader;
+        this.maxAge = maxAge;
+    }
+
+    public VersionedConfig<V> get() {
+        final Entry<V> existing = current;
+        if (existing != null) {
+            if (!isStale(existing) || !lock.tryLock()) {
+                return existing.config();
+            }
+        } else {
+            lock.lock();
+        }
+        try {
+            final Entry<V> loaded = current;
+            if (loaded != null && !isStale(loaded)) {
+                return loaded.config();
+            }
+            return swap(loader.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public VersionedConfig<V> put(final V value, final Instant updatedAt) {
+        lock.lock();
+        try {
+            return swap(new Loaded<>(value, updatedAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        lock.lock();
+        try {
+            current = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private VersionedConfig<V> swap(final Loaded<V> loaded) {
+        final VersionedConfig<V> config =
+                new VersionedConfig<>(loaded.value(), loaded.updatedAt(), revisions.incrementAndGet());
+        current = new Entry<>(config, Instant.now());
+        return config;
+    }
+
+    private boolean isStale(final Entry<V> entry) {
+        return maxAge != null
+                && !maxAge.isZero()
+                && entry.loadedAt().plus(maxAge).isBefore(Instant.now());
+    }
+
+    public record Loaded<V>(V value, Instant updatedAt) {
+    }
+
+    private record Entry<V>(VersionedConfig<V> config, Instant loadedAt) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.skateboard.podcast.domain.config;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Immutable parsed config together with the instant it was last written and an in-process
+ * revision. Encoded response bodies are memoized per instance, so they are dropped together with
+ * the value when the cache swaps in a new one.
+ * <p>
+ * The ETag is derived from {@code updatedAt} rather than the revision so that every node hands out
+ * the same validator for the same row.
+ */
+public final class VersionedConfig<V> {
+
+    private final V value;
+    private final Instant updatedAt;
+    private final long revision;
+    private final Map<String, byte[]> encodings = new ConcurrentHashMap<>(4);
+
+    VersionedConfig(final V value, final Instant updatedAt, final long revision) {
+        this.value = value;
+        this.updatedAt = updatedAt == null ? Instant.EPOCH : updatedAt;
+        this.revision = revision;
+    }
+
+    public V value() {
+        return value;
+    }
+
+    public Instant updatedAt() {
+        return updatedAt;
+    }
+
+    public long revision() {
+        return revision;
+    }
+
+    public String etag() {
+        return "cfg-" + updatedAt.toEpochMilli();
+    }
+
+    public long lastModifiedEpochMillis() {
+        return updatedAt.toEpochMilli();
+    }
+
+    /**
+     * Returns the body for {@code representation}, encoding it on first use.
+     */
+    public byte[] encoded(final String representation, final Function<V, byte[]> encoder) {
+        return encodings.computeIfAbsent(representation, ignored -> encoder.apply(value));
+    }
+}
@@ -0,0 +1,7 @@
+package com.skateboard.podcast.domain.exception;
+
+public class TooManyRequestsException extends DomainException {
+    public TooManyRequestsException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.skateboard.podcast.domain.transaction;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs application-service work inside one database transaction, so several repository calls
+ * commit or roll back together without the services depending on Spring.
+ */
+public interface TransactionRunner {
+
+    <T> T inTransaction(Supplier<T> work);
+
+    default void inTransaction(final Runnable work) {
+        inTransaction(() -> {
+            work.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package com.skateboard.podcast.domain.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadThroughConfigCacheTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void loadsOnceAndServesFromMemory() {
+        final AtomicInteger loads = new AtomicInteger();
+        final ReadThroughConfigCache<String> cache = new ReadThroughConfigCache<>(
+                () -> new ReadThroughConfigCache.Loaded<>("v" + loads.incrementAndGet(), UPDATED_AT),
+                Duration.ofMinutes(5)
+        );
+
+        final VersionedConfig<String> first = cache.get();
+        final VersionedConfig<String> second = cache.get();
+
+        assertSame(first, second);
+        assertEquals("v1", second.value());
+        assertEquals(UPDATED_AT, second.updatedAt());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void putSwapsValueAndDropsEncodedBodies() {
+        final ReadThroughConfigCache<String> cache = new ReadThroughConfigCache<>(
+                () -> new ReadThroughConfigCache.Loaded<>("old", UPDATED_AT),
+                Duration.ofMinutes(5)
+        );
+        final VersionedConfig<String> before = cache.get();
+        final byte[] oldBody = before.encoded("public", value -> value.getBytes(StandardCharsets.UTF_8));
+
+        final VersionedConfig<String> after = cache.put("new", UPDATED_AT.plusSeconds(1));
+
+        assertSame(after, cache.get());
+        assertTrue(after.revision() > before.revision());
+        assertSame(oldBody, before.encoded("public", value -> new byte[0]));
+        assertEquals("new", new String(after.encoded("public", value -> value.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void reloadsAfterMaxAge() throws InterruptedException {
+        final AtomicInteger loads = new AtomicInteger();
+        final ReadThroughConfigCache<Integer> cache = new ReadThroughConfigCache<>(
+                () -> new ReadThroughConfigCache.Loaded<>(loads.incrementAndGet(), UPDATED_AT),
+                Duration.ofMillis(1)
+        );
+
+        final VersionedConfig<Integer> first = cache.get();
+        Thread.sleep(5);
+        final VersionedConfig<Integer> second = cache.get();
+
+        assertNotSame(first, second);
+        assertEquals(2, second.value());
+    }
+}
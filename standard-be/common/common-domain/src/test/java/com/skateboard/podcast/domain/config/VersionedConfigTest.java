@@ -0,0 +1,22 @@
+package com.skateboard.podcast.domain.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class VersionedConfigTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2024-01-02T00:00:00.250Z");
+
+    @Test
+    void etagDependsOnlyOnUpdatedAt() {
+        final VersionedConfig<String> first = new VersionedConfig<>("a", UPDATED_AT, 1);
+        final VersionedConfig<String> reloaded = new VersionedConfig<>("a", UPDATED_AT, 7);
+
+        assertEquals(first.etag(), reloaded.etag());
+        assertNotEquals(first.etag(), new VersionedConfig<>("b", UPDATED_AT.plusSeconds(1), 8).etag());
+    }
+}
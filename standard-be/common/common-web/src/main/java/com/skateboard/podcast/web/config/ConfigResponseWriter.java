@@ -0,0 +1,82 @@
+package com.skateboard.podcast.web.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skateboard.podcast.domain.config.VersionedConfig;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Builds public config responses from the JSON bytes memoized on a {@link VersionedConfig}, so
+ * repeat reads skip both mapping and serialization. This is the one place that answers
+ * conditional config requests: a matching {@code If-None-Match} gets a bodiless 304, and
+ * {@code If-Modified-Since} is only consulted when no {@code If-None-Match} was sent.
+ */
+@Component
+public class ConfigResponseWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public ConfigResponseWriter(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public <V> ResponseEntity<byte[]> write(
+            final VersionedConfig<V> config,
+            final String representation,
+            final Function<V, ?> toApi,
+            final HttpHeaders requestHeaders
+    ) {
+        if (isNotModified(config, requestHeaders)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(config.etag())
+                    .lastModified(config.lastModifiedEpochMillis())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(config.etag())
+                .lastModified(config.lastModifiedEpochMillis())
+                .body(config.encoded(representation, value -> encode(toApi.apply(value))));
+    }
+
+    private byte[] encode(final Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode config response", e);
+        }
+    }
+
+    static boolean isNotModified(final VersionedConfig<?> config, final HttpHeaders requestHeaders) {
+        final String ifNoneMatch = requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
+            return matchesEtag(config.etag(), ifNoneMatch);
+        }
+        final long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        // HTTP dates have whole-second precision, so compare at that resolution; -1 means absent or invalid.
+        return ifModifiedSince >= 0
+                && Math.floorDiv(config.lastModifiedEpochMillis(), 1000L) * 1000L <= ifModifiedSince;
+    }
+
+    private static boolean matchesEtag(final String etag, final String ifNoneMatch) {
+        for (final String part : ifNoneMatch.split(",")) {
+            String candidate = part.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2).trim();
+            }
+            if (candidate.length() > 1 && candidate.startsWith("\"") && candidate.endsWith("\"")) {
+                candidate = candidate.substring(1, candidate.length() - 1);
+            }
+            if ("*".equals(candidate) || etag.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
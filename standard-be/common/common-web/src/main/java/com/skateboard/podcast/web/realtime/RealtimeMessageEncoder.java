@@ -0,0 +1,60 @@
+package com.skateboard.podcast.web.realtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Encodes the envelope every realtime message is sent in: {@code type}, {@code version},
+ * {@code timestamp} (when it was encoded) and the message-specific {@code payload}.
+ */
+@Component
+public class RealtimeMessageEncoder {
+
+    public static final int VERSION = 1;
+
+    private final ObjectMapper objectMapper;
+
+    public RealtimeMessageEncoder(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String encode(final String type, final Map<String, Object> payload) throws JsonProcessingException {
+        final Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", type);
+        message.put("version", VERSION);
+        message.put("timestamp", Instant.now().toString());
+        message.put("payload", payload);
+        return objectMapper.writeValueAsString(message);
+    }
+
+    /**
+     * Payload of a message about one feed item, e.g. {@code post.published}.
+     */
+    public static Map<String, Object> itemPayload(
+            final String idField,
+            final UUID id,
+            final String slug,
+            final Instant updatedAt
+    ) {
+        final Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put(idField, id.toString());
+        payload.put("slug", slug);
+        payload.put("updatedAt", updatedAt.toString());
+        return payload;
+    }
+
+    /**
+     * Payload of an aggregate message such as {@code feed.updated}; a missing time means now.
+     */
+    public static Map<String, Object> updatedPayload(final Instant updatedAt) {
+        final Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("updatedAt", (updatedAt == null ? Instant.now() : updatedAt).toString());
+        return payload;
+    }
+}
@@ -0,0 +1,99 @@
+package com.skateboard.podcast.web.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skateboard.podcast.domain.config.ReadThroughConfigCache;
+import com.skateboard.podcast.domain.config.VersionedConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigResponseWriterTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2024-01-02T00:00:00.250Z");
+
+    private final ConfigResponseWriter writer = new ConfigResponseWriter(new ObjectMapper());
+    private final VersionedConfig<String> config =
+            new ReadThroughConfigCache<String>(() -> null, Duration.ZERO).put("dark", UPDATED_AT);
+
+    @Test
+    void servesMemoizedBytesWithValidators() {
+        final AtomicInteger mapped = new AtomicInteger();
+
+        final ResponseEntity<byte[]> first = writer.write(config, "public", value -> {
+            mapped.incrementAndGet();
+            return Map.of("theme", value);
+        }, new HttpHeaders());
+        final ResponseEntity<byte[]> second = writer.write(config, "public", value -> Map.of("theme", value), new HttpHeaders());
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals("{\"theme\":\"dark\"}", new String(first.getBody(), StandardCharsets.UTF_8));
+        assertEquals("\"" + config.etag() + "\"", first.getHeaders().getETag());
+        assertEquals(UPDATED_AT.toEpochMilli(), first.getHeaders().getLastModified());
+        assertSame(first.getBody(), second.getBody());
+        assertEquals(1, mapped.get());
+    }
+
+    @Test
+    void answersMatchingConditionalRequestWithNotModified() {
+        final HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch("\"" + config.etag() + "\"");
+
+        final ResponseEntity<byte[]> response = writer.write(config, "public", value -> Map.of("theme", value), requestHeaders);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"" + config.etag() + "\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void matchesWeakAndListedEtags() {
+        final String etag = config.etag();
+
+        assertTrue(ConfigResponseWriter.isNotModified(config, ifNoneMatch("W/\"" + etag + "\"")));
+        assertTrue(ConfigResponseWriter.isNotModified(config, ifNoneMatch("\"other\", \"" + etag + "\"")));
+        assertTrue(ConfigResponseWriter.isNotModified(config, ifNoneMatch("*")));
+        assertFalse(ConfigResponseWriter.isNotModified(config, ifNoneMatch("\"other\"")));
+    }
+
+    @Test
+    void comparesIfModifiedSinceAtSecondPrecisionAndPrefersIfNoneMatch() {
+        final String lastModified = DateTimeFormatter.RFC_1123_DATE_TIME
+                .withZone(ZoneOffset.UTC)
+                .format(UPDATED_AT);
+
+        assertTrue(ConfigResponseWriter.isNotModified(config, ifModifiedSince(lastModified)));
+        assertFalse(ConfigResponseWriter.isNotModified(config, ifModifiedSince("Mon, 1 Jan 2024 00:00:00 GMT")));
+        assertFalse(ConfigResponseWriter.isNotModified(config, ifModifiedSince("not-a-date")));
+
+        final HttpHeaders both = ifModifiedSince(lastModified);
+        both.set(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+        assertFalse(ConfigResponseWriter.isNotModified(config, both));
+    }
+
+    private static HttpHeaders ifNoneMatch(final String value) {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.IF_NONE_MATCH, value);
+        return headers;
+    }
+
+    private static HttpHeaders ifModifiedSince(final String value) {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.IF_MODIFIED_SINCE, value);
+        return headers;
+    }
+}
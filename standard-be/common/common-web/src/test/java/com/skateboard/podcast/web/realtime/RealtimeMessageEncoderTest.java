@@ -0,0 +1,40 @@
+package com.skateboard.podcast.web.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RealtimeMessageEncoderTest {
+
+    private final RealtimeMessageEncoder encoder = new RealtimeMessageEncoder(new ObjectMapper());
+
+    @Test
+    void encodesTheEnvelopeFieldsInOrder() throws Exception {
+        final UUID postId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+        final String json = encoder.encode("post.published", RealtimeMessageEncoder.itemPayload(
+                "postId", postId, "hello-world", Instant.parse("2024-01-02T00:00:00Z")));
+
+        assertTrue(json.startsWith("{\"type\":\"post.published\",\"version\":1,\"timestamp\":\""));
+        assertTrue(json.endsWith(",\"payload\":{\"postId\":\"" + postId
+                + "\",\"slug\":\"hello-world\",\"updatedAt\":\"2024-01-02T00:00:00Z\"}}"));
+    }
+
+    @Test
+    void updatedPayloadDefaultsToNow() {
+        final Instant before = Instant.now();
+
+        final Instant updatedAt = Instant.parse(
+                (String) RealtimeMessageEncoder.updatedPayload(null).get("updatedAt"));
+
+        assertFalse(updatedAt.isBefore(before));
+        assertEquals(List.of("updatedAt"), List.copyOf(RealtimeMessageEncoder.updatedPayload(before).keySet()));
+    }
+}
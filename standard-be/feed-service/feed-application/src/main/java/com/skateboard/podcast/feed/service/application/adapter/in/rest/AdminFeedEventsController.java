@@ -22,6 +22,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -33,13 +37,16 @@ public class AdminFeedEventsController implements AdminEventsApi {
 
     private final AdminFeedEventsUseCase adminFeedEventsService;
     private final FeedEventApiMapper eventApiMapper;
+    private final NdjsonImportStreamer importStreamer;
 
     public AdminFeedEventsController(
             final AdminFeedEventsUseCase adminFeedEventsService,
-            final FeedEventApiMapper eventApiMapper
+            final FeedEventApiMapper eventApiMapper,
+            final NdjsonImportStreamer importStreamer
     ) {
         this.adminFeedEventsService = adminFeedEventsService;
         this.eventApiMapper = eventApiMapper;
+        this.importStreamer = importStreamer;
     }
 
     @Override
@@ -146,7 +153,9 @@ public class AdminFeedEventsController implements AdminEventsApi {
     )
     public ResponseEntity<List<EventSummary>> adminEventImport(final ImportEventsRequest importEventsRequest) {
         final UUID createdBy = requireUserId();
-        final List<FeedEventImportCommand> commands = toImportCommands(importEventsRequest);
+        final List<FeedEventImportCommand> commands = toImportCommands(
+                importEventsRequest == null ? null : importEventsRequest.getItems()
+        );
         final var imported = adminFeedEventsService.importEvents(commands, createdBy);
         final List<EventSummary> response = imported.stream()
                 .map(eventApiMapper::toEventSummary)
@@ -154,6 +163,28 @@ public class AdminFeedEventsController implements AdminEventsApi {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * NDJSON variant of {@link #adminEventImport}: one {@link CreateEventRequest} per line.
+     */
+    @PostMapping(
+            value = "/admin/events/import",
+            consumes = NdjsonImportStreamer.MEDIA_TYPE,
+            produces = NdjsonImportStreamer.MEDIA_TYPE
+    )
+    public void adminEventImportStream(
+            final HttpServletRequest request,
+            final HttpServletResponse response
+    ) throws IOException {
+        final UUID createdBy = requireUserId();
+        response.setContentType(NdjsonImportStreamer.MEDIA_TYPE);
+        importStreamer.stream(
+                request.getInputStream(),
+                response.getOutputStream(),
+                CreateEventRequest.class,
+                chunk -> adminFeedEventsService.importEvents(toImportCommands(chunk), createdBy).size()
+        );
+    }
+
     @Override
     @PostMapping(value = "/admin/events/reset")
     public ResponseEntity<Void> adminEventReset() {
@@ -161,12 +192,12 @@ public class AdminFeedEventsController implements AdminEventsApi {
         return ResponseEntity.noContent().build();
     }
 
-    private List<FeedEventImportCommand> toImportCommands(final ImportEventsRequest request) {
-        if (request == null || request.getItems() == null || request.getItems().isEmpty()) {
+    private List<FeedEventImportCommand> toImportCommands(final List<CreateEventRequest> items) {
+        if (items == null || items.isEmpty()) {
             return List.of();
         }
-        final List<FeedEventImportCommand> commands = new ArrayList<>(request.getItems().size());
-        for (final CreateEventRequest item : request.getItems()) {
+        final List<FeedEventImportCommand> commands = new ArrayList<>(items.size());
+        for (final CreateEventRequest item : items) {
             commands.add(new FeedEventImportCommand(
                     item.getTitle(),
                     item.getSlug(),
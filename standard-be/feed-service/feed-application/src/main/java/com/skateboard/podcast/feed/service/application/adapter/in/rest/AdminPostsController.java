@@ -27,6 +27,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
@@ -40,13 +44,16 @@ public class AdminPostsController implements AdminPostsApi {
 
     private final AdminPostsUseCase adminPostsService;
     private final PostApiMapper postApiMapper;
+    private final NdjsonImportStreamer importStreamer;
 
     public AdminPostsController(
             final AdminPostsUseCase adminPostsService,
-            final PostApiMapper postApiMapper
+            final PostApiMapper postApiMapper,
+            final NdjsonImportStreamer importStreamer
     ) {
         this.adminPostsService = adminPostsService;
         this.postApiMapper = postApiMapper;
+        this.importStreamer = importStreamer;
     }
 
     @Override
@@ -144,7 +151,7 @@ public class AdminPostsController implements AdminPostsApi {
     public ResponseEntity<List<PostSummary>> adminPostImport(final ImportPostsRequest importPostsRequest) {
         final UUID authorId = requireUserId();
         final List<com.skateboard.podcast.feed.service.application.dto.ImportPostCommand> commands =
-                toImportCommands(importPostsRequest);
+                toImportCommands(importPostsRequest == null ? null : importPostsRequest.getItems());
         final var imported = adminPostsService.importPosts(commands, authorId);
         final List<PostSummary> response = imported.stream()
                 .map(postApiMapper::toPostSummary)
@@ -152,6 +159,29 @@ public class AdminPostsController implements AdminPostsApi {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * NDJSON variant of {@link #adminPostImport}: one {@link PodcastImportItem} per line, committed
+     * in chunks, with one progress line written back per chunk.
+     */
+    @PostMapping(
+            value = "/admin/posts/import",
+            consumes = NdjsonImportStreamer.MEDIA_TYPE,
+            produces = NdjsonImportStreamer.MEDIA_TYPE
+    )
+    public void adminPostImportStream(
+            final HttpServletRequest request,
+            final HttpServletResponse response
+    ) throws IOException {
+        final UUID authorId = requireUserId();
+        response.setContentType(NdjsonImportStreamer.MEDIA_TYPE);
+        importStreamer.stream(
+                request.getInputStream(),
+                response.getOutputStream(),
+                PodcastImportItem.class,
+                chunk -> adminPostsService.importPosts(toImportCommands(chunk), authorId).size()
+        );
+    }
+
     @Override
     @PostMapping(value = "/admin/posts/reset")
     public ResponseEntity<Void> adminPostReset() {
@@ -160,14 +190,14 @@ public class AdminPostsController implements AdminPostsApi {
     }
 
     private List<com.skateboard.podcast.feed.service.application.dto.ImportPostCommand> toImportCommands(
-            final ImportPostsRequest request
+            final List<PodcastImportItem> items
     ) {
-        if (request == null || request.getItems() == null || request.getItems().isEmpty()) {
+        if (items == null || items.isEmpty()) {
             return List.of();
         }
         final List<com.skateboard.podcast.feed.service.application.dto.ImportPostCommand> commands =
-                new ArrayList<>(request.getItems().size());
-        for (final PodcastImportItem item : request.getItems()) {
+                new ArrayList<>(items.size());
+        for (final PodcastImportItem item : items) {
             final String excerpt = item.getDescription();
             final String contentJson = postApiMapper.writeContentJson(buildImportContent(item));
             final String thumbnailJson = postApiMapper.writeThumbnailJson(buildThumbnail(item));
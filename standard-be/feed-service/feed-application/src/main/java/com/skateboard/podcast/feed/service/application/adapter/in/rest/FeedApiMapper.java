@@ -4,7 +4,10 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skateboard.podcast.domain.exception.ValidationException;
+import com.skateboard.podcast.feed.service.application.dto.FeedChangesView;
 import com.skateboard.podcast.feed.service.application.dto.FeedItemSummaryView;
+import com.skateboard.podcast.standardbe.api.model.FeedChanges;
+import com.skateboard.podcast.standardbe.api.model.FeedItemRef;
 import com.skateboard.podcast.standardbe.api.model.FeedItemStatus;
 import com.skateboard.podcast.standardbe.api.model.FeedItemSummary;
 import com.skateboard.podcast.standardbe.api.model.FeedItemType;
@@ -40,6 +43,19 @@ public class FeedApiMapper {
                 .totalItems(summaries.size());
     }
 
+    public FeedChanges toFeedChanges(final FeedChangesView view) {
+        return new FeedChanges()
+                .version(view.version())
+                .hasMore(view.hasMore())
+                .reset(view.reset())
+                .upserted(view.upserted().stream().map(this::toFeedItemSummary).toList())
+                .removed(view.removed().stream()
+                        .map(removed -> new FeedItemRef()
+                                .type(FeedItemType.fromValue(removed.type()))
+                                .id(removed.id()))
+                        .toList());
+    }
+
     public FeedItemSummary toFeedItemSummary(final FeedItemSummaryView view) {
         final ImageRef thumbnail = readThumbnail(view.thumbnailJson());
         return new FeedItemSummary()
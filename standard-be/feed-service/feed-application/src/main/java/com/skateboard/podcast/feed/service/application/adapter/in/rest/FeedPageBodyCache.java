@@ -0,0 +1,107 @@
+package com.skateboard.podcast.feed.service.application.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skateboard.podcast.standardbe.api.model.PageFeedItemSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bounded cache of fully encoded public feed pages keyed by the feed version ETag, which already
+ * changes whenever the page contents can. Hits are lock-free; once full, the oldest inserted
+ * ETags are evicted first, which for version-keyed entries is also the stalest.
+ */
+@Component
+public class FeedPageBodyCache {
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final boolean gzipEnabled;
+    private final Map<String, EncodedFeedPage> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public FeedPageBodyCache(
+            final ObjectMapper objectMapper,
+            @Value("${app.feed.page-cache.max-entries:256}") final int maxEntries,
+            @Value("${app.feed.page-cache.gzip:true}") final boolean gzipEnabled
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    public EncodedFeedPage get(final String etag, final Supplier<PageFeedItemSummary> body) {
+        if (maxEntries <= 0) {
+            return encode(body.get());
+        }
+        final EncodedFeedPage cached = entries.get(etag);
+        if (cached != null) {
+            return cached;
+        }
+        // Concurrent misses for one ETag produce identical bytes, so the first one stored wins.
+        final EncodedFeedPage encoded = encode(body.get());
+        final EncodedFeedPage existing = entries.putIfAbsent(etag, encoded);
+        if (existing != null) {
+            return existing;
+        }
+        insertionOrder.add(etag);
+        evictOverflow();
+        return encoded;
+    }
+
+    public byte[] encodeJson(final Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("failed to encode feed page", e);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        insertionOrder.clear();
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > maxEntries) {
+            final String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            entries.remove(eldest);
+        }
+    }
+
+    private EncodedFeedPage encode(final PageFeedItemSummary body) {
+        final byte[] json = encodeJson(body);
+        final byte[] gzip = gzipEnabled ? gzip(json) : null;
+        return new EncodedFeedPage(json, gzip != null && gzip.length < json.length ? gzip : null);
+    }
+
+    private static byte[] gzip(final byte[] json) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public record EncodedFeedPage(byte[] json, byte[] gzip) {
+
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.skateboard.podcast.feed.service.application.adapter.in.rest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skateboard.podcast.domain.exception.ValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads an NDJSON import body one record at a time and hands it to the importer in chunks, writing
+ * one progress line per committed chunk. Only the current chunk is ever held in memory.
+ * <p>
+ * Each record gets the same bean validation as an item of the JSON import. The response has
+ * already started when a chunk fails, so failures are reported as a final {@code failed} line; every
+ * chunk reported before it stays committed. Only validation messages reach the client, anything else
+ * is logged here and reported generically.
+ */
+@Component
+public class NdjsonImportStreamer {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private static final Logger log = LoggerFactory.getLogger(NdjsonImportStreamer.class);
+
+    private static final byte[] NEWLINE = {'\n'};
+    private static final String IMPORT_FAILED = "import failed";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public NdjsonImportStreamer(
+            final ObjectMapper objectMapper,
+            final Validator validator,
+            @Value("${app.feed.import.chunk-size:500}") final int chunkSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @FunctionalInterface
+    public interface ChunkImporter<T> {
+        /**
+         * Imports and commits one chunk.
+         *
+         * @return the number of records imported
+         */
+        int importChunk(List<T> chunk);
+    }
+
+    public <T> void stream(
+            final InputStream body,
+            final OutputStream out,
+            final Class<T> itemType,
+            final ChunkImporter<T> importer
+    ) throws IOException {
+        int chunks = 0;
+        long total = 0;
+        long read = 0;
+        final List<T> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<T> records = objectMapper.readerFor(itemType).readValues(body)) {
+            while (records.hasNextValue()) {
+                read += 1;
+                chunk.add(validate(records.nextValue(), read));
+                if (chunk.size() == chunkSize) {
+                    total += importChunk(chunk, chunks + 1, total, importer, out);
+                    chunks += 1;
+                }
+            }
+            if (!chunk.isEmpty()) {
+                total += importChunk(chunk, chunks + 1, total, importer, out);
+                chunks += 1;
+            }
+        } catch (final JsonProcessingException e) {
+            write(out, ImportProgress.failed(chunks + 1, total, "malformed record: " + e.getOriginalMessage()));
+            return;
+        } catch (final ValidationException | ChunkFailedException e) {
+            write(out, ImportProgress.failed(chunks + 1, total, e.getMessage()));
+            return;
+        }
+        write(out, ImportProgress.done(chunks, total));
+    }
+
+    private <T> int importChunk(
+            final List<T> chunk,
+            final int index,
+            final long totalBefore,
+            final ChunkImporter<T> importer,
+            final OutputStream out
+    ) throws IOException {
+        final int imported;
+        try {
+            imported = importer.importChunk(List.copyOf(chunk));
+        } catch (final ValidationException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            log.error("NDJSON import failed in chunk {} after {} records", index, totalBefore, e);
+            throw new ChunkFailedException(IMPORT_FAILED, e);
+        }
+        chunk.clear();
+        write(out, ImportProgress.chunk(index, imported, totalBefore + imported));
+        return imported;
+    }
+
+    private <T> T validate(final T record, final long number) {
+        if (record == null) {
+            throw new ValidationException("record " + number + ": must not be null");
+        }
+        final Set<ConstraintViolation<T>> violations = validator.validate(record);
+        if (violations.isEmpty()) {
+            return record;
+        }
+        throw new ValidationException("record " + number + ": " + violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.joining(", ")));
+    }
+
+    private void write(final OutputStream out, final ImportProgress progress) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(progress));
+        out.write(NEWLINE);
+        out.flush();
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record ImportProgress(String status, int chunk, Integer imported, long total, String error) {
+
+        static ImportProgress chunk(final int chunk, final int imported, final long total) {
+            return new ImportProgress("chunk", chunk, imported, total, null);
+        }
+
+        static ImportProgress done(final int chunks, final long total) {
+            return new ImportProgress("done", chunks, null, total, null);
+        }
+
+        static ImportProgress failed(final int chunk, final long total, final String error) {
+            return new ImportProgress("failed", chunk, null, total, error);
+        }
+    }
+
+    private static final class ChunkFailedException extends RuntimeException {
+        private ChunkFailedException(final String message, final Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -1,98 +1,138 @@
 package com.skateboard.podcast.feed.service.application.adapter.in.rest;
 
+import com.skateboard.podcast.feed.service.application.dto.FeedVersion;
+import com.skateboard.podcast.feed.service.application.port.in.FeedChangesUseCase;
 import com.skateboard.podcast.feed.service.application.port.in.PublicFeedUseCase;
 import com.skateboard.podcast.feed.service.application.port.in.PublicPostsUseCase;
 import com.skateboard.podcast.standardbe.api.PublicFeedApi;
-import com.skateboard.podcast.standardbe.api.model.PageFeedItemSummary;
+import com.skateboard.podcast.standardbe.api.model.FeedChanges;
 import com.skateboard.podcast.standardbe.api.model.PostDetails;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
-
-import jakarta.servlet.http.HttpServletRequest;
 
+/**
+ * Serves the paths of {@link PublicFeedApi} without implementing it: the feed list answers with
+ * pre-encoded bytes from {@link FeedPageBodyCache}, which the generated
+ * {@code ResponseEntity<PageFeedItemSummary>} signature cannot carry.
+ */
 @RestController
-public class PublicFeedController implements PublicFeedApi {
+public class PublicFeedController {
 
     private final PublicFeedUseCase publicFeedUseCase;
     private final PublicPostsUseCase publicPostsUseCase;
+    private final FeedChangesUseCase feedChangesUseCase;
     private final FeedApiMapper feedApiMapper;
     private final PostApiMapper postApiMapper;
+    private final FeedPageBodyCache feedPageBodyCache;
 
     public PublicFeedController(
             final PublicFeedUseCase publicFeedUseCase,
             final PublicPostsUseCase publicPostsUseCase,
+            final FeedChangesUseCase feedChangesUseCase,
             final FeedApiMapper feedApiMapper,
-            final PostApiMapper postApiMapper
+            final PostApiMapper postApiMapper,
+            final FeedPageBodyCache feedPageBodyCache
     ) {
         this.publicFeedUseCase = publicFeedUseCase;
         this.publicPostsUseCase = publicPostsUseCase;
+        this.feedChangesUseCase = feedChangesUseCase;
         this.feedApiMapper = feedApiMapper;
         this.postApiMapper = postApiMapper;
+        this.feedPageBodyCache = feedPageBodyCache;
     }
 
-    @Override
     @GetMapping(
             value = PublicFeedApi.PATH_PUBLIC_FEED_LIST,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<PageFeedItemSummary> publicFeedList(
-            final Integer page,
-            final Integer size
+    public ResponseEntity<byte[]> publicFeedList(
+            @RequestParam(value = "page", required = false) @Min(0) final Integer page,
+            @RequestParam(value = "size", required = false) @Min(1) @Max(50) final Integer size,
+            @RequestParam(value = "cursor", required = false) final String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) final String ifModifiedSince,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
     ) {
         final int safePage = page == null ? 0 : page;
         final int safeSize = size == null ? 20 : size;
-        final String ifNoneMatch = getHeader("If-None-Match");
-        final String ifModifiedSince = getHeader("If-Modified-Since");
+        if (cursor != null) {
+            final var feedPage = publicFeedUseCase.listPublishedAfter(cursor, safeSize);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(feedPageBodyCache.encodeJson(
+                            feedApiMapper.toPageFeedItemSummary(feedPage.items(), 0, safeSize)
+                                    .nextCursor(feedPage.nextCursor())
+                    ));
+        }
         final var version = publicFeedUseCase.getFeedVersion(safePage, safeSize);
-
-        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
-            if (version.matchesEtag(ifNoneMatch)) {
-                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
-                        .eTag(version.etag())
-                        .lastModified(version.lastModifiedEpochMillis())
-                        .build();
-            }
-        } else if (version.isNotModifiedSince(ifModifiedSince)) {
+        if (isNotModified(version, ifNoneMatch, ifModifiedSince)) {
             return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
                     .eTag(version.etag())
                     .lastModified(version.lastModifiedEpochMillis())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
                     .build();
         }
 
-        final var items = publicFeedUseCase.listPublished(safePage, safeSize);
-        return ResponseEntity.ok()
+        final FeedPageBodyCache.EncodedFeedPage body = feedPageBodyCache.get(
+                version.etag(),
+                () -> feedApiMapper.toPageFeedItemSummary(
+                        publicFeedUseCase.listPublished(safePage, safeSize),
+                        safePage,
+                        safeSize
+                )
+        );
+        final boolean gzip = body.hasGzip() && AcceptEncoding.acceptsGzip(acceptEncoding);
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
                 .eTag(version.etag())
                 .lastModified(version.lastModifiedEpochMillis())
-                .body(feedApiMapper.toPageFeedItemSummary(items, safePage, safeSize));
+                // The same URL can come back in either encoding, so caches must key on it either way.
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? body.gzip() : body.json());
+    }
+
+    @GetMapping(
+            value = PublicFeedApi.PATH_PUBLIC_FEED_CHANGES,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<FeedChanges> publicFeedChanges(
+            @RequestParam(value = "since", required = false) @Min(0) final Long since,
+            @RequestParam(value = "limit", required = false) @Min(1) @Max(500) final Integer limit
+    ) {
+        final int safeLimit = limit == null ? 100 : limit;
+        return ResponseEntity.ok(feedApiMapper.toFeedChanges(feedChangesUseCase.changesSince(since, safeLimit)));
     }
 
-    @Override
     @GetMapping(
             value = PublicFeedApi.PATH_PUBLIC_POST_GET_BY_SLUG,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<PostDetails> publicPostGetBySlug(final String slug) {
+    public ResponseEntity<PostDetails> publicPostGetBySlug(@PathVariable("slug") final String slug) {
         final var post = publicPostsUseCase.getBySlug(slug);
         return post.map(details -> ResponseEntity.ok(postApiMapper.toPostDetails(details)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
-    private static String getHeader(final String name) {
-        final ServletRequestAttributes attributes =
-                (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        if (attributes == null) {
-            return null;
-        }
-        final HttpServletRequest request = attributes.getRequest();
-        if (request == null) {
-            return null;
+    private static boolean isNotModified(
+            final FeedVersion version,
+            final String ifNoneMatch,
+            final String ifModifiedSince
+    ) {
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
+            return version.matchesEtag(ifNoneMatch);
         }
-        return request.getHeader(name);
+        return version.isNotModifiedSince(ifModifiedSince);
     }
 }
-
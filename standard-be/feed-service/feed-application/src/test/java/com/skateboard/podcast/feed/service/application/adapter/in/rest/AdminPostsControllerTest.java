@@ -2,13 +2,16 @@ package com.skateboard.podcast.feed.service.application.adapter.in.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skateboard.podcast.domain.security.CurrentUser;
+import com.skateboard.podcast.feed.service.application.dto.ImportPostCommand;
 import com.skateboard.podcast.feed.service.application.dto.PostDetailsView;
+import com.skateboard.podcast.feed.service.application.dto.PostSummaryView;
 import com.skateboard.podcast.feed.service.application.port.in.AdminPostsUseCase;
 import com.skateboard.podcast.standardbe.api.model.BlockType;
 import com.skateboard.podcast.standardbe.api.model.CreatePostRequest;
 import com.skateboard.podcast.standardbe.api.model.ImageRef;
 import com.skateboard.podcast.standardbe.api.model.ParagraphBlock;
 import com.skateboard.podcast.standardbe.api.model.UpdatePostRequest;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,11 +30,16 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -52,7 +60,11 @@ class AdminPostsControllerTest {
         objectMapper = new ObjectMapper();
         objectMapper.findAndRegisterModules();
         final PostApiMapper postApiMapper = new PostApiMapper(objectMapper);
-        final AdminPostsController controller = new AdminPostsController(adminPostsService, postApiMapper);
+        final AdminPostsController controller = new AdminPostsController(
+                adminPostsService,
+                postApiMapper,
+                new NdjsonImportStreamer(objectMapper, Validation.buildDefaultValidatorFactory().getValidator(), 2)
+        );
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
                 .build();
@@ -174,6 +186,80 @@ class AdminPostsControllerTest {
                 .andExpect(jsonPath("$.status").value("PUBLISHED"));
     }
 
+    @Test
+    void adminPostImportStream_commitsInChunksAndReportsProgress() throws Exception {
+        final UUID authorId = UUID.randomUUID();
+        authenticate(authorId);
+        given(adminPostsService.importPosts(any(), eq(authorId))).willAnswer(invocation -> {
+            final List<ImportPostCommand> commands = invocation.getArgument(0);
+            return commands.stream()
+                    .map(command -> new PostSummaryView(
+                            UUID.randomUUID(),
+                            command.title(),
+                            command.title().toLowerCase(),
+                            command.excerpt(),
+                            List.of(),
+                            "PUBLISHED",
+                            null,
+                            command.publishedAt()
+                    ))
+                    .toList();
+        });
+        final String body = """
+                {"title":"One","date":"2024-01-01"}
+                {"title":"Two","date":"2024-01-02"}
+                {"title":"Three","date":"2024-01-03"}
+                """;
+
+        mockMvc.perform(post("/admin/posts/import")
+                        .contentType(NdjsonImportStreamer.MEDIA_TYPE)
+                        .accept(NdjsonImportStreamer.MEDIA_TYPE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        {"status":"chunk","chunk":1,"imported":2,"total":2}
+                        {"status":"chunk","chunk":2,"imported":1,"total":3}
+                        {"status":"done","chunk":2,"total":3}
+                        """));
+        verify(adminPostsService, times(2)).importPosts(any(), eq(authorId));
+    }
+
+    @Test
+    void adminPostImportStream_rejectsInvalidRecordsBeforeImportingThem() throws Exception {
+        authenticate(UUID.randomUUID());
+        final String body = """
+                {"title":"One","date":"2024-01-01"}
+                {"date":"2024-01-02"}
+                """;
+
+        mockMvc.perform(post("/admin/posts/import")
+                        .contentType(NdjsonImportStreamer.MEDIA_TYPE)
+                        .accept(NdjsonImportStreamer.MEDIA_TYPE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        {"status":"failed","chunk":1,"total":0,"error":"record 2: title must not be null"}
+                        """));
+        verify(adminPostsService, never()).importPosts(any(), any());
+    }
+
+    @Test
+    void adminPostImportStream_reportsUnexpectedFailuresWithoutDetails() throws Exception {
+        final UUID authorId = UUID.randomUUID();
+        authenticate(authorId);
+        given(adminPostsService.importPosts(any(), eq(authorId)))
+                .willThrow(new IllegalStateException("could not connect to db-primary:5432"));
+
+        mockMvc.perform(post("/admin/posts/import")
+                        .contentType(NdjsonImportStreamer.MEDIA_TYPE)
+                        .accept(NdjsonImportStreamer.MEDIA_TYPE)
+                        .content("{\"title\":\"One\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        {"status":"failed","chunk":1,"total":0,"error":"import failed"}
+                        """));
+    }
+
     private static void authenticate(final UUID userId) {
         final CurrentUser principal = new CurrentUser(userId, "ADMIN", "admin@example.com");
         final var authentication = new UsernamePasswordAuthenticationToken(
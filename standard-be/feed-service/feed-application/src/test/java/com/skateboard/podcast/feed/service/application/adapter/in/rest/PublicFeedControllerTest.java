@@ -1,9 +1,12 @@
 package com.skateboard.podcast.feed.service.application.adapter.in.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skateboard.podcast.feed.service.application.dto.FeedChangesView;
 import com.skateboard.podcast.feed.service.application.dto.FeedItemSummaryView;
+import com.skateboard.podcast.feed.service.application.dto.FeedPageView;
 import com.skateboard.podcast.feed.service.application.dto.FeedVersion;
 import com.skateboard.podcast.feed.service.application.dto.PostDetailsView;
+import com.skateboard.podcast.feed.service.application.port.in.FeedChangesUseCase;
 import com.skateboard.podcast.feed.service.application.port.in.PublicPostsUseCase;
 import com.skateboard.podcast.feed.service.application.port.in.PublicFeedUseCase;
 import com.skateboard.podcast.standardbe.api.model.ImageRef;
@@ -13,19 +16,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
-import org.springframework.web.filter.RequestContextFilter;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -46,6 +56,9 @@ class PublicFeedControllerTest {
     @Mock
     private PublicPostsUseCase publicPostsUseCase;
 
+    @Mock
+    private FeedChangesUseCase feedChangesUseCase;
+
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
@@ -55,12 +68,16 @@ class PublicFeedControllerTest {
         final PublicFeedController controller = new PublicFeedController(
                 publicFeedUseCase,
                 publicPostsUseCase,
+                feedChangesUseCase,
                 feedApiMapper,
-                postApiMapper
+                postApiMapper,
+                new FeedPageBodyCache(objectMapper, 16, true)
         );
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
-                .addFilters(new RequestContextFilter())
-                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .setMessageConverters(
+                        new ByteArrayHttpMessageConverter(),
+                        new MappingJackson2HttpMessageConverter(objectMapper)
+                )
                 .build();
     }
 
@@ -108,6 +125,100 @@ class PublicFeedControllerTest {
                 .andExpect(jsonPath("$.items[0].thumbnail.url").value("https://example.com/a.png"));
     }
 
+    @Test
+    void publicFeedChanges_returnsUpsertedAndRemovedItems() throws Exception {
+        final UUID removedId = UUID.randomUUID();
+        given(feedChangesUseCase.changesSince(7L, 100)).willReturn(new FeedChangesView(
+                9,
+                false,
+                false,
+                List.of(feedSummary("changed-post")),
+                List.of(new FeedChangesView.RemovedItem("EVENT", removedId))
+        ));
+
+        mockMvc.perform(get("/public/feed/changes")
+                        .param("since", "7")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(9))
+                .andExpect(jsonPath("$.reset").value(false))
+                .andExpect(jsonPath("$.upserted[0].slug").value("changed-post"))
+                .andExpect(jsonPath("$.removed[0].type").value("EVENT"))
+                .andExpect(jsonPath("$.removed[0].id").value(removedId.toString()));
+    }
+
+    @Test
+    void publicFeedList_servesRepeatedPagesFromEncodedCache() throws Exception {
+        final FeedVersion version = new FeedVersion("etag-5", Instant.parse("2024-01-06T00:00:00Z"));
+
+        given(publicFeedUseCase.getFeedVersion(0, 20)).willReturn(version);
+        given(publicFeedUseCase.listPublished(0, 20)).willReturn(List.of(feedSummary("cached-post")));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/public/feed")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"etag-5\""))
+                    .andExpect(jsonPath("$.items[0].slug").value("cached-post"));
+        }
+
+        verify(publicFeedUseCase, times(1)).listPublished(0, 20);
+    }
+
+    @Test
+    void publicFeedList_servesGzipVariantWhenAccepted() throws Exception {
+        final FeedVersion version = new FeedVersion("etag-6", Instant.parse("2024-01-07T00:00:00Z"));
+
+        given(publicFeedUseCase.getFeedVersion(0, 20)).willReturn(version);
+        given(publicFeedUseCase.listPublished(0, 20)).willReturn(List.of(
+                feedSummary("gzip-post-1"),
+                feedSummary("gzip-post-2"),
+                feedSummary("gzip-post-3")
+        ));
+
+        final byte[] compressed = mockMvc.perform(get("/public/feed")
+                        .header("Accept-Encoding", "gzip, deflate")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            final String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(json.contains("gzip-post-2"));
+            assertEquals(3, objectMapper.readTree(json).get("items").size());
+        }
+    }
+
+    @Test
+    void publicFeedList_servesIdentityWhenGzipRefusedAndStillVaries() throws Exception {
+        final FeedVersion version = new FeedVersion("etag-7", Instant.parse("2024-01-08T00:00:00Z"));
+
+        given(publicFeedUseCase.getFeedVersion(0, 20)).willReturn(version);
+        given(publicFeedUseCase.listPublished(0, 20)).willReturn(List.of(
+                feedSummary("plain-post-1"),
+                feedSummary("plain-post-2"),
+                feedSummary("plain-post-3")
+        ));
+
+        mockMvc.perform(get("/public/feed")
+                        .header("Accept-Encoding", "gzip;q=0, *;q=1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(jsonPath("$.items[1].slug").value("plain-post-2"));
+
+        mockMvc.perform(get("/public/feed")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("Vary", "Accept-Encoding"));
+    }
+
     @Test
     void publicFeedList_returnsNotModifiedWhenEtagMatches() throws Exception {
         final FeedVersion version = new FeedVersion(
@@ -183,6 +294,41 @@ class PublicFeedControllerTest {
                 .andExpect(header().exists("Last-Modified"));
     }
 
+    @Test
+    void publicFeedList_cursorModeReturnsNextCursor() throws Exception {
+        final FeedItemSummaryView summary = new FeedItemSummaryView(
+                "EVENT",
+                UUID.randomUUID(),
+                "Jam",
+                "jam",
+                "Intro",
+                List.of(),
+                "PUBLISHED",
+                null,
+                null,
+                Instant.parse("2024-01-01T00:00:00Z"),
+                null,
+                "UTC",
+                "Plaza",
+                null,
+                Instant.parse("2024-01-01T00:00:00Z"),
+                Instant.parse("2024-01-01T00:00:00Z"),
+                UUID.randomUUID()
+        );
+
+        given(publicFeedUseCase.listPublishedAfter("abc", 1))
+                .willReturn(new FeedPageView(List.of(summary), "next-1"));
+
+        mockMvc.perform(get("/public/feed")
+                        .param("cursor", "abc")
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$.items[0].slug").value("jam"))
+                .andExpect(jsonPath("$.nextCursor").value("next-1"));
+    }
+
     @Test
     void publicPostGetBySlug_returnsDetails() throws Exception {
         final String thumbnailJson = objectMapper.writeValueAsString(
@@ -219,5 +365,26 @@ class PublicFeedControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
-}
 
+    private FeedItemSummaryView feedSummary(final String slug) throws Exception {
+        return new FeedItemSummaryView(
+                "POST",
+                UUID.randomUUID(),
+                "Post " + slug,
+                slug,
+                "Intro",
+                List.of("news"),
+                "PUBLISHED",
+                objectMapper.writeValueAsString(new ImageRef().url("https://example.com/" + slug + ".png").alt("thumb")),
+                Instant.parse("2024-01-01T00:00:00Z"),
+                null,
+                null,
+                null,
+                null,
+                null,
+                Instant.parse("2024-01-01T00:00:00Z"),
+                Instant.parse("2024-01-01T00:00:00Z"),
+                UUID.randomUUID()
+        );
+    }
+}
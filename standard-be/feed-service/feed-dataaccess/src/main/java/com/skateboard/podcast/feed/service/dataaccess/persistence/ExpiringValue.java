@@ -0,0 +1,77 @@
+package com.skateboard.podcast.feed.service.dataaccess.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes one loaded value for a fixed time. Adapters invalidate it once their own writes
+ * commit, so the TTL only bounds staleness from writes made by other nodes.
+ */
+public final class ExpiringValue<T> {
+
+    private final Supplier<T> loader;
+    private final long ttlNanos;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Entry<T> entry;
+
+    public ExpiringValue(final Supplier<T> loader, final Duration ttl) {
+        this.loader = loader;
+        this.ttlNanos = ttl == null ? 0L : ttl.toNanos();
+    }
+
+    public T get() {
+        // A transaction with pending writes reads its own view and must not publish it to others.
+        if (ttlNanos <= 0L || TransactionSynchronizationManager.hasResource(this)) {
+            return loader.get();
+        }
+        final Entry<T> current = entry;
+        final long now = System.nanoTime();
+        if (current != null && now - current.loadedAtNanos() < ttlNanos) {
+            return current.value();
+        }
+        final long loadedGeneration = generation.get();
+        final T loaded = loader.get();
+        // Skip storing a value that was read while a commit invalidated the cache.
+        if (generation.get() == loadedGeneration) {
+            entry = new Entry<>(loaded, now);
+        }
+        return loaded;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        entry = null;
+    }
+
+    /**
+     * Invalidates once the surrounding transaction commits, so no other reader can cache the
+     * pre-commit value in between; without an active transaction the write is already committed.
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ExpiringValue.this);
+            }
+        });
+    }
+
+    private record Entry<T>(T value, long loadedAtNanos) {}
+}
@@ -0,0 +1,84 @@
+package com.skateboard.podcast.feed.service.dataaccess.persistence;
+
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
+import com.skateboard.podcast.feed.service.dataaccess.persistence.jpa.FeedChangeJpaEntity;
+import com.skateboard.podcast.feed.service.dataaccess.persistence.jpa.SpringDataFeedChangeRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A BIGSERIAL alone is not commit-ordered: a transaction holding version 7 can commit after one
+ * holding version 8, and a reader at 8 would never see 7. Appenders therefore take a table lock
+ * that is held until commit, which serializes the (rare) admin writes that touch the feed.
+ */
+@Component
+public class FeedChangeLogAdapter implements FeedChangeLog {
+
+    private final SpringDataFeedChangeRepository repo;
+
+    public FeedChangeLogAdapter(final SpringDataFeedChangeRepository repo) {
+        this.repo = repo;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(final FeedChange change) {
+        repo.lockForAppend();
+        repo.save(toEntity(change));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(final List<FeedChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        repo.lockForAppend();
+        repo.saveAll(changes.stream().map(FeedChangeLogAdapter::toEntity).toList());
+    }
+
+    @Override
+    public long currentVersion() {
+        return repo.fetchCurrentVersion();
+    }
+
+    @Override
+    public long oldestVersion() {
+        return repo.fetchOldestVersion();
+    }
+
+    @Override
+    public List<LoggedFeedChange> findAfter(final long version, final int limit) {
+        return repo.findByVersionGreaterThanOrderByVersionAsc(version, Limit.of(limit)).stream()
+                .map(FeedChangeLogAdapter::toLogged)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int deleteChangedBefore(final Instant cutoff, final int limit) {
+        return repo.deleteChangedBefore(cutoff, limit);
+    }
+
+    private static FeedChangeJpaEntity toEntity(final FeedChange change) {
+        final FeedChangeJpaEntity e = new FeedChangeJpaEntity();
+        e.setItemType(change.itemType());
+        e.setItemId(change.itemId());
+        e.setSlug(change.slug());
+        e.setChangeType(change.type());
+        e.setChangedAt(change.changedAt());
+        return e;
+    }
+
+    private static LoggedFeedChange toLogged(final FeedChangeJpaEntity e) {
+        return new LoggedFeedChange(
+                e.getVersion(),
+                new FeedChange(e.getItemType(), e.getItemId(), e.getSlug(), e.getChangeType(), e.getChangedAt())
+        );
+    }
+}
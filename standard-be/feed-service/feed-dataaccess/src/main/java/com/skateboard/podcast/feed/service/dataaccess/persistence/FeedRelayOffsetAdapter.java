@@ -0,0 +1,39 @@
+package com.skateboard.podcast.feed.service.dataaccess.persistence;
+
+import com.skateboard.podcast.feed.service.application.port.out.FeedRelayOffsets;
+import com.skateboard.podcast.feed.service.dataaccess.persistence.jpa.FeedRelayOffsetJpaEntity;
+import com.skateboard.podcast.feed.service.dataaccess.persistence.jpa.SpringDataFeedRelayOffsetRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.OptionalLong;
+
+@Component
+public class FeedRelayOffsetAdapter implements FeedRelayOffsets {
+
+    private final SpringDataFeedRelayOffsetRepository repo;
+
+    public FeedRelayOffsetAdapter(final SpringDataFeedRelayOffsetRepository repo) {
+        this.repo = repo;
+    }
+
+    @Override
+    public OptionalLong load(final String consumer) {
+        return repo.findById(consumer)
+                .map(e -> OptionalLong.of(e.getVersion()))
+                .orElseGet(OptionalLong::empty);
+    }
+
+    @Override
+    @Transactional
+    public void save(final String consumer, final long version) {
+        repo.upsert(consumer, version);
+    }
+
+    @Override
+    @Transactional
+    public int deleteNotUpdatedSince(final Instant cutoff) {
+        return repo.deleteByUpdatedAtBefore(cutoff);
+    }
+}
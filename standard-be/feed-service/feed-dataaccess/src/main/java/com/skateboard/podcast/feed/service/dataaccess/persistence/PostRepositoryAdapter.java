@@ -2,25 +2,46 @@ package com.skateboard.podcast.feed.service.dataaccess.persistence;
 
 import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
 import com.skateboard.podcast.feed.service.dataaccess.persistence.jpa.PostJpaEntity;
+import com.skateboard.podcast.feed.service.dataaccess.persistence.jpa.PostSummaryProjection;
 import com.skateboard.podcast.feed.service.dataaccess.persistence.jpa.SpringDataPostRepository;
 import com.skateboard.podcast.domain.valueobject.PostStatus;
 import com.skateboard.podcast.domain.valueobject.Slug;
 import com.skateboard.podcast.domain.valueobject.Tag;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 public class PostRepositoryAdapter implements PostRepository {
 
     private final SpringDataPostRepository repo;
-
-    public PostRepositoryAdapter(final SpringDataPostRepository repo) {
+    private final EntityManager entityManager;
+    private final int insertBatchSize;
+    private final ExpiringValue<FeedStats> publishedStats;
+
+    public PostRepositoryAdapter(
+            final SpringDataPostRepository repo,
+            final EntityManager entityManager,
+            @Value("${app.feed.stats-cache.ttl:PT10S}") final Duration statsTtl,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") final int insertBatchSize
+    ) {
         this.repo = repo;
+        this.entityManager = entityManager;
+        this.insertBatchSize = Math.max(1, insertBatchSize);
+        this.publishedStats = new ExpiringValue<>(this::loadPublishedStats, statsTtl);
     }
 
     @Override
@@ -34,38 +55,104 @@ public class PostRepositoryAdapter implements PostRepository {
     }
 
     @Override
-    public List<PostRecord> findAll(final int page, final int size) {
-        return repo.findAllByOrderByUpdatedAtDesc(PageRequest.of(page, size))
-                .map(PostRepositoryAdapter::toRecord)
-                .getContent();
+    public List<PostSummaryRecord> findSummaries(final int page, final int size) {
+        return repo.findSummariesByOrderByUpdatedAtDesc(PageRequest.of(page, size))
+                .stream()
+                .map(PostRepositoryAdapter::toSummaryRecord)
+                .toList();
     }
 
     @Override
-    public List<PostRecord> findByStatus(final PostStatus status, final int page, final int size) {
-        return repo.findByStatusOrderByUpdatedAtDesc(status.name(), PageRequest.of(page, size))
-                .map(PostRepositoryAdapter::toRecord)
-                .getContent();
+    public List<PostSummaryRecord> findSummariesByStatus(final PostStatus status, final int page, final int size) {
+        return repo.findSummariesByStatusOrderByUpdatedAtDesc(status.name(), PageRequest.of(page, size))
+                .stream()
+                .map(PostRepositoryAdapter::toSummaryRecord)
+                .toList();
     }
 
     @Override
-    public List<PostRecord> findPublished(final int page, final int size) {
-        return repo.findByStatusOrderByPublishedAtDesc(
+    public List<PostSummaryRecord> findPublishedSummaries(final int page, final int size) {
+        return repo.findSummariesByStatusOrderByPublishedAtDesc(
                         PostStatus.PUBLISHED.name(),
                         PageRequest.of(page, size)
                 )
-                .map(PostRepositoryAdapter::toRecord)
-                .getContent();
+                .stream()
+                .map(PostRepositoryAdapter::toSummaryRecord)
+                .toList();
+    }
+
+    @Override
+    public List<PostSummaryRecord> findPublishedAfter(final Instant sortAt, final java.util.UUID id, final int limit) {
+        final var rows = sortAt == null || id == null
+                ? repo.findPublishedFeedHead(Limit.of(limit))
+                : repo.findPublishedFeedAfter(sortAt, id, Limit.of(limit));
+        return rows.stream()
+                .map(PostRepositoryAdapter::toSummaryRecord)
+                .toList();
+    }
+
+    @Override
+    public List<PostSummaryRecord> findSummariesByIds(final Collection<java.util.UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return repo.findSummariesByIdIn(ids).stream()
+                .map(PostRepositoryAdapter::toSummaryRecord)
+                .toList();
     }
 
     @Override
     public FeedStats fetchPublishedFeedStats() {
-        final Instant lastUpdatedAt = repo.findMaxUpdatedAtByStatus(PostStatus.PUBLISHED.name());
-        final long totalCount = repo.countByStatus(PostStatus.PUBLISHED.name());
-        return new FeedStats(lastUpdatedAt, totalCount);
+        return publishedStats.get();
     }
 
     @Override
     public PostRecord save(final PostRecord post) {
+        repo.save(toEntity(post));
+        publishedStats.invalidateAfterCommit();
+        return post;
+    }
+
+    /**
+     * Persists rather than merges, so no select is issued per row, and flushes every
+     * {@code insertBatchSize} rows so Hibernate sends them as JDBC batches.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertAll(final List<PostRecord> posts) {
+        for (int i = 0; i < posts.size(); i++) {
+            entityManager.persist(toEntity(posts.get(i)));
+            if ((i + 1) % insertBatchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        publishedStats.invalidateAfterCommit();
+    }
+
+    @Override
+    public Set<String> findSlugsWithBases(final Collection<String> bases) {
+        if (bases.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(repo.findSlugsWithBases(bases.toArray(String[]::new)));
+    }
+
+    @Override
+    public void deleteById(final java.util.UUID id) {
+        repo.deleteById(id);
+        publishedStats.invalidateAfterCommit();
+    }
+
+    @Override
+    public void deleteAll() {
+        repo.deleteAll();
+        publishedStats.invalidateAfterCommit();
+    }
+
+    private static PostJpaEntity toEntity(final PostRecord post) {
         final PostJpaEntity e = new PostJpaEntity();
         e.setId(post.id());
         e.setTitle(post.title());
@@ -79,18 +166,12 @@ public class PostRepositoryAdapter implements PostRepository {
         e.setCreatedAt(post.createdAt());
         e.setUpdatedAt(post.updatedAt());
         e.setPublishedAt(post.publishedAt());
-        repo.save(e);
-        return post;
+        return e;
     }
 
-    @Override
-    public void deleteById(final java.util.UUID id) {
-        repo.deleteById(id);
-    }
-
-    @Override
-    public void deleteAll() {
-        repo.deleteAll();
+    private FeedStats loadPublishedStats() {
+        final var stats = repo.fetchStatsByStatus(PostStatus.PUBLISHED.name());
+        return new FeedStats(stats.getLastUpdatedAt(), stats.getTotalCount());
     }
 
     private static PostRecord toRecord(final PostJpaEntity e) {
@@ -110,6 +191,22 @@ public class PostRepositoryAdapter implements PostRepository {
         );
     }
 
+    private static PostSummaryRecord toSummaryRecord(final PostSummaryProjection p) {
+        return new PostSummaryRecord(
+                p.getId(),
+                p.getTitle(),
+                Slug.of(p.getSlug()),
+                p.getExcerpt(),
+                toTags(p.getTags()),
+                PostStatus.from(p.getStatus()),
+                p.getThumbnailJson(),
+                p.getAuthorId(),
+                p.getCreatedAt(),
+                p.getUpdatedAt(),
+                p.getPublishedAt()
+        );
+    }
+
     private static List<Tag> toTags(final String[] tags) {
         if (tags == null || tags.length == 0) {
             return List.of();
@@ -0,0 +1,48 @@
+package com.skateboard.podcast.feed.service.dataaccess.persistence.jpa;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "feed_changes")
+public class FeedChangeJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "item_type", nullable = false, length = 16)
+    private String itemType;
+
+    @Column(name = "item_id")
+    private UUID itemId;
+
+    @Column(name = "slug", length = 200)
+    private String slug;
+
+    @Column(name = "change_type", nullable = false, length = 32)
+    private String changeType;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    public Long getVersion() { return version; }
+    public void setVersion(final Long version) { this.version = version; }
+
+    public String getItemType() { return itemType; }
+    public void setItemType(final String itemType) { this.itemType = itemType; }
+
+    public UUID getItemId() { return itemId; }
+    public void setItemId(final UUID itemId) { this.itemId = itemId; }
+
+    public String getSlug() { return slug; }
+    public void setSlug(final String slug) { this.slug = slug; }
+
+    public String getChangeType() { return changeType; }
+    public void setChangeType(final String changeType) { this.changeType = changeType; }
+
+    public Instant getChangedAt() { return changedAt; }
+    public void setChangedAt(final Instant changedAt) { this.changedAt = changedAt; }
+}
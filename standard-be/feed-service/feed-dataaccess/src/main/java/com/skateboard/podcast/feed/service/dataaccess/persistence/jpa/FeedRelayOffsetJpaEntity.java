@@ -0,0 +1,28 @@
+package com.skateboard.podcast.feed.service.dataaccess.persistence.jpa;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "feed_relay_offsets")
+public class FeedRelayOffsetJpaEntity {
+
+    @Id
+    @Column(name = "consumer", nullable = false, length = 100)
+    private String consumer;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public String getConsumer() { return consumer; }
+    public void setConsumer(final String consumer) { this.consumer = consumer; }
+
+    public long getVersion() { return version; }
+    public void setVersion(final long version) { this.version = version; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(final Instant updatedAt) { this.updatedAt = updatedAt; }
+}
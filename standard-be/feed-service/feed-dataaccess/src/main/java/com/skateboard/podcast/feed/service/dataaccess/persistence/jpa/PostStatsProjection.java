@@ -0,0 +1,8 @@
+package com.skateboard.podcast.feed.service.dataaccess.persistence.jpa;
+
+import java.time.Instant;
+
+public interface PostStatsProjection {
+    Instant getLastUpdatedAt();
+    long getTotalCount();
+}
@@ -0,0 +1,21 @@
+package com.skateboard.podcast.feed.service.dataaccess.persistence.jpa;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Closed projection over {@link PostJpaEntity} for list reads; leaves out the {@code content} JSONB.
+ */
+public interface PostSummaryProjection {
+    UUID getId();
+    String getTitle();
+    String getSlug();
+    String getExcerpt();
+    String[] getTags();
+    String getStatus();
+    String getThumbnailJson();
+    UUID getAuthorId();
+    Instant getCreatedAt();
+    Instant getUpdatedAt();
+    Instant getPublishedAt();
+}
@@ -0,0 +1,42 @@
+package com.skateboard.podcast.feed.service.dataaccess.persistence.jpa;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface SpringDataFeedChangeRepository extends JpaRepository<FeedChangeJpaEntity, Long> {
+
+    List<FeedChangeJpaEntity> findByVersionGreaterThanOrderByVersionAsc(long version, Limit limit);
+
+    @Query("select coalesce(max(c.version), 0) from FeedChangeJpaEntity c")
+    long fetchCurrentVersion();
+
+    @Query("select coalesce(min(c.version), 0) from FeedChangeJpaEntity c")
+    long fetchOldestVersion();
+
+    // Oldest first along the primary key, so a run stops at the first young entry. The latest row
+    // stays because currentVersion is read from the table, not from the sequence.
+    @Modifying
+    @Query(value = """
+            delete from feed_changes
+            where version in (
+                select version from feed_changes
+                where changed_at < :cutoff
+                  and version < (select max(version) from feed_changes)
+                order by version
+                limit :limit
+                for update skip locked
+            )
+            """, nativeQuery = true)
+    int deleteChangedBefore(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+
+    // EXCLUSIVE still admits plain SELECTs, so readers are never blocked by appenders.
+    @Modifying
+    @Query(value = "LOCK TABLE feed_changes IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForAppend();
+}
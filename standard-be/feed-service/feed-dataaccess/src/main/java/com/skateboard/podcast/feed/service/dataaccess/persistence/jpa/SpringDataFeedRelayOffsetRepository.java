@@ -0,0 +1,24 @@
+package com.skateboard.podcast.feed.service.dataaccess.persistence.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface SpringDataFeedRelayOffsetRepository extends JpaRepository<FeedRelayOffsetJpaEntity, String> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO feed_relay_offsets (consumer, version, updated_at)
+            VALUES (:consumer, :version, now())
+            ON CONFLICT (consumer) DO UPDATE
+                SET version = EXCLUDED.version, updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void upsert(@Param("consumer") String consumer, @Param("version") long version);
+
+    @Modifying
+    @Query("delete from FeedRelayOffsetJpaEntity o where o.updatedAt < :cutoff")
+    int deleteByUpdatedAtBefore(@Param("cutoff") Instant cutoff);
+}
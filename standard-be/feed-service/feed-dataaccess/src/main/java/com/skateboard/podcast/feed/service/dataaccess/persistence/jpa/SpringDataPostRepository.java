@@ -1,22 +1,65 @@
 package com.skateboard.podcast.feed.service.dataaccess.persistence.jpa;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface SpringDataPostRepository extends JpaRepository<PostJpaEntity, UUID> {
-    Page<PostJpaEntity> findByStatusOrderByPublishedAtDesc(String status, Pageable pageable);
-    Page<PostJpaEntity> findByStatusOrderByUpdatedAtDesc(String status, Pageable pageable);
-    Page<PostJpaEntity> findAllByOrderByUpdatedAtDesc(Pageable pageable);
+    // List rather than Page: the offset/limit is applied without a companion count query.
+    List<PostSummaryProjection> findSummariesByStatusOrderByPublishedAtDesc(String status, Pageable pageable);
+    List<PostSummaryProjection> findSummariesByStatusOrderByUpdatedAtDesc(String status, Pageable pageable);
+    List<PostSummaryProjection> findSummariesByOrderByUpdatedAtDesc(Pageable pageable);
+    List<PostSummaryProjection> findSummariesByIdIn(Collection<UUID> ids);
     Optional<PostJpaEntity> findBySlug(String slug);
-    long countByStatus(String status);
 
-    @Query("select max(p.updatedAt) from PostJpaEntity p where p.status = :status")
-    Instant findMaxUpdatedAtByStatus(@Param("status") String status);
+    // One pass over the table for every base and its "<base>-<n>" variants.
+    @Query(value = """
+            select slug from posts
+            where slug = any(:bases)
+               or substring(slug from '^(.*)-[0-9]+$') = any(:bases)
+            """, nativeQuery = true)
+    List<String> findSlugsWithBases(@Param("bases") String[] bases);
+
+    @Query("""
+            select max(p.updatedAt) as lastUpdatedAt, count(p) as totalCount
+            from PostJpaEntity p
+            where p.status = :status
+            """)
+    PostStatsProjection fetchStatsByStatus(@Param("status") String status);
+
+    @Query("""
+            select p.id as id, p.title as title, p.slug as slug, p.excerpt as excerpt,
+                   p.tags as tags, p.status as status, p.thumbnailJson as thumbnailJson,
+                   p.authorId as authorId, p.createdAt as createdAt, p.updatedAt as updatedAt,
+                   p.publishedAt as publishedAt
+            from PostJpaEntity p
+            where p.status = 'PUBLISHED'
+            order by coalesce(p.publishedAt, p.updatedAt) desc, p.id desc
+            """)
+    List<PostSummaryProjection> findPublishedFeedHead(Limit limit);
+
+    @Query("""
+            select p.id as id, p.title as title, p.slug as slug, p.excerpt as excerpt,
+                   p.tags as tags, p.status as status, p.thumbnailJson as thumbnailJson,
+                   p.authorId as authorId, p.createdAt as createdAt, p.updatedAt as updatedAt,
+                   p.publishedAt as publishedAt
+            from PostJpaEntity p
+            where p.status = 'PUBLISHED'
+              and (coalesce(p.publishedAt, p.updatedAt) < :sortAt
+                or (coalesce(p.publishedAt, p.updatedAt) = :sortAt and p.id < :id))
+            order by coalesce(p.publishedAt, p.updatedAt) desc, p.id desc
+            """)
+    List<PostSummaryProjection> findPublishedFeedAfter(
+            @Param("sortAt") Instant sortAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
 }
@@ -3,24 +3,46 @@ package com.skateboard.podcast.feed.service.events.dataaccess.persistence;
 import com.skateboard.podcast.domain.valueobject.EventStatus;
 import com.skateboard.podcast.domain.valueobject.Slug;
 import com.skateboard.podcast.domain.valueobject.Tag;
+import com.skateboard.podcast.feed.service.dataaccess.persistence.ExpiringValue;
 import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventRepository;
 import com.skateboard.podcast.feed.service.events.dataaccess.persistence.jpa.FeedEventJpaEntity;
+import com.skateboard.podcast.feed.service.events.dataaccess.persistence.jpa.FeedEventSummaryProjection;
 import com.skateboard.podcast.feed.service.events.dataaccess.persistence.jpa.SpringDataFeedEventRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 public class FeedEventRepositoryAdapter implements FeedEventRepository {
 
     private final SpringDataFeedEventRepository repo;
-
-    public FeedEventRepositoryAdapter(final SpringDataFeedEventRepository repo) {
+    private final EntityManager entityManager;
+    private final int insertBatchSize;
+    private final ExpiringValue<FeedEventStats> publishedStats;
+
+    public FeedEventRepositoryAdapter(
+            final SpringDataFeedEventRepository repo,
+            final EntityManager entityManager,
+            @Value("${app.feed.stats-cache.ttl:PT10S}") final Duration statsTtl,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") final int insertBatchSize
+    ) {
         this.repo = repo;
+        this.entityManager = entityManager;
+        this.insertBatchSize = Math.max(1, insertBatchSize);
+        this.publishedStats = new ExpiringValue<>(this::loadPublishedStats, statsTtl);
     }
 
     @Override
@@ -34,38 +56,104 @@ public class FeedEventRepositoryAdapter implements FeedEventRepository {
     }
 
     @Override
-    public List<FeedEventRecord> findAll(final int page, final int size) {
-        return repo.findAllByOrderByUpdatedAtDesc(PageRequest.of(page, size))
-                .map(FeedEventRepositoryAdapter::toRecord)
-                .getContent();
+    public List<FeedEventSummaryRecord> findSummaries(final int page, final int size) {
+        return repo.findSummariesByOrderByUpdatedAtDesc(PageRequest.of(page, size))
+                .stream()
+                .map(FeedEventRepositoryAdapter::toSummaryRecord)
+                .toList();
     }
 
     @Override
-    public List<FeedEventRecord> findByStatus(final EventStatus status, final int page, final int size) {
-        return repo.findByStatusOrderByUpdatedAtDesc(status.name(), PageRequest.of(page, size))
-                .map(FeedEventRepositoryAdapter::toRecord)
-                .getContent();
+    public List<FeedEventSummaryRecord> findSummariesByStatus(final EventStatus status, final int page, final int size) {
+        return repo.findSummariesByStatusOrderByUpdatedAtDesc(status.name(), PageRequest.of(page, size))
+                .stream()
+                .map(FeedEventRepositoryAdapter::toSummaryRecord)
+                .toList();
     }
 
     @Override
-    public List<FeedEventRecord> findPublished(final int page, final int size) {
-        return repo.findByStatusOrderByStartAtDesc(
+    public List<FeedEventSummaryRecord> findPublishedSummaries(final int page, final int size) {
+        return repo.findSummariesByStatusOrderByStartAtDesc(
                         EventStatus.PUBLISHED.name(),
                         PageRequest.of(page, size)
                 )
-                .map(FeedEventRepositoryAdapter::toRecord)
-                .getContent();
+                .stream()
+                .map(FeedEventRepositoryAdapter::toSummaryRecord)
+                .toList();
+    }
+
+    @Override
+    public List<FeedEventSummaryRecord> findPublishedAfter(final Instant sortAt, final java.util.UUID id, final int limit) {
+        final var rows = sortAt == null || id == null
+                ? repo.findPublishedFeedHead(Limit.of(limit))
+                : repo.findPublishedFeedAfter(sortAt, id, Limit.of(limit));
+        return rows.stream()
+                .map(FeedEventRepositoryAdapter::toSummaryRecord)
+                .toList();
+    }
+
+    @Override
+    public List<FeedEventSummaryRecord> findSummariesByIds(final Collection<java.util.UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return repo.findSummariesByIdIn(ids).stream()
+                .map(FeedEventRepositoryAdapter::toSummaryRecord)
+                .toList();
     }
 
     @Override
     public FeedEventStats fetchPublishedStats() {
-        final Instant lastUpdatedAt = repo.findMaxUpdatedAtByStatus(EventStatus.PUBLISHED.name());
-        final long totalCount = repo.countByStatus(EventStatus.PUBLISHED.name());
-        return new FeedEventStats(lastUpdatedAt, totalCount);
+        return publishedStats.get();
     }
 
     @Override
     public FeedEventRecord save(final FeedEventRecord event) {
+        repo.save(toEntity(event));
+        publishedStats.invalidateAfterCommit();
+        return event;
+    }
+
+    /**
+     * Persists rather than merges, so no select is issued per row, and flushes every
+     * {@code insertBatchSize} rows so Hibernate sends them as JDBC batches.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertAll(final List<FeedEventRecord> events) {
+        for (int i = 0; i < events.size(); i++) {
+            entityManager.persist(toEntity(events.get(i)));
+            if ((i + 1) % insertBatchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        publishedStats.invalidateAfterCommit();
+    }
+
+    @Override
+    public Set<String> findSlugsWithBases(final Collection<String> bases) {
+        if (bases.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(repo.findSlugsWithBases(bases.toArray(String[]::new)));
+    }
+
+    @Override
+    public void deleteById(final java.util.UUID id) {
+        repo.deleteById(id);
+        publishedStats.invalidateAfterCommit();
+    }
+
+    @Override
+    public void deleteAll() {
+        repo.deleteAll();
+        publishedStats.invalidateAfterCommit();
+    }
+
+    private static FeedEventJpaEntity toEntity(final FeedEventRecord event) {
         final FeedEventJpaEntity e = new FeedEventJpaEntity();
         e.setId(event.id());
         e.setTitle(event.title());
@@ -83,18 +171,12 @@ public class FeedEventRepositoryAdapter implements FeedEventRepository {
         e.setCreatedBy(event.createdBy());
         e.setCreatedAt(event.createdAt());
         e.setUpdatedAt(event.updatedAt());
-        repo.save(e);
-        return event;
-    }
-
-    @Override
-    public void deleteById(final java.util.UUID id) {
-        repo.deleteById(id);
+        return e;
     }
 
-    @Override
-    public void deleteAll() {
-        repo.deleteAll();
+    private FeedEventStats loadPublishedStats() {
+        final var stats = repo.fetchStatsByStatus(EventStatus.PUBLISHED.name());
+        return new FeedEventStats(stats.getLastUpdatedAt(), stats.getTotalCount());
     }
 
     private static FeedEventRecord toRecord(final FeedEventJpaEntity e) {
@@ -118,6 +200,26 @@ public class FeedEventRepositoryAdapter implements FeedEventRepository {
         );
     }
 
+    private static FeedEventSummaryRecord toSummaryRecord(final FeedEventSummaryProjection e) {
+        return new FeedEventSummaryRecord(
+                e.getId(),
+                e.getTitle(),
+                Slug.of(e.getSlug()),
+                e.getExcerpt(),
+                toTags(e.getTags()),
+                EventStatus.from(e.getStatus()),
+                e.getThumbnailJson(),
+                e.getStartAt(),
+                e.getEndAt(),
+                e.getTimezone(),
+                e.getLocation(),
+                e.getTicketsUrl(),
+                e.getCreatedBy(),
+                e.getCreatedAt(),
+                e.getUpdatedAt()
+        );
+    }
+
     private static List<Tag> toTags(final String[] tags) {
         if (tags == null || tags.length == 0) {
             return List.of();
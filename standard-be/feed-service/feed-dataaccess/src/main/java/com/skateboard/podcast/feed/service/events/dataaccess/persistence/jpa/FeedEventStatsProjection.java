@@ -0,0 +1,8 @@
+package com.skateboard.podcast.feed.service.events.dataaccess.persistence.jpa;
+
+import java.time.Instant;
+
+public interface FeedEventStatsProjection {
+    Instant getLastUpdatedAt();
+    long getTotalCount();
+}
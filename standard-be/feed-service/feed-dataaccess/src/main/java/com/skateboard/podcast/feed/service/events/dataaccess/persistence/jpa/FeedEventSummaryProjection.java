@@ -0,0 +1,25 @@
+package com.skateboard.podcast.feed.service.events.dataaccess.persistence.jpa;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Closed projection over {@link FeedEventJpaEntity} for list reads; leaves out the {@code content} JSONB.
+ */
+public interface FeedEventSummaryProjection {
+    UUID getId();
+    String getTitle();
+    String getSlug();
+    String getExcerpt();
+    String[] getTags();
+    String getStatus();
+    String getThumbnailJson();
+    Instant getStartAt();
+    Instant getEndAt();
+    String getTimezone();
+    String getLocation();
+    String getTicketsUrl();
+    UUID getCreatedBy();
+    Instant getCreatedAt();
+    Instant getUpdatedAt();
+}
@@ -1,23 +1,68 @@
 package com.skateboard.podcast.feed.service.events.dataaccess.persistence.jpa;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface SpringDataFeedEventRepository extends JpaRepository<FeedEventJpaEntity, UUID> {
-    Page<FeedEventJpaEntity> findByStatusOrderByStartAtDesc(String status, Pageable pageable);
-    Page<FeedEventJpaEntity> findByStatusOrderByUpdatedAtDesc(String status, Pageable pageable);
-    Page<FeedEventJpaEntity> findAllByOrderByUpdatedAtDesc(Pageable pageable);
+    // List rather than Page: the offset/limit is applied without a companion count query.
+    List<FeedEventSummaryProjection> findSummariesByStatusOrderByStartAtDesc(String status, Pageable pageable);
+    List<FeedEventSummaryProjection> findSummariesByStatusOrderByUpdatedAtDesc(String status, Pageable pageable);
+    List<FeedEventSummaryProjection> findSummariesByOrderByUpdatedAtDesc(Pageable pageable);
+    List<FeedEventSummaryProjection> findSummariesByIdIn(Collection<UUID> ids);
     Optional<FeedEventJpaEntity> findBySlug(String slug);
-    long countByStatus(String status);
 
-    @Query("select max(e.updatedAt) from FeedEventJpaEntity e where e.status = :status")
-    Instant findMaxUpdatedAtByStatus(@Param("status") String status);
+    // One pass over the table for every base and its "<base>-<n>" variants.
+    @Query(value = """
+            select slug from events
+            where slug = any(:bases)
+               or substring(slug from '^(.*)-[0-9]+$') = any(:bases)
+            """, nativeQuery = true)
+    List<String> findSlugsWithBases(@Param("bases") String[] bases);
+
+    @Query("""
+            select max(e.updatedAt) as lastUpdatedAt, count(e) as totalCount
+            from FeedEventJpaEntity e
+            where e.status = :status
+            """)
+    FeedEventStatsProjection fetchStatsByStatus(@Param("status") String status);
+
+    @Query("""
+            select e.id as id, e.title as title, e.slug as slug, e.excerpt as excerpt,
+                   e.tags as tags, e.status as status, e.thumbnailJson as thumbnailJson,
+                   e.startAt as startAt, e.endAt as endAt, e.timezone as timezone,
+                   e.location as location, e.ticketsUrl as ticketsUrl, e.createdBy as createdBy,
+                   e.createdAt as createdAt, e.updatedAt as updatedAt
+            from FeedEventJpaEntity e
+            where e.status = 'PUBLISHED'
+            order by coalesce(e.startAt, e.updatedAt) desc, e.id desc
+            """)
+    List<FeedEventSummaryProjection> findPublishedFeedHead(Limit limit);
+
+    @Query("""
+            select e.id as id, e.title as title, e.slug as slug, e.excerpt as excerpt,
+                   e.tags as tags, e.status as status, e.thumbnailJson as thumbnailJson,
+                   e.startAt as startAt, e.endAt as endAt, e.timezone as timezone,
+                   e.location as location, e.ticketsUrl as ticketsUrl, e.createdBy as createdBy,
+                   e.createdAt as createdAt, e.updatedAt as updatedAt
+            from FeedEventJpaEntity e
+            where e.status = 'PUBLISHED'
+              and (coalesce(e.startAt, e.updatedAt) < :sortAt
+                or (coalesce(e.startAt, e.updatedAt) = :sortAt and e.id < :id))
+            order by coalesce(e.startAt, e.updatedAt) desc, e.id desc
+            """)
+    List<FeedEventSummaryProjection> findPublishedFeedAfter(
+            @Param("sortAt") Instant sortAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
 }
 
@@ -0,0 +1,73 @@
+package com.skateboard.podcast.feed.service.dataaccess.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExpiringValueTest {
+
+    private final AtomicInteger committed = new AtomicInteger();
+    private final AtomicInteger uncommitted = new AtomicInteger();
+    private final ExpiringValue<Integer> value = new ExpiringValue<>(
+            () -> TransactionSynchronizationManager.isSynchronizationActive() ? uncommitted.get() : committed.get(),
+            Duration.ofMinutes(1)
+    );
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void invalidatesImmediatelyOutsideTransaction() {
+        assertEquals(0, value.get());
+        committed.set(1);
+
+        value.invalidateAfterCommit();
+
+        assertEquals(1, value.get());
+    }
+
+    @Test
+    void keepsCachedValueForOtherReadersUntilCommit() {
+        assertEquals(0, value.get());
+
+        TransactionSynchronizationManager.initSynchronization();
+        uncommitted.set(1);
+        value.invalidateAfterCommit();
+
+        // The writing transaction sees its own change; the cache still holds the committed value.
+        assertEquals(1, value.get());
+        final var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(0, value.get());
+
+        committed.set(1);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals(1, value.get());
+    }
+
+    @Test
+    void keepsCachedValueWhenTransactionRollsBack() {
+        assertEquals(0, value.get());
+
+        TransactionSynchronizationManager.initSynchronization();
+        value.invalidateAfterCommit();
+        final var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        committed.set(1);
+        assertEquals(0, value.get());
+    }
+}
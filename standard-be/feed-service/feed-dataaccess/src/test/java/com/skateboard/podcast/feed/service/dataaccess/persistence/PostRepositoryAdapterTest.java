@@ -132,10 +132,41 @@ class PostRepositoryAdapterTest {
 
         entityManager.flush();
         entityManager.clear();
-        final var published = adapter.findPublished(0, 10);
+        final var published = adapter.findPublishedSummaries(0, 10);
 
         assertEquals(2, published.size());
         assertEquals("newer", published.get(0).slug().value());
         assertEquals("older", published.get(1).slug().value());
+        assertEquals(List.of(Tag.of("news")), published.get(0).tags());
+
+        final var feedHead = adapter.findPublishedAfter(null, null, 1);
+        assertEquals(1, feedHead.size());
+        assertEquals(newer.id(), feedHead.get(0).id());
+    }
+
+    @Test
+    void publishedStatsReflectOwnWritesImmediately() {
+        assertEquals(0, adapter.fetchPublishedFeedStats().totalCount());
+
+        final PostRecord published = new PostRecord(
+                UUID.randomUUID(),
+                "Counted",
+                Slug.of("counted"),
+                "Counted excerpt",
+                List.of(Tag.of("news")),
+                PostStatus.PUBLISHED,
+                null,
+                "[{\"type\":\"paragraph\",\"text\":\"Counted\"}]",
+                UUID.randomUUID(),
+                Instant.parse("2024-01-05T00:00:00Z"),
+                Instant.parse("2024-01-05T00:00:00Z"),
+                Instant.parse("2024-01-05T00:00:00Z")
+        );
+        adapter.save(published);
+        entityManager.flush();
+
+        final var stats = adapter.fetchPublishedFeedStats();
+        assertEquals(1, stats.totalCount());
+        assertEquals(Instant.parse("2024-01-05T00:00:00Z"), stats.lastUpdatedAt());
     }
 }
@@ -0,0 +1,27 @@
+package com.skateboard.podcast.feed.service.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Net effect of the feed changes after a client's version: items to insert or replace, and items
+ * to drop. When {@code reset} is set the client must refetch the feed instead of applying a delta.
+ */
+public record FeedChangesView(
+        long version,
+        boolean hasMore,
+        boolean reset,
+        List<FeedItemSummaryView> upserted,
+        List<RemovedItem> removed
+) {
+
+    public static FeedChangesView unchanged(final long version) {
+        return new FeedChangesView(version, false, false, List.of(), List.of());
+    }
+
+    public static FeedChangesView resetTo(final long version, final boolean hasMore) {
+        return new FeedChangesView(version, hasMore, true, List.of(), List.of());
+    }
+
+    public record RemovedItem(String type, UUID id) {}
+}
@@ -0,0 +1,54 @@
+package com.skateboard.podcast.feed.service.application.dto;
+
+import com.skateboard.podcast.domain.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the merged public feed. The feed is ordered by sortAt descending,
+ * then by id descending using unsigned byte order (the same order Postgres uses for uuid).
+ */
+public record FeedCursor(Instant sortAt, String type, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        final String raw = sortAt.toString() + SEPARATOR + type + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCursor decode(final String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(encoded.trim()), StandardCharsets.UTF_8);
+            final int first = raw.indexOf(SEPARATOR);
+            final int second = raw.indexOf(SEPARATOR, first + 1);
+            if (first < 0 || second < 0) {
+                throw new ValidationException("invalid cursor");
+            }
+            return new FeedCursor(
+                    Instant.parse(raw.substring(0, first)),
+                    raw.substring(first + 1, second),
+                    UUID.fromString(raw.substring(second + 1))
+            );
+        } catch (final IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("invalid cursor");
+        }
+    }
+
+    public static int compareIds(final UUID left, final UUID right) {
+        final int high = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        if (high != 0) {
+            return high;
+        }
+        return Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,5 @@
+package com.skateboard.podcast.feed.service.application.dto;
+
+import java.util.List;
+
+public record FeedPageView(List<FeedItemSummaryView> items, String nextCursor) {}
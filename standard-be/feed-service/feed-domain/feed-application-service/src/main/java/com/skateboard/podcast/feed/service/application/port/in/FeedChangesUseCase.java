@@ -0,0 +1,11 @@
+package com.skateboard.podcast.feed.service.application.port.in;
+
+import com.skateboard.podcast.feed.service.application.dto.FeedChangesView;
+
+public interface FeedChangesUseCase {
+
+    /**
+     * A null {@code since} returns the current version with no items, as a starting point.
+     */
+    FeedChangesView changesSince(Long since, int limit);
+}
@@ -1,6 +1,7 @@
 package com.skateboard.podcast.feed.service.application.port.in;
 
 import com.skateboard.podcast.feed.service.application.dto.FeedItemSummaryView;
+import com.skateboard.podcast.feed.service.application.dto.FeedPageView;
 import com.skateboard.podcast.feed.service.application.dto.FeedVersion;
 
 import java.util.List;
@@ -8,5 +9,7 @@ import java.util.List;
 public interface PublicFeedUseCase {
     List<FeedItemSummaryView> listPublished(int page, int size);
 
+    FeedPageView listPublishedAfter(String cursor, int size);
+
     FeedVersion getFeedVersion(int page, int size);
 }
@@ -0,0 +1,61 @@
+package com.skateboard.podcast.feed.service.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Append-only log of changes to what the public feed shows. Versions increase in commit order,
+ * so a reader that has seen version {@code n} never misses a later commit with a lower version.
+ * Old entries are pruned after a retention period; a reader behind {@link #oldestVersion()} has
+ * lost entries and must refetch the whole feed.
+ */
+public interface FeedChangeLog {
+
+    String ITEM_POST = "POST";
+    String ITEM_EVENT = "EVENT";
+    /** Marks a bulk change (reset) after which readers must refetch the whole feed. */
+    String ITEM_FEED = "FEED";
+
+    /**
+     * Bulk changes of up to this many items are logged item by item, so readers can still apply
+     * them incrementally; larger ones log a single {@link #ITEM_FEED} entry.
+     */
+    int MAX_ITEMIZED_CHANGES = 500;
+
+    /**
+     * Must be called inside the transaction that made the change.
+     */
+    void append(FeedChange change);
+
+    /**
+     * Must be called inside the transaction that made the changes.
+     */
+    default void appendAll(final List<FeedChange> changes) {
+        changes.forEach(this::append);
+    }
+
+    long currentVersion();
+
+    /**
+     * The lowest retained version, or 0 when the log is empty.
+     */
+    long oldestVersion();
+
+    /**
+     * Entries with a version strictly greater than {@code version}, oldest first.
+     */
+    List<LoggedFeedChange> findAfter(long version, int limit);
+
+    /**
+     * Deletes up to {@code limit} of the oldest entries changed before {@code cutoff}. The latest
+     * entry is always kept, so {@link #currentVersion()} never goes back.
+     *
+     * @return the number of entries deleted
+     */
+    int deleteChangedBefore(Instant cutoff, int limit);
+
+    record FeedChange(String itemType, UUID itemId, String slug, String type, Instant changedAt) {}
+
+    record LoggedFeedChange(long version, FeedChange change) {}
+}
@@ -0,0 +1,23 @@
+package com.skateboard.podcast.feed.service.application.port.out;
+
+import java.time.Instant;
+import java.util.OptionalLong;
+
+/**
+ * Durable high-water marks of the {@link FeedChangeLog} relays, one per consumer, so a restarted
+ * relay resumes where it stopped instead of skipping what was committed while it was down.
+ * Running relays re-save their mark even while the log is idle, so a mark that has not been
+ * updated for long belongs to a consumer that is gone, e.g. a pod that restarted under a new host
+ * name.
+ */
+public interface FeedRelayOffsets {
+
+    OptionalLong load(String consumer);
+
+    void save(String consumer, long version);
+
+    /**
+     * @return the number of marks deleted
+     */
+    int deleteNotUpdatedSince(Instant cutoff);
+}
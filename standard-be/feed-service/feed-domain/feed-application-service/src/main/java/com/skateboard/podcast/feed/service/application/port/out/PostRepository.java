@@ -5,8 +5,11 @@ import com.skateboard.podcast.domain.valueobject.Slug;
 import com.skateboard.podcast.domain.valueobject.Tag;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface PostRepository {
@@ -15,16 +18,63 @@ public interface PostRepository {
 
     Optional<PostRecord> findById(UUID id);
 
-    List<PostRecord> findAll(int page, int size);
+    /**
+     * List reads return {@link PostSummaryRecord}s so the {@code content} column is never loaded.
+     */
+    List<PostSummaryRecord> findSummaries(int page, int size);
 
-    List<PostRecord> findByStatus(PostStatus status, int page, int size);
+    List<PostSummaryRecord> findSummariesByStatus(PostStatus status, int page, int size);
 
-    List<PostRecord> findPublished(int page, int size);
+    List<PostSummaryRecord> findPublishedSummaries(int page, int size);
+
+    /**
+     * Published posts ordered by coalesce(publishedAt, updatedAt) desc, id desc, starting strictly
+     * after the given key. A null sortAt starts from the newest post.
+     */
+    List<PostSummaryRecord> findPublishedAfter(Instant sortAt, UUID id, int limit);
+
+    /**
+     * Summaries for the given ids in any status; unknown ids are skipped. Adapters should
+     * override this with a single query.
+     */
+    default List<PostSummaryRecord> findSummariesByIds(final Collection<UUID> ids) {
+        return ids.stream()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .map(PostRecord::summary)
+                .toList();
+    }
 
     FeedStats fetchPublishedFeedStats();
 
     PostRecord save(PostRecord post);
 
+    /**
+     * Inserts new posts in one round of batched statements. Adapters should override this; the
+     * default saves them one by one.
+     */
+    default void insertAll(final List<PostRecord> posts) {
+        posts.forEach(this::save);
+    }
+
+    /**
+     * Existing slugs equal to one of {@code bases} or of the form {@code <base>-<n>}. Adapters
+     * should override this with a single query.
+     */
+    default Set<String> findSlugsWithBases(final Collection<String> bases) {
+        final Set<String> taken = new HashSet<>();
+        for (final String base : bases) {
+            String candidate = base;
+            int counter = 1;
+            while (findBySlug(Slug.of(candidate)).isPresent()) {
+                taken.add(candidate);
+                candidate = base + "-" + counter;
+                counter += 1;
+            }
+        }
+        return taken;
+    }
+
     void deleteById(UUID id);
 
     void deleteAll();
@@ -44,5 +94,26 @@ public interface PostRepository {
             Instant createdAt,
             Instant updatedAt,
             Instant publishedAt
+    ) {
+        public PostSummaryRecord summary() {
+            return new PostSummaryRecord(
+                    id, title, slug, excerpt, tags, status, thumbnailJson,
+                    authorId, createdAt, updatedAt, publishedAt
+            );
+        }
+    }
+
+    record PostSummaryRecord(
+            UUID id,
+            String title,
+            Slug slug,
+            String excerpt,
+            List<Tag> tags,
+            PostStatus status,
+            String thumbnailJson,
+            UUID authorId,
+            Instant createdAt,
+            Instant updatedAt,
+            Instant publishedAt
     ) {}
 }
@@ -5,39 +5,47 @@ import com.skateboard.podcast.feed.service.application.dto.PostDetailsView;
 import com.skateboard.podcast.feed.service.application.dto.PostEvent;
 import com.skateboard.podcast.feed.service.application.dto.PostSummaryView;
 import com.skateboard.podcast.feed.service.application.port.in.AdminPostsUseCase;
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
 import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
 import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
 import com.skateboard.podcast.domain.exception.NotFoundException;
 import com.skateboard.podcast.domain.exception.ValidationException;
+import com.skateboard.podcast.domain.transaction.TransactionRunner;
 import com.skateboard.podcast.domain.valueobject.PostStatus;
 import com.skateboard.podcast.domain.valueobject.Slug;
 import com.skateboard.podcast.domain.valueobject.Tag;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 public class AdminPostsService implements AdminPostsUseCase {
 
     private final PostRepository postRepository;
     private final FeedEventPublisher feedEventPublisher;
+    private final FeedChangeLog changeLog;
+    private final TransactionRunner transactions;
 
     public AdminPostsService(
             final PostRepository postRepository,
-            final FeedEventPublisher feedEventPublisher
+            final FeedEventPublisher feedEventPublisher,
+            final FeedChangeLog changeLog,
+            final TransactionRunner transactions
     ) {
         this.postRepository = postRepository;
         this.feedEventPublisher = feedEventPublisher;
+        this.changeLog = changeLog;
+        this.transactions = transactions;
     }
 
     @Override
     public List<PostSummaryView> list(final int page, final int size, final PostStatus status) {
-        final List<PostRepository.PostRecord> records = status == null
-                ? postRepository.findAll(page, size)
-                : postRepository.findByStatus(status, page, size);
+        final List<PostRepository.PostSummaryRecord> records = status == null
+                ? postRepository.findSummaries(page, size)
+                : postRepository.findSummariesByStatus(status, page, size);
         return records.stream()
                 .map(AdminPostsService::toSummary)
                 .toList();
@@ -80,7 +88,7 @@ public class AdminPostsService implements AdminPostsUseCase {
                 now,
                 null
         );
-        final var saved = postRepository.save(record);
+        final var saved = save(record, "post.created");
         if (saved.status() == PostStatus.PUBLISHED) {
             publishPostEvent("post.created", saved);
         }
@@ -121,7 +129,7 @@ public class AdminPostsService implements AdminPostsUseCase {
                 now,
                 existing.publishedAt()
         );
-        final var saved = postRepository.save(updated);
+        final var saved = save(updated, "post.updated");
         if (saved.status() == PostStatus.PUBLISHED) {
             publishPostEvent("post.updated", saved);
         }
@@ -149,7 +157,7 @@ public class AdminPostsService implements AdminPostsUseCase {
                 now,
                 publishedAt
         );
-        final var saved = postRepository.save(updated);
+        final var saved = save(updated, "post.published");
         publishPostEvent("post.published", saved);
         return toDetails(saved);
     }
@@ -158,34 +166,63 @@ public class AdminPostsService implements AdminPostsUseCase {
     public void deleteById(final UUID id) {
         final var existing = postRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("post not found"));
-        postRepository.deleteById(id);
-        if (existing.status() == PostStatus.PUBLISHED) {
+        final Instant now = Instant.now();
+        final boolean wasPublished = existing.status() == PostStatus.PUBLISHED;
+        transactions.inTransaction(() -> {
+            postRepository.deleteById(id);
+            if (wasPublished) {
+                logChange("post.deleted", existing.id(), existing.slug(), now);
+            }
+        });
+        if (wasPublished) {
             feedEventPublisher.publishPostEvent(new PostEvent(
                     "post.deleted",
                     existing.id(),
                     existing.slug().value(),
-                    Instant.now()
+                    now
             ));
         }
     }
 
+    /**
+     * Inserts the whole batch in one transaction and logs a {@code post.published} change per post, so
+     * feed clients apply the import incrementally; the relay still collapses the burst into a single
+     * {@code feed.updated}. Imports above {@link FeedChangeLog#MAX_ITEMIZED_CHANGES} log one
+     * feed-level entry instead.
+     */
     @Override
     public List<PostSummaryView> importPosts(final List<ImportPostCommand> items, final UUID authorId) {
         if (items == null || items.isEmpty()) {
             return List.of();
         }
-        final Set<String> seenSlugs = new HashSet<>();
-        final List<PostSummaryView> results = items.stream()
-                .map(item -> importOne(item, authorId, seenSlugs))
+        items.forEach(AdminPostsService::validateImport);
+        final List<String> bases = items.stream()
+                .map(item -> Slug.normalize(item.title()))
+                .toList();
+        final ImportSlugs slugs = ImportSlugs.excluding(postRepository.findSlugsWithBases(new HashSet<>(bases)));
+        final Instant now = Instant.now();
+        final List<PostRepository.PostRecord> records = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            records.add(toImportedRecord(items.get(i), slugs.claim(bases.get(i)), authorId, now));
+        }
+        transactions.inTransaction(() -> {
+            postRepository.insertAll(records);
+            logImport(records, now);
+        });
+        feedEventPublisher.publishFeedUpdated(now);
+        return records.stream()
+                .map(record -> toSummary(record.summary()))
                 .toList();
-        feedEventPublisher.publishFeedUpdated(Instant.now());
-        return results;
     }
 
     @Override
     public void resetAll() {
-        postRepository.deleteAll();
-        feedEventPublisher.publishFeedUpdated(Instant.now());
+        final Instant now = Instant.now();
+        transactions.inTransaction(() -> {
+            postRepository.deleteAll();
+            changeLog.append(new FeedChangeLog.FeedChange(FeedChangeLog.ITEM_FEED, null, null, "feed.reset", now));
+        });
+        feedEventPublisher.publishFeedUpdated(now);
     }
 
     private static List<Tag> toTagValues(final List<String> tags) {
@@ -197,11 +234,7 @@ public class AdminPostsService implements AdminPostsUseCase {
                 .toList();
     }
 
-    private PostSummaryView importOne(
-            final ImportPostCommand item,
-            final UUID authorId,
-            final Set<String> seenSlugs
-    ) {
+    private static void validateImport(final ImportPostCommand item) {
         if (item == null) {
             throw new ValidationException("import item cannot be null");
         }
@@ -211,15 +244,18 @@ public class AdminPostsService implements AdminPostsUseCase {
         if (item.contentJson() == null || item.contentJson().isBlank()) {
             throw new ValidationException("content cannot be blank");
         }
+    }
 
-        final String slugValue = uniqueSlug(item.title(), seenSlugs);
-        final Instant now = Instant.now();
-        final Instant publishedAt = item.publishedAt() == null ? now : item.publishedAt();
-
-        final var record = new PostRepository.PostRecord(
+    private static PostRepository.PostRecord toImportedRecord(
+            final ImportPostCommand item,
+            final String slug,
+            final UUID authorId,
+            final Instant now
+    ) {
+        return new PostRepository.PostRecord(
                 UUID.randomUUID(),
                 item.title().trim(),
-                Slug.of(slugValue),
+                Slug.of(slug),
                 item.excerpt(),
                 List.of(),
                 PostStatus.PUBLISHED,
@@ -228,23 +264,43 @@ public class AdminPostsService implements AdminPostsUseCase {
                 authorId,
                 now,
                 now,
-                publishedAt
+                item.publishedAt() == null ? now : item.publishedAt()
         );
-        final var saved = postRepository.save(record);
-        return toSummary(saved);
     }
 
-    private String uniqueSlug(final String title, final Set<String> seenSlugs) {
-        final String base = Slug.normalize(title);
-        String candidate = base;
-        int counter = 1;
-        while (seenSlugs.contains(candidate)
-                || postRepository.findBySlug(Slug.of(candidate)).isPresent()) {
-            candidate = base + "-" + counter;
-            counter += 1;
+    /**
+     * Saves the post and, if it is visible in the public feed, logs the change in the same
+     * transaction.
+     */
+    private PostRepository.PostRecord save(final PostRepository.PostRecord post, final String changeType) {
+        return transactions.inTransaction(() -> {
+            final var saved = postRepository.save(post);
+            if (saved.status() == PostStatus.PUBLISHED) {
+                logChange(changeType, saved.id(), saved.slug(), saved.updatedAt());
+            }
+            return saved;
+        });
+    }
+
+    private void logImport(final List<PostRepository.PostRecord> records, final Instant now) {
+        if (records.size() > FeedChangeLog.MAX_ITEMIZED_CHANGES) {
+            changeLog.append(new FeedChangeLog.FeedChange(FeedChangeLog.ITEM_FEED, null, null, "posts.imported", now));
+            return;
         }
-        seenSlugs.add(candidate);
-        return candidate;
+        changeLog.appendAll(records.stream()
+                .map(record -> new FeedChangeLog.FeedChange(
+                        FeedChangeLog.ITEM_POST, record.id(), record.slug().value(), "post.published", now))
+                .toList());
+    }
+
+    private void logChange(final String type, final UUID postId, final Slug slug, final Instant changedAt) {
+        changeLog.append(new FeedChangeLog.FeedChange(
+                FeedChangeLog.ITEM_POST,
+                postId,
+                slug.value(),
+                type,
+                changedAt
+        ));
     }
 
     private static PostDetailsView toDetails(final PostRepository.PostRecord post) {
@@ -262,7 +318,7 @@ public class AdminPostsService implements AdminPostsUseCase {
         );
     }
 
-    private static PostSummaryView toSummary(final PostRepository.PostRecord post) {
+    private static PostSummaryView toSummary(final PostRepository.PostSummaryRecord post) {
         return new PostSummaryView(
                 post.id(),
                 post.title(),
@@ -0,0 +1,89 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Rate gate for one notification stream. The first {@code maxItemEvents} item events in a window
+ * pass through; the rest are folded into a single summary, carrying the latest updatedAt, that is
+ * emitted when the window closes.
+ */
+public final class BurstCoalescer {
+
+    private final Duration window;
+    private final int maxItemEvents;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<Instant> summary;
+    private final Object lock = new Object();
+    private boolean windowOpen;
+    private int itemEvents;
+    private Instant pendingUpdatedAt;
+
+    public BurstCoalescer(
+            final Duration window,
+            final int maxItemEvents,
+            final ScheduledExecutorService scheduler,
+            final Consumer<Instant> summary
+    ) {
+        this.window = window;
+        this.maxItemEvents = maxItemEvents;
+        this.scheduler = scheduler;
+        this.summary = summary;
+    }
+
+    /**
+     * @return true when the item event should be delivered as is
+     */
+    public boolean admitItem(final Instant updatedAt) {
+        synchronized (lock) {
+            openWindow();
+            itemEvents += 1;
+            if (itemEvents <= maxItemEvents) {
+                return true;
+            }
+            pendingUpdatedAt = latest(pendingUpdatedAt, updatedAt);
+            return false;
+        }
+    }
+
+    /**
+     * @return true when the summary should be delivered now rather than merged into a pending one
+     */
+    public boolean admitSummary(final Instant updatedAt) {
+        synchronized (lock) {
+            if (pendingUpdatedAt == null) {
+                return true;
+            }
+            pendingUpdatedAt = latest(pendingUpdatedAt, updatedAt);
+            return false;
+        }
+    }
+
+    public void closeWindow() {
+        final Instant flushed;
+        synchronized (lock) {
+            flushed = pendingUpdatedAt;
+            pendingUpdatedAt = null;
+            itemEvents = 0;
+            windowOpen = false;
+        }
+        if (flushed != null) {
+            summary.accept(flushed);
+        }
+    }
+
+    private void openWindow() {
+        if (!windowOpen) {
+            windowOpen = true;
+            scheduler.schedule(this::closeWindow, window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Instant latest(final Instant current, final Instant candidate) {
+        final Instant value = candidate == null ? Instant.now() : candidate;
+        return current == null || value.isAfter(current) ? value : current;
+    }
+}
@@ -0,0 +1,46 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.feed.service.application.dto.PostEvent;
+import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Delivers post events individually while volume is low; beyond {@code maxItemEvents} per window
+ * they collapse into one {@code feed.updated} so clients refetch once instead of per item.
+ */
+public class CoalescingFeedEventPublisher implements FeedEventPublisher {
+
+    private final FeedEventPublisher delegate;
+    private final BurstCoalescer coalescer;
+
+    public CoalescingFeedEventPublisher(
+            final FeedEventPublisher delegate,
+            final Duration window,
+            final int maxItemEvents,
+            final ScheduledExecutorService scheduler
+    ) {
+        this.delegate = delegate;
+        this.coalescer = new BurstCoalescer(window, maxItemEvents, scheduler, delegate::publishFeedUpdated);
+    }
+
+    @Override
+    public void publishPostEvent(final PostEvent event) {
+        if (event == null || coalescer.admitItem(event.updatedAt())) {
+            delegate.publishPostEvent(event);
+        }
+    }
+
+    @Override
+    public void publishFeedUpdated(final Instant updatedAt) {
+        if (coalescer.admitSummary(updatedAt)) {
+            delegate.publishFeedUpdated(updatedAt);
+        }
+    }
+
+    void flush() {
+        coalescer.closeWindow();
+    }
+}
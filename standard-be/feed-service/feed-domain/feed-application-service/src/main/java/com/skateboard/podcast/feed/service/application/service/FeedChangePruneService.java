@@ -0,0 +1,59 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
+import com.skateboard.podcast.feed.service.application.port.out.FeedRelayOffsets;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Deletes {@link FeedChangeLog} entries older than {@code retention} in chunks, so a large backlog
+ * never holds locks for long. Clients and relays behind the pruned part of the log are told to
+ * refetch the whole feed, so the retention only needs to cover how long a client usually stays away.
+ * Relay marks not updated for {@code offsetTtl} are dropped as well; a consumer that comes back
+ * after that starts from the current version like a new one.
+ */
+public class FeedChangePruneService {
+
+    private final FeedChangeLog changeLog;
+    private final FeedRelayOffsets offsets;
+    private final Duration retention;
+    private final Duration offsetTtl;
+    private final int chunkSize;
+
+    public FeedChangePruneService(
+            final FeedChangeLog changeLog,
+            final FeedRelayOffsets offsets,
+            final Duration retention,
+            final Duration offsetTtl,
+            final int chunkSize
+    ) {
+        this.changeLog = changeLog;
+        this.offsets = offsets;
+        this.retention = retention;
+        this.offsetTtl = offsetTtl;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * @return the number of entries deleted
+     */
+    public int prune(final Instant now) {
+        final Instant cutoff = now.minus(retention);
+        int pruned = 0;
+        while (true) {
+            final int deleted = changeLog.deleteChangedBefore(cutoff, chunkSize);
+            pruned += deleted;
+            if (deleted < chunkSize) {
+                return pruned;
+            }
+        }
+    }
+
+    /**
+     * @return the number of relay marks deleted
+     */
+    public int pruneAbandonedOffsets(final Instant now) {
+        return offsets.deleteNotUpdatedSince(now.minus(offsetTtl));
+    }
+}
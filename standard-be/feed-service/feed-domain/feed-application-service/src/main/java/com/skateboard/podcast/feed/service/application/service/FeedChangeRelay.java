@@ -0,0 +1,186 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.feed.service.application.dto.PostEvent;
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
+import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
+import com.skateboard.podcast.feed.service.application.port.out.FeedRelayOffsets;
+import com.skateboard.podcast.feed.service.events.application.dto.FeedEventEvent;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventsEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Relays committed {@link FeedChangeLog} entries to the realtime publishers, which turns the change
+ * log into a transactional outbox: admin writes only commit a row and never wait on a broadcast.
+ * <p>
+ * Each node keeps its own high-water mark under its consumer name, so every node patches its own
+ * snapshot and fans out to its own sessions. The mark is stored in {@link FeedRelayOffsets} after
+ * every batch and a restarted relay resumes from it; a consumer without a stored mark starts from
+ * the version current at its first pass, and one whose mark fell behind the pruned part of the log
+ * publishes a feed-level update to both streams before resuming. The mark only moves past an entry
+ * once it has been published; a failing publisher makes the next pass retry from there, and every
+ * consumer treats a repeated change as a no-op.
+ */
+public class FeedChangeRelay {
+
+    // Feed-level entries (resets, imports) are "events.*" for the events stream, anything else for posts.
+    private static final String EVENTS_PREFIX = "events.";
+
+    private final FeedChangeLog changeLog;
+    private final FeedRelayOffsets offsets;
+    private final String consumer;
+    private final FeedEventPublisher postPublisher;
+    private final FeedEventsEventPublisher eventsPublisher;
+    private final int batchSize;
+    private final int maxItemEvents;
+    private final Duration offsetTouchInterval;
+    private long highWaterMark = -1;
+    private Instant savedAt = Instant.MIN;
+
+    /**
+     * @param maxItemEvents a batch with more item changes than this for one stream (a burst) is
+     *                      published as a single summary for that stream
+     * @param offsetTtl     marks not updated for this long are pruned as abandoned, so an idle
+     *                      relay re-saves its own mark every half of it
+     */
+    public FeedChangeRelay(
+            final FeedChangeLog changeLog,
+            final FeedRelayOffsets offsets,
+            final String consumer,
+            final FeedEventPublisher postPublisher,
+            final FeedEventsEventPublisher eventsPublisher,
+            final int batchSize,
+            final int maxItemEvents,
+            final Duration offsetTtl
+    ) {
+        this.changeLog = changeLog;
+        this.offsets = offsets;
+        this.consumer = consumer;
+        this.postPublisher = postPublisher;
+        this.eventsPublisher = eventsPublisher;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxItemEvents = maxItemEvents;
+        this.offsetTouchInterval = offsetTtl.dividedBy(2);
+    }
+
+    /**
+     * Publishes everything committed after the high-water mark.
+     *
+     * @return the number of log entries relayed
+     */
+    public synchronized int relayPending() {
+        if (highWaterMark < 0) {
+            final var stored = offsets.load(consumer);
+            if (stored.isPresent()) {
+                highWaterMark = stored.getAsLong();
+                skipPruned();
+            } else {
+                highWaterMark = changeLog.currentVersion();
+                saveMark();
+                return 0;
+            }
+        }
+        int relayed = 0;
+        while (true) {
+            final List<FeedChangeLog.LoggedFeedChange> batch = changeLog.findAfter(highWaterMark, batchSize);
+            relayed += relay(batch);
+            if (!batch.isEmpty() || savedAt.plus(offsetTouchInterval).isBefore(Instant.now())) {
+                saveMark();
+            }
+            if (batch.size() < batchSize) {
+                return relayed;
+            }
+        }
+    }
+
+    public synchronized long highWaterMark() {
+        return highWaterMark;
+    }
+
+    // A consumer that was away longer than the log retention cannot replay what was pruned, so it
+    // tells both streams to refetch and carries on from the oldest retained entry.
+    private void skipPruned() {
+        final long oldest = changeLog.oldestVersion();
+        if (highWaterMark + 1 >= oldest) {
+            return;
+        }
+        final Instant now = Instant.now();
+        postPublisher.publishFeedUpdated(now);
+        eventsPublisher.publishEventsUpdated(now);
+        highWaterMark = oldest - 1;
+        saveMark();
+    }
+
+    private void saveMark() {
+        offsets.save(consumer, highWaterMark);
+        savedAt = Instant.now();
+    }
+
+    private int relay(final List<FeedChangeLog.LoggedFeedChange> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        final long postItems = batch.stream()
+                .filter(entry -> FeedChangeLog.ITEM_POST.equals(entry.change().itemType()))
+                .count();
+        final long eventItems = batch.stream()
+                .filter(entry -> FeedChangeLog.ITEM_EVENT.equals(entry.change().itemType()))
+                .count();
+        final boolean summarizePosts = postItems > maxItemEvents;
+        final boolean summarizeEvents = eventItems > maxItemEvents;
+
+        // Summaries and feed-level entries go out once at the end of the batch; until the first of
+        // them is seen the mark can follow each published entry.
+        Instant latestPost = null;
+        Instant latestEvent = null;
+        boolean deferred = false;
+        for (final FeedChangeLog.LoggedFeedChange entry : batch) {
+            final FeedChangeLog.FeedChange change = entry.change();
+            switch (change.itemType()) {
+                case FeedChangeLog.ITEM_POST -> {
+                    if (summarizePosts) {
+                        latestPost = latest(latestPost, change.changedAt());
+                        deferred = true;
+                    } else {
+                        postPublisher.publishPostEvent(new PostEvent(
+                                change.type(), change.itemId(), change.slug(), change.changedAt()));
+                    }
+                }
+                case FeedChangeLog.ITEM_EVENT -> {
+                    if (summarizeEvents) {
+                        latestEvent = latest(latestEvent, change.changedAt());
+                        deferred = true;
+                    } else {
+                        eventsPublisher.publishFeedEventEvent(new FeedEventEvent(
+                                change.type(), change.itemId(), change.slug(), change.changedAt()));
+                    }
+                }
+                default -> {
+                    if (change.type().startsWith(EVENTS_PREFIX)) {
+                        latestEvent = latest(latestEvent, change.changedAt());
+                    } else {
+                        latestPost = latest(latestPost, change.changedAt());
+                    }
+                    deferred = true;
+                }
+            }
+            if (!deferred) {
+                highWaterMark = entry.version();
+            }
+        }
+        if (latestPost != null) {
+            postPublisher.publishFeedUpdated(latestPost);
+        }
+        if (latestEvent != null) {
+            eventsPublisher.publishEventsUpdated(latestEvent);
+        }
+        highWaterMark = batch.get(batch.size() - 1).version();
+        return batch.size();
+    }
+
+    private static Instant latest(final Instant current, final Instant candidate) {
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+}
@@ -0,0 +1,100 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.domain.valueobject.EventStatus;
+import com.skateboard.podcast.domain.valueobject.PostStatus;
+import com.skateboard.podcast.feed.service.application.dto.FeedChangesView;
+import com.skateboard.podcast.feed.service.application.dto.FeedItemSummaryView;
+import com.skateboard.podcast.feed.service.application.port.in.FeedChangesUseCase;
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
+import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Answers "what changed since version n" from the {@link FeedChangeLog}. Several changes to the
+ * same item collapse into its current state: still published means upserted, anything else
+ * (unpublished, deleted) means removed.
+ */
+public class FeedChangesService implements FeedChangesUseCase {
+
+    static final int MAX_LIMIT = 500;
+
+    private final FeedChangeLog changeLog;
+    private final PostRepository postRepository;
+    private final FeedEventRepository eventRepository;
+
+    public FeedChangesService(
+            final FeedChangeLog changeLog,
+            final PostRepository postRepository,
+            final FeedEventRepository eventRepository
+    ) {
+        this.changeLog = changeLog;
+        this.postRepository = postRepository;
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    public FeedChangesView changesSince(final Long since, final int limit) {
+        final long current = changeLog.currentVersion();
+        if (since == null) {
+            return FeedChangesView.unchanged(current);
+        }
+        if (since < 0 || since > current) {
+            // The client's version comes from a different log (e.g. a restored database).
+            return FeedChangesView.resetTo(current, false);
+        }
+        if (since + 1 < changeLog.oldestVersion()) {
+            // Entries right after the client's version were pruned.
+            return FeedChangesView.resetTo(current, false);
+        }
+        final int safeLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        final List<FeedChangeLog.LoggedFeedChange> entries = changeLog.findAfter(since, safeLimit + 1);
+        if (entries.isEmpty()) {
+            return FeedChangesView.unchanged(since);
+        }
+        final boolean hasMore = entries.size() > safeLimit;
+        final List<FeedChangeLog.LoggedFeedChange> page = hasMore ? entries.subList(0, safeLimit) : entries;
+        final long version = page.get(page.size() - 1).version();
+
+        final Set<UUID> postIds = new LinkedHashSet<>();
+        final Set<UUID> eventIds = new LinkedHashSet<>();
+        for (final FeedChangeLog.LoggedFeedChange entry : page) {
+            final FeedChangeLog.FeedChange change = entry.change();
+            switch (change.itemType()) {
+                case FeedChangeLog.ITEM_POST -> postIds.add(change.itemId());
+                case FeedChangeLog.ITEM_EVENT -> eventIds.add(change.itemId());
+                default -> {
+                    return FeedChangesView.resetTo(version, hasMore);
+                }
+            }
+        }
+
+        final List<FeedItemSummaryView> upserted = new ArrayList<>();
+        final List<FeedChangesView.RemovedItem> removed = new ArrayList<>();
+        if (!postIds.isEmpty()) {
+            postRepository.findSummariesByIds(postIds).stream()
+                    .filter(post -> post.status() == PostStatus.PUBLISHED)
+                    .forEach(post -> {
+                        upserted.add(FeedItems.fromPost(post));
+                        postIds.remove(post.id());
+                    });
+            postIds.forEach(id -> removed.add(new FeedChangesView.RemovedItem(FeedItems.TYPE_POST, id)));
+        }
+        if (!eventIds.isEmpty()) {
+            eventRepository.findSummariesByIds(eventIds).stream()
+                    .filter(event -> event.status() == EventStatus.PUBLISHED)
+                    .forEach(event -> {
+                        upserted.add(FeedItems.fromEvent(event));
+                        eventIds.remove(event.id());
+                    });
+            eventIds.forEach(id -> removed.add(new FeedChangesView.RemovedItem(FeedItems.TYPE_EVENT, id)));
+        }
+        upserted.sort(FeedItems.FEED_ORDER);
+        return new FeedChangesView(version, hasMore, false, List.copyOf(upserted), List.copyOf(removed));
+    }
+}
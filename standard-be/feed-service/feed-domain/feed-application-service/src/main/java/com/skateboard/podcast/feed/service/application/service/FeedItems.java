@@ -0,0 +1,126 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.domain.valueobject.Tag;
+import com.skateboard.podcast.feed.service.application.dto.FeedCursor;
+import com.skateboard.podcast.feed.service.application.dto.FeedItemSummaryView;
+import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventRepository;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mapping and ordering rules shared by every reader of the merged public feed.
+ */
+final class FeedItems {
+
+    static final String TYPE_POST = "POST";
+    static final String TYPE_EVENT = "EVENT";
+    static final Comparator<FeedItemSummaryView> FEED_ORDER = FeedItems::compareFeedOrder;
+
+    private FeedItems() {
+    }
+
+    static FeedItemSummaryView fromPost(final PostRepository.PostSummaryRecord post) {
+        return new FeedItemSummaryView(
+                TYPE_POST,
+                post.id(),
+                post.title(),
+                post.slug().value(),
+                post.excerpt(),
+                toTagStrings(post.tags()),
+                post.status().name(),
+                post.thumbnailJson(),
+                post.publishedAt(),
+                null,
+                null,
+                null,
+                null,
+                null,
+                post.createdAt(),
+                post.updatedAt(),
+                post.authorId()
+        );
+    }
+
+    static FeedItemSummaryView fromEvent(final FeedEventRepository.FeedEventSummaryRecord event) {
+        return new FeedItemSummaryView(
+                TYPE_EVENT,
+                event.id(),
+                event.title(),
+                event.slug().value(),
+                event.excerpt(),
+                toTagStrings(event.tags()),
+                event.status().name(),
+                event.thumbnailJson(),
+                null,
+                event.startAt(),
+                event.endAt(),
+                event.timezone(),
+                event.location(),
+                event.ticketsUrl(),
+                event.createdAt(),
+                event.updatedAt(),
+                event.createdBy()
+        );
+    }
+
+    static Instant sortAt(final FeedItemSummaryView item) {
+        if (item == null) {
+            return Instant.EPOCH;
+        }
+        if (TYPE_EVENT.equalsIgnoreCase(item.type())) {
+            return firstNonNull(item.startAt(), item.updatedAt(), item.createdAt());
+        }
+        return firstNonNull(item.publishedAt(), item.updatedAt(), item.createdAt());
+    }
+
+    static FeedCursor cursorOf(final FeedItemSummaryView item) {
+        return new FeedCursor(sortAt(item), item.type(), item.id());
+    }
+
+    static boolean isAfter(final FeedItemSummaryView item, final FeedCursor cursor) {
+        final int bySortAt = sortAt(item).compareTo(cursor.sortAt());
+        if (bySortAt != 0) {
+            return bySortAt < 0;
+        }
+        return FeedCursor.compareIds(item.id(), cursor.id()) < 0;
+    }
+
+    private static int compareFeedOrder(final FeedItemSummaryView left, final FeedItemSummaryView right) {
+        final int bySortAt = sortAt(right).compareTo(sortAt(left));
+        if (bySortAt != 0) {
+            return bySortAt;
+        }
+        return FeedCursor.compareIds(right.id(), left.id());
+    }
+
+    private static Instant firstNonNull(final Instant primary, final Instant secondary, final Instant fallback) {
+        if (primary != null) {
+            return primary;
+        }
+        if (secondary != null) {
+            return secondary;
+        }
+        if (fallback != null) {
+            return fallback;
+        }
+        return Instant.EPOCH;
+    }
+
+    private static List<String> toTagStrings(final List<Tag> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return List.of();
+        }
+        return tags.stream()
+                .map(Tag::value)
+                .toList();
+    }
+
+    @FunctionalInterface
+    interface KeysetReader {
+        List<FeedItemSummaryView> read(Instant sortAt, UUID id, int limit);
+    }
+}
@@ -0,0 +1,41 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Picks unique slugs for a batch of imported items against a set of taken slugs loaded up front,
+ * so a whole import costs one lookup query instead of one per candidate.
+ */
+public final class ImportSlugs {
+
+    private final Set<String> taken;
+
+    private ImportSlugs(final Set<String> taken) {
+        this.taken = taken;
+    }
+
+    /**
+     * @param taken every existing slug that equals one of the batch's base slugs or is of the form
+     *              {@code <base>-<n>}
+     */
+    public static ImportSlugs excluding(final Collection<String> taken) {
+        return new ImportSlugs(new HashSet<>(taken));
+    }
+
+    /**
+     * Returns {@code base}, or {@code base-1}, {@code base-2}, ... for the first one not yet taken,
+     * and marks it taken for the rest of the batch.
+     */
+    public String claim(final String base) {
+        String candidate = base;
+        int counter = 1;
+        while (taken.contains(candidate)) {
+            candidate = base + "-" + counter;
+            counter += 1;
+        }
+        taken.add(candidate);
+        return candidate;
+    }
+}
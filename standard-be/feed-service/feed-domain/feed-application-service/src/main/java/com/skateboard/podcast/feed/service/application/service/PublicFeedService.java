@@ -1,22 +1,23 @@
 package com.skateboard.podcast.feed.service.application.service;
 
 import com.skateboard.podcast.domain.exception.ValidationException;
-import com.skateboard.podcast.domain.valueobject.Tag;
+import com.skateboard.podcast.feed.service.application.dto.FeedCursor;
 import com.skateboard.podcast.feed.service.application.dto.FeedItemSummaryView;
+import com.skateboard.podcast.feed.service.application.dto.FeedPageView;
 import com.skateboard.podcast.feed.service.application.dto.FeedVersion;
 import com.skateboard.podcast.feed.service.application.port.in.PublicFeedUseCase;
 import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
 import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventRepository;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
 
 public class PublicFeedService implements PublicFeedUseCase {
 
-    private static final String TYPE_POST = "POST";
-    private static final String TYPE_EVENT = "EVENT";
+    private static final int MAX_CHUNK_SIZE = 500;
 
     private final PostRepository postRepository;
     private final FeedEventRepository eventRepository;
@@ -32,27 +33,22 @@ public class PublicFeedService implements PublicFeedUseCase {
     @Override
     public List<FeedItemSummaryView> listPublished(final int page, final int size) {
         validatePageAndSize(page, size);
+        return merge(null, page * size, size);
+    }
 
-        final int fetchSize = (page + 1) * size;
-        final List<PostRepository.PostRecord> posts = postRepository.findPublished(0, fetchSize);
-        final List<FeedEventRepository.FeedEventRecord> events = eventRepository.findPublished(0, fetchSize);
-
-        final List<FeedItemSummaryView> items = new ArrayList<>(posts.size() + events.size());
-        for (final PostRepository.PostRecord post : posts) {
-            items.add(toPostItem(post));
-        }
-        for (final FeedEventRepository.FeedEventRecord event : events) {
-            items.add(toEventItem(event));
-        }
-
-        items.sort(Comparator.comparing(PublicFeedService::resolveSortAt).reversed());
+    @Override
+    public FeedPageView listPublishedAfter(final String cursor, final int size) {
+        validatePageAndSize(0, size);
 
-        final int from = page * size;
-        if (from >= items.size()) {
-            return List.of();
+        final FeedCursor after = FeedCursor.decode(cursor);
+        final List<FeedItemSummaryView> items = merge(after, 0, size + 1);
+        if (items.size() <= size) {
+            return new FeedPageView(items, null);
         }
-        final int to = Math.min(from + size, items.size());
-        return items.subList(from, to);
+        final List<FeedItemSummaryView> page = items.subList(0, size);
+        final FeedItemSummaryView last = page.get(size - 1);
+        final String nextCursor = FeedItems.cursorOf(last).encode();
+        return new FeedPageView(List.copyOf(page), nextCursor);
     }
 
     @Override
@@ -81,79 +77,84 @@ public class PublicFeedService implements PublicFeedUseCase {
         if (size < 1 || size > 50) throw new ValidationException("size must be between 1 and 50");
     }
 
-    private static FeedItemSummaryView toPostItem(final PostRepository.PostRecord post) {
-        return new FeedItemSummaryView(
-                TYPE_POST,
-                post.id(),
-                post.title(),
-                post.slug().value(),
-                post.excerpt(),
-                toTagStrings(post.tags()),
-                post.status().name(),
-                post.thumbnailJson(),
-                post.publishedAt(),
-                null,
-                null,
-                null,
-                null,
-                null,
-                post.createdAt(),
-                post.updatedAt(),
-                post.authorId()
+    private List<FeedItemSummaryView> merge(final FeedCursor after, final int skip, final int limit) {
+        final MergeSource posts = new MergeSource(
+                (sortAt, id, fetchSize) -> postRepository.findPublishedAfter(sortAt, id, fetchSize).stream()
+                        .map(FeedItems::fromPost)
+                        .toList(),
+                after,
+                limit
         );
-    }
-
-    private static FeedItemSummaryView toEventItem(final FeedEventRepository.FeedEventRecord event) {
-        return new FeedItemSummaryView(
-                TYPE_EVENT,
-                event.id(),
-                event.title(),
-                event.slug().value(),
-                event.excerpt(),
-                toTagStrings(event.tags()),
-                event.status().name(),
-                event.thumbnailJson(),
-                null,
-                event.startAt(),
-                event.endAt(),
-                event.timezone(),
-                event.location(),
-                event.ticketsUrl(),
-                event.createdAt(),
-                event.updatedAt(),
-                event.createdBy()
+        final MergeSource events = new MergeSource(
+                (sortAt, id, fetchSize) -> eventRepository.findPublishedAfter(sortAt, id, fetchSize).stream()
+                        .map(FeedItems::fromEvent)
+                        .toList(),
+                after,
+                limit
         );
-    }
 
-    private static Instant resolveSortAt(final FeedItemSummaryView item) {
-        if (item == null) {
-            return Instant.EPOCH;
-        }
-        if (TYPE_EVENT.equalsIgnoreCase(item.type())) {
-            return firstNonNull(item.startAt(), item.updatedAt(), item.createdAt());
+        final List<FeedItemSummaryView> items = new ArrayList<>(limit);
+        int skipped = 0;
+        while (items.size() < limit) {
+            final FeedItemSummaryView post = posts.peek();
+            final FeedItemSummaryView event = events.peek();
+            if (post == null && event == null) {
+                break;
+            }
+            final FeedItemSummaryView next = event == null || (post != null && FeedItems.FEED_ORDER.compare(post, event) <= 0)
+                    ? posts.poll()
+                    : events.poll();
+            if (skipped < skip) {
+                skipped += 1;
+            } else {
+                items.add(next);
+            }
         }
-        return firstNonNull(item.publishedAt(), item.updatedAt(), item.createdAt());
+        return items;
     }
 
-    private static Instant firstNonNull(final Instant primary, final Instant secondary, final Instant fallback) {
-        if (primary != null) {
-            return primary;
+    /**
+     * Buffered read-ahead over one keyset-ordered source. Chunks start at the requested page size
+     * and double on every refill, so deep offsets need few round trips without over-reading.
+     */
+    private static final class MergeSource {
+        private final FeedItems.KeysetReader reader;
+        private final ArrayDeque<FeedItemSummaryView> buffer = new ArrayDeque<>();
+        private Instant lastSortAt;
+        private UUID lastId;
+        private int chunkSize;
+        private boolean exhausted;
+
+        private MergeSource(final FeedItems.KeysetReader reader, final FeedCursor after, final int chunkSize) {
+            this.reader = reader;
+            this.lastSortAt = after == null ? null : after.sortAt();
+            this.lastId = after == null ? null : after.id();
+            this.chunkSize = chunkSize;
         }
-        if (secondary != null) {
-            return secondary;
+
+        private FeedItemSummaryView peek() {
+            if (buffer.isEmpty() && !exhausted) {
+                refill();
+            }
+            return buffer.peekFirst();
         }
-        if (fallback != null) {
-            return fallback;
+
+        private FeedItemSummaryView poll() {
+            peek();
+            return buffer.pollFirst();
         }
-        return Instant.EPOCH;
-    }
 
-    private static List<String> toTagStrings(final List<Tag> tags) {
-        if (tags == null || tags.isEmpty()) {
-            return List.of();
+        private void refill() {
+            final List<FeedItemSummaryView> rows = reader.read(lastSortAt, lastId, chunkSize);
+            buffer.addAll(rows);
+            if (rows.size() < chunkSize) {
+                exhausted = true;
+                return;
+            }
+            final FeedItemSummaryView last = rows.get(rows.size() - 1);
+            lastSortAt = FeedItems.sortAt(last);
+            lastId = last.id();
+            chunkSize = Math.min(chunkSize * 2, MAX_CHUNK_SIZE);
         }
-        return tags.stream()
-                .map(Tag::value)
-                .toList();
     }
 }
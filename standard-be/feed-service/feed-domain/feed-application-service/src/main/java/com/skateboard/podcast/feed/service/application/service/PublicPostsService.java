@@ -27,7 +27,7 @@ public class PublicPostsService implements PublicPostsUseCase {
         if (page < 0) throw new ValidationException("page must be >= 0");
         if (size < 1 || size > 50) throw new ValidationException("size must be between 1 and 50");
 
-        return postRepository.findPublished(page, size).stream()
+        return postRepository.findPublishedSummaries(page, size).stream()
                 .map(PublicPostsService::toSummary)
                 .toList();
     }
@@ -53,7 +53,7 @@ public class PublicPostsService implements PublicPostsUseCase {
         return new FeedVersion(etag, lastUpdatedAt);
     }
 
-    private static PostSummaryView toSummary(final PostRepository.PostRecord post) {
+    private static PostSummaryView toSummary(final PostRepository.PostSummaryRecord post) {
         return new PostSummaryView(
                 post.id(),
                 post.title(),
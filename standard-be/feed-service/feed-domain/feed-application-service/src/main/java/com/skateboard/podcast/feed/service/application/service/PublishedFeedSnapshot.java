@@ -0,0 +1,121 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.feed.service.application.dto.FeedCursor;
+import com.skateboard.podcast.feed.service.application.dto.FeedItemSummaryView;
+import com.skateboard.podcast.feed.service.application.dto.FeedVersion;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable, fully merged view of the published feed. Every change produces a new instance.
+ */
+public final class PublishedFeedSnapshot {
+
+    private final List<FeedItemSummaryView> items;
+    private final Instant lastUpdatedAt;
+    private final Instant loadedAt;
+
+    private PublishedFeedSnapshot(
+            final List<FeedItemSummaryView> sortedItems,
+            final Instant loadedAt
+    ) {
+        this.items = List.copyOf(sortedItems);
+        this.lastUpdatedAt = sortedItems.stream()
+                .map(FeedItemSummaryView::updatedAt)
+                .filter(updatedAt -> updatedAt != null)
+                .max(Instant::compareTo)
+                .orElse(Instant.EPOCH);
+        this.loadedAt = loadedAt;
+    }
+
+    static PublishedFeedSnapshot of(final List<FeedItemSummaryView> items, final Instant loadedAt) {
+        final List<FeedItemSummaryView> sorted = new ArrayList<>(items);
+        sorted.sort(FeedItems.FEED_ORDER);
+        return new PublishedFeedSnapshot(sorted, loadedAt);
+    }
+
+    public List<FeedItemSummaryView> items() {
+        return items;
+    }
+
+    public int totalCount() {
+        return items.size();
+    }
+
+    public Instant lastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public List<FeedItemSummaryView> page(final int page, final int size) {
+        final long from = (long) page * size;
+        if (from >= items.size()) {
+            return List.of();
+        }
+        final int to = (int) Math.min(from + size, items.size());
+        return items.subList((int) from, to);
+    }
+
+    public List<FeedItemSummaryView> after(final FeedCursor cursor, final int limit) {
+        final int from = cursor == null ? 0 : firstIndexAfter(cursor);
+        final int to = Math.min(from + limit, items.size());
+        return items.subList(from, to);
+    }
+
+    public FeedVersion version(final int page, final int size) {
+        final String etag = FeedVersion.buildEtag(lastUpdatedAt, items.size(), page, size);
+        return new FeedVersion(etag, lastUpdatedAt);
+    }
+
+    PublishedFeedSnapshot withItem(final FeedItemSummaryView item) {
+        final List<FeedItemSummaryView> updated = new ArrayList<>(items.size() + 1);
+        for (final FeedItemSummaryView existing : items) {
+            if (!sameItem(existing, item.type(), item.id())) {
+                updated.add(existing);
+            }
+        }
+        int index = 0;
+        while (index < updated.size() && FeedItems.FEED_ORDER.compare(updated.get(index), item) < 0) {
+            index += 1;
+        }
+        updated.add(index, item);
+        return new PublishedFeedSnapshot(updated, loadedAt);
+    }
+
+    PublishedFeedSnapshot withoutItem(final String type, final UUID id) {
+        final List<FeedItemSummaryView> updated = new ArrayList<>(items.size());
+        for (final FeedItemSummaryView existing : items) {
+            if (!sameItem(existing, type, id)) {
+                updated.add(existing);
+            }
+        }
+        if (updated.size() == items.size()) {
+            return this;
+        }
+        return new PublishedFeedSnapshot(updated, loadedAt);
+    }
+
+    private int firstIndexAfter(final FeedCursor cursor) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (FeedItems.isAfter(items.get(mid), cursor)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static boolean sameItem(final FeedItemSummaryView item, final String type, final UUID id) {
+        return item.id().equals(id) && item.type().equalsIgnoreCase(type);
+    }
+}
@@ -0,0 +1,146 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.domain.valueobject.EventStatus;
+import com.skateboard.podcast.domain.valueobject.PostStatus;
+import com.skateboard.podcast.feed.service.application.dto.FeedItemSummaryView;
+import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the current {@link PublishedFeedSnapshot}. Reads are a volatile load; writers and the
+ * loader are serialized on one lock so an item change can never be overwritten by an older load.
+ */
+public class PublishedFeedSnapshotStore {
+
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final FeedEventRepository eventRepository;
+    private final Duration maxAge;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile PublishedFeedSnapshot snapshot;
+
+    public PublishedFeedSnapshotStore(
+            final PostRepository postRepository,
+            final FeedEventRepository eventRepository,
+            final Duration maxAge
+    ) {
+        this.postRepository = postRepository;
+        this.eventRepository = eventRepository;
+        this.maxAge = maxAge;
+    }
+
+    public PublishedFeedSnapshot current() {
+        final PublishedFeedSnapshot existing = snapshot;
+        if (existing != null) {
+            if (!isStale(existing) || !lock.tryLock()) {
+                return existing;
+            }
+        } else {
+            lock.lock();
+        }
+        try {
+            final PublishedFeedSnapshot loaded = snapshot;
+            if (loaded != null && !isStale(loaded)) {
+                return loaded;
+            }
+            final PublishedFeedSnapshot rebuilt = load();
+            snapshot = rebuilt;
+            return rebuilt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void refreshPost(final UUID postId) {
+        apply(existing -> postRepository.findById(postId)
+                .filter(post -> post.status() == PostStatus.PUBLISHED)
+                .map(post -> FeedItems.fromPost(post.summary()))
+                .map(existing::withItem)
+                .orElseGet(() -> existing.withoutItem(FeedItems.TYPE_POST, postId)));
+    }
+
+    public void removePost(final UUID postId) {
+        apply(existing -> existing.withoutItem(FeedItems.TYPE_POST, postId));
+    }
+
+    public void refreshEvent(final UUID eventId) {
+        apply(existing -> eventRepository.findById(eventId)
+                .filter(event -> event.status() == EventStatus.PUBLISHED)
+                .map(event -> FeedItems.fromEvent(event.summary()))
+                .map(existing::withItem)
+                .orElseGet(() -> existing.withoutItem(FeedItems.TYPE_EVENT, eventId)));
+    }
+
+    public void removeEvent(final UUID eventId) {
+        apply(existing -> existing.withoutItem(FeedItems.TYPE_EVENT, eventId));
+    }
+
+    public void invalidate() {
+        lock.lock();
+        try {
+            snapshot = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(final UnaryOperator<PublishedFeedSnapshot> change) {
+        lock.lock();
+        try {
+            final PublishedFeedSnapshot existing = snapshot;
+            if (existing != null) {
+                snapshot = change.apply(existing);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isStale(final PublishedFeedSnapshot candidate) {
+        return maxAge != null
+                && !maxAge.isZero()
+                && candidate.loadedAt().plus(maxAge).isBefore(Instant.now());
+    }
+
+    private PublishedFeedSnapshot load() {
+        final Instant loadedAt = Instant.now();
+        final List<FeedItemSummaryView> items = new ArrayList<>();
+        readAll(
+                (sortAt, id, limit) -> postRepository.findPublishedAfter(sortAt, id, limit).stream()
+                        .map(FeedItems::fromPost)
+                        .toList(),
+                items
+        );
+        readAll(
+                (sortAt, id, limit) -> eventRepository.findPublishedAfter(sortAt, id, limit).stream()
+                        .map(FeedItems::fromEvent)
+                        .toList(),
+                items
+        );
+        return PublishedFeedSnapshot.of(items, loadedAt);
+    }
+
+    private static void readAll(final FeedItems.KeysetReader reader, final List<FeedItemSummaryView> into) {
+        Instant sortAt = null;
+        UUID id = null;
+        while (true) {
+            final List<FeedItemSummaryView> chunk = reader.read(sortAt, id, LOAD_CHUNK_SIZE);
+            into.addAll(chunk);
+            if (chunk.size() < LOAD_CHUNK_SIZE) {
+                return;
+            }
+            final FeedItemSummaryView last = chunk.get(chunk.size() - 1);
+            sortAt = FeedItems.sortAt(last);
+            id = last.id();
+        }
+    }
+}
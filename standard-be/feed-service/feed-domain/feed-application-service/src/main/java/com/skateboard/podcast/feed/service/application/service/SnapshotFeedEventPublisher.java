@@ -0,0 +1,41 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.feed.service.application.dto.PostEvent;
+import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
+
+import java.time.Instant;
+
+/**
+ * Keeps the published feed snapshot in step with post mutations before fanning them out.
+ */
+public class SnapshotFeedEventPublisher implements FeedEventPublisher {
+
+    private final FeedEventPublisher delegate;
+    private final PublishedFeedSnapshotStore snapshotStore;
+
+    public SnapshotFeedEventPublisher(
+            final FeedEventPublisher delegate,
+            final PublishedFeedSnapshotStore snapshotStore
+    ) {
+        this.delegate = delegate;
+        this.snapshotStore = snapshotStore;
+    }
+
+    @Override
+    public void publishPostEvent(final PostEvent event) {
+        if (event != null && event.postId() != null) {
+            if ("post.deleted".equals(event.type())) {
+                snapshotStore.removePost(event.postId());
+            } else {
+                snapshotStore.refreshPost(event.postId());
+            }
+        }
+        delegate.publishPostEvent(event);
+    }
+
+    @Override
+    public void publishFeedUpdated(final Instant updatedAt) {
+        snapshotStore.invalidate();
+        delegate.publishFeedUpdated(updatedAt);
+    }
+}
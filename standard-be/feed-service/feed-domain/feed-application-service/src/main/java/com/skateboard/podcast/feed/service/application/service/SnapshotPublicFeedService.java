@@ -0,0 +1,49 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.domain.exception.ValidationException;
+import com.skateboard.podcast.feed.service.application.dto.FeedCursor;
+import com.skateboard.podcast.feed.service.application.dto.FeedItemSummaryView;
+import com.skateboard.podcast.feed.service.application.dto.FeedPageView;
+import com.skateboard.podcast.feed.service.application.dto.FeedVersion;
+import com.skateboard.podcast.feed.service.application.port.in.PublicFeedUseCase;
+
+import java.util.List;
+
+public class SnapshotPublicFeedService implements PublicFeedUseCase {
+
+    private final PublishedFeedSnapshotStore snapshotStore;
+
+    public SnapshotPublicFeedService(final PublishedFeedSnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
+    }
+
+    @Override
+    public List<FeedItemSummaryView> listPublished(final int page, final int size) {
+        validatePageAndSize(page, size);
+        return snapshotStore.current().page(page, size);
+    }
+
+    @Override
+    public FeedPageView listPublishedAfter(final String cursor, final int size) {
+        validatePageAndSize(0, size);
+
+        final FeedCursor after = FeedCursor.decode(cursor);
+        final List<FeedItemSummaryView> items = snapshotStore.current().after(after, size + 1);
+        if (items.size() <= size) {
+            return new FeedPageView(items, null);
+        }
+        final List<FeedItemSummaryView> page = items.subList(0, size);
+        return new FeedPageView(page, FeedItems.cursorOf(page.get(size - 1)).encode());
+    }
+
+    @Override
+    public FeedVersion getFeedVersion(final int page, final int size) {
+        validatePageAndSize(page, size);
+        return snapshotStore.current().version(page, size);
+    }
+
+    private static void validatePageAndSize(final int page, final int size) {
+        if (page < 0) throw new ValidationException("page must be >= 0");
+        if (size < 1 || size > 50) throw new ValidationException("size must be between 1 and 50");
+    }
+}
@@ -5,8 +5,11 @@ import com.skateboard.podcast.domain.valueobject.Slug;
 import com.skateboard.podcast.domain.valueobject.Tag;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface FeedEventRepository {
@@ -15,16 +18,63 @@ public interface FeedEventRepository {
 
     Optional<FeedEventRecord> findById(UUID id);
 
-    List<FeedEventRecord> findAll(int page, int size);
+    /**
+     * List reads return {@link FeedEventSummaryRecord}s so the {@code content} column is never loaded.
+     */
+    List<FeedEventSummaryRecord> findSummaries(int page, int size);
 
-    List<FeedEventRecord> findByStatus(EventStatus status, int page, int size);
+    List<FeedEventSummaryRecord> findSummariesByStatus(EventStatus status, int page, int size);
 
-    List<FeedEventRecord> findPublished(int page, int size);
+    List<FeedEventSummaryRecord> findPublishedSummaries(int page, int size);
+
+    /**
+     * Published events ordered by coalesce(startAt, updatedAt) desc, id desc, starting strictly
+     * after the given key. A null sortAt starts from the newest event.
+     */
+    List<FeedEventSummaryRecord> findPublishedAfter(Instant sortAt, UUID id, int limit);
+
+    /**
+     * Summaries for the given ids in any status; unknown ids are skipped. Adapters should
+     * override this with a single query.
+     */
+    default List<FeedEventSummaryRecord> findSummariesByIds(final Collection<UUID> ids) {
+        return ids.stream()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .map(FeedEventRecord::summary)
+                .toList();
+    }
 
     FeedEventStats fetchPublishedStats();
 
     FeedEventRecord save(FeedEventRecord event);
 
+    /**
+     * Inserts new events in one round of batched statements. Adapters should override this; the
+     * default saves them one by one.
+     */
+    default void insertAll(final List<FeedEventRecord> events) {
+        events.forEach(this::save);
+    }
+
+    /**
+     * Existing slugs equal to one of {@code bases} or of the form {@code <base>-<n>}. Adapters
+     * should override this with a single query.
+     */
+    default Set<String> findSlugsWithBases(final Collection<String> bases) {
+        final Set<String> taken = new HashSet<>();
+        for (final String base : bases) {
+            String candidate = base;
+            int counter = 1;
+            while (findBySlug(Slug.of(candidate)).isPresent()) {
+                taken.add(candidate);
+                candidate = base + "-" + counter;
+                counter += 1;
+            }
+        }
+        return taken;
+    }
+
     void deleteById(UUID id);
 
     void deleteAll();
@@ -48,6 +98,31 @@ public interface FeedEventRepository {
             UUID createdBy,
             Instant createdAt,
             Instant updatedAt
+    ) {
+        public FeedEventSummaryRecord summary() {
+            return new FeedEventSummaryRecord(
+                    id, title, slug, excerpt, tags, status, thumbnailJson, startAt, endAt,
+                    timezone, location, ticketsUrl, createdBy, createdAt, updatedAt
+            );
+        }
+    }
+
+    record FeedEventSummaryRecord(
+            UUID id,
+            String title,
+            Slug slug,
+            String excerpt,
+            List<Tag> tags,
+            EventStatus status,
+            String thumbnailJson,
+            Instant startAt,
+            Instant endAt,
+            String timezone,
+            String location,
+            String ticketsUrl,
+            UUID createdBy,
+            Instant createdAt,
+            Instant updatedAt
     ) {}
 }
 
@@ -2,9 +2,12 @@ package com.skateboard.podcast.feed.service.events.application.service;
 
 import com.skateboard.podcast.domain.exception.NotFoundException;
 import com.skateboard.podcast.domain.exception.ValidationException;
+import com.skateboard.podcast.domain.transaction.TransactionRunner;
 import com.skateboard.podcast.domain.valueobject.EventStatus;
 import com.skateboard.podcast.domain.valueobject.Slug;
 import com.skateboard.podcast.domain.valueobject.Tag;
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
+import com.skateboard.podcast.feed.service.application.service.ImportSlugs;
 import com.skateboard.podcast.feed.service.events.application.dto.FeedEventDetailsView;
 import com.skateboard.podcast.feed.service.events.application.dto.FeedEventEvent;
 import com.skateboard.podcast.feed.service.events.application.dto.FeedEventSummaryView;
@@ -14,30 +17,36 @@ import com.skateboard.podcast.feed.service.events.application.port.out.FeedEvent
 import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventsEventPublisher;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 public class AdminFeedEventsService implements AdminFeedEventsUseCase {
 
     private final FeedEventRepository eventRepository;
     private final FeedEventsEventPublisher eventsEventPublisher;
+    private final FeedChangeLog changeLog;
+    private final TransactionRunner transactions;
 
     public AdminFeedEventsService(
             final FeedEventRepository eventRepository,
-            final FeedEventsEventPublisher eventsEventPublisher
+            final FeedEventsEventPublisher eventsEventPublisher,
+            final FeedChangeLog changeLog,
+            final TransactionRunner transactions
     ) {
         this.eventRepository = eventRepository;
         this.eventsEventPublisher = eventsEventPublisher;
+        this.changeLog = changeLog;
+        this.transactions = transactions;
     }
 
     @Override
     public List<FeedEventSummaryView> list(final int page, final int size, final EventStatus status) {
-        final List<FeedEventRepository.FeedEventRecord> records = status == null
-                ? eventRepository.findAll(page, size)
-                : eventRepository.findByStatus(status, page, size);
+        final List<FeedEventRepository.FeedEventSummaryRecord> records = status == null
+                ? eventRepository.findSummaries(page, size)
+                : eventRepository.findSummariesByStatus(status, page, size);
         return records.stream()
                 .map(AdminFeedEventsService::toSummary)
                 .toList();
@@ -89,7 +98,7 @@ public class AdminFeedEventsService implements AdminFeedEventsUseCase {
                 now,
                 now
         );
-        final var saved = eventRepository.save(record);
+        final var saved = save(record, "event.created");
         return toDetails(saved);
     }
 
@@ -136,7 +145,7 @@ public class AdminFeedEventsService implements AdminFeedEventsUseCase {
                 existing.createdAt(),
                 now
         );
-        final var saved = eventRepository.save(updated);
+        final var saved = save(updated, "event.updated");
         if (saved.status() == EventStatus.PUBLISHED) {
             publishFeedEventEvent("event.updated", saved);
         }
@@ -167,7 +176,7 @@ public class AdminFeedEventsService implements AdminFeedEventsUseCase {
                 existing.createdAt(),
                 now
         );
-        final var saved = eventRepository.save(updated);
+        final var saved = save(updated, "event.published");
         publishFeedEventEvent("event.published", saved);
         return toDetails(saved);
     }
@@ -176,34 +185,63 @@ public class AdminFeedEventsService implements AdminFeedEventsUseCase {
     public void deleteById(final UUID id) {
         final var existing = eventRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("event not found"));
-        eventRepository.deleteById(id);
-        if (existing.status() == EventStatus.PUBLISHED) {
+        final Instant now = Instant.now();
+        final boolean wasPublished = existing.status() == EventStatus.PUBLISHED;
+        transactions.inTransaction(() -> {
+            eventRepository.deleteById(id);
+            if (wasPublished) {
+                logChange("event.deleted", existing.id(), existing.slug(), now);
+            }
+        });
+        if (wasPublished) {
             eventsEventPublisher.publishFeedEventEvent(new FeedEventEvent(
                     "event.deleted",
                     existing.id(),
                     existing.slug().value(),
-                    Instant.now()
+                    now
             ));
         }
     }
 
+    /**
+     * Inserts the whole batch in one transaction and logs a {@code event.published} change per event, so
+     * feed clients apply the import incrementally; the relay still collapses the burst into a single
+     * {@code events.updated}. Imports above {@link FeedChangeLog#MAX_ITEMIZED_CHANGES} log one
+     * feed-level entry instead.
+     */
     @Override
     public List<FeedEventSummaryView> importEvents(final List<FeedEventImportCommand> items, final UUID createdBy) {
         if (items == null || items.isEmpty()) {
             return List.of();
         }
-        final Set<String> seenSlugs = new HashSet<>();
-        final List<FeedEventSummaryView> results = items.stream()
-                .map(item -> importOne(item, createdBy, seenSlugs))
+        items.forEach(AdminFeedEventsService::validateImport);
+        final List<String> bases = items.stream()
+                .map(item -> Slug.normalize(item.slug() == null || item.slug().isBlank() ? item.title() : item.slug()))
+                .toList();
+        final ImportSlugs slugs = ImportSlugs.excluding(eventRepository.findSlugsWithBases(new HashSet<>(bases)));
+        final Instant now = Instant.now();
+        final List<FeedEventRepository.FeedEventRecord> records = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            records.add(toImportedRecord(items.get(i), slugs.claim(bases.get(i)), createdBy, now));
+        }
+        transactions.inTransaction(() -> {
+            eventRepository.insertAll(records);
+            logImport(records, now);
+        });
+        eventsEventPublisher.publishEventsUpdated(now);
+        return records.stream()
+                .map(record -> toSummary(record.summary()))
                 .toList();
-        eventsEventPublisher.publishEventsUpdated(Instant.now());
-        return results;
     }
 
     @Override
     public void resetAll() {
-        eventRepository.deleteAll();
-        eventsEventPublisher.publishEventsUpdated(Instant.now());
+        final Instant now = Instant.now();
+        transactions.inTransaction(() -> {
+            eventRepository.deleteAll();
+            changeLog.append(new FeedChangeLog.FeedChange(FeedChangeLog.ITEM_FEED, null, null, "events.reset", now));
+        });
+        eventsEventPublisher.publishEventsUpdated(now);
     }
 
     private static void validateBasics(final String title, final String contentJson) {
@@ -226,11 +264,7 @@ public class AdminFeedEventsService implements AdminFeedEventsUseCase {
                 .toList();
     }
 
-    private FeedEventSummaryView importOne(
-            final FeedEventImportCommand item,
-            final UUID createdBy,
-            final Set<String> seenSlugs
-    ) {
+    private static void validateImport(final FeedEventImportCommand item) {
         if (item == null) {
             throw new ValidationException("import item cannot be null");
         }
@@ -241,15 +275,18 @@ public class AdminFeedEventsService implements AdminFeedEventsUseCase {
             throw new ValidationException("content cannot be blank");
         }
         validateDates(item.startAt(), item.endAt());
+    }
 
-        final String baseSlug = item.slug() == null || item.slug().isBlank() ? item.title() : item.slug();
-        final String slugValue = uniqueSlug(baseSlug, seenSlugs);
-        final Instant now = Instant.now();
-
-        final var record = new FeedEventRepository.FeedEventRecord(
+    private static FeedEventRepository.FeedEventRecord toImportedRecord(
+            final FeedEventImportCommand item,
+            final String slug,
+            final UUID createdBy,
+            final Instant now
+    ) {
+        return new FeedEventRepository.FeedEventRecord(
                 UUID.randomUUID(),
                 item.title().trim(),
-                Slug.of(slugValue),
+                Slug.of(slug),
                 item.excerpt(),
                 toTagValues(item.tags()),
                 EventStatus.PUBLISHED,
@@ -264,21 +301,44 @@ public class AdminFeedEventsService implements AdminFeedEventsUseCase {
                 now,
                 now
         );
-        final var saved = eventRepository.save(record);
-        return toSummary(saved);
     }
 
-    private String uniqueSlug(final String titleOrSlug, final Set<String> seenSlugs) {
-        final String base = Slug.normalize(titleOrSlug);
-        String candidate = base;
-        int counter = 1;
-        while (seenSlugs.contains(candidate)
-                || eventRepository.findBySlug(Slug.of(candidate)).isPresent()) {
-            candidate = base + "-" + counter;
-            counter += 1;
+    /**
+     * Saves the event and, if it is visible in the public feed, logs the change in the same
+     * transaction.
+     */
+    private FeedEventRepository.FeedEventRecord save(
+            final FeedEventRepository.FeedEventRecord event,
+            final String changeType
+    ) {
+        return transactions.inTransaction(() -> {
+            final var saved = eventRepository.save(event);
+            if (saved.status() == EventStatus.PUBLISHED) {
+                logChange(changeType, saved.id(), saved.slug(), saved.updatedAt());
+            }
+            return saved;
+        });
+    }
+
+    private void logImport(final List<FeedEventRepository.FeedEventRecord> records, final Instant now) {
+        if (records.size() > FeedChangeLog.MAX_ITEMIZED_CHANGES) {
+            changeLog.append(new FeedChangeLog.FeedChange(FeedChangeLog.ITEM_FEED, null, null, "events.imported", now));
+            return;
         }
-        seenSlugs.add(candidate);
-        return candidate;
+        changeLog.appendAll(records.stream()
+                .map(record -> new FeedChangeLog.FeedChange(
+                        FeedChangeLog.ITEM_EVENT, record.id(), record.slug().value(), "event.published", now))
+                .toList());
+    }
+
+    private void logChange(final String type, final UUID eventId, final Slug slug, final Instant changedAt) {
+        changeLog.append(new FeedChangeLog.FeedChange(
+                FeedChangeLog.ITEM_EVENT,
+                eventId,
+                slug.value(),
+                type,
+                changedAt
+        ));
     }
 
     private static FeedEventDetailsView toDetails(final FeedEventRepository.FeedEventRecord event) {
@@ -302,7 +362,7 @@ public class AdminFeedEventsService implements AdminFeedEventsUseCase {
         );
     }
 
-    private static FeedEventSummaryView toSummary(final FeedEventRepository.FeedEventRecord event) {
+    private static FeedEventSummaryView toSummary(final FeedEventRepository.FeedEventSummaryRecord event) {
         return new FeedEventSummaryView(
                 event.id(),
                 event.title(),
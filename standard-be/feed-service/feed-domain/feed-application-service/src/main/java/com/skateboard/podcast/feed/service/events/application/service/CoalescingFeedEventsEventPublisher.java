@@ -0,0 +1,47 @@
+package com.skateboard.podcast.feed.service.events.application.service;
+
+import com.skateboard.podcast.feed.service.application.service.BurstCoalescer;
+import com.skateboard.podcast.feed.service.application.service.CoalescingFeedEventPublisher;
+import com.skateboard.podcast.feed.service.events.application.dto.FeedEventEvent;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventsEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Event counterpart of {@link CoalescingFeedEventPublisher}; bursts collapse into {@code events.updated}.
+ */
+public class CoalescingFeedEventsEventPublisher implements FeedEventsEventPublisher {
+
+    private final FeedEventsEventPublisher delegate;
+    private final BurstCoalescer coalescer;
+
+    public CoalescingFeedEventsEventPublisher(
+            final FeedEventsEventPublisher delegate,
+            final Duration window,
+            final int maxItemEvents,
+            final ScheduledExecutorService scheduler
+    ) {
+        this.delegate = delegate;
+        this.coalescer = new BurstCoalescer(window, maxItemEvents, scheduler, delegate::publishEventsUpdated);
+    }
+
+    @Override
+    public void publishFeedEventEvent(final FeedEventEvent event) {
+        if (event == null || coalescer.admitItem(event.updatedAt())) {
+            delegate.publishFeedEventEvent(event);
+        }
+    }
+
+    @Override
+    public void publishEventsUpdated(final Instant updatedAt) {
+        if (coalescer.admitSummary(updatedAt)) {
+            delegate.publishEventsUpdated(updatedAt);
+        }
+    }
+
+    void flush() {
+        coalescer.closeWindow();
+    }
+}
@@ -27,7 +27,7 @@ public class PublicFeedEventsService implements PublicFeedEventsUseCase {
         if (page < 0) throw new ValidationException("page must be >= 0");
         if (size < 1 || size > 50) throw new ValidationException("size must be between 1 and 50");
 
-        return eventRepository.findPublished(page, size).stream()
+        return eventRepository.findPublishedSummaries(page, size).stream()
                 .map(PublicFeedEventsService::toSummary)
                 .toList();
     }
@@ -53,7 +53,7 @@ public class PublicFeedEventsService implements PublicFeedEventsUseCase {
         return new FeedEventsVersion(etag, lastUpdatedAt);
     }
 
-    private static FeedEventSummaryView toSummary(final FeedEventRepository.FeedEventRecord event) {
+    private static FeedEventSummaryView toSummary(final FeedEventRepository.FeedEventSummaryRecord event) {
         return new FeedEventSummaryView(
                 event.id(),
                 event.title(),
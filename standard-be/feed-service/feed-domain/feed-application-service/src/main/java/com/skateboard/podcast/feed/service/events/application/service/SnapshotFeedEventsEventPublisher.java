@@ -0,0 +1,42 @@
+package com.skateboard.podcast.feed.service.events.application.service;
+
+import com.skateboard.podcast.feed.service.application.service.PublishedFeedSnapshotStore;
+import com.skateboard.podcast.feed.service.events.application.dto.FeedEventEvent;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventsEventPublisher;
+
+import java.time.Instant;
+
+/**
+ * Keeps the published feed snapshot in step with event mutations before fanning them out.
+ */
+public class SnapshotFeedEventsEventPublisher implements FeedEventsEventPublisher {
+
+    private final FeedEventsEventPublisher delegate;
+    private final PublishedFeedSnapshotStore snapshotStore;
+
+    public SnapshotFeedEventsEventPublisher(
+            final FeedEventsEventPublisher delegate,
+            final PublishedFeedSnapshotStore snapshotStore
+    ) {
+        this.delegate = delegate;
+        this.snapshotStore = snapshotStore;
+    }
+
+    @Override
+    public void publishFeedEventEvent(final FeedEventEvent event) {
+        if (event != null && event.eventId() != null) {
+            if ("event.deleted".equals(event.type())) {
+                snapshotStore.removeEvent(event.eventId());
+            } else {
+                snapshotStore.refreshEvent(event.eventId());
+            }
+        }
+        delegate.publishFeedEventEvent(event);
+    }
+
+    @Override
+    public void publishEventsUpdated(final Instant updatedAt) {
+        snapshotStore.invalidate();
+        delegate.publishEventsUpdated(updatedAt);
+    }
+}
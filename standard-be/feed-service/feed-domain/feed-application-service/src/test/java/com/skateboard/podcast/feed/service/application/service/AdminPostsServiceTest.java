@@ -2,21 +2,29 @@ package com.skateboard.podcast.feed.service.application.service;
 
 import com.skateboard.podcast.domain.exception.NotFoundException;
 import com.skateboard.podcast.domain.exception.ValidationException;
+import com.skateboard.podcast.domain.transaction.TransactionRunner;
 import com.skateboard.podcast.domain.valueobject.PostStatus;
 import com.skateboard.podcast.domain.valueobject.Slug;
 import com.skateboard.podcast.domain.valueobject.Tag;
 import com.skateboard.podcast.feed.service.application.dto.ImportPostCommand;
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
 import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
 import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
 import com.skateboard.podcast.feed.service.application.dto.PostEvent;
+import com.skateboard.podcast.feed.service.application.dto.PostSummaryView;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -28,7 +36,9 @@ class AdminPostsServiceTest {
     void createDraftRequiresTitleAndContent() {
         final AdminPostsService service = new AdminPostsService(
                 new InMemoryPostRepository(),
-                new NoOpFeedEventPublisher()
+                new NoOpFeedEventPublisher(),
+                new InMemoryFeedChangeLog(),
+                new DirectTransactionRunner()
         );
 
         assertThrows(ValidationException.class, () -> service.createDraft(
@@ -56,7 +66,9 @@ class AdminPostsServiceTest {
     void updateByIdRejectsMissingPost() {
         final AdminPostsService service = new AdminPostsService(
                 new InMemoryPostRepository(),
-                new NoOpFeedEventPublisher()
+                new NoOpFeedEventPublisher(),
+                new InMemoryFeedChangeLog(),
+                new DirectTransactionRunner()
         );
 
         assertThrows(NotFoundException.class, () -> service.updateById(
@@ -73,7 +85,8 @@ class AdminPostsServiceTest {
     @Test
     void publishByIdSetsPublishedAtWhenMissing() {
         final InMemoryPostRepository repo = new InMemoryPostRepository();
-        final AdminPostsService service = new AdminPostsService(repo, new NoOpFeedEventPublisher());
+        final AdminPostsService service = new AdminPostsService(
+                repo, new NoOpFeedEventPublisher(), new InMemoryFeedChangeLog(), new DirectTransactionRunner());
 
         final PostRepository.PostRecord draft = new PostRepository.PostRecord(
                 UUID.randomUUID(),
@@ -100,7 +113,8 @@ class AdminPostsServiceTest {
     @Test
     void updateByIdPreservesAuthorAndCreatedAt() {
         final InMemoryPostRepository repo = new InMemoryPostRepository();
-        final AdminPostsService service = new AdminPostsService(repo, new NoOpFeedEventPublisher());
+        final AdminPostsService service = new AdminPostsService(
+                repo, new NoOpFeedEventPublisher(), new InMemoryFeedChangeLog(), new DirectTransactionRunner());
 
         final UUID authorId = UUID.randomUUID();
         final Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
@@ -138,7 +152,8 @@ class AdminPostsServiceTest {
     void publishByIdEmitsEvent() {
         final InMemoryPostRepository repo = new InMemoryPostRepository();
         final RecordingFeedEventPublisher publisher = new RecordingFeedEventPublisher();
-        final AdminPostsService service = new AdminPostsService(repo, publisher);
+        final AdminPostsService service = new AdminPostsService(
+                repo, publisher, new InMemoryFeedChangeLog(), new DirectTransactionRunner());
 
         final PostRepository.PostRecord draft = new PostRepository.PostRecord(
                 UUID.randomUUID(),
@@ -168,7 +183,8 @@ class AdminPostsServiceTest {
     void updatePublishedEmitsEvent() {
         final InMemoryPostRepository repo = new InMemoryPostRepository();
         final RecordingFeedEventPublisher publisher = new RecordingFeedEventPublisher();
-        final AdminPostsService service = new AdminPostsService(repo, publisher);
+        final AdminPostsService service = new AdminPostsService(
+                repo, publisher, new InMemoryFeedChangeLog(), new DirectTransactionRunner());
 
         final PostRepository.PostRecord published = new PostRepository.PostRecord(
                 UUID.randomUUID(),
@@ -204,7 +220,8 @@ class AdminPostsServiceTest {
     void deletePublishedEmitsEvent() {
         final InMemoryPostRepository repo = new InMemoryPostRepository();
         final RecordingFeedEventPublisher publisher = new RecordingFeedEventPublisher();
-        final AdminPostsService service = new AdminPostsService(repo, publisher);
+        final AdminPostsService service = new AdminPostsService(
+                repo, publisher, new InMemoryFeedChangeLog(), new DirectTransactionRunner());
 
         final PostRepository.PostRecord published = new PostRepository.PostRecord(
                 UUID.randomUUID(),
@@ -232,7 +249,8 @@ class AdminPostsServiceTest {
     void importPostsEmitsFeedUpdated() {
         final InMemoryPostRepository repo = new InMemoryPostRepository();
         final RecordingFeedEventPublisher publisher = new RecordingFeedEventPublisher();
-        final AdminPostsService service = new AdminPostsService(repo, publisher);
+        final AdminPostsService service = new AdminPostsService(
+                repo, publisher, new InMemoryFeedChangeLog(), new DirectTransactionRunner());
 
         final ImportPostCommand item = new ImportPostCommand(
                 "Title",
@@ -247,20 +265,99 @@ class AdminPostsServiceTest {
         assertEquals(1, publisher.feedUpdatedCount);
     }
 
+    @Test
+    void importPostsResolvesSlugCollisionsWithOneLookupAndLogsEachPost() {
+        final InMemoryPostRepository repo = new InMemoryPostRepository();
+        final InMemoryFeedChangeLog changeLog = new InMemoryFeedChangeLog();
+        final AdminPostsService service = new AdminPostsService(
+                repo, new NoOpFeedEventPublisher(), changeLog, new DirectTransactionRunner());
+        service.createDraft("Title", "title", null, List.of(), null, "[]", UUID.randomUUID());
+        service.createDraft("Title", "title-1", null, List.of(), null, "[]", UUID.randomUUID());
+
+        final var imported = service.importPosts(List.of(
+                new ImportPostCommand("Title", null, null, "[]", null),
+                new ImportPostCommand("Title", null, null, "[]", null),
+                new ImportPostCommand("Other", null, null, "[]", null)
+        ), UUID.randomUUID());
+
+        assertEquals(List.of("title-2", "title-3", "other"), imported.stream().map(PostSummaryView::slug).toList());
+        assertEquals(1, repo.slugLookups);
+        assertEquals(List.of("post.published", "post.published", "post.published"), changeLog.types());
+        assertEquals(
+                imported.stream().map(PostSummaryView::id).toList(),
+                changeLog.changes.stream().map(FeedChangeLog.FeedChange::itemId).toList()
+        );
+    }
+
+    @Test
+    void importPostsAboveTheItemizedLimitLogsOneFeedChange() {
+        final InMemoryFeedChangeLog changeLog = new InMemoryFeedChangeLog();
+        final AdminPostsService service = new AdminPostsService(
+                new InMemoryPostRepository(), new NoOpFeedEventPublisher(), changeLog, new DirectTransactionRunner());
+        final List<ImportPostCommand> items = IntStream
+                .rangeClosed(0, FeedChangeLog.MAX_ITEMIZED_CHANGES)
+                .mapToObj(i -> new ImportPostCommand("Title " + i, null, null, "[]", null))
+                .toList();
+
+        service.importPosts(items, UUID.randomUUID());
+
+        assertEquals(List.of("posts.imported"), changeLog.types());
+    }
+
     @Test
     void resetAllEmitsFeedUpdated() {
         final InMemoryPostRepository repo = new InMemoryPostRepository();
         final RecordingFeedEventPublisher publisher = new RecordingFeedEventPublisher();
-        final AdminPostsService service = new AdminPostsService(repo, publisher);
+        final AdminPostsService service = new AdminPostsService(
+                repo, publisher, new InMemoryFeedChangeLog(), new DirectTransactionRunner());
 
         service.resetAll();
 
         assertEquals(1, publisher.feedUpdatedCount);
     }
 
+    @Test
+    void publishedChangesAreLoggedAndDraftsAreNot() {
+        final InMemoryPostRepository repo = new InMemoryPostRepository();
+        final InMemoryFeedChangeLog changeLog = new InMemoryFeedChangeLog();
+        final AdminPostsService service = new AdminPostsService(
+                repo, new NoOpFeedEventPublisher(), changeLog, new DirectTransactionRunner());
+
+        final var draft = service.createDraft("Title", "draft", null, List.of(), null, "[]", UUID.randomUUID());
+        assertEquals(0, changeLog.changes.size());
+
+        service.publishById(draft.id());
+        service.deleteById(draft.id());
+
+        assertEquals(List.of("post.published", "post.deleted"), changeLog.types());
+        assertEquals(draft.id(), changeLog.changes.get(1).itemId());
+        assertEquals(FeedChangeLog.ITEM_POST, changeLog.changes.get(1).itemType());
+    }
+
+    @Test
+    void resetAllLogsFeedReset() {
+        final InMemoryFeedChangeLog changeLog = new InMemoryFeedChangeLog();
+        final AdminPostsService service = new AdminPostsService(
+                new InMemoryPostRepository(), new NoOpFeedEventPublisher(), changeLog, new DirectTransactionRunner());
+
+        service.resetAll();
+
+        assertEquals(List.of("feed.reset"), changeLog.types());
+        assertEquals(FeedChangeLog.ITEM_FEED, changeLog.changes.get(0).itemType());
+    }
+
     private static final class InMemoryPostRepository implements PostRepository {
         private final Map<UUID, PostRecord> byId = new HashMap<>();
         private final Map<String, PostRecord> bySlug = new HashMap<>();
+        private int slugLookups;
+
+        @Override
+        public Set<String> findSlugsWithBases(final Collection<String> bases) {
+            slugLookups += 1;
+            return bySlug.keySet().stream()
+                    .filter(slug -> bases.contains(slug) || bases.contains(slug.replaceFirst("-[0-9]+$", "")))
+                    .collect(Collectors.toSet());
+        }
 
         @Override
         public Optional<PostRecord> findBySlug(final Slug slug) {
@@ -273,21 +370,32 @@ class AdminPostsServiceTest {
         }
 
         @Override
-        public List<PostRecord> findAll(final int page, final int size) {
-            return List.copyOf(byId.values());
+        public List<PostSummaryRecord> findSummaries(final int page, final int size) {
+            return byId.values().stream().map(PostRecord::summary).toList();
         }
 
         @Override
-        public List<PostRecord> findByStatus(final PostStatus status, final int page, final int size) {
+        public List<PostSummaryRecord> findSummariesByStatus(final PostStatus status, final int page, final int size) {
             return byId.values().stream()
                     .filter(post -> post.status() == status)
+                    .map(PostRecord::summary)
+                    .toList();
+        }
+
+        @Override
+        public List<PostSummaryRecord> findPublishedSummaries(final int page, final int size) {
+            return byId.values().stream()
+                    .filter(post -> post.status() == PostStatus.PUBLISHED)
+                    .map(PostRecord::summary)
                     .toList();
         }
 
         @Override
-        public List<PostRecord> findPublished(final int page, final int size) {
+        public List<PostSummaryRecord> findPublishedAfter(final Instant sortAt, final UUID id, final int limit) {
             return byId.values().stream()
                     .filter(post -> post.status() == PostStatus.PUBLISHED)
+                    .limit(limit)
+                    .map(PostRecord::summary)
                     .toList();
         }
 
@@ -349,5 +457,57 @@ class AdminPostsServiceTest {
             feedUpdatedCount += 1;
         }
     }
-}
 
+    static final class InMemoryFeedChangeLog implements FeedChangeLog {
+        final List<FeedChange> changes = new java.util.ArrayList<>();
+        // version of changes.get(0); everything before it was pruned
+        long firstVersion = 1;
+
+        @Override
+        public void append(final FeedChange change) {
+            changes.add(change);
+        }
+
+        @Override
+        public long currentVersion() {
+            return firstVersion - 1 + changes.size();
+        }
+
+        @Override
+        public long oldestVersion() {
+            return changes.isEmpty() ? 0 : firstVersion;
+        }
+
+        @Override
+        public List<LoggedFeedChange> findAfter(final long version, final int limit) {
+            final List<LoggedFeedChange> found = new java.util.ArrayList<>();
+            final int start = (int) Math.max(0, version - firstVersion + 1);
+            for (int i = start; i < changes.size() && found.size() < limit; i++) {
+                found.add(new LoggedFeedChange(firstVersion + i, changes.get(i)));
+            }
+            return found;
+        }
+
+        @Override
+        public int deleteChangedBefore(final Instant cutoff, final int limit) {
+            int deleted = 0;
+            while (deleted < limit && changes.size() > 1 && changes.get(0).changedAt().isBefore(cutoff)) {
+                changes.remove(0);
+                firstVersion++;
+                deleted++;
+            }
+            return deleted;
+        }
+
+        List<String> types() {
+            return changes.stream().map(FeedChange::type).toList();
+        }
+    }
+
+    static final class DirectTransactionRunner implements TransactionRunner {
+        @Override
+        public <T> T inTransaction(final Supplier<T> work) {
+            return work.get();
+        }
+    }
+}
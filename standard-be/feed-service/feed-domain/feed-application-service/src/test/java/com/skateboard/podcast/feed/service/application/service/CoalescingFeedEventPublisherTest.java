@@ -0,0 +1,92 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.feed.service.application.dto.PostEvent;
+import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CoalescingFeedEventPublisherTest {
+
+    private static final Instant BASE = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void deliversItemEventsWhileBelowThreshold() {
+        final RecordingPublisher recording = new RecordingPublisher();
+        final CoalescingFeedEventPublisher publisher =
+                new CoalescingFeedEventPublisher(recording, Duration.ofHours(1), 3, scheduler);
+
+        publisher.publishPostEvent(event(1));
+        publisher.publishPostEvent(event(2));
+        publisher.flush();
+
+        assertEquals(List.of("post.published", "post.published"), recording.published);
+        assertEquals(List.of(), recording.feedUpdates);
+    }
+
+    @Test
+    void collapsesBurstIntoSingleFeedUpdatedWithLatestTimestamp() {
+        final RecordingPublisher recording = new RecordingPublisher();
+        final CoalescingFeedEventPublisher publisher =
+                new CoalescingFeedEventPublisher(recording, Duration.ofHours(1), 2, scheduler);
+
+        for (int i = 1; i <= 10; i++) {
+            publisher.publishPostEvent(event(i));
+        }
+        publisher.publishFeedUpdated(BASE.plusSeconds(5));
+        publisher.flush();
+
+        assertEquals(2, recording.published.size());
+        assertEquals(List.of(BASE.plusSeconds(10)), recording.feedUpdates);
+
+        publisher.publishPostEvent(event(11));
+        assertEquals(3, recording.published.size());
+    }
+
+    @Test
+    void passesFeedUpdatedThroughWhenNothingIsPending() {
+        final RecordingPublisher recording = new RecordingPublisher();
+        final CoalescingFeedEventPublisher publisher =
+                new CoalescingFeedEventPublisher(recording, Duration.ofHours(1), 2, scheduler);
+
+        publisher.publishPostEvent(event(1));
+        publisher.publishFeedUpdated(BASE);
+
+        assertEquals(List.of(BASE), recording.feedUpdates);
+    }
+
+    private static PostEvent event(final int second) {
+        return new PostEvent("post.published", UUID.randomUUID(), "post-" + second, BASE.plusSeconds(second));
+    }
+
+    private static final class RecordingPublisher implements FeedEventPublisher {
+        private final List<String> published = new ArrayList<>();
+        private final List<Instant> feedUpdates = new ArrayList<>();
+
+        @Override
+        public void publishPostEvent(final PostEvent event) {
+            published.add(event.type());
+        }
+
+        @Override
+        public void publishFeedUpdated(final Instant updatedAt) {
+            feedUpdates.add(updatedAt);
+        }
+    }
+}
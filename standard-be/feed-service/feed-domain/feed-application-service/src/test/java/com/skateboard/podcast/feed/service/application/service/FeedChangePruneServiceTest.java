@@ -0,0 +1,62 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
+import com.skateboard.podcast.feed.service.application.port.out.FeedRelayOffsets;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FeedChangePruneServiceTest {
+
+    @Test
+    void prunesOldEntriesInChunksAndKeepsTheLatest() {
+        final Instant now = Instant.parse("2024-06-01T00:00:00Z");
+        final AdminPostsServiceTest.InMemoryFeedChangeLog changeLog =
+                new AdminPostsServiceTest.InMemoryFeedChangeLog();
+        for (int i = 0; i < 5; i++) {
+            changeLog.append(change(now.minus(Duration.ofDays(30))));
+        }
+        changeLog.append(change(now.minus(Duration.ofDays(1))));
+        final FeedChangePruneService service =
+                service(changeLog, new FeedChangeRelayTest.InMemoryOffsets(), Duration.ofDays(7));
+
+        assertEquals(5, service.prune(now));
+        assertEquals(6, changeLog.oldestVersion());
+        assertEquals(6, changeLog.currentVersion());
+
+        assertEquals(0, service(changeLog, new FeedChangeRelayTest.InMemoryOffsets(), Duration.ZERO).prune(now));
+        assertEquals(6, changeLog.currentVersion());
+    }
+
+    @Test
+    void dropsRelayOffsetsNotUpdatedWithinTheTtl() {
+        final Instant now = Instant.now();
+        final FeedChangeRelayTest.InMemoryOffsets offsets = new FeedChangeRelayTest.InMemoryOffsets();
+        offsets.save("pod-old", 3);
+        offsets.save("pod-live", 7);
+        offsets.updatedAt.put("pod-old", now.minus(Duration.ofDays(2)));
+        final FeedChangePruneService service =
+                service(new AdminPostsServiceTest.InMemoryFeedChangeLog(), offsets, Duration.ofDays(7));
+
+        assertEquals(1, service.pruneAbandonedOffsets(now));
+        assertEquals(Map.of("pod-live", 7L), offsets.versions);
+    }
+
+    private static FeedChangePruneService service(
+            final FeedChangeLog changeLog,
+            final FeedRelayOffsets offsets,
+            final Duration retention
+    ) {
+        return new FeedChangePruneService(changeLog, offsets, retention, Duration.ofDays(1), 2);
+    }
+
+    private static FeedChangeLog.FeedChange change(final Instant changedAt) {
+        return new FeedChangeLog.FeedChange(
+                FeedChangeLog.ITEM_POST, UUID.randomUUID(), "post", "post.updated", changedAt);
+    }
+}
@@ -0,0 +1,230 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.feed.service.application.dto.PostEvent;
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
+import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
+import com.skateboard.podcast.feed.service.application.port.out.FeedRelayOffsets;
+import com.skateboard.podcast.feed.service.events.application.dto.FeedEventEvent;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventsEventPublisher;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FeedChangeRelayTest {
+
+    private static final Instant BASE = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final AdminPostsServiceTest.InMemoryFeedChangeLog changeLog =
+            new AdminPostsServiceTest.InMemoryFeedChangeLog();
+    private final RecordingPublisher publisher = new RecordingPublisher();
+    private final InMemoryOffsets offsets = new InMemoryOffsets();
+
+    @Test
+    void startsFromTheCurrentVersionAndRelaysLaterChanges() {
+        changeLog.append(post("post.published", 1));
+        final FeedChangeRelay relay = relay( 2, 10);
+
+        assertEquals(0, relay.relayPending());
+        assertEquals(1, relay.highWaterMark());
+
+        changeLog.append(post("post.updated", 2));
+        changeLog.append(event("event.published", 3));
+        changeLog.append(post("post.deleted", 4));
+
+        assertEquals(3, relay.relayPending());
+        assertEquals(List.of("post.updated", "event.published", "post.deleted"), publisher.items);
+        assertEquals(4, relay.highWaterMark());
+        assertEquals(0, relay.relayPending());
+        assertEquals(OptionalLong.of(4), offsets.load("node-a"));
+    }
+
+    @Test
+    void restartedRelayResumesFromTheStoredOffset() {
+        relay(10, 10).relayPending();
+        changeLog.append(post("post.published", 1));
+        changeLog.append(post("post.updated", 2));
+        final FeedChangeRelay restarted = relay(10, 10);
+
+        assertEquals(2, restarted.relayPending());
+        assertEquals(List.of("post.published", "post.updated"), publisher.items);
+        assertEquals(OptionalLong.of(2), offsets.load("node-a"));
+    }
+
+    @Test
+    void restartedRelayBehindThePrunedLogAsksForARefetch() {
+        relay(10, 10).relayPending();
+        for (int i = 1; i <= 4; i++) {
+            changeLog.append(post("post.updated", i));
+        }
+        changeLog.deleteChangedBefore(BASE.plusSeconds(3), 10);
+        final FeedChangeRelay restarted = relay(10, 10);
+
+        assertEquals(2, restarted.relayPending());
+        assertEquals(1, publisher.feedUpdates.size());
+        assertEquals(1, publisher.eventsUpdates.size());
+        assertEquals(List.of("post.updated", "post.updated"), publisher.items);
+        assertEquals(OptionalLong.of(4), offsets.load("node-a"));
+    }
+
+    @Test
+    void idleRelayKeepsItsOffsetFresh() throws InterruptedException {
+        relay(10, 10).relayPending();
+        final FeedChangeRelay longTtl = relay(10, 10);
+        longTtl.relayPending();
+        final int saves = offsets.saves;
+        longTtl.relayPending();
+        assertEquals(saves, offsets.saves);
+
+        final FeedChangeRelay shortTtl = relay(10, 10, Duration.ZERO);
+        shortTtl.relayPending();
+        Thread.sleep(2);
+        shortTtl.relayPending();
+        assertEquals(saves + 2, offsets.saves);
+    }
+
+    @Test
+    void failedPublishIsRetriedFromTheFailedEntry() {
+        final FeedChangeRelay relay = relay( 10, 10);
+        relay.relayPending();
+        changeLog.append(post("post.published", 1));
+        changeLog.append(post("post.updated", 2));
+        publisher.failOn = "post.updated";
+
+        assertThrows(IllegalStateException.class, relay::relayPending);
+        assertEquals(1, relay.highWaterMark());
+
+        publisher.failOn = null;
+        relay.relayPending();
+        assertEquals(List.of("post.published", "post.updated"), publisher.items);
+        assertEquals(2, relay.highWaterMark());
+    }
+
+    @Test
+    void summarizesBurstsAndMapsResets() {
+        final FeedChangeRelay relay = relay( 100, 2);
+        relay.relayPending();
+        for (int i = 1; i <= 5; i++) {
+            changeLog.append(post("post.created", i));
+        }
+        changeLog.append(event("event.published", 6));
+        changeLog.append(new FeedChangeLog.FeedChange(
+                FeedChangeLog.ITEM_FEED, null, null, "events.reset", BASE.plusSeconds(7)));
+
+        relay.relayPending();
+
+        assertEquals(List.of("event.published"), publisher.items);
+        assertEquals(List.of(BASE.plusSeconds(5)), publisher.feedUpdates);
+        assertEquals(List.of(BASE.plusSeconds(7)), publisher.eventsUpdates);
+        assertEquals(7, relay.highWaterMark());
+    }
+
+    @Test
+    void collapsesFeedLevelChangesInABatchIntoOneUpdate() {
+        final FeedChangeRelay relay = relay( 100, 10);
+        relay.relayPending();
+        for (int i = 1; i <= 3; i++) {
+            changeLog.append(new FeedChangeLog.FeedChange(
+                    FeedChangeLog.ITEM_FEED, null, null, "posts.imported", BASE.plusSeconds(i)));
+        }
+
+        relay.relayPending();
+
+        assertEquals(List.of(BASE.plusSeconds(3)), publisher.feedUpdates);
+        assertEquals(3, relay.highWaterMark());
+    }
+
+    private FeedChangeRelay relay(final int batchSize, final int maxItemEvents) {
+        return relay(batchSize, maxItemEvents, Duration.ofDays(1));
+    }
+
+    private FeedChangeRelay relay(final int batchSize, final int maxItemEvents, final Duration offsetTtl) {
+        return new FeedChangeRelay(
+                changeLog, offsets, "node-a", publisher, publisher, batchSize, maxItemEvents, offsetTtl);
+    }
+
+    private static FeedChangeLog.FeedChange post(final String type, final int second) {
+        return new FeedChangeLog.FeedChange(
+                FeedChangeLog.ITEM_POST, UUID.randomUUID(), "post-" + second, type, BASE.plusSeconds(second));
+    }
+
+    private static FeedChangeLog.FeedChange event(final String type, final int second) {
+        return new FeedChangeLog.FeedChange(
+                FeedChangeLog.ITEM_EVENT, UUID.randomUUID(), "event-" + second, type, BASE.plusSeconds(second));
+    }
+
+    static final class InMemoryOffsets implements FeedRelayOffsets {
+        final Map<String, Long> versions = new HashMap<>();
+        final Map<String, Instant> updatedAt = new HashMap<>();
+        int saves;
+
+        @Override
+        public OptionalLong load(final String consumer) {
+            final Long version = versions.get(consumer);
+            return version == null ? OptionalLong.empty() : OptionalLong.of(version);
+        }
+
+        @Override
+        public void save(final String consumer, final long version) {
+            versions.put(consumer, version);
+            updatedAt.put(consumer, Instant.now());
+            saves++;
+        }
+
+        @Override
+        public int deleteNotUpdatedSince(final Instant cutoff) {
+            final List<String> stale = updatedAt.entrySet().stream()
+                    .filter(e -> e.getValue().isBefore(cutoff))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            stale.forEach(consumer -> {
+                versions.remove(consumer);
+                updatedAt.remove(consumer);
+            });
+            return stale.size();
+        }
+    }
+
+    private static final class RecordingPublisher implements FeedEventPublisher, FeedEventsEventPublisher {
+        private final List<String> items = new ArrayList<>();
+        private final List<Instant> feedUpdates = new ArrayList<>();
+        private final List<Instant> eventsUpdates = new ArrayList<>();
+        private String failOn;
+
+        @Override
+        public void publishPostEvent(final PostEvent event) {
+            record(event.type());
+        }
+
+        @Override
+        public void publishFeedUpdated(final Instant updatedAt) {
+            feedUpdates.add(updatedAt);
+        }
+
+        @Override
+        public void publishFeedEventEvent(final FeedEventEvent event) {
+            record(event.type());
+        }
+
+        @Override
+        public void publishEventsUpdated(final Instant updatedAt) {
+            eventsUpdates.add(updatedAt);
+        }
+
+        private void record(final String type) {
+            if (type.equals(failOn)) {
+                throw new IllegalStateException("broadcast failed");
+            }
+            items.add(type);
+        }
+    }
+}
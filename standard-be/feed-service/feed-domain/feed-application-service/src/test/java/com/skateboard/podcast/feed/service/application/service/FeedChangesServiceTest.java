@@ -0,0 +1,221 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.domain.valueobject.EventStatus;
+import com.skateboard.podcast.domain.valueobject.PostStatus;
+import com.skateboard.podcast.domain.valueobject.Slug;
+import com.skateboard.podcast.domain.valueobject.Tag;
+import com.skateboard.podcast.feed.service.application.dto.FeedChangesView;
+import com.skateboard.podcast.feed.service.application.dto.FeedItemSummaryView;
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
+import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeedChangesServiceTest {
+
+    private final InMemoryPostRepository posts = new InMemoryPostRepository();
+    private final AdminPostsServiceTest.InMemoryFeedChangeLog changeLog = new AdminPostsServiceTest.InMemoryFeedChangeLog();
+    private final FeedChangesService service = new FeedChangesService(changeLog, posts, new EmptyFeedEventRepository());
+
+    @Test
+    void withoutVersionReturnsCurrentVersionOnly() {
+        final PostRepository.PostRecord post = posts.save(post("first", PostStatus.PUBLISHED));
+        log(post, "post.published");
+
+        final FeedChangesView changes = service.changesSince(null, 100);
+
+        assertEquals(1, changes.version());
+        assertTrue(changes.upserted().isEmpty());
+        assertFalse(changes.reset());
+    }
+
+    @Test
+    void collapsesChangesToCurrentState() {
+        final PostRepository.PostRecord kept = posts.save(post("kept", PostStatus.PUBLISHED));
+        final PostRepository.PostRecord deleted = posts.save(post("deleted", PostStatus.PUBLISHED));
+        log(kept, "post.published");
+        log(kept, "post.updated");
+        log(deleted, "post.published");
+        posts.deleteById(deleted.id());
+        log(deleted, "post.deleted");
+
+        final FeedChangesView changes = service.changesSince(0L, 100);
+
+        assertEquals(4, changes.version());
+        assertFalse(changes.hasMore());
+        assertEquals(List.of("kept"), changes.upserted().stream().map(FeedItemSummaryView::slug).toList());
+        assertEquals(List.of(new FeedChangesView.RemovedItem("POST", deleted.id())), changes.removed());
+    }
+
+    @Test
+    void pagesThroughLongLogs() {
+        for (int i = 0; i < 3; i++) {
+            log(posts.save(post("post-" + i, PostStatus.PUBLISHED)), "post.published");
+        }
+
+        final FeedChangesView first = service.changesSince(0L, 2);
+        final FeedChangesView second = service.changesSince(first.version(), 2);
+
+        assertTrue(first.hasMore());
+        assertEquals(2, first.upserted().size());
+        assertFalse(second.hasMore());
+        assertEquals(3, second.version());
+        assertEquals(List.of("post-2"), second.upserted().stream().map(FeedItemSummaryView::slug).toList());
+    }
+
+    @Test
+    void resetOrUnknownVersionTellsClientToRefetch() {
+        log(posts.save(post("first", PostStatus.PUBLISHED)), "post.published");
+        changeLog.append(new FeedChangeLog.FeedChange(FeedChangeLog.ITEM_FEED, null, null, "feed.reset", Instant.now()));
+
+        assertTrue(service.changesSince(0L, 100).reset());
+        assertTrue(service.changesSince(99L, 100).reset());
+        assertEquals(2, service.changesSince(99L, 100).version());
+        assertFalse(service.changesSince(2L, 100).reset());
+    }
+
+    @Test
+    void clientBehindThePrunedPartOfTheLogIsReset() {
+        for (int i = 0; i < 3; i++) {
+            log(posts.save(post("post-" + i, PostStatus.PUBLISHED)), "post.published");
+        }
+
+        assertEquals(2, changeLog.deleteChangedBefore(Instant.parse("2024-01-02T00:00:00Z"), 10));
+
+        assertTrue(service.changesSince(0L, 100).reset());
+        assertTrue(service.changesSince(1L, 100).reset());
+        assertEquals(3, service.changesSince(1L, 100).version());
+        final FeedChangesView caughtUp = service.changesSince(2L, 100);
+        assertFalse(caughtUp.reset());
+        assertEquals(List.of("post-2"), caughtUp.upserted().stream().map(FeedItemSummaryView::slug).toList());
+    }
+
+    private void log(final PostRepository.PostRecord post, final String type) {
+        changeLog.append(new FeedChangeLog.FeedChange(
+                FeedChangeLog.ITEM_POST, post.id(), post.slug().value(), type, post.updatedAt()));
+    }
+
+    private static PostRepository.PostRecord post(final String slug, final PostStatus status) {
+        final Instant at = Instant.parse("2024-01-01T00:00:00Z");
+        return new PostRepository.PostRecord(
+                UUID.randomUUID(), "Title", Slug.of(slug), null, List.of(Tag.of("tech")), status,
+                null, "[]", UUID.randomUUID(), at, at, at
+        );
+    }
+
+    private static final class InMemoryPostRepository implements PostRepository {
+        private final Map<UUID, PostRecord> byId = new LinkedHashMap<>();
+
+        @Override
+        public Optional<PostRecord> findBySlug(final Slug slug) {
+            return byId.values().stream().filter(post -> post.slug().equals(slug)).findFirst();
+        }
+
+        @Override
+        public Optional<PostRecord> findById(final UUID id) {
+            return Optional.ofNullable(byId.get(id));
+        }
+
+        @Override
+        public List<PostSummaryRecord> findSummaries(final int page, final int size) {
+            return byId.values().stream().map(PostRecord::summary).toList();
+        }
+
+        @Override
+        public List<PostSummaryRecord> findSummariesByStatus(final PostStatus status, final int page, final int size) {
+            return byId.values().stream().filter(post -> post.status() == status).map(PostRecord::summary).toList();
+        }
+
+        @Override
+        public List<PostSummaryRecord> findPublishedSummaries(final int page, final int size) {
+            return findSummariesByStatus(PostStatus.PUBLISHED, page, size);
+        }
+
+        @Override
+        public List<PostSummaryRecord> findPublishedAfter(final Instant sortAt, final UUID id, final int limit) {
+            return findSummariesByStatus(PostStatus.PUBLISHED, 0, limit);
+        }
+
+        @Override
+        public FeedStats fetchPublishedFeedStats() {
+            return new FeedStats(null, findPublishedSummaries(0, Integer.MAX_VALUE).size());
+        }
+
+        @Override
+        public PostRecord save(final PostRecord post) {
+            byId.put(post.id(), post);
+            return post;
+        }
+
+        @Override
+        public void deleteById(final UUID id) {
+            byId.remove(id);
+        }
+
+        @Override
+        public void deleteAll() {
+            byId.clear();
+        }
+    }
+
+    private static final class EmptyFeedEventRepository implements FeedEventRepository {
+        @Override
+        public Optional<FeedEventRecord> findBySlug(final Slug slug) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<FeedEventRecord> findById(final UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findSummaries(final int page, final int size) {
+            return List.of();
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findSummariesByStatus(final EventStatus status, final int page, final int size) {
+            return List.of();
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findPublishedSummaries(final int page, final int size) {
+            return List.of();
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findPublishedAfter(final Instant sortAt, final UUID id, final int limit) {
+            return List.of();
+        }
+
+        @Override
+        public FeedEventStats fetchPublishedStats() {
+            return new FeedEventStats(null, 0);
+        }
+
+        @Override
+        public FeedEventRecord save(final FeedEventRecord event) {
+            return event;
+        }
+
+        @Override
+        public void deleteById(final UUID id) {
+        }
+
+        @Override
+        public void deleteAll() {
+        }
+    }
+}
@@ -5,6 +5,8 @@ import com.skateboard.podcast.domain.valueobject.EventStatus;
 import com.skateboard.podcast.domain.valueobject.PostStatus;
 import com.skateboard.podcast.domain.valueobject.Slug;
 import com.skateboard.podcast.domain.valueobject.Tag;
+import com.skateboard.podcast.feed.service.application.dto.FeedCursor;
+import com.skateboard.podcast.feed.service.application.dto.FeedPageView;
 import com.skateboard.podcast.feed.service.application.dto.FeedVersion;
 import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
 import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventRepository;
@@ -16,8 +18,11 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PublicFeedServiceTest {
@@ -70,6 +75,68 @@ class PublicFeedServiceTest {
         assertEquals("post-07", page1.get(1).slug());
     }
 
+    @Test
+    void listPublishedAfterWalksFeedWithCursor() {
+        final PublicFeedService service = new PublicFeedService(
+                new InMemoryPostRepository(List.of(
+                        postRecord("post-10", Instant.parse("2024-01-10T00:00:00Z")),
+                        postRecord("post-07", Instant.parse("2024-01-07T00:00:00Z"))
+                )),
+                new InMemoryFeedEventRepository(List.of(
+                        eventRecord("event-09", Instant.parse("2024-01-09T00:00:00Z")),
+                        eventRecord("event-08", Instant.parse("2024-01-08T00:00:00Z"))
+                ))
+        );
+
+        final FeedPageView first = service.listPublishedAfter("", 3);
+        assertEquals(List.of("post-10", "event-09", "event-08"), slugs(first));
+        assertNotNull(first.nextCursor());
+
+        final FeedPageView second = service.listPublishedAfter(first.nextCursor(), 3);
+        assertEquals(List.of("post-07"), slugs(second));
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void listPublishedAfterBreaksTimestampTiesById() {
+        final Instant sameTime = Instant.parse("2024-01-10T00:00:00Z");
+        final PublicFeedService service = new PublicFeedService(
+                new InMemoryPostRepository(List.of(
+                        postRecord("post-a", sameTime),
+                        postRecord("post-b", sameTime)
+                )),
+                new InMemoryFeedEventRepository(List.of(
+                        eventRecord("event-a", sameTime),
+                        eventRecord("event-b", sameTime)
+                ))
+        );
+
+        final List<String> walked = new ArrayList<>();
+        String cursor = "";
+        do {
+            final FeedPageView page = service.listPublishedAfter(cursor, 1);
+            walked.addAll(slugs(page));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(4, walked.size());
+        assertEquals(4, walked.stream().distinct().count());
+        assertEquals(
+                service.listPublished(0, 4).stream().map(item -> item.slug()).toList(),
+                walked
+        );
+    }
+
+    @Test
+    void listPublishedAfterRejectsInvalidCursor() {
+        final PublicFeedService service = new PublicFeedService(
+                new InMemoryPostRepository(List.of()),
+                new InMemoryFeedEventRepository(List.of())
+        );
+
+        assertThrows(ValidationException.class, () -> service.listPublishedAfter("!!invalid!!", 10));
+    }
+
     @Test
     void getFeedVersionUsesMaxUpdatedAtAndTotalCount() {
         final PostRepository.PostRecord postLatest = postRecord(
@@ -98,6 +165,12 @@ class PublicFeedServiceTest {
         );
     }
 
+    private static List<String> slugs(final FeedPageView page) {
+        return page.items().stream()
+                .map(item -> item.slug())
+                .toList();
+    }
+
     private static PostRepository.PostRecord postRecord(final String slug, final Instant publishedAt) {
         return new PostRepository.PostRecord(
                 UUID.randomUUID(),
@@ -154,22 +227,34 @@ class PublicFeedServiceTest {
         }
 
         @Override
-        public List<PostRecord> findAll(final int page, final int size) {
-            return List.copyOf(records);
+        public List<PostSummaryRecord> findSummaries(final int page, final int size) {
+            return records.stream().map(PostRecord::summary).toList();
         }
 
         @Override
-        public List<PostRecord> findByStatus(final PostStatus status, final int page, final int size) {
-            return records.stream().filter(record -> record.status() == status).toList();
+        public List<PostSummaryRecord> findSummariesByStatus(final PostStatus status, final int page, final int size) {
+            return records.stream().filter(record -> record.status() == status).map(PostRecord::summary).toList();
         }
 
         @Override
-        public List<PostRecord> findPublished(final int page, final int size) {
+        public List<PostSummaryRecord> findPublishedSummaries(final int page, final int size) {
             final List<PostRecord> published = records.stream()
                     .filter(record -> record.status() == PostStatus.PUBLISHED)
                     .sorted(Comparator.comparing(PostRecord::publishedAt).reversed())
                     .toList();
-            return slice(published, page, size);
+            return slice(published, page, size).stream()
+                    .map(PostRecord::summary)
+                    .toList();
+        }
+
+        @Override
+        public List<PostSummaryRecord> findPublishedAfter(final Instant sortAt, final UUID id, final int limit) {
+            final List<PostRecord> published = records.stream()
+                    .filter(record -> record.status() == PostStatus.PUBLISHED)
+                    .toList();
+            return seek(published, PostRecord::publishedAt, PostRecord::id, sortAt, id, limit).stream()
+                    .map(PostRecord::summary)
+                    .toList();
         }
 
         @Override
@@ -219,22 +304,34 @@ class PublicFeedServiceTest {
         }
 
         @Override
-        public List<FeedEventRecord> findAll(final int page, final int size) {
-            return List.copyOf(records);
+        public List<FeedEventSummaryRecord> findSummaries(final int page, final int size) {
+            return records.stream().map(FeedEventRecord::summary).toList();
         }
 
         @Override
-        public List<FeedEventRecord> findByStatus(final EventStatus status, final int page, final int size) {
-            return records.stream().filter(record -> record.status() == status).toList();
+        public List<FeedEventSummaryRecord> findSummariesByStatus(final EventStatus status, final int page, final int size) {
+            return records.stream().filter(record -> record.status() == status).map(FeedEventRecord::summary).toList();
         }
 
         @Override
-        public List<FeedEventRecord> findPublished(final int page, final int size) {
+        public List<FeedEventSummaryRecord> findPublishedSummaries(final int page, final int size) {
             final List<FeedEventRecord> published = records.stream()
                     .filter(record -> record.status() == EventStatus.PUBLISHED)
                     .sorted(Comparator.comparing(FeedEventRecord::startAt).reversed())
                     .toList();
-            return slice(published, page, size);
+            return slice(published, page, size).stream()
+                    .map(FeedEventRecord::summary)
+                    .toList();
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findPublishedAfter(final Instant sortAt, final UUID id, final int limit) {
+            final List<FeedEventRecord> published = records.stream()
+                    .filter(record -> record.status() == EventStatus.PUBLISHED)
+                    .toList();
+            return seek(published, FeedEventRecord::startAt, FeedEventRecord::id, sortAt, id, limit).stream()
+                    .map(FeedEventRecord::summary)
+                    .toList();
         }
 
         @Override
@@ -266,6 +363,26 @@ class PublicFeedServiceTest {
         }
     }
 
+    private static <T> List<T> seek(
+            final List<T> items,
+            final Function<T, Instant> sortAtOf,
+            final Function<T, UUID> idOf,
+            final Instant sortAt,
+            final UUID id,
+            final int limit
+    ) {
+        final Comparator<T> bySortAt = Comparator.comparing(sortAtOf);
+        final Comparator<T> order = bySortAt.reversed()
+                .thenComparing(idOf, (left, right) -> FeedCursor.compareIds(right, left));
+        return items.stream()
+                .filter(item -> sortAt == null
+                        || sortAtOf.apply(item).isBefore(sortAt)
+                        || (sortAtOf.apply(item).equals(sortAt) && FeedCursor.compareIds(idOf.apply(item), id) < 0))
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
     private static <T> List<T> slice(final List<T> items, final int page, final int size) {
         if (size <= 0) {
             return List.of();
@@ -75,21 +75,32 @@ class PublicPostsServiceTest {
         }
 
         @Override
-        public List<PostRecord> findAll(final int page, final int size) {
-            return List.copyOf(byId.values());
+        public List<PostSummaryRecord> findSummaries(final int page, final int size) {
+            return byId.values().stream().map(PostRecord::summary).toList();
         }
 
         @Override
-        public List<PostRecord> findByStatus(final PostStatus status, final int page, final int size) {
+        public List<PostSummaryRecord> findSummariesByStatus(final PostStatus status, final int page, final int size) {
             return byId.values().stream()
                     .filter(post -> post.status() == status)
+                    .map(PostRecord::summary)
                     .toList();
         }
 
         @Override
-        public List<PostRecord> findPublished(final int page, final int size) {
+        public List<PostSummaryRecord> findPublishedSummaries(final int page, final int size) {
             return bySlug.values().stream()
                     .filter(post -> post.status() == PostStatus.PUBLISHED)
+                    .map(PostRecord::summary)
+                    .toList();
+        }
+
+        @Override
+        public List<PostSummaryRecord> findPublishedAfter(final Instant sortAt, final UUID id, final int limit) {
+            return bySlug.values().stream()
+                    .filter(post -> post.status() == PostStatus.PUBLISHED)
+                    .limit(limit)
+                    .map(PostRecord::summary)
                     .toList();
         }
 
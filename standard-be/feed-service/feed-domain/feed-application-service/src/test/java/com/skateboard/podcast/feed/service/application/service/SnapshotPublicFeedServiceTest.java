@@ -0,0 +1,409 @@
+package com.skateboard.podcast.feed.service.application.service;
+
+import com.skateboard.podcast.domain.exception.ValidationException;
+import com.skateboard.podcast.domain.valueobject.EventStatus;
+import com.skateboard.podcast.domain.valueobject.PostStatus;
+import com.skateboard.podcast.domain.valueobject.Slug;
+import com.skateboard.podcast.domain.valueobject.Tag;
+import com.skateboard.podcast.feed.service.application.dto.FeedCursor;
+import com.skateboard.podcast.feed.service.application.dto.FeedItemSummaryView;
+import com.skateboard.podcast.feed.service.application.dto.FeedPageView;
+import com.skateboard.podcast.feed.service.application.dto.PostEvent;
+import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
+import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
+import com.skateboard.podcast.feed.service.events.application.dto.FeedEventEvent;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventRepository;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventsEventPublisher;
+import com.skateboard.podcast.feed.service.events.application.service.SnapshotFeedEventsEventPublisher;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnapshotPublicFeedServiceTest {
+
+    @Test
+    void servesSameOrderAndVersionAsDatabaseBackedService() {
+        final InMemoryPostRepository posts = new InMemoryPostRepository(List.of(
+                postRecord("post-10", Instant.parse("2024-01-10T00:00:00Z")),
+                postRecord("post-07", Instant.parse("2024-01-07T00:00:00Z"))
+        ));
+        final InMemoryFeedEventRepository events = new InMemoryFeedEventRepository(List.of(
+                eventRecord("event-09", Instant.parse("2024-01-09T00:00:00Z")),
+                eventRecord("event-08", Instant.parse("2024-01-08T00:00:00Z"))
+        ));
+        final PublicFeedService database = new PublicFeedService(posts, events);
+        final SnapshotPublicFeedService snapshot = new SnapshotPublicFeedService(
+                new PublishedFeedSnapshotStore(posts, events, Duration.ZERO)
+        );
+
+        for (int page = 0; page < 3; page++) {
+            assertEquals(slugs(database.listPublished(page, 3)), slugs(snapshot.listPublished(page, 3)));
+            assertEquals(database.getFeedVersion(page, 3), snapshot.getFeedVersion(page, 3));
+        }
+
+        final FeedPageView first = snapshot.listPublishedAfter("", 3);
+        assertEquals(slugs(database.listPublishedAfter("", 3).items()), slugs(first.items()));
+        final FeedPageView second = snapshot.listPublishedAfter(first.nextCursor(), 3);
+        assertEquals(List.of("post-07"), slugs(second.items()));
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void loadsOnceAndAppliesPushedChangesWithoutReloading() {
+        final InMemoryPostRepository posts = new InMemoryPostRepository(List.of(
+                postRecord("post-10", Instant.parse("2024-01-10T00:00:00Z"))
+        ));
+        final InMemoryFeedEventRepository events = new InMemoryFeedEventRepository(List.of());
+        final PublishedFeedSnapshotStore store = new PublishedFeedSnapshotStore(posts, events, Duration.ZERO);
+        final SnapshotPublicFeedService service = new SnapshotPublicFeedService(store);
+        final FeedEventPublisher publisher = new SnapshotFeedEventPublisher(new NoOpFeedEventPublisher(), store);
+
+        assertEquals(List.of("post-10"), slugs(service.listPublished(0, 10)));
+        final int readsAfterLoad = posts.keysetReads;
+
+        final PostRepository.PostRecord added = posts.save(
+                postRecord("post-12", Instant.parse("2024-01-12T00:00:00Z"))
+        );
+        publisher.publishPostEvent(new PostEvent("post.created", added.id(), "post-12", added.updatedAt()));
+        assertEquals(List.of("post-12", "post-10"), slugs(service.listPublished(0, 10)));
+
+        posts.deleteById(added.id());
+        publisher.publishPostEvent(new PostEvent("post.deleted", added.id(), "post-12", added.updatedAt()));
+        assertEquals(List.of("post-10"), slugs(service.listPublished(0, 10)));
+        assertEquals(readsAfterLoad, posts.keysetReads);
+
+        publisher.publishFeedUpdated(Instant.now());
+        service.listPublished(0, 10);
+        assertEquals(readsAfterLoad * 2, posts.keysetReads);
+    }
+
+    @Test
+    void dropsItemsThatAreNoLongerPublished() {
+        final FeedEventRepository.FeedEventRecord event = eventRecord(
+                "event-09",
+                Instant.parse("2024-01-09T00:00:00Z")
+        );
+        final InMemoryFeedEventRepository events = new InMemoryFeedEventRepository(List.of(event));
+        final PublishedFeedSnapshotStore store = new PublishedFeedSnapshotStore(
+                new InMemoryPostRepository(List.of()),
+                events,
+                Duration.ZERO
+        );
+        final SnapshotPublicFeedService service = new SnapshotPublicFeedService(store);
+        final FeedEventsEventPublisher publisher = new SnapshotFeedEventsEventPublisher(
+                new NoOpFeedEventsEventPublisher(),
+                store
+        );
+
+        assertEquals(List.of("event-09"), slugs(service.listPublished(0, 10)));
+
+        events.save(withStatus(event, EventStatus.DRAFT));
+        publisher.publishFeedEventEvent(new FeedEventEvent("event.updated", event.id(), "event-09", Instant.now()));
+
+        assertEquals(List.of(), slugs(service.listPublished(0, 10)));
+    }
+
+    @Test
+    void validatesPageSizeAndCursor() {
+        final SnapshotPublicFeedService service = new SnapshotPublicFeedService(
+                new PublishedFeedSnapshotStore(
+                        new InMemoryPostRepository(List.of()),
+                        new InMemoryFeedEventRepository(List.of()),
+                        Duration.ZERO
+                )
+        );
+
+        assertThrows(ValidationException.class, () -> service.listPublished(-1, 10));
+        assertThrows(ValidationException.class, () -> service.listPublished(0, 51));
+        assertThrows(ValidationException.class, () -> service.listPublishedAfter("!!invalid!!", 10));
+    }
+
+    private static List<String> slugs(final List<FeedItemSummaryView> items) {
+        return items.stream()
+                .map(FeedItemSummaryView::slug)
+                .toList();
+    }
+
+    private static FeedEventRepository.FeedEventRecord withStatus(
+            final FeedEventRepository.FeedEventRecord event,
+            final EventStatus status
+    ) {
+        return new FeedEventRepository.FeedEventRecord(
+                event.id(),
+                event.title(),
+                event.slug(),
+                event.excerpt(),
+                event.tags(),
+                status,
+                event.thumbnailJson(),
+                event.contentJson(),
+                event.startAt(),
+                event.endAt(),
+                event.timezone(),
+                event.location(),
+                event.ticketsUrl(),
+                event.createdBy(),
+                event.createdAt(),
+                Instant.now()
+        );
+    }
+
+    private static final class NoOpFeedEventPublisher implements FeedEventPublisher {
+        @Override
+        public void publishPostEvent(final PostEvent event) {
+        }
+
+        @Override
+        public void publishFeedUpdated(final Instant updatedAt) {
+        }
+    }
+
+    private static final class NoOpFeedEventsEventPublisher implements FeedEventsEventPublisher {
+        @Override
+        public void publishFeedEventEvent(final FeedEventEvent event) {
+        }
+
+        @Override
+        public void publishEventsUpdated(final Instant updatedAt) {
+        }
+    }
+
+    private static PostRepository.PostRecord postRecord(final String slug, final Instant publishedAt) {
+        return new PostRepository.PostRecord(
+                UUID.randomUUID(),
+                "Title",
+                Slug.of(slug),
+                "Excerpt",
+                List.of(Tag.of("tech")),
+                PostStatus.PUBLISHED,
+                null,
+                "[]",
+                UUID.randomUUID(),
+                Instant.parse("2024-01-01T00:00:00Z"),
+                publishedAt,
+                publishedAt
+        );
+    }
+
+    private static FeedEventRepository.FeedEventRecord eventRecord(final String slug, final Instant startAt) {
+        return new FeedEventRepository.FeedEventRecord(
+                UUID.randomUUID(),
+                "Event",
+                Slug.of(slug),
+                "Excerpt",
+                List.of(Tag.of("street")),
+                EventStatus.PUBLISHED,
+                null,
+                "[]",
+                startAt,
+                startAt.plusSeconds(3600),
+                "UTC",
+                "Plaza",
+                "https://tickets.example.com",
+                UUID.randomUUID(),
+                Instant.parse("2024-01-01T00:00:00Z"),
+                startAt
+        );
+    }
+
+    private static final class InMemoryPostRepository implements PostRepository {
+        private final List<PostRecord> records;
+        private int keysetReads;
+
+        private InMemoryPostRepository(final List<PostRecord> records) {
+            this.records = new ArrayList<>(records);
+        }
+
+        @Override
+        public Optional<PostRecord> findBySlug(final Slug slug) {
+            return records.stream().filter(record -> record.slug().equals(slug)).findFirst();
+        }
+
+        @Override
+        public Optional<PostRecord> findById(final UUID id) {
+            return records.stream().filter(record -> record.id().equals(id)).findFirst();
+        }
+
+        @Override
+        public List<PostSummaryRecord> findSummaries(final int page, final int size) {
+            return records.stream().map(PostRecord::summary).toList();
+        }
+
+        @Override
+        public List<PostSummaryRecord> findSummariesByStatus(final PostStatus status, final int page, final int size) {
+            return records.stream().filter(record -> record.status() == status).map(PostRecord::summary).toList();
+        }
+
+        @Override
+        public List<PostSummaryRecord> findPublishedSummaries(final int page, final int size) {
+            final List<PostRecord> published = records.stream()
+                    .filter(record -> record.status() == PostStatus.PUBLISHED)
+                    .sorted(Comparator.comparing(PostRecord::publishedAt).reversed())
+                    .toList();
+            return slice(published, page, size).stream()
+                    .map(PostRecord::summary)
+                    .toList();
+        }
+
+        @Override
+        public List<PostSummaryRecord> findPublishedAfter(final Instant sortAt, final UUID id, final int limit) {
+            keysetReads += 1;
+            final List<PostRecord> published = records.stream()
+                    .filter(record -> record.status() == PostStatus.PUBLISHED)
+                    .toList();
+            return seek(published, PostRecord::publishedAt, PostRecord::id, sortAt, id, limit).stream()
+                    .map(PostRecord::summary)
+                    .toList();
+        }
+
+        @Override
+        public FeedStats fetchPublishedFeedStats() {
+            final List<PostRecord> published = records.stream()
+                    .filter(record -> record.status() == PostStatus.PUBLISHED)
+                    .toList();
+            final Instant lastUpdatedAt = published.stream()
+                    .map(PostRecord::updatedAt)
+                    .max(Instant::compareTo)
+                    .orElse(null);
+            return new FeedStats(lastUpdatedAt, published.size());
+        }
+
+        @Override
+        public PostRecord save(final PostRecord post) {
+            records.removeIf(record -> record.id().equals(post.id()));
+            records.add(post);
+            return post;
+        }
+
+        @Override
+        public void deleteById(final UUID id) {
+            records.removeIf(record -> record.id().equals(id));
+        }
+
+        @Override
+        public void deleteAll() {
+            records.clear();
+        }
+    }
+
+    private static final class InMemoryFeedEventRepository implements FeedEventRepository {
+        private final List<FeedEventRecord> records;
+
+        private InMemoryFeedEventRepository(final List<FeedEventRecord> records) {
+            this.records = new ArrayList<>(records);
+        }
+
+        @Override
+        public Optional<FeedEventRecord> findBySlug(final Slug slug) {
+            return records.stream().filter(record -> record.slug().equals(slug)).findFirst();
+        }
+
+        @Override
+        public Optional<FeedEventRecord> findById(final UUID id) {
+            return records.stream().filter(record -> record.id().equals(id)).findFirst();
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findSummaries(final int page, final int size) {
+            return records.stream().map(FeedEventRecord::summary).toList();
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findSummariesByStatus(final EventStatus status, final int page, final int size) {
+            return records.stream().filter(record -> record.status() == status).map(FeedEventRecord::summary).toList();
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findPublishedSummaries(final int page, final int size) {
+            final List<FeedEventRecord> published = records.stream()
+                    .filter(record -> record.status() == EventStatus.PUBLISHED)
+                    .sorted(Comparator.comparing(FeedEventRecord::startAt).reversed())
+                    .toList();
+            return slice(published, page, size).stream()
+                    .map(FeedEventRecord::summary)
+                    .toList();
+        }
+
+        @Override
+        public List<FeedEventSummaryRecord> findPublishedAfter(final Instant sortAt, final UUID id, final int limit) {
+            final List<FeedEventRecord> published = records.stream()
+                    .filter(record -> record.status() == EventStatus.PUBLISHED)
+                    .toList();
+            return seek(published, FeedEventRecord::startAt, FeedEventRecord::id, sortAt, id, limit).stream()
+                    .map(FeedEventRecord::summary)
+                    .toList();
+        }
+
+        @Override
+        public FeedEventStats fetchPublishedStats() {
+            final List<FeedEventRecord> published = records.stream()
+                    .filter(record -> record.status() == EventStatus.PUBLISHED)
+                    .toList();
+            final Instant lastUpdatedAt = published.stream()
+                    .map(FeedEventRecord::updatedAt)
+                    .max(Instant::compareTo)
+                    .orElse(null);
+            return new FeedEventStats(lastUpdatedAt, published.size());
+        }
+
+        @Override
+        public FeedEventRecord save(final FeedEventRecord event) {
+            records.removeIf(record -> record.id().equals(event.id()));
+            records.add(event);
+            return event;
+        }
+
+        @Override
+        public void deleteById(final UUID id) {
+            records.removeIf(record -> record.id().equals(id));
+        }
+
+        @Override
+        public void deleteAll() {
+            records.clear();
+        }
+    }
+
+    private static <T> List<T> seek(
+            final List<T> items,
+            final Function<T, Instant> sortAtOf,
+            final Function<T, UUID> idOf,
+            final Instant sortAt,
+            final UUID id,
+            final int limit
+    ) {
+        final Comparator<T> bySortAt = Comparator.comparing(sortAtOf);
+        final Comparator<T> order = bySortAt.reversed()
+                .thenComparing(idOf, (left, right) -> FeedCursor.compareIds(right, left));
+        return items.stream()
+                .filter(item -> sortAt == null
+                        || sortAtOf.apply(item).isBefore(sortAt)
+                        || (sortAtOf.apply(item).equals(sortAt) && FeedCursor.compareIds(idOf.apply(item), id) < 0))
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
+    private static <T> List<T> slice(final List<T> items, final int page, final int size) {
+        if (size <= 0) {
+            return List.of();
+        }
+        final int from = page * size;
+        if (from >= items.size()) {
+            return List.of();
+        }
+        final int to = Math.min(from + size, items.size());
+        return items.subList(from, to);
+    }
+}
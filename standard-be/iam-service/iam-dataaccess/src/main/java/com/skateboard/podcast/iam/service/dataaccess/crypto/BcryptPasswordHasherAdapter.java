@@ -1,22 +1,101 @@
 package com.skateboard.podcast.iam.service.dataaccess.crypto;
 
 
+import com.skateboard.podcast.domain.exception.TooManyRequestsException;
 import com.skateboard.podcast.iam.service.application.port.out.PasswordHasher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Optional;
+
 @Component
-public class BcryptPasswordHasherAdapter implements PasswordHasher {
+public class BcryptPasswordHasherAdapter implements PasswordHasher, AutoCloseable {
+
+    private static final int MAX_COST = 31;
 
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
+    private final int cost;
+    private final boolean adaptive;
+    private final BCryptPasswordEncoder encoder;
+    private final PasswordHashingExecutor executor;
+
+    public BcryptPasswordHasherAdapter(
+            @Value("${security.password.bcrypt-cost:12}") final int bcryptCost,
+            @Value("${security.password.hashing.pool-size:0}") final int poolSize,
+            @Value("${security.password.hashing.queue-capacity:64}") final int queueCapacity,
+            @Value("${security.password.adaptive.enabled:false}") final boolean adaptive,
+            @Value("${security.password.adaptive.target-latency:PT0.25S}") final Duration targetLatency,
+            @Value("${security.password.adaptive.min-cost:10}") final int minCost
+    ) {
+        this.adaptive = adaptive;
+        this.cost = adaptive ? calibrateCost(targetLatency, minCost) : bcryptCost;
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.executor = new PasswordHashingExecutor(poolSize, queueCapacity);
+    }
 
     @Override
     public String hash(final String rawPassword) {
-        return encoder.encode(rawPassword);
+        return executor.call(() -> encoder.encode(rawPassword));
     }
 
     @Override
     public boolean matches(final String rawPassword, final String hash) {
-        return encoder.matches(rawPassword, hash);
+        return executor.call(() -> encoder.matches(rawPassword, hash));
+    }
+
+    @Override
+    public Optional<String> upgrade(final String rawPassword, final String hash) {
+        // Only ever raise the cost: a slower node calibrating lower must not weaken stronger hashes.
+        if (!adaptive || costOf(hash) >= cost) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(hash(rawPassword));
+        } catch (final TooManyRequestsException e) {
+            // The login itself already succeeded; try again on a quieter login.
+            return Optional.empty();
+        }
+    }
+
+    int cost() {
+        return cost;
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    /**
+     * Each cost step doubles the work, so one timing at {@code minCost} is enough to pick the
+     * highest cost that still fits the latency target.
+     */
+    static int calibrateCost(final Duration targetLatency, final int minCost) {
+        final BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minCost);
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            final long started = System.nanoTime();
+            probe.encode("calibration");
+            bestNanos = Math.min(bestNanos, System.nanoTime() - started);
+        }
+        int calibrated = minCost;
+        long nanos = Math.max(bestNanos, 1);
+        while (calibrated < MAX_COST && nanos * 2 <= targetLatency.toNanos()) {
+            nanos *= 2;
+            calibrated++;
+        }
+        return calibrated;
+    }
+
+    // Modular crypt format: $2a$12$<salt+hash>
+    static int costOf(final String hash) {
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$'
+                || hash.charAt(6) != '$') {
+            return -1;
+        }
+        final int tens = Character.digit(hash.charAt(4), 10);
+        final int ones = Character.digit(hash.charAt(5), 10);
+        return tens < 0 || ones < 0 ? -1 : tens * 10 + ones;
     }
 }
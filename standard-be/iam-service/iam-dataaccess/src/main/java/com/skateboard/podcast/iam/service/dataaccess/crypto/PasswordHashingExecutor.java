@@ -0,0 +1,70 @@
+package com.skateboard.podcast.iam.service.dataaccess.crypto;
+
+import com.skateboard.podcast.domain.exception.TooManyRequestsException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed pool with a bounded queue for CPU-bound password work. When every worker is busy and the
+ * queue is full, callers get a {@link TooManyRequestsException} instead of waiting.
+ */
+final class PasswordHashingExecutor implements AutoCloseable {
+
+    private final ThreadPoolExecutor executor;
+
+    PasswordHashingExecutor(final int poolSize, final int queueCapacity) {
+        final int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        final BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                queue,
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    <T> T call(final Callable<T> task) {
+        final Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (final RejectedExecutionException e) {
+            throw new TooManyRequestsException("password hashing capacity exceeded, retry later");
+        }
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -6,12 +6,15 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Minimal skeleton.
@@ -23,6 +26,10 @@ import java.util.UUID;
 @Component
 public class TokenService implements TokenProvider {
 
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final Base64.Encoder SIGNATURE_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
     @Value("${security.refresh-token.ttl-days:60}")
     private long refreshTtlDays;
 
@@ -31,8 +38,12 @@ public class TokenService implements TokenProvider {
 
     private final String issuer;
     private final long accessTtlSeconds;
-    private final String hmacSecret;
+    private final byte[] issuerBytes;
+    private final SecretKeySpec hmacKey;
     private final String refreshPepper;
+    // Keyed Mac instances are not thread-safe; pooling (rather than ThreadLocal) keeps the count
+    // bounded by concurrency, which also holds for virtual threads.
+    private final ConcurrentLinkedQueue<Mac> macPool = new ConcurrentLinkedQueue<>();
 
     public TokenService(
             @Value("${security.refresh-token.ttl-seconds}") final long refreshTtlSeconds,
@@ -44,17 +55,32 @@ public class TokenService implements TokenProvider {
         this.refreshTtlSeconds = refreshTtlSeconds;
         this.issuer = issuer;
         this.accessTtlSeconds = accessTtlSeconds;
-        this.hmacSecret = hmacSecret;
+        this.issuerBytes = issuer.getBytes(StandardCharsets.UTF_8);
+        this.hmacKey = new SecretKeySpec(hmacSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
         this.refreshPepper = refreshPepper;
+        macPool.offer(newMac());
     }
 
-    private static byte[] hmacSha256(final byte[] data, final String secret) {
+    private Mac newMac() {
         try {
-            final Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
-            return mac.doFinal(data);
+            final Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            return mac;
         } catch (final Exception e) {
-            throw new IllegalStateException("Cannot compute HMAC", e);
+            throw new IllegalStateException("Cannot initialize HMAC", e);
+        }
+    }
+
+    private byte[] hmacSha256(final byte[] data, final int length) {
+        Mac mac = macPool.poll();
+        if (mac == null) {
+            mac = newMac();
+        }
+        try {
+            mac.update(data, 0, length);
+            return mac.doFinal();
+        } finally {
+            macPool.offer(mac);
         }
     }
 
@@ -78,44 +104,58 @@ public class TokenService implements TokenProvider {
         final Instant exp = now.plusSeconds(accessTtlSeconds);
 
         // super-minimal JWT-like: base64(payload).base64(sig)
+        // iatms lets a revocation tell apart tokens issued before and after it within one second.
         final String payload = String.format(
-                "iss=%s;sub=%s;role=%s;email=%s;iat=%d;exp=%d",
-                issuer, userId, role, email, now.getEpochSecond(), exp.getEpochSecond()
+                "iss=%s;sub=%s;role=%s;email=%s;iat=%d;iatms=%d;exp=%d",
+                issuer, userId, role, email, now.getEpochSecond(), now.toEpochMilli(), exp.getEpochSecond()
         );
 
         final String payloadB64 = Base64.getUrlEncoder().withoutPadding()
                 .encodeToString(payload.getBytes(StandardCharsets.UTF_8));
 
+        final byte[] payloadB64Bytes = payloadB64.getBytes(StandardCharsets.US_ASCII);
         final String sigB64 = Base64.getUrlEncoder().withoutPadding()
-                .encodeToString(hmacSha256(payloadB64.getBytes(StandardCharsets.UTF_8), hmacSecret));
+                .encodeToString(hmacSha256(payloadB64Bytes, payloadB64Bytes.length));
 
         return payloadB64 + "." + sigB64;
     }
 
     public Optional<AccessTokenClaims> verifyAccessToken(final String token) {
         try {
-            final String[] parts = token.split("\\.");
-            if (parts.length != 2) return Optional.empty();
-
-            final String payloadB64 = parts[0];
-            final String sigB64 = parts[1];
-
-            final byte[] expectedSig = hmacSha256(payloadB64.getBytes(StandardCharsets.UTF_8), hmacSecret);
-            final String expectedSigB64 = Base64.getUrlEncoder().withoutPadding().encodeToString(expectedSig);
+            final int dot = token.indexOf('.');
+            if (dot <= 0 || dot == token.length() - 1 || token.indexOf('.', dot + 1) >= 0) {
+                return Optional.empty();
+            }
 
-            if (!MessageDigest.isEqual(expectedSigB64.getBytes(StandardCharsets.UTF_8), sigB64.getBytes(StandardCharsets.UTF_8))) {
+            // Base64url is ASCII, so one Latin-1 copy gives the exact bytes that were signed.
+            final byte[] raw = token.getBytes(StandardCharsets.ISO_8859_1);
+            final ByteBuffer sig = Base64.getUrlDecoder().decode(ByteBuffer.wrap(raw, dot + 1, raw.length - dot - 1));
+            if (sig.remaining() != SIGNATURE_LENGTH) return Optional.empty();
+            final byte[] actualSig = new byte[SIGNATURE_LENGTH];
+            sig.get(actualSig);
+            // The decoder ignores non-zero trailing bits and accepts padding, so several spellings
+            // decode to one signature; only the one createAccessToken emits is accepted.
+            final byte[] canonicalSig = SIGNATURE_ENCODER.encode(actualSig);
+            if (!Arrays.equals(raw, dot + 1, raw.length, canonicalSig, 0, canonicalSig.length)) {
                 return Optional.empty();
             }
 
-            final String payload = new String(Base64.getUrlDecoder().decode(payloadB64), StandardCharsets.UTF_8);
-            final Parsed p = Parsed.parse(payload);
+            final byte[] expectedSig = hmacSha256(raw, dot);
+            if (!MessageDigest.isEqual(expectedSig, actualSig)) {
+                return Optional.empty();
+            }
 
-            if (!issuer.equals(p.iss)) return Optional.empty();
+            final ByteBuffer payload = Base64.getUrlDecoder().decode(ByteBuffer.wrap(raw, 0, dot));
+            final int payloadStart = payload.arrayOffset() + payload.position();
+            final Parsed p = Parsed.parse(payload.array(), payloadStart, payloadStart + payload.remaining());
+            if (p == null || !p.issuerMatches(issuerBytes)) return Optional.empty();
 
-            final Instant exp = Instant.ofEpochSecond(p.exp);
-            if (Instant.now().isAfter(exp)) return Optional.empty();
+            if (Instant.now().getEpochSecond() > p.exp) return Optional.empty();
 
-            return Optional.of(new AccessTokenClaims(UUID.fromString(p.sub), p.role, p.email, exp));
+            final Instant issuedAt = p.iatMillis >= 0 ? Instant.ofEpochMilli(p.iatMillis) : Instant.ofEpochSecond(p.iat);
+            return Optional.of(new AccessTokenClaims(
+                    p.sub, p.role, p.email, issuedAt, Instant.ofEpochSecond(p.exp)
+            ));
         } catch (final Exception e) {
             return Optional.empty();
         }
@@ -141,26 +181,124 @@ public class TokenService implements TokenProvider {
         return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(bytes));
     }
 
-    public record AccessTokenClaims(UUID userId, String role, String email, Instant expiresAt) {
+    public record AccessTokenClaims(UUID userId, String role, String email, Instant issuedAt, Instant expiresAt) {
     }
 
-    private record Parsed(String iss, String sub, String role, String email, long exp) {
-        static Parsed parse(final String payload) {
-            String iss = null, sub = null, role = null, email = null;
+    /**
+     * Single pass over the decoded {@code key=value;...} payload bytes. Only role and email are
+     * materialized as strings; iss is compared in place and sub/iat/iatms/exp are parsed directly.
+     * Tokens issued before iatms was added have {@code iatMillis == -1}.
+     */
+    private record Parsed(
+            byte[] bytes, int issStart, int issEnd, UUID sub, String role, String email,
+            long iat, long iatMillis, long exp
+    ) {
+
+        static Parsed parse(final byte[] bytes, final int from, final int to) {
+            int issStart = -1, issEnd = -1;
+            UUID sub = null;
+            String role = null, email = null;
+            long iat = 0;
+            long iatMillis = -1;
             long exp = 0;
 
-            for (final String kv : payload.split(";")) {
-                final String[] parts = kv.split("=", 2);
-                if (parts.length != 2) continue;
-                switch (parts[0]) {
-                    case "iss" -> iss = parts[1];
-                    case "sub" -> sub = parts[1];
-                    case "role" -> role = parts[1];
-                    case "email" -> email = parts[1];
-                    case "exp" -> exp = Long.parseLong(parts[1]);
+            int keyStart = from;
+            while (keyStart < to) {
+                int end = keyStart;
+                int eq = -1;
+                while (end < to && bytes[end] != ';') {
+                    if (eq < 0 && bytes[end] == '=') eq = end;
+                    end++;
+                }
+                if (eq > keyStart) {
+                    final int valueStart = eq + 1;
+                    switch (eq - keyStart) {
+                        case 3 -> {
+                            if (isKey(bytes, keyStart, "iss")) {
+                                issStart = valueStart;
+                                issEnd = end;
+                            } else if (isKey(bytes, keyStart, "sub")) {
+                                sub = parseUuid(bytes, valueStart, end);
+                            } else if (isKey(bytes, keyStart, "iat")) {
+                                iat = parseLong(bytes, valueStart, end);
+                            } else if (isKey(bytes, keyStart, "exp")) {
+                                exp = parseLong(bytes, valueStart, end);
+                            }
+                        }
+                        case 4 -> {
+                            if (isKey(bytes, keyStart, "role")) {
+                                role = new String(bytes, valueStart, end - valueStart, StandardCharsets.UTF_8);
+                            }
+                        }
+                        case 5 -> {
+                            if (isKey(bytes, keyStart, "email")) {
+                                email = new String(bytes, valueStart, end - valueStart, StandardCharsets.UTF_8);
+                            } else if (isKey(bytes, keyStart, "iatms")) {
+                                iatMillis = parseLong(bytes, valueStart, end);
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                }
+                keyStart = end + 1;
+            }
+            if (sub == null) {
+                return null;
+            }
+            return new Parsed(bytes, issStart, issEnd, sub, role, email, iat, iatMillis, exp);
+        }
+
+        boolean issuerMatches(final byte[] expected) {
+            if (issStart < 0 || issEnd - issStart != expected.length) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (bytes[issStart + i] != expected[i]) return false;
+            }
+            return true;
+        }
+
+        private static boolean isKey(final byte[] bytes, final int start, final String key) {
+            for (int i = 0; i < key.length(); i++) {
+                if (bytes[start + i] != key.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        private static long parseLong(final byte[] bytes, final int start, final int end) {
+            if (start >= end) throw new IllegalArgumentException("empty number");
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                final int digit = bytes[i] - '0';
+                if (digit < 0 || digit > 9) throw new IllegalArgumentException("invalid number");
+                value = Math.multiplyExact(value, 10) + digit;
+            }
+            return value;
+        }
+
+        // Canonical 8-4-4-4-12 form only, which is what UUID.toString() produces on the create side.
+        private static UUID parseUuid(final byte[] bytes, final int start, final int end) {
+            if (end - start != 36
+                    || bytes[start + 8] != '-' || bytes[start + 13] != '-'
+                    || bytes[start + 18] != '-' || bytes[start + 23] != '-') {
+                throw new IllegalArgumentException("invalid uuid");
+            }
+            long msb = 0;
+            long lsb = 0;
+            int nibbles = 0;
+            for (int i = start; i < end; i++) {
+                if (bytes[i] == '-') continue;
+                final int nibble = Character.digit(bytes[i], 16);
+                if (nibble < 0) throw new IllegalArgumentException("invalid uuid");
+                if (nibbles < 16) {
+                    msb = (msb << 4) | nibble;
+                } else {
+                    lsb = (lsb << 4) | nibble;
                 }
+                nibbles++;
             }
-            return new Parsed(iss, sub, role, email, exp);
+            return new UUID(msb, lsb);
         }
     }
 }
@@ -42,6 +42,23 @@ public class RefreshTokenRepositoryAdapter implements RefreshTokenRepository {
         return token;
     }
 
+    @Override
+    @Transactional
+    public Optional<RefreshTokenRecord> rotate(
+            final String tokenHash,
+            final String deviceId,
+            final Rotation rotation
+    ) {
+        return repo.rotate(
+                tokenHash,
+                deviceId,
+                rotation.successorId(),
+                rotation.successorTokenHash(),
+                rotation.rotatedAt(),
+                rotation.successorExpiresAt()
+        ).map(RefreshTokenRepositoryAdapter::toRecord);
+    }
+
     @Override
     @Transactional
     public void revokeById(final UUID id, final Instant revokedAt) {
@@ -63,6 +80,12 @@ public class RefreshTokenRepositoryAdapter implements RefreshTokenRepository {
         repo.revokeByUserId(userId, revokedAt);
     }
 
+    @Override
+    @Transactional
+    public int deleteRevokedOrExpiredBefore(final Instant cutoff, final int limit) {
+        return repo.deleteRevokedOrExpiredBefore(cutoff, limit);
+    }
+
     private static RefreshTokenRecord toRecord(final RefreshTokenJpaEntity e) {
         return new RefreshTokenRecord(
                 e.getId(),
@@ -8,10 +8,13 @@ import com.skateboard.podcast.domain.valueobject.Provider;
 import com.skateboard.podcast.domain.valueobject.Role;
 import com.skateboard.podcast.domain.valueobject.UserStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class UserRepositoryAdapter implements UserRepository {
@@ -63,6 +66,21 @@ public class UserRepositoryAdapter implements UserRepository {
         repo.deleteById(id);
     }
 
+    @Override
+    @Transactional
+    public void updateLastLoginAt(final Map<UUID, Instant> lastLogins) {
+        if (lastLogins.isEmpty()) {
+            return;
+        }
+        // Sorted so two nodes flushing overlapping users lock rows in the same order.
+        final UUID[] ids = lastLogins.keySet().stream().sorted().toArray(UUID[]::new);
+        final Instant[] lastLoginAts = new Instant[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            lastLoginAts[i] = lastLogins.get(ids[i]);
+        }
+        repo.updateLastLoginAt(ids, lastLoginAts);
+    }
+
     private static UserRecord toRecord(final UserJpaEntity e) {
         return new UserRecord(
                 e.getId(),
@@ -13,6 +13,39 @@ import java.util.UUID;
 public interface SpringDataRefreshTokenRepository extends JpaRepository<RefreshTokenJpaEntity, UUID> {
     Optional<RefreshTokenJpaEntity> findByTokenHash(String tokenHash);
 
+    /**
+     * Claims a live token and inserts its successor in one statement. The foreign key on
+     * {@code replaced_by_token_id} is checked at the end of the statement, after the insert.
+     */
+    @Query(nativeQuery = true, value = """
+            with claimed as (
+                update refresh_tokens
+                set replaced_by_token_id = :successorId, revoked_at = :rotatedAt, last_used_at = :rotatedAt
+                where token_hash = :tokenHash
+                  and device_id = :deviceId
+                  and revoked_at is null
+                  and replaced_by_token_id is null
+                  and expires_at >= :rotatedAt
+                returning *
+            ), successor as (
+                insert into refresh_tokens (
+                    id, user_id, token_hash, token_family_id, device_id, device_name, issued_at, expires_at
+                )
+                select :successorId, user_id, :successorHash, token_family_id, device_id, device_name,
+                       :rotatedAt, :successorExpiresAt
+                from claimed
+            )
+            select * from claimed
+            """)
+    Optional<RefreshTokenJpaEntity> rotate(
+            @Param("tokenHash") String tokenHash,
+            @Param("deviceId") String deviceId,
+            @Param("successorId") UUID successorId,
+            @Param("successorHash") String successorHash,
+            @Param("rotatedAt") Instant rotatedAt,
+            @Param("successorExpiresAt") Instant successorExpiresAt
+    );
+
     @Modifying
     @Query("""
             update RefreshTokenJpaEntity t
@@ -28,4 +61,19 @@ public interface SpringDataRefreshTokenRepository extends JpaRepository<RefreshT
             where t.userId = :userId and t.revokedAt is null
             """)
     int revokeByUserId(@Param("userId") UUID userId, @Param("revokedAt") Instant revokedAt);
+
+    /**
+     * Rows locked by a concurrent purge on another node are skipped rather than waited on.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            delete from refresh_tokens
+            where id in (
+                select id from refresh_tokens
+                where expires_at < :cutoff or revoked_at < :cutoff
+                limit :limit
+                for update skip locked
+            )
+            """)
+    int deleteRevokedOrExpiredBefore(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
 }
@@ -1,10 +1,25 @@
 package com.skateboard.podcast.iam.service.dataaccess.persistence.jpa;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface SpringDataUserRepository extends JpaRepository<UserJpaEntity, UUID> {
     Optional<UserJpaEntity> findByEmail(String email);
+
+    // ids and lastLoginAts are parallel arrays.
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            update users u
+            set last_login_at = v.last_login_at
+            from unnest(:ids, :lastLoginAts) as v(id, last_login_at)
+            where u.id = v.id
+              and (u.last_login_at is null or u.last_login_at < v.last_login_at)
+            """)
+    int updateLastLoginAt(@Param("ids") UUID[] ids, @Param("lastLoginAts") Instant[] lastLoginAts);
 }
@@ -0,0 +1,79 @@
+package com.skateboard.podcast.iam.service.dataaccess.crypto;
+
+import com.skateboard.podcast.domain.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BcryptPasswordHasherAdapterTest {
+
+    @Test
+    void hashesAndMatchesOnThePool() {
+        try (BcryptPasswordHasherAdapter hasher = new BcryptPasswordHasherAdapter(4, 2, 4, false, Duration.ZERO, 4)) {
+            final String hash = hasher.hash("secret");
+
+            assertEquals(4, BcryptPasswordHasherAdapter.costOf(hash));
+            assertTrue(hasher.matches("secret", hash));
+            assertFalse(hasher.matches("wrong", hash));
+            assertTrue(hasher.upgrade("secret", new BCryptPasswordEncoder(5).encode("secret")).isEmpty());
+        }
+    }
+
+    @Test
+    void adaptiveModeRehashesToCalibratedCost() {
+        try (BcryptPasswordHasherAdapter hasher = new BcryptPasswordHasherAdapter(12, 1, 4, true, Duration.ZERO, 5)) {
+            final String stale = new BCryptPasswordEncoder(4).encode("secret");
+
+            final String upgraded = hasher.upgrade("secret", stale).orElseThrow();
+
+            assertEquals(5, hasher.cost());
+            assertEquals(5, BcryptPasswordHasherAdapter.costOf(upgraded));
+            assertTrue(hasher.matches("secret", upgraded));
+            assertTrue(hasher.upgrade("secret", upgraded).isEmpty());
+        }
+    }
+
+    @Test
+    void adaptiveModeKeepsHashesStoredAtAHigherCost() {
+        try (BcryptPasswordHasherAdapter hasher = new BcryptPasswordHasherAdapter(12, 1, 4, true, Duration.ZERO, 4)) {
+            final String stronger = new BCryptPasswordEncoder(6).encode("secret");
+
+            assertEquals(4, hasher.cost());
+            assertTrue(hasher.upgrade("secret", stronger).isEmpty());
+        }
+    }
+
+    @Test
+    void rejectsWorkWhenPoolAndQueueAreFull() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        try (PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 0)) {
+            final CompletableFuture<Boolean> busy = CompletableFuture.supplyAsync(() -> executor.call(() -> {
+                started.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }));
+            started.await();
+
+            assertThrows(TooManyRequestsException.class, () -> executor.call(() -> true));
+
+            release.countDown();
+            assertTrue(busy.get());
+        }
+    }
+
+    @Test
+    void readsCostFromModularCryptFormat() {
+        assertEquals(12, BcryptPasswordHasherAdapter.costOf("$2a$12$abcdefghijklmnopqrstuv"));
+        assertEquals(-1, BcryptPasswordHasherAdapter.costOf("plain"));
+        assertEquals(-1, BcryptPasswordHasherAdapter.costOf(null));
+    }
+}
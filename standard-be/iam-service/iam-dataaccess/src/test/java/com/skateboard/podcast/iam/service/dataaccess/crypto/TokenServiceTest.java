@@ -2,21 +2,121 @@ package com.skateboard.podcast.iam.service.dataaccess.crypto;
 
 import org.junit.jupiter.api.Test;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TokenServiceTest {
 
+    private static final String SECRET = "secretsecretsecretsecretsecret12";
+
     @Test
     void returnsConfiguredTtls() {
         final TokenService service = new TokenService(
                 3600,
                 "issuer",
                 900,
-                "secretsecretsecretsecretsecret12",
+                SECRET,
                 "pepper"
         );
 
         assertEquals(900, service.accessTtlSeconds());
         assertEquals(3600, service.refreshTtlSeconds());
     }
+
+    @Test
+    void verifiesTokensItCreated() {
+        final TokenService service = new TokenService(3600, "issuer", 900, SECRET, "pepper");
+        final UUID userId = UUID.randomUUID();
+
+        final var claims = service.verifyAccessToken(
+                service.createAccessToken(userId, "ADMIN", "admin@example.com")
+        ).orElseThrow();
+
+        assertEquals(userId, claims.userId());
+        assertEquals("ADMIN", claims.role());
+        assertEquals("admin@example.com", claims.email());
+        assertEquals(claims.issuedAt().getEpochSecond() + 900, claims.expiresAt().getEpochSecond());
+    }
+
+    @Test
+    void issuedAtKeepsMillisecondsAndFallsBackToSecondsForOlderTokens() throws Exception {
+        final TokenService service = new TokenService(3600, "issuer", 900, SECRET, "pepper");
+        final Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        final Instant issuedAt = service.verifyAccessToken(
+                service.createAccessToken(UUID.randomUUID(), "USER", "user@example.com")
+        ).orElseThrow().issuedAt();
+        final long now = Instant.now().getEpochSecond();
+        final String legacyPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("iss=issuer;sub=" + UUID.randomUUID() + ";role=USER;email=x;iat=" + now + ";exp=" + (now + 900))
+                        .getBytes(StandardCharsets.UTF_8)
+        );
+
+        assertFalse(issuedAt.isBefore(before));
+        assertEquals(
+                Instant.ofEpochSecond(now),
+                service.verifyAccessToken(legacyPayload + "." + sign(legacyPayload)).orElseThrow().issuedAt()
+        );
+    }
+
+    @Test
+    void rejectsTamperedOrMalformedTokens() {
+        final TokenService service = new TokenService(3600, "issuer", 900, SECRET, "pepper");
+        final String token = service.createAccessToken(UUID.randomUUID(), "USER", "user@example.com");
+        final int dot = token.indexOf('.');
+        final String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("iss=issuer;sub=" + UUID.randomUUID() + ";role=ADMIN;email=x;iat=0;exp=9999999999")
+                        .getBytes(StandardCharsets.UTF_8)
+        );
+
+        assertTrue(service.verifyAccessToken(forgedPayload + token.substring(dot)).isEmpty());
+        assertTrue(service.verifyAccessToken(token.substring(0, dot + 1) + "AAAA").isEmpty());
+        assertTrue(service.verifyAccessToken(token + ".extra").isEmpty());
+        assertTrue(service.verifyAccessToken(token.substring(0, dot)).isEmpty());
+        assertTrue(service.verifyAccessToken("").isEmpty());
+    }
+
+    @Test
+    void rejectsNonCanonicalSignatureEncodings() {
+        final TokenService service = new TokenService(3600, "issuer", 900, SECRET, "pepper");
+        final String token = service.createAccessToken(UUID.randomUUID(), "USER", "user@example.com");
+        final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        final char last = token.charAt(token.length() - 1);
+        // 32 signature bytes leave four unused low bits in the last character; setting one still
+        // decodes to the same bytes.
+        final char sameBytes = alphabet.charAt(alphabet.indexOf(last) | 1);
+
+        assertTrue(service.verifyAccessToken(token).isPresent());
+        assertTrue(service.verifyAccessToken(token.substring(0, token.length() - 1) + sameBytes).isEmpty());
+        assertTrue(service.verifyAccessToken(token + "=").isEmpty());
+    }
+
+    @Test
+    void rejectsOtherIssuersKeysAndExpiredTokens() {
+        final TokenService service = new TokenService(3600, "issuer", 900, SECRET, "pepper");
+        final TokenService otherIssuer = new TokenService(3600, "other", 900, SECRET, "pepper");
+        final TokenService otherKey = new TokenService(3600, "issuer", 900, SECRET + "x", "pepper");
+        final TokenService expired = new TokenService(3600, "issuer", -60, SECRET, "pepper");
+        final UUID userId = UUID.randomUUID();
+
+        assertTrue(service.verifyAccessToken(otherIssuer.createAccessToken(userId, "USER", "a@b.c")).isEmpty());
+        assertTrue(service.verifyAccessToken(otherKey.createAccessToken(userId, "USER", "a@b.c")).isEmpty());
+        assertTrue(service.verifyAccessToken(expired.createAccessToken(userId, "USER", "a@b.c")).isEmpty());
+    }
+
+    private static String sign(final String payload) throws Exception {
+        final Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+    }
 }
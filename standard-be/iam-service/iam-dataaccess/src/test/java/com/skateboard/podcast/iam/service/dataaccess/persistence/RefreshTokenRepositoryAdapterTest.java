@@ -1,6 +1,7 @@
 package com.skateboard.podcast.iam.service.dataaccess.persistence;
 
 import com.skateboard.podcast.iam.service.application.port.out.RefreshTokenRepository.RefreshTokenRecord;
+import com.skateboard.podcast.iam.service.application.port.out.RefreshTokenRepository.Rotation;
 import com.skateboard.podcast.iam.service.dataaccess.IamDataaccessTestConfig;
 import com.skateboard.podcast.iam.service.dataaccess.persistence.jpa.SpringDataRefreshTokenRepository;
 import jakarta.persistence.EntityManager;
@@ -175,4 +176,81 @@ class RefreshTokenRepositoryAdapterTest {
 
         assertNotNull(repo.findById(otherFamily.id()).orElseThrow().getRevokedAt());
     }
+
+    @Test
+    void rotate_claimsTokenOnceAndInsertsSuccessor() {
+        final UUID familyId = UUID.randomUUID();
+        final RefreshTokenRecord record = new RefreshTokenRecord(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "rotating-hash",
+                familyId,
+                "device-r",
+                "Phone",
+                Instant.now(),
+                Instant.now().plusSeconds(3600),
+                null,
+                null,
+                null
+        );
+        adapter.save(record);
+        repo.flush();
+
+        final Instant rotatedAt = Instant.now();
+        final Rotation first = new Rotation(UUID.randomUUID(), "successor-1", rotatedAt, rotatedAt.plusSeconds(3600));
+        final Rotation second = new Rotation(UUID.randomUUID(), "successor-2", rotatedAt, rotatedAt.plusSeconds(3600));
+
+        final var claimed = adapter.rotate("rotating-hash", "device-r", first);
+        final var lost = adapter.rotate("rotating-hash", "device-r", second);
+        entityManager.clear();
+
+        assertEquals(first.successorId(), claimed.orElseThrow().replacedByTokenId());
+        assertTrue(lost.isEmpty());
+        final var successor = adapter.findByTokenHash("successor-1").orElseThrow();
+        assertEquals(familyId, successor.tokenFamilyId());
+        assertEquals("device-r", successor.deviceId());
+        assertNull(successor.revokedAt());
+        assertTrue(adapter.findByTokenHash("successor-2").isEmpty());
+    }
+
+    @Test
+    void deleteRevokedOrExpiredBefore_removesOnlyDeadTokens() {
+        final Instant now = Instant.now();
+        final RefreshTokenRecord expired = new RefreshTokenRecord(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "expired-hash",
+                UUID.randomUUID(),
+                "device-p",
+                "Phone",
+                now.minusSeconds(7200),
+                now.minusSeconds(3600),
+                null,
+                null,
+                null
+        );
+        final RefreshTokenRecord live = new RefreshTokenRecord(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "live-hash",
+                UUID.randomUUID(),
+                "device-p",
+                "Phone",
+                now,
+                now.plusSeconds(3600),
+                null,
+                null,
+                null
+        );
+        adapter.save(expired);
+        adapter.save(live);
+        repo.flush();
+
+        final int deleted = adapter.deleteRevokedOrExpiredBefore(now.minusSeconds(60), 10);
+        entityManager.clear();
+
+        assertEquals(1, deleted);
+        assertTrue(adapter.findByTokenHash("expired-hash").isEmpty());
+        assertTrue(adapter.findByTokenHash("live-hash").isPresent());
+    }
 }
@@ -6,6 +6,7 @@ import com.skateboard.podcast.domain.valueobject.Role;
 import com.skateboard.podcast.domain.valueobject.UserStatus;
 import com.skateboard.podcast.iam.service.application.port.out.UserRepository.UserRecord;
 import com.skateboard.podcast.iam.service.dataaccess.IamDataaccessTestConfig;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -19,6 +20,8 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -48,6 +51,9 @@ class UserRepositoryAdapterTest {
     @Autowired
     private UserRepositoryAdapter adapter;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void saveAndFindByEmailAndId() {
         final UUID id = UUID.randomUUID();
@@ -77,4 +83,27 @@ class UserRepositoryAdapterTest {
         assertTrue(byId.isPresent());
         assertEquals("user@example.com", byId.get().email().value());
     }
+
+    @Test
+    void updateLastLoginAtOnlyMovesForward() {
+        final Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        final UUID stale = UUID.randomUUID();
+        final UUID fresh = UUID.randomUUID();
+        adapter.save(new UserRecord(
+                stale, Email.of("stale@example.com"), "hashed", Role.USER, Provider.MANUAL,
+                UserStatus.ACTIVE, null, null, null, createdAt, createdAt, null
+        ));
+        adapter.save(new UserRecord(
+                fresh, Email.of("fresh@example.com"), "hashed", Role.USER, Provider.MANUAL,
+                UserStatus.ACTIVE, null, null, null, createdAt, createdAt, createdAt.plusSeconds(60)
+        ));
+        entityManager.flush();
+
+        adapter.updateLastLoginAt(Map.of(stale, createdAt.plusSeconds(30), fresh, createdAt.plusSeconds(30)));
+        entityManager.clear();
+
+        assertEquals(createdAt.plusSeconds(30), adapter.findById(stale).orElseThrow().lastLoginAt());
+        assertEquals(createdAt.plusSeconds(60), adapter.findById(fresh).orElseThrow().lastLoginAt());
+        assertEquals(createdAt, adapter.findById(stale).orElseThrow().updatedAt());
+    }
 }
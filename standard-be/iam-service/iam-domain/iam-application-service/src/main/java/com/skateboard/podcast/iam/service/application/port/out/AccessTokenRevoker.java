@@ -0,0 +1,12 @@
+package com.skateboard.podcast.iam.service.application.port.out;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Stops accepting access tokens issued to a user before the given instant, including any that
+ * were already verified and cached.
+ */
+public interface AccessTokenRevoker {
+    void revokeAccessTokens(UUID userId, Instant revokedAt);
+}
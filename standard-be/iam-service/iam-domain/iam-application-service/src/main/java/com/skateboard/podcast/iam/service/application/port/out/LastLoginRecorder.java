@@ -0,0 +1,12 @@
+package com.skateboard.podcast.iam.service.application.port.out;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Records that a user signed in. Implementations may persist it later; {@code last_login_at} is
+ * informational and never read on the sign-in path.
+ */
+public interface LastLoginRecorder {
+    void recordLogin(UUID userId, Instant loggedInAt);
+}
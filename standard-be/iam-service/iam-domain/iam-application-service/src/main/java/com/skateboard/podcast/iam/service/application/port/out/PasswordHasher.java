@@ -1,7 +1,17 @@
 package com.skateboard.podcast.iam.service.application.port.out;
 
+import java.util.Optional;
+
 public interface PasswordHasher {
     String hash(String rawPassword);
 
     boolean matches(String rawPassword, String hash);
+
+    /**
+     * Called after a successful {@link #matches}; returns a replacement hash when the stored one
+     * no longer uses the current work factor.
+     */
+    default Optional<String> upgrade(final String rawPassword, final String hash) {
+        return Optional.empty();
+    }
 }
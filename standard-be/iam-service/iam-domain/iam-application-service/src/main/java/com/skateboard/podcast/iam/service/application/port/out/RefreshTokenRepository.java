@@ -10,12 +10,69 @@ public interface RefreshTokenRepository {
 
     RefreshTokenRecord save(RefreshTokenRecord token);
 
+    /**
+     * Claims the live token with {@code tokenHash} for {@code deviceId} and inserts its successor in
+     * the same family. The claim is a compare-and-set on the token not yet being replaced, revoked
+     * or expired, so of two concurrent rotations exactly one succeeds.
+     * <p>
+     * The default implementation is not atomic; adapters backed by a database override it.
+     *
+     * @return the claimed token as updated, or empty if it could not be claimed
+     */
+    default Optional<RefreshTokenRecord> rotate(
+            final String tokenHash,
+            final String deviceId,
+            final Rotation rotation
+    ) {
+        final Optional<RefreshTokenRecord> live = findByTokenHash(tokenHash)
+                .filter(token -> token.revokedAt() == null && token.replacedByTokenId() == null)
+                .filter(token -> !rotation.rotatedAt().isAfter(token.expiresAt()))
+                .filter(token -> deviceId.equals(token.deviceId()));
+        if (live.isEmpty()) {
+            return Optional.empty();
+        }
+        final RefreshTokenRecord token = live.get();
+        save(new RefreshTokenRecord(
+                rotation.successorId(),
+                token.userId(),
+                rotation.successorTokenHash(),
+                token.tokenFamilyId(),
+                token.deviceId(),
+                token.deviceName(),
+                rotation.rotatedAt(),
+                rotation.successorExpiresAt(),
+                null,
+                null,
+                null
+        ));
+        return Optional.of(save(new RefreshTokenRecord(
+                token.id(),
+                token.userId(),
+                token.tokenHash(),
+                token.tokenFamilyId(),
+                token.deviceId(),
+                token.deviceName(),
+                token.issuedAt(),
+                token.expiresAt(),
+                rotation.rotatedAt(),
+                rotation.rotatedAt(),
+                rotation.successorId()
+        )));
+    }
+
     void revokeById(UUID id, Instant revokedAt);
 
     void revokeByFamilyId(UUID familyId, Instant revokedAt);
 
     void revokeByUserId(UUID userId, Instant revokedAt);
 
+    /**
+     * Deletes up to {@code limit} tokens that expired or were revoked before {@code cutoff}.
+     *
+     * @return the number of tokens deleted
+     */
+    int deleteRevokedOrExpiredBefore(Instant cutoff, int limit);
+
     record RefreshTokenRecord(
             UUID id,
             UUID userId,
@@ -29,4 +86,11 @@ public interface RefreshTokenRepository {
             Instant revokedAt,
             UUID replacedByTokenId
     ) {}
+
+    record Rotation(
+            UUID successorId,
+            String successorTokenHash,
+            Instant rotatedAt,
+            Instant successorExpiresAt
+    ) {}
 }
@@ -7,6 +7,7 @@ import com.skateboard.podcast.domain.valueobject.UserStatus;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,6 +23,29 @@ public interface UserRepository {
 
     void deleteById(UUID id);
 
+    /**
+     * Sets {@code lastLoginAt} for each user, touching nothing else and never moving it backwards.
+     * The default implementation saves each row; adapters override it with one batched update.
+     */
+    default void updateLastLoginAt(final Map<UUID, Instant> lastLogins) {
+        lastLogins.forEach((userId, loggedInAt) -> findById(userId)
+                .filter(user -> user.lastLoginAt() == null || user.lastLoginAt().isBefore(loggedInAt))
+                .ifPresent(user -> save(new UserRecord(
+                        user.id(),
+                        user.email(),
+                        user.passwordHash(),
+                        user.role(),
+                        user.provider(),
+                        user.status(),
+                        user.name(),
+                        user.username(),
+                        user.avatarUrl(),
+                        user.createdAt(),
+                        user.updatedAt(),
+                        loggedInAt
+                ))));
+    }
+
     record UserRecord(
             UUID id,
             Email email,
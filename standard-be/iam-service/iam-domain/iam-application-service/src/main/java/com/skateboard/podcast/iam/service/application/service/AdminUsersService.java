@@ -5,6 +5,7 @@ import com.skateboard.podcast.domain.valueobject.UserStatus;
 import com.skateboard.podcast.iam.service.application.dto.AdminUserUpdateCommand;
 import com.skateboard.podcast.iam.service.application.dto.AdminUserView;
 import com.skateboard.podcast.iam.service.application.port.in.AdminUsersUseCase;
+import com.skateboard.podcast.iam.service.application.port.out.AccessTokenRevoker;
 import com.skateboard.podcast.iam.service.application.port.out.UserRepository;
 
 import java.time.Instant;
@@ -14,9 +15,14 @@ import java.util.UUID;
 public class AdminUsersService implements AdminUsersUseCase {
 
     private final UserRepository userRepository;
+    private final AccessTokenRevoker accessTokenRevoker;
 
-    public AdminUsersService(final UserRepository userRepository) {
+    public AdminUsersService(
+            final UserRepository userRepository,
+            final AccessTokenRevoker accessTokenRevoker
+    ) {
         this.userRepository = userRepository;
+        this.accessTokenRevoker = accessTokenRevoker;
     }
 
     @Override
@@ -96,6 +102,9 @@ public class AdminUsersService implements AdminUsersUseCase {
                 user.lastLoginAt()
         );
         userRepository.save(updated);
+        if (status != UserStatus.ACTIVE) {
+            accessTokenRevoker.revokeAccessTokens(userId, now);
+        }
         return toView(updated);
     }
 
@@ -106,6 +115,7 @@ public class AdminUsersService implements AdminUsersUseCase {
         }
         requireUser(userId);
         userRepository.deleteById(userId);
+        accessTokenRevoker.revokeAccessTokens(userId, Instant.now());
     }
 
     private UserRepository.UserRecord requireUser(final UUID userId) {
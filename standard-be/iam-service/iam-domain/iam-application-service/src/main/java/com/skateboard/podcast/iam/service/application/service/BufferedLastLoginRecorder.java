@@ -0,0 +1,67 @@
+package com.skateboard.podcast.iam.service.application.service;
+
+import com.skateboard.podcast.iam.service.application.port.out.LastLoginRecorder;
+import com.skateboard.podcast.iam.service.application.port.out.UserRepository;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the latest login per user in memory until {@link #flush()} writes them in one batched
+ * update of {@code last_login_at}, so a login spike costs one write per user per flush instead of
+ * a full row save per login. Logins still buffered when a node dies are lost.
+ */
+public class BufferedLastLoginRecorder implements LastLoginRecorder {
+
+    private final UserRepository userRepository;
+    private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+
+    public BufferedLastLoginRecorder(final UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void recordLogin(final UUID userId, final Instant loggedInAt) {
+        pending.merge(userId, loggedInAt, BufferedLastLoginRecorder::latest);
+    }
+
+    /**
+     * Writes everything buffered so far. On failure the drained entries go back into the buffer,
+     * merged with any newer logins, and are retried by the next flush.
+     *
+     * @return the number of users written
+     */
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        final Map<UUID, Instant> batch = new HashMap<>();
+        for (final UUID userId : pending.keySet()) {
+            final Instant loggedInAt = pending.remove(userId);
+            if (loggedInAt != null) {
+                batch.put(userId, loggedInAt);
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            userRepository.updateLastLoginAt(batch);
+        } catch (final RuntimeException e) {
+            batch.forEach(this::recordLogin);
+            throw e;
+        }
+        return batch.size();
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private static Instant latest(final Instant a, final Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -1,6 +1,7 @@
 package com.skateboard.podcast.iam.service.application.service;
 
 import com.skateboard.podcast.iam.service.application.dto.AuthResult;
+import com.skateboard.podcast.iam.service.application.port.out.LastLoginRecorder;
 import com.skateboard.podcast.iam.service.application.port.out.PasswordHasher;
 import com.skateboard.podcast.iam.service.application.port.out.RefreshTokenRepository;
 import com.skateboard.podcast.iam.service.application.port.out.TokenProvider;
@@ -22,17 +23,20 @@ public class LoginService implements LoginUseCase {
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordHasher passwordHasher;
     private final TokenProvider tokenProvider;
+    private final LastLoginRecorder lastLoginRecorder;
 
     public LoginService(
             final UserRepository userRepository,
             final RefreshTokenRepository refreshTokenRepository,
             final PasswordHasher passwordHasher,
-            final TokenProvider tokenProvider
+            final TokenProvider tokenProvider,
+            final LastLoginRecorder lastLoginRecorder
     ) {
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.passwordHasher = passwordHasher;
         this.tokenProvider = tokenProvider;
+        this.lastLoginRecorder = lastLoginRecorder;
     }
 
     @Override
@@ -53,26 +57,31 @@ public class LoginService implements LoginUseCase {
         }
 
         final Instant now = Instant.now();
-        final var updatedUser = new UserRepository.UserRecord(
-                user.id(),
-                user.email(),
-                user.passwordHash(),
-                user.role(),
-                user.provider(),
-                user.status(),
-                user.name(),
-                user.username(),
-                user.avatarUrl(),
-                user.createdAt(),
-                now,
-                now
-        );
-        userRepository.save(updatedUser);
+        final var upgradedHash = passwordHasher.upgrade(password, user.passwordHash());
+        if (upgradedHash.isPresent()) {
+            // Rare, so the full save is fine; it records the login along with the new hash.
+            userRepository.save(new UserRepository.UserRecord(
+                    user.id(),
+                    user.email(),
+                    upgradedHash.get(),
+                    user.role(),
+                    user.provider(),
+                    user.status(),
+                    user.name(),
+                    user.username(),
+                    user.avatarUrl(),
+                    user.createdAt(),
+                    now,
+                    now
+            ));
+        } else {
+            lastLoginRecorder.recordLogin(user.id(), now);
+        }
 
         final String access = tokenProvider.createAccessToken(
-                updatedUser.id(),
-                updatedUser.role().name(),
-                updatedUser.email().value()
+                user.id(),
+                user.role().name(),
+                user.email().value()
         );
 
         final String rawRefresh = tokenProvider.newRefreshToken();
@@ -85,7 +94,7 @@ public class LoginService implements LoginUseCase {
 
         refreshTokenRepository.save(new RefreshTokenRepository.RefreshTokenRecord(
                 UUID.randomUUID(),
-                updatedUser.id(),
+                user.id(),
                 refreshHash,
                 familyId,
                 deviceId,
@@ -102,12 +111,12 @@ public class LoginService implements LoginUseCase {
                 tokenProvider.accessTtlSeconds(),
                 rawRefresh,
                 tokenProvider.refreshTtlSeconds(),
-                UserId.of(updatedUser.id()),
-                updatedUser.email(),
-                updatedUser.role(),
-                updatedUser.provider(),
-                updatedUser.name(),
-                updatedUser.avatarUrl()
+                UserId.of(user.id()),
+                user.email(),
+                user.role(),
+                user.provider(),
+                user.name(),
+                user.avatarUrl()
         );
     }
 }
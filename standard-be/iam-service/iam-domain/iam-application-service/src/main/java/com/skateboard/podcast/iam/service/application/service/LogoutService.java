@@ -1,5 +1,6 @@
 package com.skateboard.podcast.iam.service.application.service;
 
+import com.skateboard.podcast.iam.service.application.port.out.AccessTokenRevoker;
 import com.skateboard.podcast.iam.service.application.port.out.RefreshTokenRepository;
 
 import java.time.Instant;
@@ -10,13 +11,20 @@ import com.skateboard.podcast.iam.service.application.port.in.LogoutUseCase;
 public class LogoutService implements LogoutUseCase {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final AccessTokenRevoker accessTokenRevoker;
 
-    public LogoutService(final RefreshTokenRepository refreshTokenRepository) {
+    public LogoutService(
+            final RefreshTokenRepository refreshTokenRepository,
+            final AccessTokenRevoker accessTokenRevoker
+    ) {
         this.refreshTokenRepository = refreshTokenRepository;
+        this.accessTokenRevoker = accessTokenRevoker;
     }
 
     @Override
     public void logoutAllForUser(final UUID userId) {
-        refreshTokenRepository.revokeByUserId(userId, Instant.now());
+        final Instant now = Instant.now();
+        refreshTokenRepository.revokeByUserId(userId, now);
+        accessTokenRevoker.revokeAccessTokens(userId, now);
     }
 }
@@ -9,25 +9,38 @@ import com.skateboard.podcast.domain.exception.ValidationException;
 import com.skateboard.podcast.domain.valueobject.UserId;
 import com.skateboard.podcast.domain.valueobject.UserStatus;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
 
 import com.skateboard.podcast.iam.service.application.port.in.RefreshUseCase;
 
+/**
+ * Rotates refresh tokens. The happy path is one conditional update that claims the presented token
+ * and inserts its successor, plus the user lookup; the token is only read back when the claim fails,
+ * to decide why.
+ * <p>
+ * Presenting an already rotated token revokes the whole family, except when the same device retries
+ * within {@code reuseGrace} of the rotation: that is a lost response or a concurrent refresh, not a
+ * stolen token, so it is rejected without logging the device out everywhere.
+ */
 public class RefreshService implements RefreshUseCase {
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
     private final TokenProvider tokenProvider;
+    private final Duration reuseGrace;
 
     public RefreshService(
             final RefreshTokenRepository refreshTokenRepository,
             final UserRepository userRepository,
-            final TokenProvider tokenProvider
+            final TokenProvider tokenProvider,
+            final Duration reuseGrace
     ) {
         this.refreshTokenRepository = refreshTokenRepository;
         this.userRepository = userRepository;
         this.tokenProvider = tokenProvider;
+        this.reuseGrace = reuseGrace == null ? Duration.ZERO : reuseGrace;
     }
 
     @Override
@@ -40,25 +53,22 @@ public class RefreshService implements RefreshUseCase {
         }
 
         final String tokenHash = tokenProvider.hashRefreshToken(rawRefreshToken);
-        final var token = refreshTokenRepository.findByTokenHash(tokenHash)
-                .orElseThrow(() -> new UnauthorizedException("invalid refresh token"));
-
         final Instant now = Instant.now();
-        if (token.revokedAt() != null || token.replacedByTokenId() != null) {
-            refreshTokenRepository.revokeByFamilyId(token.tokenFamilyId(), now);
-            throw new UnauthorizedException("refresh token revoked");
-        }
-        if (now.isAfter(token.expiresAt())) {
-            throw new UnauthorizedException("refresh token expired");
-        }
-        if (!deviceId.equals(token.deviceId())) {
-            refreshTokenRepository.revokeByFamilyId(token.tokenFamilyId(), now);
-            throw new UnauthorizedException("refresh token device mismatch");
-        }
+        final String rawRefresh = tokenProvider.newRefreshToken();
+        final var rotation = new RefreshTokenRepository.Rotation(
+                UUID.randomUUID(),
+                tokenProvider.hashRefreshToken(rawRefresh),
+                now,
+                now.plusSeconds(tokenProvider.refreshTtlSeconds())
+        );
+        final var token = refreshTokenRepository.rotate(tokenHash, deviceId, rotation)
+                .orElseThrow(() -> rejectRotation(tokenHash, deviceId, now));
 
         final var user = userRepository.findById(token.userId())
-                .orElseThrow(() -> new UnauthorizedException("user not found"));
-        if (user.status() != UserStatus.ACTIVE) {
+                .filter(found -> found.status() == UserStatus.ACTIVE)
+                .orElse(null);
+        if (user == null) {
+            refreshTokenRepository.revokeById(rotation.successorId(), now);
             throw new UnauthorizedException("user not active");
         }
 
@@ -67,40 +77,6 @@ public class RefreshService implements RefreshUseCase {
                 user.role().name(),
                 user.email().value()
         );
-        final String rawRefresh = tokenProvider.newRefreshToken();
-        final String refreshHash = tokenProvider.hashRefreshToken(rawRefresh);
-        final Instant refreshExp = now.plusSeconds(tokenProvider.refreshTtlSeconds());
-
-        final UUID newTokenId = UUID.randomUUID();
-        final var newToken = new RefreshTokenRepository.RefreshTokenRecord(
-                newTokenId,
-                token.userId(),
-                refreshHash,
-                token.tokenFamilyId(),
-                token.deviceId(),
-                token.deviceName(),
-                now,
-                refreshExp,
-                null,
-                null,
-                null
-        );
-        refreshTokenRepository.save(newToken);
-
-        final var oldTokenUpdated = new RefreshTokenRepository.RefreshTokenRecord(
-                token.id(),
-                token.userId(),
-                token.tokenHash(),
-                token.tokenFamilyId(),
-                token.deviceId(),
-                token.deviceName(),
-                token.issuedAt(),
-                token.expiresAt(),
-                now,
-                now,
-                newTokenId
-        );
-        refreshTokenRepository.save(oldTokenUpdated);
 
         return new AuthResult(
                 access,
@@ -115,4 +91,30 @@ public class RefreshService implements RefreshUseCase {
                 user.avatarUrl()
         );
     }
+
+    private UnauthorizedException rejectRotation(final String tokenHash, final String deviceId, final Instant now) {
+        final var token = refreshTokenRepository.findByTokenHash(tokenHash).orElse(null);
+        if (token == null) {
+            return new UnauthorizedException("invalid refresh token");
+        }
+        if (token.replacedByTokenId() != null && deviceId.equals(token.deviceId()) && isRecentRotation(token, now)) {
+            return new UnauthorizedException("refresh token already rotated");
+        }
+        if (token.revokedAt() != null || token.replacedByTokenId() != null) {
+            refreshTokenRepository.revokeByFamilyId(token.tokenFamilyId(), now);
+            return new UnauthorizedException("refresh token revoked");
+        }
+        if (now.isAfter(token.expiresAt())) {
+            return new UnauthorizedException("refresh token expired");
+        }
+        if (!deviceId.equals(token.deviceId())) {
+            refreshTokenRepository.revokeByFamilyId(token.tokenFamilyId(), now);
+            return new UnauthorizedException("refresh token device mismatch");
+        }
+        return new UnauthorizedException("invalid refresh token");
+    }
+
+    private boolean isRecentRotation(final RefreshTokenRepository.RefreshTokenRecord token, final Instant now) {
+        return token.lastUsedAt() != null && !now.isAfter(token.lastUsedAt().plus(reuseGrace));
+    }
 }
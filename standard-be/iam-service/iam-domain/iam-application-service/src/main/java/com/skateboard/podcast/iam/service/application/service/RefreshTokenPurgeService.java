@@ -0,0 +1,44 @@
+package com.skateboard.podcast.iam.service.application.service;
+
+import com.skateboard.podcast.iam.service.application.port.out.RefreshTokenRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Deletes refresh tokens that expired or were revoked, rotation included, more than
+ * {@code retention} ago. Each chunk is its own delete so a large backlog never holds locks for
+ * long. A replayed token older than the retention is simply unknown, so reuse detection only
+ * revokes families within that window.
+ */
+public class RefreshTokenPurgeService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public RefreshTokenPurgeService(
+            final RefreshTokenRepository refreshTokenRepository,
+            final Duration retention,
+            final int chunkSize
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.retention = retention;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * @return the number of tokens deleted
+     */
+    public int purge(final Instant now) {
+        final Instant cutoff = now.minus(retention);
+        int purged = 0;
+        while (true) {
+            final int deleted = refreshTokenRepository.deleteRevokedOrExpiredBefore(cutoff, chunkSize);
+            purged += deleted;
+            if (deleted < chunkSize) {
+                return purged;
+            }
+        }
+    }
+}
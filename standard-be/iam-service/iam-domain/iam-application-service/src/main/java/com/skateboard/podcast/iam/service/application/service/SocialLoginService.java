@@ -9,6 +9,7 @@ import com.skateboard.podcast.domain.valueobject.UserId;
 import com.skateboard.podcast.domain.valueobject.UserStatus;
 import com.skateboard.podcast.iam.service.application.dto.AuthResult;
 import com.skateboard.podcast.iam.service.application.port.in.SocialLoginUseCase;
+import com.skateboard.podcast.iam.service.application.port.out.LastLoginRecorder;
 import com.skateboard.podcast.iam.service.application.port.out.RefreshTokenRepository;
 import com.skateboard.podcast.iam.service.application.port.out.TokenProvider;
 import com.skateboard.podcast.iam.service.application.port.out.UserRepository;
@@ -22,15 +23,18 @@ public class SocialLoginService implements SocialLoginUseCase {
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final TokenProvider tokenProvider;
+    private final LastLoginRecorder lastLoginRecorder;
 
     public SocialLoginService(
             final UserRepository userRepository,
             final RefreshTokenRepository refreshTokenRepository,
-            final TokenProvider tokenProvider
+            final TokenProvider tokenProvider,
+            final LastLoginRecorder lastLoginRecorder
     ) {
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.tokenProvider = tokenProvider;
+        this.lastLoginRecorder = lastLoginRecorder;
     }
 
     @Override
@@ -103,26 +107,12 @@ public class SocialLoginService implements SocialLoginUseCase {
             final String deviceName
     ) {
         final Instant now = Instant.now();
-        final var updatedUser = new UserRepository.UserRecord(
-                user.id(),
-                user.email(),
-                user.passwordHash(),
-                user.role(),
-                user.provider(),
-                user.status(),
-                user.name(),
-                user.username(),
-                user.avatarUrl(),
-                user.createdAt(),
-                now,
-                now
-        );
-        userRepository.save(updatedUser);
+        lastLoginRecorder.recordLogin(user.id(), now);
 
         final String access = tokenProvider.createAccessToken(
-                updatedUser.id(),
-                updatedUser.role().name(),
-                updatedUser.email().value()
+                user.id(),
+                user.role().name(),
+                user.email().value()
         );
 
         final String rawRefresh = tokenProvider.newRefreshToken();
@@ -133,7 +123,7 @@ public class SocialLoginService implements SocialLoginUseCase {
 
         refreshTokenRepository.save(new RefreshTokenRepository.RefreshTokenRecord(
                 UUID.randomUUID(),
-                updatedUser.id(),
+                user.id(),
                 refreshHash,
                 familyId,
                 deviceId,
@@ -150,12 +140,12 @@ public class SocialLoginService implements SocialLoginUseCase {
                 tokenProvider.accessTtlSeconds(),
                 rawRefresh,
                 tokenProvider.refreshTtlSeconds(),
-                UserId.of(updatedUser.id()),
-                updatedUser.email(),
-                updatedUser.role(),
-                updatedUser.provider(),
-                updatedUser.name(),
-                updatedUser.avatarUrl()
+                UserId.of(user.id()),
+                user.email(),
+                user.role(),
+                user.provider(),
+                user.name(),
+                user.avatarUrl()
         );
     }
 }
@@ -0,0 +1,91 @@
+package com.skateboard.podcast.iam.service.application.service;
+
+import com.skateboard.podcast.domain.valueobject.Email;
+import com.skateboard.podcast.iam.service.application.port.out.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BufferedLastLoginRecorderTest {
+
+    @Test
+    void flushWritesLatestLoginPerUserInOneBatch() {
+        final RecordingUserRepository users = new RecordingUserRepository();
+        final BufferedLastLoginRecorder recorder = new BufferedLastLoginRecorder(users);
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+        final Instant t0 = Instant.parse("2024-01-01T08:00:00Z");
+
+        recorder.recordLogin(first, t0);
+        recorder.recordLogin(first, t0.plusSeconds(30));
+        recorder.recordLogin(first, t0.plusSeconds(10));
+        recorder.recordLogin(second, t0);
+
+        assertEquals(2, recorder.flush());
+        assertEquals(List.of(Map.of(first, t0.plusSeconds(30), second, t0)), users.batches);
+        assertEquals(0, recorder.flush());
+    }
+
+    @Test
+    void failedFlushKeepsLoginsForTheNextOne() {
+        final RecordingUserRepository users = new RecordingUserRepository();
+        final BufferedLastLoginRecorder recorder = new BufferedLastLoginRecorder(users);
+        final UUID userId = UUID.randomUUID();
+        final Instant t0 = Instant.parse("2024-01-01T08:00:00Z");
+        recorder.recordLogin(userId, t0);
+
+        users.failNext = true;
+        assertThrows(IllegalStateException.class, recorder::flush);
+        assertEquals(1, recorder.pendingCount());
+
+        assertEquals(1, recorder.flush());
+        assertEquals(List.of(Map.of(userId, t0)), users.batches);
+    }
+
+    private static final class RecordingUserRepository implements UserRepository {
+        private final List<Map<UUID, Instant>> batches = new ArrayList<>();
+        private boolean failNext;
+
+        @Override
+        public void updateLastLoginAt(final Map<UUID, Instant> lastLogins) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("database unavailable");
+            }
+            batches.add(Map.copyOf(lastLogins));
+        }
+
+        @Override
+        public Optional<UserRecord> findByEmail(final Email email) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<UserRecord> findById(final UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<UserRecord> findAll() {
+            return List.of();
+        }
+
+        @Override
+        public UserRecord save(final UserRecord user) {
+            return user;
+        }
+
+        @Override
+        public void deleteById(final UUID id) {
+            // not needed
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class LoginServiceTest {
@@ -31,7 +32,8 @@ class LoginServiceTest {
                 new InMemoryUserRepository(),
                 new InMemoryRefreshTokenRepository(),
                 new FakePasswordHasher(),
-                new FakeTokenProvider(900, 3600)
+                new FakeTokenProvider(900, 3600),
+                (userId, loggedInAt) -> { }
         );
 
         assertThrows(ValidationException.class, () -> service.login("user@example.com", " ", "device", "phone"));
@@ -44,7 +46,8 @@ class LoginServiceTest {
                 new InMemoryUserRepository(),
                 new InMemoryRefreshTokenRepository(),
                 new FakePasswordHasher(),
-                new FakeTokenProvider(900, 3600)
+                new FakeTokenProvider(900, 3600),
+                (userId, loggedInAt) -> { }
         );
 
         assertThrows(UnauthorizedException.class, () -> service.login("user@example.com", "secret", "device", "phone"));
@@ -57,7 +60,8 @@ class LoginServiceTest {
                 users,
                 new InMemoryRefreshTokenRepository(),
                 new FakePasswordHasher(),
-                new FakeTokenProvider(900, 3600)
+                new FakeTokenProvider(900, 3600),
+                (userId, loggedInAt) -> { }
         );
 
         final Instant now = Instant.now();
@@ -86,7 +90,8 @@ class LoginServiceTest {
                 users,
                 new InMemoryRefreshTokenRepository(),
                 new FakePasswordHasher(),
-                new FakeTokenProvider(900, 3600)
+                new FakeTokenProvider(900, 3600),
+                (userId, loggedInAt) -> { }
         );
 
         final Instant now = Instant.now();
@@ -113,11 +118,13 @@ class LoginServiceTest {
         final InMemoryUserRepository users = new InMemoryUserRepository();
         final InMemoryRefreshTokenRepository tokens = new InMemoryRefreshTokenRepository();
         final FakeTokenProvider tokenProvider = new FakeTokenProvider(900, 3600);
+        final BufferedLastLoginRecorder lastLogins = new BufferedLastLoginRecorder(users);
         final LoginService service = new LoginService(
                 users,
                 tokens,
                 new FakePasswordHasher(),
-                tokenProvider
+                tokenProvider,
+                lastLogins
         );
 
         final UUID userId = UUID.randomUUID();
@@ -148,6 +155,62 @@ class LoginServiceTest {
         assertEquals(userId, stored.userId());
         assertEquals("device-1", stored.deviceId());
         assertNotNull(stored.expiresAt());
+
+        assertNull(users.findById(userId).orElseThrow().lastLoginAt());
+        assertEquals(1, lastLogins.flush());
+        assertNotNull(users.findById(userId).orElseThrow().lastLoginAt());
+    }
+
+    @Test
+    void loginStoresUpgradedPasswordHash() {
+        final InMemoryUserRepository users = new InMemoryUserRepository();
+        final LoginService service = new LoginService(
+                users,
+                new InMemoryRefreshTokenRepository(),
+                new UpgradingPasswordHasher(),
+                new FakeTokenProvider(900, 3600),
+                (userId, loggedInAt) -> { }
+        );
+
+        final UUID userId = UUID.randomUUID();
+        final Instant now = Instant.now();
+        users.save(new UserRepository.UserRecord(
+                userId,
+                Email.of("user@example.com"),
+                "hash:secret",
+                Role.USER,
+                Provider.MANUAL,
+                UserStatus.ACTIVE,
+                "Skater",
+                "skater",
+                null,
+                now,
+                now,
+                null
+        ));
+
+        service.login("user@example.com", "secret", "device-1", "phone");
+
+        assertEquals("rehash:secret", users.findById(userId).orElseThrow().passwordHash());
+    }
+
+    private static final class UpgradingPasswordHasher implements PasswordHasher {
+        private final FakePasswordHasher delegate = new FakePasswordHasher();
+
+        @Override
+        public String hash(final String rawPassword) {
+            return delegate.hash(rawPassword);
+        }
+
+        @Override
+        public boolean matches(final String rawPassword, final String hash) {
+            return delegate.matches(rawPassword, hash);
+        }
+
+        @Override
+        public Optional<String> upgrade(final String rawPassword, final String hash) {
+            return Optional.of("rehash:" + rawPassword);
+        }
     }
 
     private static final class FakePasswordHasher implements PasswordHasher {
@@ -246,6 +309,11 @@ class LoginServiceTest {
                     .filter(r -> userId.equals(r.userId()))
                     .forEach(r -> revokeById(r.id(), revokedAt));
         }
+
+        @Override
+        public int deleteRevokedOrExpiredBefore(final Instant cutoff, final int limit) {
+            return 0;
+        }
     }
 
     private static final class InMemoryUserRepository implements UserRepository {
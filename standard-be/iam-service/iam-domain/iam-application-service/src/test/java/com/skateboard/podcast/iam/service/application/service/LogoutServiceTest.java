@@ -1,5 +1,6 @@
 package com.skateboard.podcast.iam.service.application.service;
 
+import com.skateboard.podcast.iam.service.application.port.out.AccessTokenRevoker;
 import com.skateboard.podcast.iam.service.application.port.out.RefreshTokenRepository;
 import org.junit.jupiter.api.Test;
 
@@ -15,13 +16,27 @@ class LogoutServiceTest {
     @Test
     void logoutRevokesUserTokens() {
         final InMemoryRefreshTokenRepository repo = new InMemoryRefreshTokenRepository();
-        final LogoutService service = new LogoutService(repo);
+        final RecordingAccessTokenRevoker revoker = new RecordingAccessTokenRevoker();
+        final LogoutService service = new LogoutService(repo, revoker);
 
         final UUID userId = UUID.randomUUID();
         service.logoutAllForUser(userId);
 
         assertEquals(userId, repo.lastUserId);
         assertNotNull(repo.lastRevokedAt);
+        assertEquals(userId, revoker.lastUserId);
+        assertEquals(repo.lastRevokedAt, revoker.lastRevokedAt);
+    }
+
+    private static final class RecordingAccessTokenRevoker implements AccessTokenRevoker {
+        private UUID lastUserId;
+        private Instant lastRevokedAt;
+
+        @Override
+        public void revokeAccessTokens(final UUID userId, final Instant revokedAt) {
+            this.lastUserId = userId;
+            this.lastRevokedAt = revokedAt;
+        }
     }
 
     private static final class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
@@ -53,5 +68,10 @@ class LogoutServiceTest {
             this.lastUserId = userId;
             this.lastRevokedAt = revokedAt;
         }
+
+        @Override
+        public int deleteRevokedOrExpiredBefore(final Instant cutoff, final int limit) {
+            return 0;
+        }
     }
 }
@@ -11,6 +11,7 @@ import com.skateboard.podcast.domain.valueobject.UserStatus;
 import com.skateboard.podcast.domain.exception.UnauthorizedException;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,13 +22,15 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class RefreshServiceTest {
 
+    private static final Duration GRACE = Duration.ofSeconds(10);
+
     @Test
     void refreshRotatesTokens() {
         final TokenProvider tokenProvider = new FakeTokenProvider(900, 3600);
 
         final InMemoryRefreshTokenRepository refreshRepo = new InMemoryRefreshTokenRepository();
         final InMemoryUserRepository userRepo = new InMemoryUserRepository();
-        final RefreshService service = new RefreshService(refreshRepo, userRepo, tokenProvider);
+        final RefreshService service = new RefreshService(refreshRepo, userRepo, tokenProvider, GRACE);
 
         final UUID userId = UUID.randomUUID();
         final Instant now = Instant.now();
@@ -86,7 +89,7 @@ class RefreshServiceTest {
 
         final InMemoryRefreshTokenRepository refreshRepo = new InMemoryRefreshTokenRepository();
         final InMemoryUserRepository userRepo = new InMemoryUserRepository();
-        final RefreshService service = new RefreshService(refreshRepo, userRepo, tokenProvider);
+        final RefreshService service = new RefreshService(refreshRepo, userRepo, tokenProvider, GRACE);
 
         final UUID userId = UUID.randomUUID();
         final Instant now = Instant.now();
@@ -145,6 +148,57 @@ class RefreshServiceTest {
         assertNotNull(tokenB.revokedAt());
     }
 
+    @Test
+    void sameDeviceRetryOfJustRotatedTokenKeepsTheFamily() {
+        final TokenProvider tokenProvider = new FakeTokenProvider(900, 3600);
+
+        final InMemoryRefreshTokenRepository refreshRepo = new InMemoryRefreshTokenRepository();
+        final InMemoryUserRepository userRepo = new InMemoryUserRepository();
+        final RefreshService service = new RefreshService(refreshRepo, userRepo, tokenProvider, GRACE);
+
+        final UUID userId = UUID.randomUUID();
+        final Instant now = Instant.now();
+        userRepo.save(new UserRepository.UserRecord(
+                userId,
+                Email.of("user@example.com"),
+                "hash",
+                Role.USER,
+                Provider.MANUAL,
+                UserStatus.ACTIVE,
+                "Skater",
+                "skater",
+                null,
+                now,
+                now,
+                null
+        ));
+
+        final String rawRefresh = tokenProvider.newRefreshToken();
+        final Instant issuedAt = Instant.now().minusSeconds(5);
+        refreshRepo.save(new RefreshTokenRepository.RefreshTokenRecord(
+                UUID.randomUUID(),
+                userId,
+                tokenProvider.hashRefreshToken(rawRefresh),
+                UUID.randomUUID(),
+                "device-1",
+                "phone",
+                issuedAt,
+                issuedAt.plusSeconds(tokenProvider.refreshTtlSeconds()),
+                null,
+                null,
+                null
+        ));
+
+        final AuthResult first = service.refresh(rawRefresh, "device-1");
+        final UnauthorizedException retry =
+                assertThrows(UnauthorizedException.class, () -> service.refresh(rawRefresh, "device-1"));
+
+        assertEquals("refresh token already rotated", retry.getMessage());
+        final var successor = refreshRepo.findByTokenHash(tokenProvider.hashRefreshToken(first.refreshToken()))
+                .orElseThrow();
+        assertNull(successor.revokedAt());
+    }
+
     private static final class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
         private final Map<UUID, RefreshTokenRecord> byId = new HashMap<>();
         private final Map<String, UUID> byHash = new HashMap<>();
@@ -196,6 +250,11 @@ class RefreshServiceTest {
                     .filter(r -> r.revokedAt() == null)
                     .forEach(r -> revokeById(r.id(), revokedAt));
         }
+
+        @Override
+        public int deleteRevokedOrExpiredBefore(final Instant cutoff, final int limit) {
+            return 0;
+        }
     }
 
     private static final class InMemoryUserRepository implements UserRepository {
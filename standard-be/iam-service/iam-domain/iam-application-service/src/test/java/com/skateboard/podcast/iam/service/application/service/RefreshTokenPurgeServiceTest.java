@@ -0,0 +1,102 @@
+package com.skateboard.podcast.iam.service.application.service;
+
+import com.skateboard.podcast.iam.service.application.port.out.RefreshTokenRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RefreshTokenPurgeServiceTest {
+
+    @Test
+    void purgesDeadTokensInChunksAndKeepsRecentOnes() {
+        final Instant now = Instant.parse("2024-06-01T00:00:00Z");
+        final InMemoryRefreshTokenRepository repo = new InMemoryRefreshTokenRepository();
+        for (int i = 0; i < 5; i++) {
+            repo.add(now.minus(Duration.ofDays(30)), null);
+        }
+        repo.add(now.plus(Duration.ofDays(30)), now.minus(Duration.ofDays(10)));
+        final RefreshTokenRepository.RefreshTokenRecord recentlyRotated =
+                repo.add(now.plus(Duration.ofDays(30)), now.minus(Duration.ofDays(1)));
+        final RefreshTokenRepository.RefreshTokenRecord live = repo.add(now.plus(Duration.ofDays(30)), null);
+        final RefreshTokenPurgeService service = new RefreshTokenPurgeService(repo, Duration.ofDays(7), 2);
+
+        final int purged = service.purge(now);
+
+        assertEquals(6, purged);
+        assertEquals(List.of(recentlyRotated, live), repo.tokens);
+        assertEquals(4, repo.deletes);
+    }
+
+    private static final class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
+        private final List<RefreshTokenRecord> tokens = new ArrayList<>();
+        private int deletes;
+
+        RefreshTokenRecord add(final Instant expiresAt, final Instant revokedAt) {
+            final RefreshTokenRecord token = new RefreshTokenRecord(
+                    UUID.randomUUID(),
+                    UUID.randomUUID(),
+                    "hash-" + tokens.size(),
+                    UUID.randomUUID(),
+                    "device-1",
+                    null,
+                    expiresAt.minus(Duration.ofDays(60)),
+                    expiresAt,
+                    revokedAt,
+                    revokedAt,
+                    null
+            );
+            tokens.add(token);
+            return token;
+        }
+
+        @Override
+        public Optional<RefreshTokenRecord> findByTokenHash(final String tokenHash) {
+            return tokens.stream().filter(t -> t.tokenHash().equals(tokenHash)).findFirst();
+        }
+
+        @Override
+        public RefreshTokenRecord save(final RefreshTokenRecord token) {
+            tokens.add(token);
+            return token;
+        }
+
+        @Override
+        public void revokeById(final UUID id, final Instant revokedAt) {
+            // not needed
+        }
+
+        @Override
+        public void revokeByFamilyId(final UUID familyId, final Instant revokedAt) {
+            // not needed
+        }
+
+        @Override
+        public void revokeByUserId(final UUID userId, final Instant revokedAt) {
+            // not needed
+        }
+
+        @Override
+        public int deleteRevokedOrExpiredBefore(final Instant cutoff, final int limit) {
+            deletes++;
+            int deleted = 0;
+            final Iterator<RefreshTokenRecord> it = tokens.iterator();
+            while (it.hasNext() && deleted < limit) {
+                final RefreshTokenRecord token = it.next();
+                if (token.expiresAt().isBefore(cutoff)
+                        || (token.revokedAt() != null && token.revokedAt().isBefore(cutoff))) {
+                    it.remove();
+                    deleted++;
+                }
+            }
+            return deleted;
+        }
+    }
+}
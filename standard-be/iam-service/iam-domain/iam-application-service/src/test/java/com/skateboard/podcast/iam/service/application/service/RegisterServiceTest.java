@@ -191,6 +191,11 @@ class RegisterServiceTest {
                     .filter(r -> userId.equals(r.userId()))
                     .forEach(r -> revokeById(r.id(), revokedAt));
         }
+
+        @Override
+        public int deleteRevokedOrExpiredBefore(final Instant cutoff, final int limit) {
+            return 0;
+        }
     }
 
     private static final class InMemoryUserRepository implements UserRepository {
@@ -0,0 +1,145 @@
+package com.skateboard.podcast.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The few public and admin endpoints the workload calls, over one shared {@link HttpClient}.
+ * Non-2xx responses surface as {@link ApiException} so the caller can count them as errors.
+ */
+public final class ApiClient {
+
+    public record Tokens(String accessToken, String refreshToken) {
+    }
+
+    public record FeedPage(int items, String nextCursor) {
+    }
+
+    public static final class ApiException extends IOException {
+
+        private final int status;
+
+        ApiException(final int status, final String path) {
+            super(path + " returned " + status);
+            this.status = status;
+        }
+
+        public int status() {
+            return status;
+        }
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    public ApiClient(final HttpClient httpClient, final ObjectMapper objectMapper, final String baseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+    }
+
+    public Tokens register(final String email, final String password, final String deviceId)
+            throws IOException, InterruptedException {
+        return tokens(post("/public/auth/register", null, Map.of(
+                "email", email,
+                "password", password,
+                "device", device(deviceId)
+        )));
+    }
+
+    public Tokens login(final String email, final String password, final String deviceId)
+            throws IOException, InterruptedException {
+        return tokens(post("/public/auth/login", null, Map.of(
+                "provider", "MANUAL",
+                "email", email,
+                "password", password,
+                "device", device(deviceId)
+        )));
+    }
+
+    public Tokens refresh(final String refreshToken, final String deviceId) throws IOException, InterruptedException {
+        return tokens(post("/public/auth/refresh", null, Map.of(
+                "refreshToken", refreshToken,
+                "deviceId", deviceId
+        )));
+    }
+
+    public FeedPage feed(final String cursor, final int size) throws IOException, InterruptedException {
+        final String query = cursor == null
+                ? "?size=" + size
+                : "?size=" + size + "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+        final JsonNode page = send(HttpRequest.newBuilder(uri("/public/feed" + query)).GET(), "/public/feed");
+        final JsonNode nextCursor = page.path("nextCursor");
+        return new FeedPage(page.path("items").size(), nextCursor.isTextual() ? nextCursor.asText() : null);
+    }
+
+    public UUID createPost(final String accessToken, final String slug) throws IOException, InterruptedException {
+        final JsonNode created = post("/admin/posts", accessToken, Map.of(
+                "title", "Load test " + slug,
+                "slug", slug,
+                "excerpt", "Written by the load test.",
+                "tags", List.of("load"),
+                "content", List.of(Map.of("type", "paragraph", "text", "Load test body."))
+        ));
+        return UUID.fromString(created.path("id").asText());
+    }
+
+    public void publishPost(final String accessToken, final UUID postId) throws IOException, InterruptedException {
+        post("/admin/posts/" + postId + "/publish", accessToken, null);
+    }
+
+    private JsonNode post(final String path, final String accessToken, final Object body)
+            throws IOException, InterruptedException {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (accessToken != null) {
+            request.header("Authorization", "Bearer " + accessToken);
+        }
+        return send(request, path);
+    }
+
+    private JsonNode send(final HttpRequest.Builder request, final String path)
+            throws IOException, InterruptedException {
+        final HttpResponse<byte[]> response = httpClient.send(
+                request.timeout(REQUEST_TIMEOUT).header("Accept", "application/json").build(),
+                HttpResponse.BodyHandlers.ofByteArray()
+        );
+        if (response.statusCode() / 100 != 2) {
+            throw new ApiException(response.statusCode(), path);
+        }
+        return response.body().length == 0
+                ? objectMapper.nullNode()
+                : objectMapper.readTree(response.body());
+    }
+
+    private Tokens tokens(final JsonNode authResponse) {
+        final JsonNode tokens = authResponse.path("tokens");
+        return new Tokens(tokens.path("accessToken").asText(), tokens.path("refreshToken").asText());
+    }
+
+    private URI uri(final String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static Map<String, String> device(final String deviceId) {
+        return Map.of("deviceId", deviceId, "deviceName", "load-test", "platform", "WEB");
+    }
+}
@@ -0,0 +1,102 @@
+package com.skateboard.podcast.loadtest;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Seeds posts, events and users straight into the database with {@code generate_series}, after the
+ * container has run its migrations. Users share the password hash of one account registered
+ * through the API, so the seeder never has to know how passwords are hashed.
+ * <p>
+ * Every row is prefixed with the run id, so repeated runs against one database do not collide.
+ */
+public final class DataSeeder {
+
+    public static final String PASSWORD = "load-test-password";
+
+    private static final String INSERT_POSTS = """
+            insert into posts (title, slug, excerpt, tags, status, thumbnail, content,
+                               created_at, updated_at, published_at)
+            select 'Load test post ' || g,
+                   ?::text || '-post-' || g,
+                   'Seeded post number ' || g || ' for the load test.',
+                   array['load', case when g % 3 = 0 then 'street' else 'park' end],
+                   case when g % 10 = 0 then 'DRAFT' else 'PUBLISHED' end,
+                   case when g % 5 = 0 then null
+                        else jsonb_build_object('url', 'https://cdn.example.com/posts/' || g || '.jpg',
+                                                'alt', 'Cover ' || g) end,
+                   '[{"type":"paragraph","text":"Seeded body."}]'::jsonb,
+                   ts, ts,
+                   case when g % 10 = 0 then null else ts end
+            from (select g, now() - g * interval '37 minutes' as ts from generate_series(1, ?) g) s
+            """;
+
+    private static final String INSERT_EVENTS = """
+            insert into events (title, slug, excerpt, tags, status, thumbnail, content,
+                                start_at, end_at, timezone, location, created_at, updated_at)
+            select 'Load test event ' || g,
+                   ?::text || '-event-' || g,
+                   'Seeded event number ' || g || ' for the load test.',
+                   array['load', 'jam'],
+                   case when g % 10 = 0 then 'DRAFT' else 'PUBLISHED' end,
+                   jsonb_build_object('url', 'https://cdn.example.com/events/' || g || '.jpg', 'alt', 'Event ' || g),
+                   '[{"type":"paragraph","text":"Seeded event."}]'::jsonb,
+                   start_at, start_at + interval '3 hours', 'UTC', 'Skatepark ' || (g % 40),
+                   start_at - interval '30 days', start_at - interval '30 days'
+            from (select g, now() + (g - ?::int / 2) * interval '9 hours' as start_at
+                  from generate_series(1, ?) g) s
+            """;
+
+    private static final String INSERT_USERS = """
+            insert into users (email, password_hash, role, provider, status, name, created_at, updated_at)
+            select ?::text || '-user-' || g || '@example.com', u.password_hash, u.role, u.provider, u.status,
+                   'Load User ' || g, now(), now()
+            from users u, generate_series(1, ?) g
+            where u.email = ?::text
+            """;
+
+    private final TargetEnvironment environment;
+    private final ApiClient apiClient;
+    private final String runId;
+
+    public DataSeeder(final TargetEnvironment environment, final ApiClient apiClient, final String runId) {
+        this.environment = environment;
+        this.apiClient = apiClient;
+        this.runId = runId;
+    }
+
+    public String userEmail(final int index) {
+        return runId + "-user-" + index + "@example.com";
+    }
+
+    public void seed(final LoadTestConfig config) throws IOException, InterruptedException, SQLException {
+        final String templateEmail = runId + "-template@example.com";
+        apiClient.register(templateEmail, PASSWORD, runId + "-seed");
+
+        try (Connection connection = DriverManager.getConnection(
+                environment.jdbcUrl(), environment.jdbcUsername(), environment.jdbcPassword())) {
+            connection.setAutoCommit(false);
+            execute(connection, INSERT_POSTS, runId, config.posts());
+            execute(connection, INSERT_EVENTS, runId, config.events(), config.events());
+            execute(connection, INSERT_USERS, runId, config.users(), templateEmail);
+            connection.commit();
+            try (PreparedStatement analyze = connection.prepareStatement("analyze posts, events, users")) {
+                analyze.execute();
+            }
+            connection.commit();
+        }
+    }
+
+    private static void execute(final Connection connection, final String sql, final Object... params)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.skateboard.podcast.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many idle {@code /ws/feed} subscribers, like app clients waiting for updates. Each message is
+ * timed twice: {@code ws.delivery} from the envelope timestamp (the server's encode time) to
+ * receipt, and {@code ws.publish_to_receive} from the admin publish request that caused it, which
+ * includes the outbox poll and coalescing window. Both compare wall clocks, so they are only
+ * meaningful when the server runs on the same host.
+ */
+public final class FeedSocketProbe implements AutoCloseable {
+
+    static final String DELIVERY = "ws.delivery";
+    static final String PUBLISH_TO_RECEIVE = "ws.publish_to_receive";
+
+    private final List<WebSocket> sockets;
+
+    private FeedSocketProbe(final List<WebSocket> sockets) {
+        this.sockets = sockets;
+    }
+
+    public static FeedSocketProbe connect(
+            final HttpClient httpClient,
+            final URI uri,
+            final int clients,
+            final LatencyReport report,
+            final Map<UUID, Long> publishStartedMicros,
+            final ObjectMapper objectMapper
+    ) {
+        final List<CompletableFuture<WebSocket>> connecting = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            connecting.add(httpClient.newWebSocketBuilder()
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .buildAsync(uri, new Listener(report, publishStartedMicros, objectMapper)));
+        }
+        final List<WebSocket> sockets = new ArrayList<>(clients);
+        for (final CompletableFuture<WebSocket> socket : connecting) {
+            sockets.add(socket.join());
+        }
+        return new FeedSocketProbe(sockets);
+    }
+
+    static long wallClockMicros() {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+    }
+
+    @Override
+    public void close() {
+        final List<CompletableFuture<WebSocket>> closing = new ArrayList<>(sockets.size());
+        for (final WebSocket socket : sockets) {
+            closing.add(socket.sendClose(WebSocket.NORMAL_CLOSURE, "done"));
+        }
+        try {
+            CompletableFuture.allOf(closing.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        } catch (final Exception e) {
+            sockets.forEach(WebSocket::abort);
+        }
+    }
+
+    private static final class Listener implements WebSocket.Listener {
+
+        private final LatencyReport report;
+        private final Map<UUID, Long> publishStartedMicros;
+        private final ObjectMapper objectMapper;
+        private final StringBuilder pending = new StringBuilder();
+
+        private Listener(
+                final LatencyReport report,
+                final Map<UUID, Long> publishStartedMicros,
+                final ObjectMapper objectMapper
+        ) {
+            this.report = report;
+            this.publishStartedMicros = publishStartedMicros;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public CompletionStage<?> onText(final WebSocket socket, final CharSequence data, final boolean last) {
+            pending.append(data);
+            if (last) {
+                final long receivedMicros = wallClockMicros();
+                final String text = pending.toString();
+                pending.setLength(0);
+                handle(text, receivedMicros);
+            }
+            socket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(final WebSocket socket, final int statusCode, final String reason) {
+            if (statusCode != WebSocket.NORMAL_CLOSURE) {
+                report.error(DELIVERY);
+            }
+            return null;
+        }
+
+        @Override
+        public void onError(final WebSocket socket, final Throwable error) {
+            report.error(DELIVERY);
+        }
+
+        private void handle(final String text, final long receivedMicros) {
+            final JsonNode message;
+            try {
+                message = objectMapper.readTree(text);
+            } catch (final IOException e) {
+                report.error(DELIVERY);
+                return;
+            }
+            final JsonNode timestamp = message.path("timestamp");
+            if (timestamp.isTextual()) {
+                final Instant sentAt = Instant.parse(timestamp.asText());
+                report.record(DELIVERY, receivedMicros - ChronoUnit.MICROS.between(Instant.EPOCH, sentAt));
+            }
+            if ("post.published".equals(message.path("type").asText())) {
+                final Long startedMicros = publishStartedMicros.get(
+                        UUID.fromString(message.path("payload").path("postId").asText())
+                );
+                if (startedMicros != null) {
+                    report.record(PUBLISH_TO_RECEIVE, receivedMicros - startedMicros);
+                }
+            }
+        }
+    }
+}
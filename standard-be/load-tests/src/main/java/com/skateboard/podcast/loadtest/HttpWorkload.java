@@ -0,0 +1,174 @@
+package com.skateboard.podcast.loadtest;
+
+import com.skateboard.podcast.loadtest.LoadTestConfig.Operation;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop virtual users, one virtual thread each, picking operations by the configured mix.
+ * With a pace set, each user keeps a fixed schedule and latency is measured from the intended
+ * start, so a stalled server shows up in the percentiles instead of slowing the load down.
+ */
+public final class HttpWorkload {
+
+    private static final int FEED_PAGE_SIZE = 20;
+    private static final int MAX_CURSOR_DEPTH = 10;
+
+    /** One simulated app user: a device with its own refresh-token chain and feed position. */
+    public static final class VirtualUser {
+
+        private final String email;
+        private final String deviceId;
+        private String refreshToken;
+        private String cursor;
+        private int cursorDepth;
+
+        public VirtualUser(final String email, final String deviceId, final String refreshToken) {
+            this.email = email;
+            this.deviceId = deviceId;
+            this.refreshToken = refreshToken;
+        }
+    }
+
+    private final LoadTestConfig config;
+    private final ApiClient apiClient;
+    private final LatencyReport report;
+    private final Map<UUID, Long> publishStartedMicros;
+    private final String runId;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final AtomicLong publishedPosts = new AtomicLong();
+    private volatile String adminToken;
+
+    public HttpWorkload(
+            final LoadTestConfig config,
+            final ApiClient apiClient,
+            final LatencyReport report,
+            final Map<UUID, Long> publishStartedMicros,
+            final String runId
+    ) {
+        this.config = config;
+        this.apiClient = apiClient;
+        this.report = report;
+        this.publishStartedMicros = publishStartedMicros;
+        this.runId = runId;
+        this.operations = config.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += config.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public void run(final List<VirtualUser> users, final Instant deadline) throws IOException, InterruptedException {
+        if (config.mix().getOrDefault(Operation.ADMIN_PUBLISH, 0) > 0) {
+            adminToken = loginAdmin();
+        }
+        final List<Thread> threads = new ArrayList<>(users.size());
+        for (final VirtualUser user : users) {
+            threads.add(Thread.ofVirtual().name("vu-" + user.deviceId).start(() -> loop(user, deadline)));
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private void loop(final VirtualUser user, final Instant deadline) {
+        final long paceNanos = config.pace().toNanos();
+        long intendedStart = System.nanoTime();
+        while (Instant.now().isBefore(deadline)) {
+            if (paceNanos > 0) {
+                final long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            } else {
+                intendedStart = System.nanoTime();
+            }
+
+            final Operation operation = pick();
+            try {
+                execute(operation, user);
+                final long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                if (paceNanos > 0) {
+                    report.record(operation.metric(), micros, TimeUnit.NANOSECONDS.toMicros(paceNanos));
+                } else {
+                    report.record(operation.metric(), micros);
+                }
+            } catch (final IOException e) {
+                report.error(operation.metric());
+                recover(operation, user, e);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            intendedStart += paceNanos;
+        }
+    }
+
+    private void execute(final Operation operation, final VirtualUser user) throws IOException, InterruptedException {
+        switch (operation) {
+            case FEED_FIRST_PAGE -> apiClient.feed(null, FEED_PAGE_SIZE);
+            case FEED_CURSOR_PAGE -> {
+                final ApiClient.FeedPage page = apiClient.feed(user.cursor == null ? "" : user.cursor, FEED_PAGE_SIZE);
+                user.cursorDepth++;
+                final boolean restart = page.nextCursor() == null || user.cursorDepth >= MAX_CURSOR_DEPTH;
+                user.cursor = restart ? null : page.nextCursor();
+                user.cursorDepth = restart ? 0 : user.cursorDepth;
+            }
+            case AUTH_REFRESH -> user.refreshToken = apiClient.refresh(user.refreshToken, user.deviceId).refreshToken();
+            case ADMIN_PUBLISH -> {
+                final String slug = runId + "-live-" + publishedPosts.incrementAndGet();
+                final UUID postId = apiClient.createPost(adminToken, slug);
+                publishStartedMicros.put(postId, FeedSocketProbe.wallClockMicros());
+                apiClient.publishPost(adminToken, postId);
+            }
+        }
+    }
+
+    // A rejected refresh or an expired admin token would fail every later call, so start over.
+    private void recover(final Operation operation, final VirtualUser user, final IOException cause) {
+        if (!(cause instanceof ApiClient.ApiException rejected) || rejected.status() != 401) {
+            return;
+        }
+        try {
+            if (operation == Operation.AUTH_REFRESH) {
+                user.refreshToken = apiClient.login(user.email, DataSeeder.PASSWORD, user.deviceId).refreshToken();
+            } else if (operation == Operation.ADMIN_PUBLISH) {
+                adminToken = loginAdmin();
+            }
+        } catch (final IOException ignored) {
+            // counted already; the next iteration tries again
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String loginAdmin() throws IOException, InterruptedException {
+        return apiClient.login(config.adminEmail(), config.adminPassword(), runId + "-admin").accessToken();
+    }
+
+    private Operation pick() {
+        final int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
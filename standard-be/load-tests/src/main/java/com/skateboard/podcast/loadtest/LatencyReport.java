@@ -0,0 +1,173 @@
+package com.skateboard.podcast.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One HdrHistogram {@link Recorder} per metric, in microseconds. Every report interval the
+ * recorders are swapped out and the interval histograms appended, tagged by metric, to
+ * {@code latency.hlog}; those written after the warmup also go into the run totals that end up in
+ * {@code summary.json} and one {@code .hgrm} percentile file per metric.
+ */
+public final class LatencyReport implements AutoCloseable {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Path outputDir;
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> totals = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final PrintStream log;
+    private final HistogramLogWriter logWriter;
+    private volatile boolean measuring;
+    private Instant measuringSince;
+
+    public LatencyReport(final Path outputDir) throws IOException {
+        this.outputDir = outputDir;
+        Files.createDirectories(outputDir);
+        this.log = new PrintStream(
+                Files.newOutputStream(outputDir.resolve("latency.hlog")), false, StandardCharsets.UTF_8
+        );
+        this.logWriter = new HistogramLogWriter(log);
+        final long now = System.currentTimeMillis();
+        logWriter.outputLogFormatVersion();
+        logWriter.outputStartTime(now);
+        logWriter.setBaseTime(now);
+        logWriter.outputLegend();
+    }
+
+    public void record(final String metric, final long micros) {
+        recorder(metric).recordValue(Math.max(0, micros));
+    }
+
+    /**
+     * Records a paced request measured from its intended start, back-filling the samples a
+     * stalled client would otherwise have skipped (coordinated omission).
+     */
+    public void record(final String metric, final long micros, final long expectedIntervalMicros) {
+        recorder(metric).recordValueWithExpectedInterval(Math.max(0, micros), expectedIntervalMicros);
+    }
+
+    public void error(final String metric) {
+        errors.computeIfAbsent(metric, ignored -> new LongAdder()).increment();
+    }
+
+    /** Drops everything recorded so far; from now on intervals count towards the totals. */
+    public synchronized void startMeasuring() {
+        snapshot();
+        for (final LongAdder counter : errors.values()) {
+            counter.reset();
+        }
+        measuringSince = Instant.now();
+        measuring = true;
+    }
+
+    /** Rolls the recorders into the log and totals; returns the interval throughput line. */
+    public synchronized String snapshot() {
+        final StringBuilder line = new StringBuilder(measuring ? "" : "[warmup] ");
+        for (final Map.Entry<String, Recorder> entry : recorders.entrySet()) {
+            final Histogram interval = entry.getValue().getIntervalHistogram();
+            interval.setTag(entry.getKey());
+            logWriter.outputIntervalHistogram(interval);
+            if (measuring) {
+                totals.computeIfAbsent(entry.getKey(), ignored -> new Histogram(SIGNIFICANT_DIGITS))
+                        .add(interval);
+            }
+            final long intervalMillis = interval.getEndTimeStamp() - interval.getStartTimeStamp();
+            final double seconds = Math.max(1, intervalMillis) / 1000.0;
+            line.append(String.format(
+                    Locale.ROOT,
+                    "%s %.0f/s p99 %.1fms  ",
+                    entry.getKey(), interval.getTotalCount() / seconds,
+                    interval.getValueAtPercentile(99.0) / MICROS_PER_MILLI
+            ));
+        }
+        return line.toString().trim();
+    }
+
+    /** Writes the summary files and returns the per-metric figures keyed by metric name. */
+    public synchronized Map<String, Map<String, Object>> writeSummary(final LoadTestConfig config) throws IOException {
+        snapshot();
+        final Instant since = measuringSince == null ? Instant.now() : measuringSince;
+        final Duration measured = Duration.between(since, Instant.now());
+        final Map<String, Map<String, Object>> operations = new LinkedHashMap<>();
+        final StringBuilder table = new StringBuilder(String.format(
+                Locale.ROOT, "%-24s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "metric", "count", "errors", "per sec", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"
+        ));
+        for (final String metric : totals.keySet().stream().sorted().toList()) {
+            final Histogram histogram = totals.get(metric);
+            final long errorCount = errors.containsKey(metric) ? errors.get(metric).sum() : 0;
+            final double throughput = histogram.getTotalCount() / Math.max(1.0, measured.toMillis() / 1000.0);
+            final Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", histogram.getTotalCount());
+            summary.put("errors", errorCount);
+            summary.put("throughputPerSecond", round(throughput));
+            summary.put("p50Ms", millis(histogram, 50.0));
+            summary.put("p90Ms", millis(histogram, 90.0));
+            summary.put("p99Ms", millis(histogram, 99.0));
+            summary.put("p999Ms", millis(histogram, 99.9));
+            summary.put("maxMs", round(histogram.getMaxValue() / MICROS_PER_MILLI));
+            operations.put(metric, summary);
+            table.append(String.format(
+                    Locale.ROOT, "%-24s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    metric, histogram.getTotalCount(), errorCount, throughput,
+                    millis(histogram, 50.0), millis(histogram, 90.0), millis(histogram, 99.0),
+                    millis(histogram, 99.9), histogram.getMaxValue() / MICROS_PER_MILLI
+            ));
+            try (PrintStream hgrm = new PrintStream(
+                    Files.newOutputStream(outputDir.resolve(metric + ".hgrm")), false, StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+            }
+        }
+
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", since.toString());
+        report.put("measuredSeconds", measured.toSeconds());
+        report.put("config", config.describe());
+        report.put("operations", operations);
+        new ObjectMapper()
+                .findAndRegisterModules()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .writeValue(outputDir.resolve("summary.json").toFile(), report);
+        Files.writeString(outputDir.resolve("summary.txt"), table);
+        System.out.print(table);
+        return operations;
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    private Recorder recorder(final String metric) {
+        return recorders.computeIfAbsent(metric, ignored -> new Recorder(SIGNIFICANT_DIGITS));
+    }
+
+    private static double millis(final Histogram histogram, final double percentile) {
+        return round(histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+    }
+
+    private static double round(final double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,190 @@
+package com.skateboard.podcast.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Options for one run, read from {@code --name=value} arguments. Durations use ISO-8601
+ * ({@code PT2M}); the mix is a comma-separated list of operation weights.
+ */
+public record LoadTestConfig(
+        String baseUrl,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        String postgresImage,
+        Path containerJar,
+        String containerJvmArgs,
+        Boolean virtualThreads,
+        boolean compareThreadModes,
+        int posts,
+        int events,
+        int users,
+        int httpClients,
+        int wsClients,
+        Duration warmup,
+        Duration duration,
+        Duration pace,
+        Duration reportInterval,
+        Map<Operation, Integer> mix,
+        String adminEmail,
+        String adminPassword,
+        Path outputDir
+) {
+
+    public enum Operation {
+        FEED_FIRST_PAGE("feed.first_page"),
+        FEED_CURSOR_PAGE("feed.cursor_page"),
+        AUTH_REFRESH("auth.refresh"),
+        ADMIN_PUBLISH("admin.publish");
+
+        private final String metric;
+
+        Operation(final String metric) {
+            this.metric = metric;
+        }
+
+        public String metric() {
+            return metric;
+        }
+    }
+
+    /** This run with the server's thread mode fixed and its results written to {@code runOutputDir}. */
+    public LoadTestConfig withVirtualThreads(final boolean enabled, final Path runOutputDir) {
+        return new LoadTestConfig(
+                baseUrl, jdbcUrl, jdbcUsername, jdbcPassword, postgresImage, containerJar, containerJvmArgs,
+                enabled, false, posts, events, users, httpClients, wsClients, warmup, duration, pace,
+                reportInterval, mix, adminEmail, adminPassword, runOutputDir
+        );
+    }
+
+    /** The options worth keeping next to the results; credentials are left out. */
+    public Map<String, Object> describe() {
+        final Map<String, Object> described = new LinkedHashMap<>();
+        described.put("target", baseUrl == null ? containerJar.getFileName().toString() : baseUrl);
+        described.put("posts", posts);
+        described.put("events", events);
+        described.put("users", users);
+        described.put("httpClients", httpClients);
+        described.put("wsClients", wsClients);
+        described.put("warmup", warmup.toString());
+        described.put("duration", duration.toString());
+        described.put("pace", pace.toString());
+        described.put("mix", mix);
+        described.put("containerJvmArgs", containerJvmArgs);
+        described.put("virtualThreads", virtualThreads == null ? "server default" : virtualThreads);
+        return described;
+    }
+
+    public static LoadTestConfig parse(final String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("expected --name=value but got: " + arg);
+            }
+            final int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        final String baseUrl = options.remove("base-url");
+        final String jdbcUrl = options.remove("jdbc-url");
+        if (baseUrl != null && jdbcUrl == null) {
+            throw new IllegalArgumentException("--base-url needs --jdbc-url of the same database to seed it");
+        }
+        final String virtualThreads = stringOption(options, "virtual-threads", "default");
+        if (!virtualThreads.equals("default") && baseUrl != null) {
+            throw new IllegalArgumentException("--virtual-threads needs the harness to start the container itself");
+        }
+        final int httpClients = intOption(options, "http-clients", 50);
+        final LoadTestConfig config = new LoadTestConfig(
+                baseUrl,
+                jdbcUrl,
+                stringOption(options, "jdbc-username", "standard"),
+                stringOption(options, "jdbc-password", "standard"),
+                stringOption(options, "postgres-image", "postgres:16-alpine"),
+                Path.of(stringOption(
+                        options,
+                        "container-jar",
+                        "standard-container/target/standard-container-0.0.1-SNAPSHOT.jar"
+                )),
+                stringOption(options, "container-jvm-args", ""),
+                switch (virtualThreads) {
+                    case "default", "compare" -> null;
+                    case "true" -> Boolean.TRUE;
+                    case "false" -> Boolean.FALSE;
+                    default -> throw new IllegalArgumentException(
+                            "--virtual-threads must be true, false, compare or default: " + virtualThreads
+                    );
+                },
+                virtualThreads.equals("compare"),
+                intOption(options, "posts", 20_000),
+                intOption(options, "events", 2_000),
+                Math.max(httpClients, intOption(options, "users", 10_000)),
+                httpClients,
+                intOption(options, "ws-clients", 200),
+                durationOption(options, "warmup", Duration.ofSeconds(20)),
+                durationOption(options, "duration", Duration.ofMinutes(2)),
+                durationOption(options, "pace", Duration.ZERO),
+                durationOption(options, "report-interval", Duration.ofSeconds(5)),
+                parseMix(stringOption(options, "mix", "feed=70,cursor=15,refresh=10,publish=5")),
+                stringOption(options, "admin-email", "admin@example.com"),
+                stringOption(options, "admin-password", "admin123"),
+                Path.of(stringOption(
+                        options,
+                        "out",
+                        "target/load-test/" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                ))
+        );
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("unknown options: " + options.keySet());
+        }
+        return config;
+    }
+
+    private static Map<Operation, Integer> parseMix(final String raw) {
+        final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (final String part : raw.split(",")) {
+            final String[] weight = part.trim().split("=");
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("invalid mix entry: " + part);
+            }
+            final Operation operation = switch (weight[0].trim()) {
+                case "feed" -> Operation.FEED_FIRST_PAGE;
+                case "cursor" -> Operation.FEED_CURSOR_PAGE;
+                case "refresh" -> Operation.AUTH_REFRESH;
+                case "publish" -> Operation.ADMIN_PUBLISH;
+                default -> throw new IllegalArgumentException("unknown mix operation: " + weight[0]);
+            };
+            mix.put(operation, Integer.parseInt(weight[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix weights must add up to more than zero");
+        }
+        return mix;
+    }
+
+    private static String stringOption(final Map<String, String> options, final String name, final String fallback) {
+        final String value = options.remove(name);
+        return value == null ? fallback : value;
+    }
+
+    private static int intOption(final Map<String, String> options, final String name, final int fallback) {
+        final String value = options.remove(name);
+        return value == null ? fallback : Integer.parseInt(value);
+    }
+
+    private static Duration durationOption(
+            final Map<String, String> options,
+            final String name,
+            final Duration fallback
+    ) {
+        final String value = options.remove(name);
+        return value == null ? fallback : Duration.parse(value);
+    }
+}
@@ -0,0 +1,122 @@
+package com.skateboard.podcast.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the target, seeds it, then runs the HTTP workload and WebSocket subscribers together for
+ * warmup plus duration and writes the report. With {@code --virtual-threads=compare} it does that
+ * twice, once per server thread mode. See the Load tests section of the README.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final LoadTestConfig config = LoadTestConfig.parse(args);
+        if (!config.compareThreadModes()) {
+            run(config);
+            return;
+        }
+        // Same scenario against a fresh server per mode, platform threads first.
+        final Map<String, Map<String, Object>> platform =
+                run(config.withVirtualThreads(false, config.outputDir().resolve("platform-threads")));
+        final Map<String, Map<String, Object>> virtual =
+                run(config.withVirtualThreads(true, config.outputDir().resolve("virtual-threads")));
+        ThreadModeComparison.write(config.outputDir(), platform, virtual);
+    }
+
+    private static Map<String, Map<String, Object>> run(final LoadTestConfig config) throws Exception {
+        final String runId = "load-" + Long.toString(System.currentTimeMillis(), 36);
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final Map<UUID, Long> publishStartedMicros = new ConcurrentHashMap<>();
+
+        System.out.println("Starting target, output in " + config.outputDir().toAbsolutePath());
+        try (TargetEnvironment environment = TargetEnvironment.start(config);
+             LatencyReport report = new LatencyReport(config.outputDir());
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            final ApiClient apiClient = new ApiClient(httpClient, objectMapper, environment.baseUrl());
+
+            System.out.printf(
+                    "Seeding %d posts, %d events and %d users as %s%n",
+                    config.posts(), config.events(), config.users(), runId
+            );
+            final DataSeeder seeder = new DataSeeder(environment, apiClient, runId);
+            seeder.seed(config);
+            final List<HttpWorkload.VirtualUser> users = logIn(executor, apiClient, seeder, config.httpClients());
+
+            System.out.printf("Connecting %d WebSocket clients%n", config.wsClients());
+            try (FeedSocketProbe ignored = FeedSocketProbe.connect(
+                    httpClient,
+                    URI.create(environment.webSocketUrl("/ws/feed")),
+                    config.wsClients(),
+                    report,
+                    publishStartedMicros,
+                    objectMapper
+            )) {
+                final ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+                final long intervalMillis = config.reportInterval().toMillis();
+                reporter.scheduleAtFixedRate(
+                        () -> System.out.println(report.snapshot()),
+                        intervalMillis,
+                        intervalMillis,
+                        TimeUnit.MILLISECONDS
+                );
+                reporter.schedule(report::startMeasuring, config.warmup().toMillis(), TimeUnit.MILLISECONDS);
+
+                System.out.printf(
+                        "Running %d HTTP clients for %s warmup + %s%n",
+                        config.httpClients(), config.warmup(), config.duration()
+                );
+                final Instant deadline = Instant.now().plus(config.warmup()).plus(config.duration());
+                new HttpWorkload(config, apiClient, report, publishStartedMicros, runId).run(users, deadline);
+
+                reporter.shutdownNow();
+                reporter.awaitTermination(5, TimeUnit.SECONDS);
+            }
+            return report.writeSummary(config);
+        }
+    }
+
+    private static List<HttpWorkload.VirtualUser> logIn(
+            final ExecutorService executor,
+            final ApiClient apiClient,
+            final DataSeeder seeder,
+            final int count
+    ) throws Exception {
+        final List<Future<HttpWorkload.VirtualUser>> loggingIn = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            final String email = seeder.userEmail(i);
+            final String deviceId = "vu-" + i;
+            loggingIn.add(executor.submit(() -> new HttpWorkload.VirtualUser(
+                    email,
+                    deviceId,
+                    apiClient.login(email, DataSeeder.PASSWORD, deviceId).refreshToken()
+            )));
+        }
+        final List<HttpWorkload.VirtualUser> users = new ArrayList<>(count);
+        for (final Future<HttpWorkload.VirtualUser> user : loggingIn) {
+            users.add(user.get());
+        }
+        return users;
+    }
+}
@@ -0,0 +1,191 @@
+package com.skateboard.podcast.loadtest;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The system under test. Unless pointed at an existing deployment, starts PostgreSQL in Docker
+ * and the standard-container jar as a child process, so the load generator never shares a JVM or
+ * GC with the server.
+ */
+public final class TargetEnvironment implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final PostgreSQLContainer<?> postgres;
+    private final Process container;
+    private final String baseUrl;
+    private final String jdbcUrl;
+    private final String jdbcUsername;
+    private final String jdbcPassword;
+
+    private TargetEnvironment(
+            final PostgreSQLContainer<?> postgres,
+            final Process container,
+            final String baseUrl,
+            final String jdbcUrl,
+            final String jdbcUsername,
+            final String jdbcPassword
+    ) {
+        this.postgres = postgres;
+        this.container = container;
+        this.baseUrl = baseUrl;
+        this.jdbcUrl = jdbcUrl;
+        this.jdbcUsername = jdbcUsername;
+        this.jdbcPassword = jdbcPassword;
+    }
+
+    public static TargetEnvironment start(final LoadTestConfig config) throws IOException, InterruptedException {
+        if (config.baseUrl() != null) {
+            final String baseUrl = stripTrailingSlash(config.baseUrl());
+            awaitHealthy(baseUrl, null);
+            return new TargetEnvironment(
+                    null, null, baseUrl, config.jdbcUrl(), config.jdbcUsername(), config.jdbcPassword()
+            );
+        }
+
+        PostgreSQLContainer<?> postgres = null;
+        String jdbcUrl = config.jdbcUrl();
+        String jdbcUsername = config.jdbcUsername();
+        String jdbcPassword = config.jdbcPassword();
+        if (jdbcUrl == null) {
+            postgres = new PostgreSQLContainer<>(DockerImageName.parse(config.postgresImage()))
+                    .withDatabaseName("standarddb")
+                    .withUsername("standard")
+                    .withPassword("standard");
+            postgres.start();
+            jdbcUrl = postgres.getJdbcUrl();
+            jdbcUsername = postgres.getUsername();
+            jdbcPassword = postgres.getPassword();
+        }
+
+        if (!Files.isRegularFile(config.containerJar())) {
+            stopQuietly(postgres);
+            throw new IllegalStateException("container jar not found: " + config.containerJar().toAbsolutePath()
+                    + " (run mvn -pl standard-container -am package -DskipTests first)");
+        }
+        final int port = freePort();
+        final List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!config.containerJvmArgs().isBlank()) {
+            command.addAll(Arrays.asList(config.containerJvmArgs().trim().split("\\s+")));
+        }
+        command.addAll(List.of(
+                "-jar", config.containerJar().toString(),
+                "--server.port=" + port,
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + jdbcUsername,
+                "--spring.datasource.password=" + jdbcPassword
+        ));
+        if (config.virtualThreads() != null) {
+            command.add("--spring.threads.virtual.enabled=" + config.virtualThreads());
+        }
+        Files.createDirectories(config.outputDir());
+        final Process container = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(config.outputDir().resolve("container.log").toFile())
+                .start();
+
+        final String baseUrl = "http://localhost:" + port + "/api/v1";
+        try {
+            awaitHealthy(baseUrl, container);
+        } catch (final IOException | InterruptedException | RuntimeException e) {
+            container.destroyForcibly();
+            stopQuietly(postgres);
+            throw e;
+        }
+        return new TargetEnvironment(postgres, container, baseUrl, jdbcUrl, jdbcUsername, jdbcPassword);
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public String webSocketUrl(final String path) {
+        return baseUrl.replaceFirst("^http", "ws") + path;
+    }
+
+    public String jdbcUrl() {
+        return jdbcUrl;
+    }
+
+    public String jdbcUsername() {
+        return jdbcUsername;
+    }
+
+    public String jdbcPassword() {
+        return jdbcPassword;
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.destroy();
+            try {
+                if (!container.waitFor(30, TimeUnit.SECONDS)) {
+                    container.destroyForcibly();
+                }
+            } catch (final InterruptedException e) {
+                container.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        stopQuietly(postgres);
+    }
+
+    private static void awaitHealthy(final String baseUrl, final Process container)
+            throws IOException, InterruptedException {
+        final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        final Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+        while (Instant.now().isBefore(deadline)) {
+            if (container != null && !container.isAlive()) {
+                throw new IllegalStateException("standard-container exited with " + container.exitValue()
+                        + "; see container.log");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (final IOException notYetListening) {
+                // keep polling until the deadline
+            }
+            Thread.sleep(500);
+        }
+        throw new IOException("standard-container not healthy at " + baseUrl + " after " + STARTUP_TIMEOUT);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String stripTrailingSlash(final String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static void stopQuietly(final PostgreSQLContainer<?> postgres) {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+}
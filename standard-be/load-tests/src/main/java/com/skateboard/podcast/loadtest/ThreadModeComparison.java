@@ -0,0 +1,56 @@
+package com.skateboard.podcast.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Side-by-side table of a platform-thread run and a virtual-thread run of the same scenario,
+ * written as {@code comparison.txt} next to the two run directories.
+ */
+final class ThreadModeComparison {
+
+    private ThreadModeComparison() {
+    }
+
+    static void write(
+            final Path outputDir,
+            final Map<String, Map<String, Object>> platform,
+            final Map<String, Map<String, Object>> virtual
+    ) throws IOException {
+        final StringBuilder table = new StringBuilder(String.format(
+                Locale.ROOT, "%-24s %12s %12s %8s %12s %12s %9s %9s%n",
+                "metric", "platform/s", "virtual/s", "change", "platform p99", "virtual p99", "errors P", "errors V"
+        ));
+        final TreeSet<String> metrics = new TreeSet<>(platform.keySet());
+        metrics.addAll(virtual.keySet());
+        for (final String metric : metrics) {
+            final Map<String, Object> before = platform.getOrDefault(metric, Map.of());
+            final Map<String, Object> after = virtual.getOrDefault(metric, Map.of());
+            final double beforeThroughput = number(before, "throughputPerSecond");
+            final double afterThroughput = number(after, "throughputPerSecond");
+            table.append(String.format(
+                    Locale.ROOT, "%-24s %12.1f %12.1f %8s %12.2f %12.2f %9d %9d%n",
+                    metric,
+                    beforeThroughput,
+                    afterThroughput,
+                    beforeThroughput == 0 ? "n/a" : String.format(
+                            Locale.ROOT, "%+.0f%%", (afterThroughput / beforeThroughput - 1) * 100
+                    ),
+                    number(before, "p99Ms"),
+                    number(after, "p99Ms"),
+                    (long) number(before, "errors"),
+                    (long) number(after, "errors")
+            ));
+        }
+        Files.writeString(outputDir.resolve("comparison.txt"), table);
+        System.out.print(table);
+    }
+
+    private static double number(final Map<String, Object> summary, final String key) {
+        return summary.get(key) instanceof final Number value ? value.doubleValue() : 0;
+    }
+}
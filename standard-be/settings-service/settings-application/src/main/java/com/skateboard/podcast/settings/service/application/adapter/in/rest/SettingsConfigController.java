@@ -4,11 +4,14 @@ import com.skateboard.podcast.settings.service.application.port.in.SettingsConfi
 import com.skateboard.podcast.settings.service.application.dto.SettingsConfigView;
 import com.skateboard.podcast.standardbe.api.AdminSettingsConfigApi;
 import com.skateboard.podcast.standardbe.api.model.SettingsConfig;
+import com.skateboard.podcast.web.config.ConfigResponseWriter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.NativeWebRequest;
 
@@ -19,13 +22,16 @@ public class SettingsConfigController implements AdminSettingsConfigApi {
 
     private final SettingsConfigUseCase settingsConfigUseCase;
     private final SettingsConfigApiMapper mapper;
+    private final ConfigResponseWriter responseWriter;
 
     public SettingsConfigController(
             final SettingsConfigUseCase settingsConfigUseCase,
-            final SettingsConfigApiMapper mapper
+            final SettingsConfigApiMapper mapper,
+            final ConfigResponseWriter responseWriter
     ) {
         this.settingsConfigUseCase = settingsConfigUseCase;
         this.mapper = mapper;
+        this.responseWriter = responseWriter;
     }
 
     @Override
@@ -37,16 +43,16 @@ public class SettingsConfigController implements AdminSettingsConfigApi {
             value = "/public/settings-config",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<AdminSettingsConfig> publicSettingsConfigGet() {
-        return ResponseEntity.ok(mapper.toAdminApi(settingsConfigUseCase.get()));
+    public ResponseEntity<byte[]> publicSettingsConfigGet(@RequestHeader final HttpHeaders requestHeaders) {
+        return cachedAdminSettingsResponse(requestHeaders);
     }
 
     @GetMapping(
             value = "/public/admin-settings",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<AdminSettingsConfig> publicAdminSettingsGet() {
-        return ResponseEntity.ok(mapper.toAdminApi(settingsConfigUseCase.get()));
+    public ResponseEntity<byte[]> publicAdminSettingsGet(@RequestHeader final HttpHeaders requestHeaders) {
+        return cachedAdminSettingsResponse(requestHeaders);
     }
 
     @GetMapping(
@@ -98,4 +104,8 @@ public class SettingsConfigController implements AdminSettingsConfigApi {
         final var updated = settingsConfigUseCase.update(mapper.toView(settingsConfig));
         return ResponseEntity.ok(mapper.toAdminApi(updated));
     }
+
+    private ResponseEntity<byte[]> cachedAdminSettingsResponse(final HttpHeaders requestHeaders) {
+        return responseWriter.write(settingsConfigUseCase.getVersioned(), "admin", mapper::toAdminApi, requestHeaders);
+    }
 }
@@ -1,10 +1,15 @@
 package com.skateboard.podcast.settings.service.application.port.in;
 
+import com.skateboard.podcast.domain.config.VersionedConfig;
 import com.skateboard.podcast.settings.service.application.dto.SettingsConfigView;
 
 public interface SettingsConfigUseCase {
 
     SettingsConfigView get();
 
+    VersionedConfig<SettingsConfigView> getVersioned();
+
     SettingsConfigView update(SettingsConfigView updated);
+
+    void invalidateCache();
 }
@@ -2,6 +2,8 @@ package com.skateboard.podcast.settings.service.application.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skateboard.podcast.domain.config.ReadThroughConfigCache;
+import com.skateboard.podcast.domain.config.VersionedConfig;
 import com.skateboard.podcast.domain.exception.ValidationException;
 import com.skateboard.podcast.settings.service.application.dto.LanguageConfigView;
 import com.skateboard.podcast.settings.service.application.dto.LanguageView;
@@ -14,6 +16,7 @@ import com.skateboard.podcast.settings.service.application.port.in.SettingsConfi
 import com.skateboard.podcast.settings.service.application.port.out.SettingsConfigEventPublisher;
 import com.skateboard.podcast.settings.service.application.port.out.SettingsConfigRepository;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
@@ -29,31 +32,51 @@ public class SettingsConfigService implements SettingsConfigUseCase {
     private final SettingsConfigRepository repository;
     private final ObjectMapper objectMapper;
     private final SettingsConfigEventPublisher eventPublisher;
+    private final ReadThroughConfigCache<SettingsConfigView> cache;
 
     public SettingsConfigService(
             final SettingsConfigRepository repository,
             final ObjectMapper objectMapper,
-            final SettingsConfigEventPublisher eventPublisher
+            final SettingsConfigEventPublisher eventPublisher,
+            final Duration cacheMaxAge
     ) {
         this.repository = repository;
         this.objectMapper = objectMapper;
         this.eventPublisher = eventPublisher;
+        this.cache = new ReadThroughConfigCache<>(this::load, cacheMaxAge);
     }
 
     @Override
     public SettingsConfigView get() {
-        return toView(loadOrCreate());
+        return cache.get().value();
+    }
+
+    @Override
+    public VersionedConfig<SettingsConfigView> getVersioned() {
+        return cache.get();
     }
 
     @Override
     public SettingsConfigView update(final SettingsConfigView updated) {
         validate(updated);
         final SettingsConfigRepository.SettingsConfigRecord existing = loadOrCreate();
+        final Instant now = Instant.now();
         final SettingsConfigRepository.SettingsConfigRecord saved = repository.save(
-                toRecord(existing.id(), updated, existing.updatedAt())
+                toRecord(existing.id(), updated, now)
         );
-        eventPublisher.publishSettingsUpdated(Instant.now());
-        return toView(saved);
+        final SettingsConfigView view = cache.put(toView(saved), now).value();
+        eventPublisher.publishSettingsUpdated(now);
+        return view;
+    }
+
+    @Override
+    public void invalidateCache() {
+        cache.invalidate();
+    }
+
+    private ReadThroughConfigCache.Loaded<SettingsConfigView> load() {
+        final SettingsConfigRepository.SettingsConfigRecord record = loadOrCreate();
+        return new ReadThroughConfigCache.Loaded<>(toView(record), record.updatedAt());
     }
 
     private SettingsConfigRepository.SettingsConfigRecord loadOrCreate() {
@@ -0,0 +1,82 @@
+package com.skateboard.podcast.standard.service.container.cluster;
+
+import com.skateboard.podcast.appconfig.service.application.port.in.AppConfigUseCase;
+import com.skateboard.podcast.appconfig.service.application.port.in.NavigationConfigUseCase;
+import com.skateboard.podcast.settings.service.application.port.in.SettingsConfigUseCase;
+import com.skateboard.podcast.standard.service.container.realtime.FeedChangeRelayWorker;
+import com.skateboard.podcast.standard.service.container.security.VerifiedAccessTokenCache;
+import com.skateboard.podcast.standard.service.container.websocket.WebSocketFeedEventsEventPublisher;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Applies other nodes' writes to this node's in-process state: config caches are dropped and the
+ * change re-broadcast to local sessions, revoked tokens are evicted, and feed changes wake the relay
+ * so local sessions hear about them without waiting for its next poll.
+ */
+public class ClusterCacheSync {
+
+    private final PostgresClusterBus bus;
+    private final AppConfigUseCase appConfig;
+    private final NavigationConfigUseCase navigationConfig;
+    private final SettingsConfigUseCase settingsConfig;
+    private final VerifiedAccessTokenCache tokenCache;
+    private final FeedChangeRelayWorker relayWorker;
+    private final WebSocketFeedEventsEventPublisher localPublisher;
+
+    public ClusterCacheSync(
+            final PostgresClusterBus bus,
+            final AppConfigUseCase appConfig,
+            final NavigationConfigUseCase navigationConfig,
+            final SettingsConfigUseCase settingsConfig,
+            final VerifiedAccessTokenCache tokenCache,
+            final FeedChangeRelayWorker relayWorker,
+            final WebSocketFeedEventsEventPublisher localPublisher
+    ) {
+        this.bus = bus;
+        this.appConfig = appConfig;
+        this.navigationConfig = navigationConfig;
+        this.settingsConfig = settingsConfig;
+        this.tokenCache = tokenCache;
+        this.relayWorker = relayWorker;
+        this.localPublisher = localPublisher;
+    }
+
+    public void start() {
+        bus.subscribe(ClusterTopics.FEED_CHANGED, ignored -> relayWorker.wake());
+        bus.subscribe(ClusterTopics.APP_CONFIG_UPDATED, updatedAt -> {
+            appConfig.invalidateCache();
+            localPublisher.publishConfigUpdated(Instant.parse(updatedAt));
+        });
+        bus.subscribe(ClusterTopics.NAVIGATION_UPDATED, updatedAt -> {
+            navigationConfig.invalidateCache();
+            localPublisher.publishNavigationUpdated(Instant.parse(updatedAt));
+        });
+        bus.subscribe(ClusterTopics.SETTINGS_UPDATED, updatedAt -> {
+            settingsConfig.invalidateCache();
+            localPublisher.publishSettingsUpdated(Instant.parse(updatedAt));
+        });
+        bus.subscribe(ClusterTopics.ACCESS_TOKENS_REVOKED, this::revoke);
+        // Missed notifications cannot be replayed; reload what can be reloaded.
+        bus.onReconnect(() -> {
+            appConfig.invalidateCache();
+            navigationConfig.invalidateCache();
+            settingsConfig.invalidateCache();
+            relayWorker.wake();
+        });
+        bus.start();
+    }
+
+    public static String revocation(final UUID userId, final Instant revokedAt) {
+        return userId + "@" + revokedAt.toEpochMilli();
+    }
+
+    private void revoke(final String revocation) {
+        final int at = revocation.indexOf('@');
+        tokenCache.revokeAccessTokens(
+                UUID.fromString(revocation.substring(0, at)),
+                Instant.ofEpochMilli(Long.parseLong(revocation.substring(at + 1)))
+        );
+    }
+}
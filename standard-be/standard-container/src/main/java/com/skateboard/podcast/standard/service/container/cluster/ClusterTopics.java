@@ -0,0 +1,19 @@
+package com.skateboard.podcast.standard.service.container.cluster;
+
+/**
+ * Topics carried on the {@link PostgresClusterBus}.
+ */
+public final class ClusterTopics {
+
+    /** A feed change was committed; payload is empty. */
+    public static final String FEED_CHANGED = "feed.changed";
+    /** Payloads are the config's {@code updatedAt} as an ISO instant. */
+    public static final String APP_CONFIG_UPDATED = "config.updated";
+    public static final String NAVIGATION_UPDATED = "navigation.updated";
+    public static final String SETTINGS_UPDATED = "settings.updated";
+    /** Payload is {@code <userId>@<revokedAt epoch millis>}. */
+    public static final String ACCESS_TOKENS_REVOKED = "auth.revoked";
+
+    private ClusterTopics() {
+    }
+}
@@ -0,0 +1,242 @@
+package com.skateboard.podcast.standard.service.container.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Node-to-node bus over Postgres {@code LISTEN}/{@code NOTIFY}. Messages carry the sending node and
+ * a per-node sequence: a node ignores its own messages (it already applied the change locally) and
+ * any id it has seen before, since a publish is retried once when the first attempt fails.
+ * <p>
+ * The listener holds one dedicated connection outside the pool and reconnects with backoff. Anything
+ * sent while it was disconnected is lost, so the reconnect callbacks resynchronize from the database.
+ */
+public class PostgresClusterBus {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresClusterBus.class);
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int SEEN_IDS = 1024;
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection connect() throws SQLException;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String channel;
+    private final Duration reconnectBackoff;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, List<Consumer<String>>> subscribers = new ConcurrentHashMap<>();
+    private final List<Runnable> reconnectListeners = new CopyOnWriteArrayList<>();
+    private final Map<String, Boolean> seen = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+            return size() > SEEN_IDS;
+        }
+    };
+    private final Counter received;
+    private final Counter duplicates;
+    private final Counter reconnects;
+    private volatile boolean running;
+    private volatile Thread listener;
+
+    public PostgresClusterBus(
+            final JdbcTemplate jdbcTemplate,
+            final ConnectionFactory connectionFactory,
+            final ObjectMapper objectMapper,
+            final MeterRegistry meterRegistry,
+            final boolean enabled,
+            final String channel,
+            final Duration reconnectBackoff
+    ) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("invalid cluster bus channel: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.connectionFactory = connectionFactory;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.reconnectBackoff = reconnectBackoff;
+        this.received = Counter.builder("cluster.bus.received").register(meterRegistry);
+        this.duplicates = Counter.builder("cluster.bus.duplicates").register(meterRegistry);
+        this.reconnects = Counter.builder("cluster.bus.reconnects").register(meterRegistry);
+    }
+
+    public void subscribe(final String topic, final Consumer<String> handler) {
+        subscribers.computeIfAbsent(topic, ignored -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    public void onReconnect(final Runnable listener) {
+        reconnectListeners.add(listener);
+    }
+
+    /**
+     * Notifies the other nodes. Failures are logged, not thrown: the change is already committed and
+     * the other nodes still converge through their own polling and cache expiry.
+     */
+    public void publish(final String topic, final String data) {
+        if (!enabled) {
+            return;
+        }
+        final String payload;
+        try {
+            payload = objectMapper.writeValueAsString(
+                    new Message(nodeId + ":" + sequence.incrementAndGet(), nodeId, topic, data));
+        } catch (final Exception e) {
+            log.warn("Failed to encode cluster message {}", topic, e);
+            return;
+        }
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            try {
+                jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+                return;
+            } catch (final RuntimeException e) {
+                if (attempt == 2) {
+                    log.warn("Failed to publish cluster message {}", topic, e);
+                }
+            }
+        }
+    }
+
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().name("cluster-bus").daemon(true).start(this::listen);
+    }
+
+    public void stop() {
+        running = false;
+        final Thread thread = listener;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    void receive(final String payload) {
+        final Message message;
+        try {
+            message = objectMapper.readValue(payload, Message.class);
+        } catch (final Exception e) {
+            log.warn("Ignoring malformed cluster message", e);
+            return;
+        }
+        if (nodeId.equals(message.node())) {
+            return;
+        }
+        if (!firstSighting(message.id())) {
+            duplicates.increment();
+            return;
+        }
+        received.increment();
+        for (final Consumer<String> handler : subscribers.getOrDefault(message.topic(), List.of())) {
+            try {
+                handler.accept(message.data());
+            } catch (final RuntimeException e) {
+                log.warn("Cluster handler for {} failed", message.topic(), e);
+            }
+        }
+    }
+
+    private boolean firstSighting(final String id) {
+        synchronized (seen) {
+            return seen.put(id, Boolean.TRUE) == null;
+        }
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        Duration backoff = reconnectBackoff;
+        while (running) {
+            try (Connection connection = connectionFactory.connect()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (connectedBefore) {
+                    reconnects.increment();
+                    log.info("Cluster bus reconnected on channel {}", channel);
+                    reconnectListeners.forEach(this::runSafely);
+                }
+                connectedBefore = true;
+                backoff = reconnectBackoff;
+                pollNotifications(connection);
+            } catch (final SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cluster bus connection lost, retrying in {}", backoff, e);
+                if (!sleep(backoff)) {
+                    return;
+                }
+                final Duration doubled = backoff.multipliedBy(2);
+                backoff = doubled.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : doubled;
+            }
+        }
+    }
+
+    private void pollNotifications(final Connection connection) throws SQLException {
+        final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            final PGNotification[] notifications = pgConnection.getNotifications((int) POLL_TIMEOUT.toMillis());
+            if (notifications == null || notifications.length == 0) {
+                // A quiet socket may be a dead one; a round trip surfaces that as an SQLException.
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                continue;
+            }
+            for (final PGNotification notification : notifications) {
+                receive(notification.getParameter());
+            }
+        }
+    }
+
+    private void runSafely(final Runnable task) {
+        try {
+            task.run();
+        } catch (final RuntimeException e) {
+            log.warn("Cluster reconnect listener failed", e);
+        }
+    }
+
+    private static boolean sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    record Message(String id, String node, String topic, String data) {
+    }
+}
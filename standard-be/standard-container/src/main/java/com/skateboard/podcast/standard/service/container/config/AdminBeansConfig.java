@@ -1,9 +1,13 @@
 package com.skateboard.podcast.standard.service.container.config;
 
+import com.skateboard.podcast.domain.transaction.TransactionRunner;
 import com.skateboard.podcast.feed.service.application.port.in.AdminPostsUseCase;
 import com.skateboard.podcast.feed.service.application.service.AdminPostsService;
-import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
 import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
+import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
+import com.skateboard.podcast.standard.service.container.metrics.PortMetrics;
+import com.skateboard.podcast.standard.service.container.realtime.FeedChangeRelayWorker;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,9 +17,17 @@ public class AdminBeansConfig {
     @Bean
     public AdminPostsUseCase adminPostsService(
             final PostRepository postRepository,
-            final FeedEventPublisher feedEventPublisher
+            final FeedChangeLog feedChangeLog,
+            final TransactionRunner transactionRunner,
+            final FeedChangeRelayWorker feedChangeRelayWorker,
+            final PortMetrics portMetrics
     ) {
-        return new AdminPostsService(postRepository, feedEventPublisher);
+        return portMetrics.inbound(AdminPostsUseCase.class, new AdminPostsService(
+                portMetrics.outbound(PostRepository.class, postRepository),
+                portMetrics.outbound(FeedEventPublisher.class, feedChangeRelayWorker.postSignal()),
+                portMetrics.outbound(FeedChangeLog.class, feedChangeLog),
+                transactionRunner
+        ));
     }
 }
 
@@ -9,26 +9,55 @@ import com.skateboard.podcast.appconfig.service.application.port.out.NavigationC
 import com.skateboard.podcast.appconfig.service.application.port.out.NavigationConfigRepository;
 import com.skateboard.podcast.appconfig.service.application.service.AppConfigService;
 import com.skateboard.podcast.appconfig.service.application.service.NavigationConfigService;
+import com.skateboard.podcast.standard.service.container.cluster.ClusterTopics;
+import com.skateboard.podcast.standard.service.container.cluster.PostgresClusterBus;
+import com.skateboard.podcast.standard.service.container.metrics.PortMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class AppConfigBeansConfig {
 
     @Bean
     public AppConfigUseCase appConfigUseCase(
             final AppConfigRepository appConfigRepository,
-            final AppConfigEventPublisher appConfigEventPublisher
+            final AppConfigEventPublisher appConfigEventPublisher,
+            final PostgresClusterBus postgresClusterBus,
+            final PortMetrics portMetrics,
+            @Value("${app.config-cache.max-age:PT30S}") final Duration cacheMaxAge
     ) {
-        return new AppConfigService(appConfigRepository, appConfigEventPublisher);
+        final AppConfigEventPublisher clustered = updatedAt -> {
+            appConfigEventPublisher.publishConfigUpdated(updatedAt);
+            postgresClusterBus.publish(ClusterTopics.APP_CONFIG_UPDATED, updatedAt.toString());
+        };
+        return portMetrics.inbound(AppConfigUseCase.class, new AppConfigService(
+                portMetrics.outbound(AppConfigRepository.class, appConfigRepository),
+                portMetrics.outbound(AppConfigEventPublisher.class, clustered),
+                cacheMaxAge
+        ));
     }
 
     @Bean
     public NavigationConfigUseCase navigationConfigUseCase(
             final NavigationConfigRepository navigationConfigRepository,
             final NavigationConfigEventPublisher navigationConfigEventPublisher,
-            final ObjectMapper objectMapper
+            final ObjectMapper objectMapper,
+            final PostgresClusterBus postgresClusterBus,
+            final PortMetrics portMetrics,
+            @Value("${app.config-cache.max-age:PT30S}") final Duration cacheMaxAge
     ) {
-        return new NavigationConfigService(navigationConfigRepository, navigationConfigEventPublisher, objectMapper);
+        final NavigationConfigEventPublisher clustered = updatedAt -> {
+            navigationConfigEventPublisher.publishNavigationUpdated(updatedAt);
+            postgresClusterBus.publish(ClusterTopics.NAVIGATION_UPDATED, updatedAt.toString());
+        };
+        return portMetrics.inbound(NavigationConfigUseCase.class, new NavigationConfigService(
+                portMetrics.outbound(NavigationConfigRepository.class, navigationConfigRepository),
+                portMetrics.outbound(NavigationConfigEventPublisher.class, clustered),
+                objectMapper,
+                cacheMaxAge
+        ));
     }
 }
@@ -0,0 +1,72 @@
+package com.skateboard.podcast.standard.service.container.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skateboard.podcast.appconfig.service.application.port.in.AppConfigUseCase;
+import com.skateboard.podcast.appconfig.service.application.port.in.NavigationConfigUseCase;
+import com.skateboard.podcast.settings.service.application.port.in.SettingsConfigUseCase;
+import com.skateboard.podcast.standard.service.container.cluster.ClusterCacheSync;
+import com.skateboard.podcast.standard.service.container.cluster.PostgresClusterBus;
+import com.skateboard.podcast.standard.service.container.realtime.FeedChangeRelayWorker;
+import com.skateboard.podcast.standard.service.container.security.VerifiedAccessTokenCache;
+import com.skateboard.podcast.standard.service.container.websocket.WebSocketFeedEventsEventPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DriverManager;
+import java.time.Duration;
+
+@Configuration
+public class ClusterBeansConfig {
+
+    @Bean(destroyMethod = "stop")
+    public PostgresClusterBus postgresClusterBus(
+            final JdbcTemplate jdbcTemplate,
+            final DataSourceProperties dataSourceProperties,
+            final ObjectMapper objectMapper,
+            final MeterRegistry meterRegistry,
+            @Value("${app.cluster.bus.enabled:true}") final boolean enabled,
+            @Value("${app.cluster.bus.channel:standard_cluster}") final String channel,
+            @Value("${app.cluster.bus.reconnect-backoff:PT1S}") final Duration reconnectBackoff
+    ) {
+        // The listener keeps its connection for the node's lifetime, so it is opened outside the pool.
+        final PostgresClusterBus.ConnectionFactory listenerConnection = () -> DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword()
+        );
+        return new PostgresClusterBus(
+                jdbcTemplate,
+                listenerConnection,
+                objectMapper,
+                meterRegistry,
+                enabled,
+                channel,
+                reconnectBackoff
+        );
+    }
+
+    @Bean(initMethod = "start")
+    public ClusterCacheSync clusterCacheSync(
+            final PostgresClusterBus postgresClusterBus,
+            final AppConfigUseCase appConfigUseCase,
+            final NavigationConfigUseCase navigationConfigUseCase,
+            final SettingsConfigUseCase settingsConfigUseCase,
+            final VerifiedAccessTokenCache verifiedAccessTokenCache,
+            final FeedChangeRelayWorker feedChangeRelayWorker,
+            final WebSocketFeedEventsEventPublisher webSocketFeedEventsEventPublisher
+    ) {
+        return new ClusterCacheSync(
+                postgresClusterBus,
+                appConfigUseCase,
+                navigationConfigUseCase,
+                settingsConfigUseCase,
+                verifiedAccessTokenCache,
+                feedChangeRelayWorker,
+                webSocketFeedEventsEventPublisher
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package com.skateboard.podcast.standard.service.container.config;
+
+import com.skateboard.podcast.standard.service.container.datasource.GatedDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class DataSourceBeansConfig {
+
+    // Wraps the auto-configured Hikari pool rather than replacing it, so spring.datasource.hikari.*
+    // binding and the pool metrics keep working; static because it is a post-processor.
+    @Bean
+    public static BeanPostProcessor dataSourceGate(
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.datasource.gate.enabled:false}") final boolean enabled,
+            @Value("${app.datasource.gate.permits:${spring.datasource.hikari.maximum-pool-size:10}}") final int permits,
+            @Value("${app.datasource.gate.max-waiters:500}") final int maxWaiters,
+            @Value("${app.datasource.gate.acquire-timeout:PT2S}") final Duration acquireTimeout
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!enabled || !(bean instanceof final DataSource dataSource) || bean instanceof GatedDataSource) {
+                    return bean;
+                }
+                return new GatedDataSource(dataSource, permits, maxWaiters, acquireTimeout, meterRegistry.getObject());
+            }
+        };
+    }
+}
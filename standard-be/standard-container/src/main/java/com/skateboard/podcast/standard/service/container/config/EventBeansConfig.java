@@ -1,11 +1,15 @@
 package com.skateboard.podcast.standard.service.container.config;
 
+import com.skateboard.podcast.domain.transaction.TransactionRunner;
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
 import com.skateboard.podcast.feed.service.events.application.port.in.AdminFeedEventsUseCase;
 import com.skateboard.podcast.feed.service.events.application.port.in.PublicFeedEventsUseCase;
 import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventRepository;
 import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventsEventPublisher;
 import com.skateboard.podcast.feed.service.events.application.service.AdminFeedEventsService;
 import com.skateboard.podcast.feed.service.events.application.service.PublicFeedEventsService;
+import com.skateboard.podcast.standard.service.container.metrics.PortMetrics;
+import com.skateboard.podcast.standard.service.container.realtime.FeedChangeRelayWorker;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,17 +17,30 @@ import org.springframework.context.annotation.Configuration;
 public class EventBeansConfig {
 
     @Bean
-    public PublicFeedEventsUseCase publicFeedEventsService(final FeedEventRepository eventRepository) {
-        return new PublicFeedEventsService(eventRepository);
+    public PublicFeedEventsUseCase publicFeedEventsService(
+            final FeedEventRepository eventRepository,
+            final PortMetrics portMetrics
+    ) {
+        return portMetrics.inbound(
+                PublicFeedEventsUseCase.class,
+                new PublicFeedEventsService(portMetrics.outbound(FeedEventRepository.class, eventRepository))
+        );
     }
 
     @Bean
     public AdminFeedEventsUseCase adminFeedEventsService(
             final FeedEventRepository eventRepository,
-            final FeedEventsEventPublisher eventsEventPublisher
+            final FeedChangeLog feedChangeLog,
+            final TransactionRunner transactionRunner,
+            final FeedChangeRelayWorker feedChangeRelayWorker,
+            final PortMetrics portMetrics
     ) {
-        return new AdminFeedEventsService(eventRepository, eventsEventPublisher);
+        return portMetrics.inbound(AdminFeedEventsUseCase.class, new AdminFeedEventsService(
+                portMetrics.outbound(FeedEventRepository.class, eventRepository),
+                portMetrics.outbound(FeedEventsEventPublisher.class, feedChangeRelayWorker.eventSignal()),
+                portMetrics.outbound(FeedChangeLog.class, feedChangeLog),
+                transactionRunner
+        ));
     }
 }
 
-
@@ -1,28 +1,76 @@
 package com.skateboard.podcast.standard.service.container.config;
 
+import com.skateboard.podcast.feed.service.application.port.in.FeedChangesUseCase;
 import com.skateboard.podcast.feed.service.application.port.in.PublicFeedUseCase;
 import com.skateboard.podcast.feed.service.application.port.in.PublicPostsUseCase;
+import com.skateboard.podcast.feed.service.application.service.FeedChangesService;
 import com.skateboard.podcast.feed.service.application.service.PublicFeedService;
 import com.skateboard.podcast.feed.service.application.service.PublicPostsService;
+import com.skateboard.podcast.feed.service.application.service.PublishedFeedSnapshotStore;
+import com.skateboard.podcast.feed.service.application.service.SnapshotPublicFeedService;
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
 import com.skateboard.podcast.feed.service.application.port.out.PostRepository;
 import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventRepository;
+import com.skateboard.podcast.standard.service.container.metrics.PortMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class FeedBeansConfig {
 
+    @Bean
+    public PublishedFeedSnapshotStore publishedFeedSnapshotStore(
+            final PostRepository postRepository,
+            final FeedEventRepository eventRepository,
+            final PortMetrics portMetrics,
+            @Value("${app.feed.snapshot.max-age:PT5M}") final Duration maxAge
+    ) {
+        return new PublishedFeedSnapshotStore(
+                portMetrics.outbound(PostRepository.class, postRepository),
+                portMetrics.outbound(FeedEventRepository.class, eventRepository),
+                maxAge
+        );
+    }
+
     @Bean
     public PublicFeedUseCase publicFeedService(
             final PostRepository postRepository,
-            final FeedEventRepository eventRepository
+            final FeedEventRepository eventRepository,
+            final PublishedFeedSnapshotStore snapshotStore,
+            final PortMetrics portMetrics,
+            @Value("${app.feed.snapshot.enabled:true}") final boolean snapshotEnabled
     ) {
-        return new PublicFeedService(postRepository, eventRepository);
+        if (snapshotEnabled) {
+            return portMetrics.inbound(PublicFeedUseCase.class, new SnapshotPublicFeedService(snapshotStore));
+        }
+        return portMetrics.inbound(PublicFeedUseCase.class, new PublicFeedService(
+                portMetrics.outbound(PostRepository.class, postRepository),
+                portMetrics.outbound(FeedEventRepository.class, eventRepository)
+        ));
     }
 
     @Bean
-    public PublicPostsUseCase publicPostsService(final PostRepository postRepository) {
-        return new PublicPostsService(postRepository);
+    public FeedChangesUseCase feedChangesService(
+            final FeedChangeLog feedChangeLog,
+            final PostRepository postRepository,
+            final FeedEventRepository eventRepository,
+            final PortMetrics portMetrics
+    ) {
+        return portMetrics.inbound(FeedChangesUseCase.class, new FeedChangesService(
+                portMetrics.outbound(FeedChangeLog.class, feedChangeLog),
+                portMetrics.outbound(PostRepository.class, postRepository),
+                portMetrics.outbound(FeedEventRepository.class, eventRepository)
+        ));
     }
-}
 
+    @Bean
+    public PublicPostsUseCase publicPostsService(final PostRepository postRepository, final PortMetrics portMetrics) {
+        return portMetrics.inbound(
+                PublicPostsUseCase.class,
+                new PublicPostsService(portMetrics.outbound(PostRepository.class, postRepository))
+        );
+    }
+}
@@ -1,9 +1,11 @@
 package com.skateboard.podcast.standard.service.container.config;
 
 import com.skateboard.podcast.iam.service.application.service.AdminUsersService;
+import com.skateboard.podcast.iam.service.application.service.BufferedLastLoginRecorder;
 import com.skateboard.podcast.iam.service.application.service.LoginService;
 import com.skateboard.podcast.iam.service.application.service.LogoutService;
 import com.skateboard.podcast.iam.service.application.service.RefreshService;
+import com.skateboard.podcast.iam.service.application.service.RefreshTokenPurgeService;
 import com.skateboard.podcast.iam.service.application.service.RegisterService;
 import com.skateboard.podcast.iam.service.application.service.SocialLoginService;
 import com.skateboard.podcast.iam.service.application.service.UserProfileService;
@@ -14,13 +16,28 @@ import com.skateboard.podcast.iam.service.application.port.in.RefreshUseCase;
 import com.skateboard.podcast.iam.service.application.port.in.RegisterUseCase;
 import com.skateboard.podcast.iam.service.application.port.in.SocialLoginUseCase;
 import com.skateboard.podcast.iam.service.application.port.in.UserProfileUseCase;
+import com.skateboard.podcast.iam.service.application.port.out.AccessTokenRevoker;
+import com.skateboard.podcast.iam.service.application.port.out.LastLoginRecorder;
 import com.skateboard.podcast.iam.service.application.port.out.PasswordHasher;
 import com.skateboard.podcast.iam.service.application.port.out.RefreshTokenRepository;
 import com.skateboard.podcast.iam.service.application.port.out.TokenProvider;
 import com.skateboard.podcast.iam.service.application.port.out.UserRepository;
+import com.skateboard.podcast.standard.service.container.cluster.ClusterCacheSync;
+import com.skateboard.podcast.standard.service.container.cluster.ClusterTopics;
+import com.skateboard.podcast.standard.service.container.cluster.PostgresClusterBus;
+import com.skateboard.podcast.standard.service.container.metrics.PortMetrics;
+import com.skateboard.podcast.standard.service.container.security.LastLoginFlushWorker;
+import com.skateboard.podcast.standard.service.container.security.RefreshTokenPurgeWorker;
+import com.skateboard.podcast.standard.service.container.security.VerifiedAccessTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
 @Configuration
 public class IamBeansConfig {
 
@@ -29,9 +46,15 @@ public class IamBeansConfig {
             final UserRepository userRepository,
             final RefreshTokenRepository refreshTokenRepository,
             final PasswordHasher passwordHasher,
-            final TokenProvider tokenProvider
+            final TokenProvider tokenProvider,
+            final PortMetrics portMetrics
     ) {
-        return new RegisterService(userRepository, refreshTokenRepository, passwordHasher, tokenProvider);
+        return portMetrics.inbound(RegisterUseCase.class, new RegisterService(
+                portMetrics.outbound(UserRepository.class, userRepository),
+                portMetrics.outbound(RefreshTokenRepository.class, refreshTokenRepository),
+                portMetrics.outbound(PasswordHasher.class, passwordHasher),
+                portMetrics.outbound(TokenProvider.class, tokenProvider)
+        ));
     }
 
     @Bean
@@ -39,41 +62,156 @@ public class IamBeansConfig {
             final UserRepository userRepository,
             final RefreshTokenRepository refreshTokenRepository,
             final PasswordHasher passwordHasher,
-            final TokenProvider tokenProvider
+            final TokenProvider tokenProvider,
+            final LastLoginRecorder lastLoginRecorder,
+            final PortMetrics portMetrics
     ) {
-        return new LoginService(userRepository, refreshTokenRepository, passwordHasher, tokenProvider);
+        return portMetrics.inbound(LoginUseCase.class, new LoginService(
+                portMetrics.outbound(UserRepository.class, userRepository),
+                portMetrics.outbound(RefreshTokenRepository.class, refreshTokenRepository),
+                portMetrics.outbound(PasswordHasher.class, passwordHasher),
+                portMetrics.outbound(TokenProvider.class, tokenProvider),
+                portMetrics.outbound(LastLoginRecorder.class, lastLoginRecorder)
+        ));
     }
 
     @Bean
     public RefreshUseCase refreshService(
             final RefreshTokenRepository refreshTokenRepository,
             final UserRepository userRepository,
-            final TokenProvider tokenProvider
+            final TokenProvider tokenProvider,
+            final PortMetrics portMetrics,
+            @Value("${security.refresh-token.reuse-grace:PT10S}") final Duration reuseGrace
+    ) {
+        return portMetrics.inbound(RefreshUseCase.class, new RefreshService(
+                portMetrics.outbound(RefreshTokenRepository.class, refreshTokenRepository),
+                portMetrics.outbound(UserRepository.class, userRepository),
+                portMetrics.outbound(TokenProvider.class, tokenProvider),
+                reuseGrace
+        ));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService maintenanceScheduler(
+            @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads
+    ) {
+        return Executors.newSingleThreadScheduledExecutor(SchedulerThreads.factory("maintenance", virtualThreads));
+    }
+
+    // Separate from maintenanceScheduler so a long purge never holds back the last-login flushes.
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService lastLoginScheduler(
+            @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads
+    ) {
+        return Executors.newSingleThreadScheduledExecutor(SchedulerThreads.factory("last-login", virtualThreads));
+    }
+
+    @Bean
+    public BufferedLastLoginRecorder lastLoginRecorder(
+            final UserRepository userRepository,
+            final PortMetrics portMetrics
+    ) {
+        return new BufferedLastLoginRecorder(portMetrics.outbound(UserRepository.class, userRepository));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public LastLoginFlushWorker lastLoginFlushWorker(
+            final BufferedLastLoginRecorder lastLoginRecorder,
+            final ScheduledExecutorService lastLoginScheduler,
+            final MeterRegistry meterRegistry,
+            @Value("${app.security.last-login.flush-interval:PT10S}") final Duration flushInterval
     ) {
-        return new RefreshService(refreshTokenRepository, userRepository, tokenProvider);
+        return new LastLoginFlushWorker(lastLoginRecorder, lastLoginScheduler, flushInterval, meterRegistry);
+    }
+
+    @Bean(initMethod = "start")
+    public RefreshTokenPurgeWorker refreshTokenPurgeWorker(
+            final RefreshTokenRepository refreshTokenRepository,
+            final ScheduledExecutorService maintenanceScheduler,
+            final MeterRegistry meterRegistry,
+            final PortMetrics portMetrics,
+            @Value("${security.refresh-token.purge.interval:PT1H}") final Duration interval,
+            @Value("${security.refresh-token.purge.retention:P7D}") final Duration retention,
+            @Value("${security.refresh-token.purge.chunk-size:1000}") final int chunkSize
+    ) {
+        return new RefreshTokenPurgeWorker(
+                new RefreshTokenPurgeService(
+                        portMetrics.outbound(RefreshTokenRepository.class, refreshTokenRepository),
+                        retention,
+                        chunkSize
+                ),
+                maintenanceScheduler,
+                interval,
+                meterRegistry
+        );
     }
 
     @Bean
-    public LogoutUseCase logoutService(final RefreshTokenRepository refreshTokenRepository) {
-        return new LogoutService(refreshTokenRepository);
+    public LogoutUseCase logoutService(
+            final RefreshTokenRepository refreshTokenRepository,
+            final VerifiedAccessTokenCache verifiedAccessTokenCache,
+            final PostgresClusterBus postgresClusterBus,
+            final PortMetrics portMetrics
+    ) {
+        return portMetrics.inbound(LogoutUseCase.class, new LogoutService(
+                portMetrics.outbound(RefreshTokenRepository.class, refreshTokenRepository),
+                portMetrics.outbound(
+                        AccessTokenRevoker.class,
+                        clusterRevoker(verifiedAccessTokenCache, postgresClusterBus)
+                )
+        ));
     }
 
     @Bean
     public SocialLoginUseCase socialLoginService(
             final UserRepository userRepository,
             final RefreshTokenRepository refreshTokenRepository,
-            final TokenProvider tokenProvider
+            final TokenProvider tokenProvider,
+            final LastLoginRecorder lastLoginRecorder,
+            final PortMetrics portMetrics
     ) {
-        return new SocialLoginService(userRepository, refreshTokenRepository, tokenProvider);
+        return portMetrics.inbound(SocialLoginUseCase.class, new SocialLoginService(
+                portMetrics.outbound(UserRepository.class, userRepository),
+                portMetrics.outbound(RefreshTokenRepository.class, refreshTokenRepository),
+                portMetrics.outbound(TokenProvider.class, tokenProvider),
+                portMetrics.outbound(LastLoginRecorder.class, lastLoginRecorder)
+        ));
     }
 
     @Bean
-    public UserProfileUseCase userProfileService(final UserRepository userRepository) {
-        return new UserProfileService(userRepository);
+    public UserProfileUseCase userProfileService(final UserRepository userRepository, final PortMetrics portMetrics) {
+        return portMetrics.inbound(
+                UserProfileUseCase.class,
+                new UserProfileService(portMetrics.outbound(UserRepository.class, userRepository))
+        );
     }
 
     @Bean
-    public AdminUsersUseCase adminUsersService(final UserRepository userRepository) {
-        return new AdminUsersService(userRepository);
+    public AdminUsersUseCase adminUsersService(
+            final UserRepository userRepository,
+            final VerifiedAccessTokenCache verifiedAccessTokenCache,
+            final PostgresClusterBus postgresClusterBus,
+            final PortMetrics portMetrics
+    ) {
+        return portMetrics.inbound(AdminUsersUseCase.class, new AdminUsersService(
+                portMetrics.outbound(UserRepository.class, userRepository),
+                portMetrics.outbound(
+                        AccessTokenRevoker.class,
+                        clusterRevoker(verifiedAccessTokenCache, postgresClusterBus)
+                )
+        ));
+    }
+
+    private static AccessTokenRevoker clusterRevoker(
+            final VerifiedAccessTokenCache tokenCache,
+            final PostgresClusterBus clusterBus
+    ) {
+        return (userId, revokedAt) -> {
+            tokenCache.revokeAccessTokens(userId, revokedAt);
+            clusterBus.publish(
+                    ClusterTopics.ACCESS_TOKENS_REVOKED,
+                    ClusterCacheSync.revocation(userId, revokedAt)
+            );
+        };
     }
 }
@@ -1,8 +1,14 @@
 package com.skateboard.podcast.standard.service.container.config;
 
+import com.skateboard.podcast.domain.transaction.TransactionRunner;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
 
 @Configuration
 @EnableJpaRepositories(basePackages = {
@@ -20,5 +26,16 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
         "com.skateboard.podcast.settings.service.dataaccess.persistence.jpa"
 })
 public class JpaConfig {
+
+    @Bean
+    public TransactionRunner transactionRunner(final PlatformTransactionManager transactionManager) {
+        final TransactionTemplate template = new TransactionTemplate(transactionManager);
+        return new TransactionRunner() {
+            @Override
+            public <T> T inTransaction(final Supplier<T> work) {
+                return template.execute(status -> work.get());
+            }
+        };
+    }
 }
 
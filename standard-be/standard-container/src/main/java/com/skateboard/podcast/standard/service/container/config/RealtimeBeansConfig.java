@@ -0,0 +1,121 @@
+package com.skateboard.podcast.standard.service.container.config;
+
+import com.skateboard.podcast.feed.service.application.port.out.FeedChangeLog;
+import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
+import com.skateboard.podcast.feed.service.application.port.out.FeedRelayOffsets;
+import com.skateboard.podcast.feed.service.application.service.CoalescingFeedEventPublisher;
+import com.skateboard.podcast.feed.service.application.service.FeedChangePruneService;
+import com.skateboard.podcast.feed.service.application.service.FeedChangeRelay;
+import com.skateboard.podcast.feed.service.application.service.PublishedFeedSnapshotStore;
+import com.skateboard.podcast.feed.service.application.service.SnapshotFeedEventPublisher;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventsEventPublisher;
+import com.skateboard.podcast.feed.service.events.application.service.CoalescingFeedEventsEventPublisher;
+import com.skateboard.podcast.feed.service.events.application.service.SnapshotFeedEventsEventPublisher;
+import com.skateboard.podcast.standard.service.container.cluster.PostgresClusterBus;
+import com.skateboard.podcast.standard.service.container.metrics.PortMetrics;
+import com.skateboard.podcast.standard.service.container.realtime.FeedChangePruneWorker;
+import com.skateboard.podcast.standard.service.container.realtime.FeedChangeRelayWorker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+public class RealtimeBeansConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService realtimeScheduler(
+            @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads
+    ) {
+        return Executors.newSingleThreadScheduledExecutor(SchedulerThreads.factory("realtime", virtualThreads));
+    }
+
+    // Separate from realtimeScheduler so a slow relay pass never delays the coalescing flushes.
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService feedRelayScheduler(
+            @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads
+    ) {
+        return Executors.newSingleThreadScheduledExecutor(SchedulerThreads.factory("feed-relay", virtualThreads));
+    }
+
+    @Bean
+    public FeedChangeRelay feedChangeRelay(
+            final FeedChangeLog feedChangeLog,
+            final FeedRelayOffsets feedRelayOffsets,
+            final FeedEventPublisher feedEventPublisher,
+            final FeedEventsEventPublisher eventsEventPublisher,
+            final PublishedFeedSnapshotStore snapshotStore,
+            final ScheduledExecutorService realtimeScheduler,
+            final PortMetrics portMetrics,
+            @Value("${app.realtime.outbox.consumer:default}") final String consumer,
+            @Value("${app.realtime.outbox.batch-size:200}") final int batchSize,
+            @Value("${app.realtime.outbox.offset-ttl:P1D}") final Duration offsetTtl,
+            @Value("${app.realtime.coalesce.window:PT1S}") final Duration coalesceWindow,
+            @Value("${app.realtime.coalesce.max-item-events:20}") final int maxItemEvents
+    ) {
+        // Timed below the coalescers, so the timers see the broadcasts that actually go out.
+        final FeedEventPublisher broadcastPosts = portMetrics.outbound(FeedEventPublisher.class, feedEventPublisher);
+        final FeedEventsEventPublisher broadcastEvents =
+                portMetrics.outbound(FeedEventsEventPublisher.class, eventsEventPublisher);
+        final FeedEventPublisher posts = coalesceWindow.isZero()
+                ? broadcastPosts
+                : new CoalescingFeedEventPublisher(
+                        broadcastPosts, coalesceWindow, maxItemEvents, realtimeScheduler);
+        final FeedEventsEventPublisher events = coalesceWindow.isZero()
+                ? broadcastEvents
+                : new CoalescingFeedEventsEventPublisher(
+                        broadcastEvents, coalesceWindow, maxItemEvents, realtimeScheduler);
+        return new FeedChangeRelay(
+                portMetrics.outbound(FeedChangeLog.class, feedChangeLog),
+                portMetrics.outbound(FeedRelayOffsets.class, feedRelayOffsets),
+                consumer,
+                new SnapshotFeedEventPublisher(posts, snapshotStore),
+                new SnapshotFeedEventsEventPublisher(events, snapshotStore),
+                batchSize,
+                maxItemEvents,
+                offsetTtl
+        );
+    }
+
+    @Bean(initMethod = "start")
+    public FeedChangeRelayWorker feedChangeRelayWorker(
+            final FeedChangeRelay feedChangeRelay,
+            final ScheduledExecutorService feedRelayScheduler,
+            final PostgresClusterBus postgresClusterBus,
+            final MeterRegistry meterRegistry,
+            @Value("${app.realtime.outbox.poll-interval:PT1S}") final Duration pollInterval
+    ) {
+        return new FeedChangeRelayWorker(
+                feedChangeRelay, feedRelayScheduler, pollInterval, postgresClusterBus, meterRegistry);
+    }
+
+    @Bean(initMethod = "start")
+    public FeedChangePruneWorker feedChangePruneWorker(
+            final FeedChangeLog feedChangeLog,
+            final FeedRelayOffsets feedRelayOffsets,
+            final ScheduledExecutorService maintenanceScheduler,
+            final MeterRegistry meterRegistry,
+            final PortMetrics portMetrics,
+            @Value("${app.realtime.outbox.prune.interval:PT1H}") final Duration interval,
+            @Value("${app.realtime.outbox.prune.retention:P7D}") final Duration retention,
+            @Value("${app.realtime.outbox.prune.chunk-size:1000}") final int chunkSize,
+            @Value("${app.realtime.outbox.offset-ttl:P1D}") final Duration offsetTtl
+    ) {
+        return new FeedChangePruneWorker(
+                new FeedChangePruneService(
+                        portMetrics.outbound(FeedChangeLog.class, feedChangeLog),
+                        portMetrics.outbound(FeedRelayOffsets.class, feedRelayOffsets),
+                        retention,
+                        offsetTtl,
+                        chunkSize
+                ),
+                maintenanceScheduler,
+                interval,
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.skateboard.podcast.standard.service.container.config;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Thread for a single-threaded job scheduler: virtual when the app runs on virtual threads, so a
+ * job blocked on JDBC does not hold a carrier, otherwise a daemon platform thread.
+ */
+final class SchedulerThreads {
+
+    private SchedulerThreads() {
+    }
+
+    static ThreadFactory factory(final String name, final boolean virtual) {
+        if (virtual) {
+            return Thread.ofVirtual().name(name).factory();
+        }
+        return runnable -> {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
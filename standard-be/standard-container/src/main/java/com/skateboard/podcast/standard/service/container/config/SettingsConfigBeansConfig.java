@@ -5,9 +5,15 @@ import com.skateboard.podcast.settings.service.application.port.in.SettingsConfi
 import com.skateboard.podcast.settings.service.application.port.out.SettingsConfigEventPublisher;
 import com.skateboard.podcast.settings.service.application.port.out.SettingsConfigRepository;
 import com.skateboard.podcast.settings.service.application.service.SettingsConfigService;
+import com.skateboard.podcast.standard.service.container.cluster.ClusterTopics;
+import com.skateboard.podcast.standard.service.container.cluster.PostgresClusterBus;
+import com.skateboard.podcast.standard.service.container.metrics.PortMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class SettingsConfigBeansConfig {
 
@@ -15,8 +21,20 @@ public class SettingsConfigBeansConfig {
     public SettingsConfigUseCase settingsConfigUseCase(
             final SettingsConfigRepository settingsConfigRepository,
             final ObjectMapper objectMapper,
-            final SettingsConfigEventPublisher settingsConfigEventPublisher
+            final SettingsConfigEventPublisher settingsConfigEventPublisher,
+            final PostgresClusterBus postgresClusterBus,
+            final PortMetrics portMetrics,
+            @Value("${app.config-cache.max-age:PT30S}") final Duration cacheMaxAge
     ) {
-        return new SettingsConfigService(settingsConfigRepository, objectMapper, settingsConfigEventPublisher);
+        final SettingsConfigEventPublisher clustered = updatedAt -> {
+            settingsConfigEventPublisher.publishSettingsUpdated(updatedAt);
+            postgresClusterBus.publish(ClusterTopics.SETTINGS_UPDATED, updatedAt.toString());
+        };
+        return portMetrics.inbound(SettingsConfigUseCase.class, new SettingsConfigService(
+                portMetrics.outbound(SettingsConfigRepository.class, settingsConfigRepository),
+                objectMapper,
+                portMetrics.outbound(SettingsConfigEventPublisher.class, clustered),
+                cacheMaxAge
+        ));
     }
 }
@@ -0,0 +1,14 @@
+package com.skateboard.podcast.standard.service.container.datasource;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * No connection permit was available in time. Raised from {@code getConnection()}, so it usually
+ * reaches the web layer as the cause of a Spring or Hibernate exception.
+ */
+public class DatabaseBusyException extends SQLTransientConnectionException {
+
+    public DatabaseBusyException(final String message) {
+        super(message);
+    }
+}
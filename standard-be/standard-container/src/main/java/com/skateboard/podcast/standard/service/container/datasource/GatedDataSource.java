@@ -0,0 +1,160 @@
+package com.skateboard.podcast.standard.service.container.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps how many connections can be checked out at once. On virtual threads nothing else bounds
+ * request concurrency, and every caller beyond the pool size would otherwise wait inside Hikari for
+ * its full connection timeout. Here they queue on a fair semaphore with a short timeout and a
+ * bounded number of waiters, and the rest get {@link DatabaseBusyException} straight away. The
+ * permit is returned when the connection is closed.
+ */
+public class GatedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int permitCount;
+    private final int maxWaiters;
+    private final long acquireTimeoutNanos;
+    private final Timer waitTimer;
+    private final Counter rejectedSaturated;
+    private final Counter rejectedTimeout;
+
+    public GatedDataSource(
+            final DataSource target,
+            final int permits,
+            final int maxWaiters,
+            final Duration acquireTimeout,
+            final MeterRegistry meterRegistry
+    ) {
+        super(target);
+        this.permitCount = Math.max(1, permits);
+        this.permits = new Semaphore(permitCount, true);
+        this.maxWaiters = Math.max(0, maxWaiters);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.waitTimer = Timer.builder("db.gate.wait").register(meterRegistry);
+        this.rejectedSaturated = rejectedCounter(meterRegistry, "saturated");
+        this.rejectedTimeout = rejectedCounter(meterRegistry, "timeout");
+        Gauge.builder("db.gate.active", this.permits, gate -> permitCount - gate.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("db.gate.waiting", this.permits, Semaphore::getQueueLength)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return releasingOnClose(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        acquire();
+        return releasingOnClose(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+        if (permits.getQueueLength() >= maxWaiters) {
+            rejectedSaturated.increment();
+            throw new DatabaseBusyException("database busy: too many callers waiting for a connection");
+        }
+        final long started = System.nanoTime();
+        final boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        waitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejectedTimeout.increment();
+            throw new DatabaseBusyException("database busy: no connection within "
+                    + Duration.ofNanos(acquireTimeoutNanos));
+        }
+    }
+
+    private Connection releasingOnClose(final ConnectionSupplier supplier) throws SQLException {
+        final Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (final SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new PermitReleasingConnection(connection)
+        );
+    }
+
+    private static Counter rejectedCounter(final MeterRegistry meterRegistry, final String reason) {
+        return Counter.builder("db.gate.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    private final class PermitReleasingConnection implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingConnection(final Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "close" -> {
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                }
+                default -> {
+                    try {
+                        return method.invoke(target, args);
+                    } catch (final InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.skateboard.podcast.standard.service.container.error;
+
+import com.skateboard.podcast.standard.service.container.datasource.DatabaseBusyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * Spring and Hibernate wrap the exception thrown by {@code getConnection()}; exception handlers are
+ * also matched against causes, so the gate rejection still maps to 503 here.
+ */
+@RestControllerAdvice
+public class DatabaseBusyExceptionHandler {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler(DatabaseBusyException.class)
+    public ResponseEntity<Map<String, String>> handleDatabaseBusy(final DatabaseBusyException exception) {
+        final String message = exception == null ? "database busy" : exception.getMessage();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(Map.of("error", message));
+    }
+}
@@ -0,0 +1,123 @@
+package com.skateboard.podcast.standard.service.container.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call through a hexagonal port. The bean configs wrap each use case with
+ * {@link #inbound} and each adapter they hand to it with {@link #outbound}; the wrapper is a JDK
+ * proxy of the port interface that records a {@code port.calls} timer tagged with direction, port,
+ * operation, outcome and exception. Percentile histograms are published as buckets, so p99 can be
+ * aggregated across replicas in Prometheus.
+ */
+@Component
+public class PortMetrics {
+
+    public static final String METRIC_NAME = "port.calls";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final boolean percentileHistogram;
+
+    public PortMetrics(
+            final MeterRegistry meterRegistry,
+            @Value("${app.metrics.ports.enabled:true}") final boolean enabled,
+            @Value("${app.metrics.ports.percentile-histogram:true}") final boolean percentileHistogram
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    public <T> T inbound(final Class<T> port, final T target) {
+        return wrap("in", port, target);
+    }
+
+    public <T> T outbound(final Class<T> port, final T target) {
+        return wrap("out", port, target);
+    }
+
+    private <T> T wrap(final String direction, final Class<T> port, final T target) {
+        if (!enabled || target == null) {
+            return target;
+        }
+        if (Proxy.isProxyClass(target.getClass()) && Proxy.getInvocationHandler(target) instanceof TimedPort) {
+            return target;
+        }
+        return port.cast(Proxy.newProxyInstance(
+                port.getClassLoader(),
+                new Class<?>[]{port},
+                new TimedPort(direction, port, target)
+        ));
+    }
+
+    private Timer timer(
+            final String direction,
+            final Class<?> port,
+            final Method method,
+            final String outcome,
+            final String exception
+    ) {
+        return Timer.builder(METRIC_NAME)
+                .tag("direction", direction)
+                .tag("port", port.getSimpleName())
+                .tag("operation", method.getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram(percentileHistogram)
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    private final class TimedPort implements InvocationHandler {
+
+        private final String direction;
+        private final Class<?> port;
+        private final Object target;
+        private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+        private TimedPort(final String direction, final Class<?> port, final Object target) {
+            this.direction = direction;
+            this.port = port;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "timed " + port.getSimpleName() + "(" + target + ")";
+                };
+            }
+            final long start = System.nanoTime();
+            try {
+                final Object result = method.invoke(target, args);
+                successTimers
+                        .computeIfAbsent(method, key -> timer(direction, port, key, "success", NO_EXCEPTION))
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (final InvocationTargetException e) {
+                final Throwable cause = e.getCause();
+                timer(direction, port, method, "error", cause.getClass().getSimpleName())
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw cause;
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.skateboard.podcast.standard.service.container.realtime;
+
+import com.skateboard.podcast.feed.service.application.service.FeedChangePruneService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link FeedChangePruneService} every {@code interval}. Like the refresh-token purge it runs
+ * on every node, and concurrent runs skip each other's locked rows.
+ */
+public class FeedChangePruneWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedChangePruneWorker.class);
+
+    private final FeedChangePruneService pruneService;
+    private final ScheduledExecutorService scheduler;
+    private final Duration interval;
+    private final Counter pruned;
+    private final Counter failures;
+
+    public FeedChangePruneWorker(
+            final FeedChangePruneService pruneService,
+            final ScheduledExecutorService scheduler,
+            final Duration interval,
+            final MeterRegistry meterRegistry
+    ) {
+        this.pruneService = pruneService;
+        this.scheduler = scheduler;
+        this.interval = interval;
+        this.pruned = Counter.builder("feed.changes.pruned").register(meterRegistry);
+        this.failures = Counter.builder("feed.changes.prune.failures").register(meterRegistry);
+    }
+
+    public void start() {
+        if (interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(
+                this::prune,
+                interval.toMillis(),
+                interval.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    private void prune() {
+        try {
+            final int deleted = pruneService.prune(Instant.now());
+            pruned.increment(deleted);
+            if (deleted > 0) {
+                log.info("Pruned {} feed changes", deleted);
+            }
+            final int abandoned = pruneService.pruneAbandonedOffsets(Instant.now());
+            if (abandoned > 0) {
+                log.info("Dropped {} abandoned feed relay offsets", abandoned);
+            }
+        } catch (final RuntimeException e) {
+            // Chunks already deleted stay deleted; the next run picks up the rest.
+            failures.increment();
+            log.warn("Feed change prune failed", e);
+        }
+    }
+}
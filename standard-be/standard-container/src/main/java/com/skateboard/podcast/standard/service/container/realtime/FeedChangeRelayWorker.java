@@ -0,0 +1,117 @@
+package com.skateboard.podcast.standard.service.container.realtime;
+
+import com.skateboard.podcast.feed.service.application.dto.PostEvent;
+import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
+import com.skateboard.podcast.feed.service.application.service.FeedChangeRelay;
+import com.skateboard.podcast.feed.service.events.application.dto.FeedEventEvent;
+import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventsEventPublisher;
+import com.skateboard.podcast.standard.service.container.cluster.ClusterTopics;
+import com.skateboard.podcast.standard.service.container.cluster.PostgresClusterBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drives a {@link FeedChangeRelay} on its own scheduler: a fixed-delay poll picks up writes
+ * made on any node, and {@link #postSignal()} / {@link #eventSignal()} let admin writes wake it, and
+ * the relays on the other nodes, right after their commit instead of waiting for the next poll.
+ */
+public class FeedChangeRelayWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedChangeRelayWorker.class);
+
+    private final FeedChangeRelay relay;
+    private final ScheduledExecutorService scheduler;
+    private final Duration pollInterval;
+    private final PostgresClusterBus clusterBus;
+    private final AtomicBoolean wakePending = new AtomicBoolean();
+    private final Counter relayed;
+    private final Counter failures;
+
+    public FeedChangeRelayWorker(
+            final FeedChangeRelay relay,
+            final ScheduledExecutorService scheduler,
+            final Duration pollInterval,
+            final PostgresClusterBus clusterBus,
+            final MeterRegistry meterRegistry
+    ) {
+        this.relay = relay;
+        this.scheduler = scheduler;
+        this.pollInterval = pollInterval;
+        this.clusterBus = clusterBus;
+        this.relayed = Counter.builder("realtime.outbox.relayed").register(meterRegistry);
+        this.failures = Counter.builder("realtime.outbox.failures").register(meterRegistry);
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(
+                this::relayPending,
+                0,
+                pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    public void wake() {
+        if (wakePending.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                wakePending.set(false);
+                relayPending();
+            });
+        }
+    }
+
+    /**
+     * Publisher handed to the admin services: after a commit it only signals that the change log
+     * has something new.
+     */
+    public FeedEventPublisher postSignal() {
+        return new FeedEventPublisher() {
+            @Override
+            public void publishPostEvent(final PostEvent event) {
+                committed();
+            }
+
+            @Override
+            public void publishFeedUpdated(final Instant updatedAt) {
+                committed();
+            }
+        };
+    }
+
+    public FeedEventsEventPublisher eventSignal() {
+        return new FeedEventsEventPublisher() {
+            @Override
+            public void publishFeedEventEvent(final FeedEventEvent event) {
+                committed();
+            }
+
+            @Override
+            public void publishEventsUpdated(final Instant updatedAt) {
+                committed();
+            }
+        };
+    }
+
+    private void committed() {
+        wake();
+        clusterBus.publish(ClusterTopics.FEED_CHANGED, "");
+    }
+
+    private void relayPending() {
+        try {
+            relayed.increment(relay.relayPending());
+        } catch (final RuntimeException e) {
+            // The mark did not move, so the next pass retries from the same entry.
+            failures.increment();
+            log.warn("Feed change relay pass failed at version {}", relay.highWaterMark(), e);
+        }
+    }
+}
@@ -20,10 +20,10 @@ import java.util.Optional;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final TokenService tokenService;
+    private final VerifiedAccessTokenCache tokenCache;
 
-    public JwtAuthenticationFilter(final TokenService tokenService) {
-        this.tokenService = tokenService;
+    public JwtAuthenticationFilter(final VerifiedAccessTokenCache tokenCache) {
+        this.tokenCache = tokenCache;
     }
 
     @Override
@@ -40,7 +40,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = header.substring("Bearer ".length()).trim();
-        final Optional<TokenService.AccessTokenClaims> claimsOpt = tokenService.verifyAccessToken(jwt);
+        final Optional<TokenService.AccessTokenClaims> claimsOpt = tokenCache.verify(jwt);
 
         if (claimsOpt.isPresent()) {
             final TokenService.AccessTokenClaims claims = claimsOpt.get();
@@ -0,0 +1,65 @@
+package com.skateboard.podcast.standard.service.container.security;
+
+import com.skateboard.podcast.iam.service.application.service.BufferedLastLoginRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flushes a {@link BufferedLastLoginRecorder} every {@code interval}, and once more on shutdown so a
+ * clean stop loses nothing.
+ */
+public class LastLoginFlushWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(LastLoginFlushWorker.class);
+
+    private final BufferedLastLoginRecorder recorder;
+    private final ScheduledExecutorService scheduler;
+    private final Duration interval;
+    private final Counter written;
+    private final Counter failures;
+
+    public LastLoginFlushWorker(
+            final BufferedLastLoginRecorder recorder,
+            final ScheduledExecutorService scheduler,
+            final Duration interval,
+            final MeterRegistry meterRegistry
+    ) {
+        this.recorder = recorder;
+        this.scheduler = scheduler;
+        this.interval = interval;
+        this.written = Counter.builder("auth.last_login.flushed").register(meterRegistry);
+        this.failures = Counter.builder("auth.last_login.flush.failures").register(meterRegistry);
+        Gauge.builder("auth.last_login.pending", recorder, BufferedLastLoginRecorder::pendingCount)
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(
+                this::flush,
+                interval.toMillis(),
+                interval.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    public void stop() {
+        flush();
+    }
+
+    private void flush() {
+        try {
+            written.increment(recorder.flush());
+        } catch (final RuntimeException e) {
+            // The batch went back into the buffer; the next flush retries it.
+            failures.increment();
+            log.warn("Last-login flush failed with {} users pending", recorder.pendingCount(), e);
+        }
+    }
+}
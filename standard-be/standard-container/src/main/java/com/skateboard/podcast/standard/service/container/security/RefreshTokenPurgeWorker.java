@@ -0,0 +1,66 @@
+package com.skateboard.podcast.standard.service.container.security;
+
+import com.skateboard.podcast.iam.service.application.service.RefreshTokenPurgeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link RefreshTokenPurgeService} every {@code interval}. Every node runs it; the delete
+ * skips rows another node has locked, so concurrent runs split the work instead of queueing.
+ */
+public class RefreshTokenPurgeWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenPurgeWorker.class);
+
+    private final RefreshTokenPurgeService purgeService;
+    private final ScheduledExecutorService scheduler;
+    private final Duration interval;
+    private final Counter purged;
+    private final Counter failures;
+
+    public RefreshTokenPurgeWorker(
+            final RefreshTokenPurgeService purgeService,
+            final ScheduledExecutorService scheduler,
+            final Duration interval,
+            final MeterRegistry meterRegistry
+    ) {
+        this.purgeService = purgeService;
+        this.scheduler = scheduler;
+        this.interval = interval;
+        this.purged = Counter.builder("auth.refresh_tokens.purged").register(meterRegistry);
+        this.failures = Counter.builder("auth.refresh_tokens.purge.failures").register(meterRegistry);
+    }
+
+    public void start() {
+        if (interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(
+                this::purge,
+                interval.toMillis(),
+                interval.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    private void purge() {
+        try {
+            final int deleted = purgeService.purge(Instant.now());
+            purged.increment(deleted);
+            if (deleted > 0) {
+                log.info("Purged {} refresh tokens", deleted);
+            }
+        } catch (final RuntimeException e) {
+            // Chunks already deleted stay deleted; the next run picks up the rest.
+            failures.increment();
+            log.warn("Refresh token purge failed", e);
+        }
+    }
+}
@@ -44,6 +44,7 @@ public class SecurityConfig {
                         // public endpoints
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/public/feed").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/public/feed/changes").permitAll()
                         .requestMatchers(HttpMethod.GET, "/public/posts/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/public/events").permitAll()
                         .requestMatchers(HttpMethod.GET, "/public/events/**").permitAll()
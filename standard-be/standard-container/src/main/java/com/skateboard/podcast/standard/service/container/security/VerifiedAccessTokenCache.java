@@ -0,0 +1,122 @@
+package com.skateboard.podcast.standard.service.container.security;
+
+import com.skateboard.podcast.iam.service.application.port.out.AccessTokenRevoker;
+import com.skateboard.podcast.iam.service.dataaccess.crypto.TokenService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded cache of verified access tokens in front of {@link TokenService#verifyAccessToken},
+ * evicting the oldest inserted entries first. The signature segment is already an HMAC-SHA256
+ * digest of the payload, so it is used as the key; the full token is kept on the entry and
+ * compared on every hit.
+ * <p>
+ * A user revoked here stops being accepted for tokens issued up to and including the millisecond
+ * of revocation, whether or not they were cached, so logging in again right after a revocation
+ * works. Revocations reach every node over the cluster bus while it is enabled, and only this node
+ * while it is disabled. Tokens minted before they carried {@code iatms} only have whole seconds,
+ * so such a token from the second of revocation is rejected rather than trusted.
+ */
+@Component
+public class VerifiedAccessTokenCache implements AccessTokenRevoker {
+
+    private static final String METRIC_NAME = "auth.token.cache";
+
+    private final TokenService tokenService;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Insertion order for eviction; may still hold keys already evicted or revoked.
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger insertionOrderSize = new AtomicInteger();
+    private final Map<UUID, Instant> revokedBefore = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedAccessTokenCache(
+            final TokenService tokenService,
+            final MeterRegistry meterRegistry,
+            @Value("${app.security.token-cache.max-entries:10000}") final int maxEntries
+    ) {
+        this.tokenService = tokenService;
+        this.maxEntries = Math.max(0, maxEntries);
+        this.hits = Counter.builder(METRIC_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME).tag("result", "miss").register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", this, VerifiedAccessTokenCache::size).register(meterRegistry);
+    }
+
+    public Optional<TokenService.AccessTokenClaims> verify(final String token) {
+        final int dot = token.lastIndexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        final String key = token.substring(dot + 1);
+        final Entry cached = entries.get(key);
+        if (cached != null && cached.token().equals(token)) {
+            if (Instant.now().isBefore(cached.claims().expiresAt()) && !isRevoked(cached.claims())) {
+                hits.increment();
+                return Optional.of(cached.claims());
+            }
+            entries.remove(key, cached);
+        }
+
+        misses.increment();
+        final Optional<TokenService.AccessTokenClaims> verified = tokenService.verifyAccessToken(token);
+        if (verified.isEmpty() || isRevoked(verified.get())) {
+            return Optional.empty();
+        }
+        if (entries.put(key, new Entry(token, verified.get())) == null) {
+            insertionOrder.add(key);
+            insertionOrderSize.incrementAndGet();
+            evictOverflow();
+        }
+        return verified;
+    }
+
+    @Override
+    public void revokeAccessTokens(final UUID userId, final Instant revokedAt) {
+        revokedBefore.merge(userId, revokedAt, (existing, added) -> added.isAfter(existing) ? added : existing);
+        entries.values().removeIf(entry -> entry.claims().userId().equals(userId));
+        // Anything issued before this cutoff has expired on its own, so the marker is no longer needed.
+        final Instant cutoff = Instant.now().minusSeconds(tokenService.accessTtlSeconds());
+        revokedBefore.values().removeIf(at -> at.isBefore(cutoff));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean isRevoked(final TokenService.AccessTokenClaims claims) {
+        if (revokedBefore.isEmpty()) {
+            return false;
+        }
+        final Instant revokedAt = revokedBefore.get(claims.userId());
+        return revokedAt != null && claims.issuedAt().toEpochMilli() <= revokedAt.toEpochMilli();
+    }
+
+    private void evictOverflow() {
+        // The queue bound also drains keys that revocation or expiry already removed.
+        while (entries.size() > maxEntries || insertionOrderSize.get() > 2 * maxEntries) {
+            final String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            insertionOrderSize.decrementAndGet();
+            entries.remove(eldest);
+        }
+    }
+
+    private record Entry(String token, TokenService.AccessTokenClaims claims) {
+    }
+}
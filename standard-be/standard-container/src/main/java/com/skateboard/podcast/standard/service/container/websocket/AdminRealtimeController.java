@@ -0,0 +1,77 @@
+package com.skateboard.podcast.standard.service.container.websocket;
+
+import com.skateboard.podcast.standardbe.api.AdminRealtimeApi;
+import com.skateboard.podcast.standardbe.api.model.RealtimeChannel;
+import com.skateboard.podcast.standardbe.api.model.RealtimeSession;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Lists the slowest WebSocket sessions held by this replica. Each replica only sees its own
+ * sessions, so behind a load balancer the answer covers whichever replica served the request.
+ */
+@RestController
+public class AdminRealtimeController implements AdminRealtimeApi {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final WebSocketFanout fanout;
+
+    public AdminRealtimeController(final WebSocketFanout fanout) {
+        this.fanout = fanout;
+    }
+
+    @Override
+    @GetMapping(
+            value = AdminRealtimeApi.PATH_ADMIN_REALTIME_SESSION_LIST,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<List<RealtimeSession>> adminRealtimeSessionList(
+            final RealtimeChannel channel,
+            final Integer limit
+    ) {
+        final List<RealtimeSession> sessions = fanout.slowestSessions(
+                        channel == null ? null : toChannelName(channel),
+                        limit == null ? DEFAULT_LIMIT : limit
+                ).stream()
+                .map(AdminRealtimeController::toApi)
+                .toList();
+        return ResponseEntity.ok(sessions);
+    }
+
+    private static RealtimeSession toApi(final WebSocketFanout.SessionStats stats) {
+        return new RealtimeSession()
+                .id(stats.id())
+                .channel(toApiChannel(stats.channel()))
+                .connectedAt(OffsetDateTime.ofInstant(stats.connectedAt(), ZoneOffset.UTC))
+                .messagesSent(stats.messagesSent())
+                .bytesSent(stats.bytesSent())
+                .messagesDropped(stats.messagesDropped())
+                .queueDepth(stats.queueDepth())
+                .meanSendMillis(toMillis(stats.meanSend()))
+                .maxSendMillis(toMillis(stats.maxSend()))
+                .inFlightMillis(stats.inFlight() == null ? null : toMillis(stats.inFlight()));
+    }
+
+    private static String toChannelName(final RealtimeChannel channel) {
+        return switch (channel) {
+            case FEED -> FeedWebSocketHandler.CHANNEL;
+            case EVENTS -> EventsWebSocketHandler.CHANNEL;
+        };
+    }
+
+    private static RealtimeChannel toApiChannel(final String channel) {
+        return EventsWebSocketHandler.CHANNEL.equals(channel) ? RealtimeChannel.EVENTS : RealtimeChannel.FEED;
+    }
+
+    private static double toMillis(final Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
@@ -2,39 +2,31 @@ package com.skateboard.podcast.standard.service.container.websocket;
 
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
-import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-
 @Component
 public class FeedWebSocketHandler extends TextWebSocketHandler {
 
-    private final Set<WebSocketSession> sessions = ConcurrentHashMap.newKeySet();
+    static final String CHANNEL = "feed";
+
+    private final WebSocketFanout fanout;
+
+    public FeedWebSocketHandler(final WebSocketFanout fanout) {
+        this.fanout = fanout;
+    }
 
     @Override
     public void afterConnectionEstablished(final WebSocketSession session) {
-        sessions.add(session);
+        fanout.register(CHANNEL, session);
     }
 
     @Override
     public void afterConnectionClosed(final WebSocketSession session, final CloseStatus status) {
-        sessions.remove(session);
+        fanout.unregister(CHANNEL, session);
     }
 
-    public void broadcast(final String json) {
-        for (final WebSocketSession session : sessions) {
-            if (!session.isOpen()) {
-                sessions.remove(session);
-                continue;
-            }
-            try {
-                session.sendMessage(new TextMessage(json));
-            } catch (final Exception ignored) {
-                sessions.remove(session);
-            }
-        }
+    public void broadcast(final String coalesceKey, final String json) {
+        fanout.broadcast(CHANNEL, coalesceKey, json);
     }
 }
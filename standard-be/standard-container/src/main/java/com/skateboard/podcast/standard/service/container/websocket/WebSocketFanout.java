@@ -0,0 +1,426 @@
+package com.skateboard.podcast.standard.service.container.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Broadcasts to WebSocket sessions without blocking the publisher. Each message is encoded once,
+ * appended to a bounded per-session queue, and written by a virtual thread that exists only while
+ * that queue is non-empty, so a slow client only ever delays itself. Every write is timed per
+ * channel and per session; {@link #slowestSessions} exposes the per-session side.
+ */
+@Component
+public class WebSocketFanout {
+
+    public enum OverflowPolicy {
+        /** Drop the oldest queued message to make room. */
+        DROP_OLDEST,
+        /** Replace a queued message with the same coalescing key, otherwise drop the oldest. */
+        COALESCE,
+        /** Close the session; the client reconnects and refetches. */
+        DISCONNECT
+    }
+
+    /** Point-in-time view of one session's outbound traffic. */
+    public record SessionStats(
+            String id,
+            String channel,
+            Instant connectedAt,
+            long messagesSent,
+            long bytesSent,
+            long messagesDropped,
+            int queueDepth,
+            Duration meanSend,
+            Duration maxSend,
+            Duration inFlight
+    ) {
+
+        // A write that has been blocked longer than the usual one is what makes a session slow now.
+        Duration slowness() {
+            return inFlight != null && inFlight.compareTo(meanSend) > 0 ? inFlight : meanSend;
+        }
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketFanout.class);
+
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    public WebSocketFanout(
+            final MeterRegistry meterRegistry,
+            @Value("${app.websocket.outbound.queue-capacity:64}") final int queueCapacity,
+            @Value("${app.websocket.outbound.overflow-policy:COALESCE}") final OverflowPolicy overflowPolicy
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public void register(final String channel, final WebSocketSession session) {
+        final Channel target = channel(channel);
+        target.outboxes.put(session, new SessionOutbox(target, session));
+    }
+
+    public void unregister(final String channel, final WebSocketSession session) {
+        channel(channel).outboxes.remove(session);
+    }
+
+    /** Key for notices such as {@code feed.updated} whose latest copy replaces every earlier one. */
+    public static String aggregateKey(final String type) {
+        return type;
+    }
+
+    /** Key for item-level messages, which only supersede an earlier message about the same item. */
+    public static String itemKey(final String type, final Object itemId) {
+        return itemId == null ? null : type + ":" + itemId;
+    }
+
+    /**
+     * Messages with equal non-null {@code coalesceKey}s supersede each other under
+     * {@link OverflowPolicy#COALESCE}; see {@link #aggregateKey} and {@link #itemKey}. A null key is
+     * never coalesced.
+     */
+    public void broadcast(final String channel, final String coalesceKey, final String json) {
+        final Channel target = channel(channel);
+        final long started = System.nanoTime();
+        final OutboundMessage message =
+                new OutboundMessage(coalesceKey, new TextMessage(json), utf8Length(json), started);
+        for (final SessionOutbox outbox : target.outboxes.values()) {
+            if (!outbox.session.isOpen()) {
+                if (target.outboxes.remove(outbox.session, outbox)) {
+                    target.evictedClosed.increment();
+                }
+                continue;
+            }
+            outbox.offer(message);
+        }
+        target.broadcast.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    public int sessionCount(final String channel) {
+        return channel(channel).outboxes.size();
+    }
+
+    public int queueDepth(final String channel) {
+        int depth = 0;
+        for (final SessionOutbox outbox : channel(channel).outboxes.values()) {
+            depth += outbox.depth();
+        }
+        return depth;
+    }
+
+    /**
+     * Sessions ordered by {@link SessionStats#slowness()}, slowest first, across every channel when
+     * {@code channel} is null.
+     */
+    public List<SessionStats> slowestSessions(final String channel, final int limit) {
+        final List<SessionStats> sessions = new ArrayList<>();
+        for (final Channel candidate : channel == null ? channels.values() : List.of(channel(channel))) {
+            for (final SessionOutbox outbox : candidate.outboxes.values()) {
+                sessions.add(outbox.stats());
+            }
+        }
+        return sessions.stream()
+                .sorted(Comparator.comparing(SessionStats::slowness).reversed())
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    private Channel channel(final String name) {
+        return channels.computeIfAbsent(name, this::newChannel);
+    }
+
+    private Channel newChannel(final String name) {
+        final Channel channel = new Channel(
+                name,
+                dropCounter(name, "drop_oldest"),
+                dropCounter(name, "coalesced"),
+                dropCounter(name, "disconnected"),
+                dropCounter(name, "send_failed"),
+                evictionCounter(name, "closed"),
+                evictionCounter(name, "slow"),
+                evictionCounter(name, "send_failed"),
+                Timer.builder("websocket.outbound.broadcast")
+                        .tag("channel", name)
+                        .register(meterRegistry),
+                latencyTimer("websocket.outbound.send", name),
+                latencyTimer("websocket.outbound.delivery", name),
+                Counter.builder("websocket.outbound.bytes")
+                        .baseUnit("bytes")
+                        .tag("channel", name)
+                        .register(meterRegistry)
+        );
+        Gauge.builder("websocket.outbound.queue.depth", this, fanout -> fanout.queueDepth(name))
+                .tag("channel", name)
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions", channel.outboxes, Map::size)
+                .tag("channel", name)
+                .register(meterRegistry);
+        return channel;
+    }
+
+    private Counter dropCounter(final String channel, final String reason) {
+        return Counter.builder("websocket.outbound.dropped")
+                .tag("channel", channel)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private Counter evictionCounter(final String channel, final String reason) {
+        return Counter.builder("websocket.sessions.evicted")
+                .tag("channel", channel)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private Timer latencyTimer(final String name, final String channel) {
+        return Timer.builder(name)
+                .tag("channel", channel)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(50_000))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    // Frame size without encoding the payload a second time; unpaired surrogates count as '?'.
+    private static int utf8Length(final String text) {
+        int bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                bytes++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private record OutboundMessage(String coalesceKey, TextMessage message, int bytes, long broadcastNanos) {
+    }
+
+    private static final class Channel {
+
+        private final String name;
+        private final Counter droppedOldest;
+        private final Counter coalesced;
+        private final Counter disconnected;
+        private final Counter sendFailed;
+        private final Counter evictedClosed;
+        private final Counter evictedSlow;
+        private final Counter evictedSendFailed;
+        private final Timer broadcast;
+        private final Timer send;
+        private final Timer delivery;
+        private final Counter bytesSent;
+        private final Map<WebSocketSession, SessionOutbox> outboxes = new ConcurrentHashMap<>();
+
+        private Channel(
+                final String name,
+                final Counter droppedOldest,
+                final Counter coalesced,
+                final Counter disconnected,
+                final Counter sendFailed,
+                final Counter evictedClosed,
+                final Counter evictedSlow,
+                final Counter evictedSendFailed,
+                final Timer broadcast,
+                final Timer send,
+                final Timer delivery,
+                final Counter bytesSent
+        ) {
+            this.name = name;
+            this.droppedOldest = droppedOldest;
+            this.coalesced = coalesced;
+            this.disconnected = disconnected;
+            this.sendFailed = sendFailed;
+            this.evictedClosed = evictedClosed;
+            this.evictedSlow = evictedSlow;
+            this.evictedSendFailed = evictedSendFailed;
+            this.broadcast = broadcast;
+            this.send = send;
+            this.delivery = delivery;
+            this.bytesSent = bytesSent;
+        }
+    }
+
+    private final class SessionOutbox {
+
+        private final Channel channel;
+        private final WebSocketSession session;
+        private final ArrayDeque<OutboundMessage> queue = new ArrayDeque<>();
+        private final Instant connectedAt = Instant.now();
+        private boolean draining;
+        private long messagesDropped;
+        // Written only by the current drain thread; volatile so stats() sees recent values.
+        private volatile long messagesSent;
+        private volatile long bytesSent;
+        private volatile long sendNanosTotal;
+        private volatile long sendNanosMax;
+        private volatile long sendStartedNanos;
+
+        private SessionOutbox(final Channel channel, final WebSocketSession session) {
+            this.channel = channel;
+            this.session = session;
+        }
+
+        void offer(final OutboundMessage message) {
+            final boolean overflowed;
+            final boolean startDrain;
+            synchronized (queue) {
+                overflowed = queue.size() >= queueCapacity;
+                if (overflowed && overflowPolicy == OverflowPolicy.DISCONNECT) {
+                    queue.clear();
+                    startDrain = false;
+                } else {
+                    if (overflowed) {
+                        makeRoom(message);
+                    }
+                    queue.addLast(message);
+                    startDrain = !draining;
+                    draining = true;
+                }
+            }
+            if (startDrain) {
+                Thread.ofVirtual()
+                        .name("ws-" + channel.name + "-" + session.getId())
+                        .start(this::drain);
+            } else if (overflowed && overflowPolicy == OverflowPolicy.DISCONNECT) {
+                channel.disconnected.increment();
+                channel.evictedSlow.increment();
+                // Closing can block on the same slow peer, so keep it off the publisher thread.
+                Thread.ofVirtual().start(() -> disconnect(CloseStatus.SESSION_NOT_RELIABLE));
+            }
+        }
+
+        int depth() {
+            synchronized (queue) {
+                return queue.size();
+            }
+        }
+
+        SessionStats stats() {
+            final int depth;
+            final long dropped;
+            synchronized (queue) {
+                depth = queue.size();
+                dropped = messagesDropped;
+            }
+            final long sent = messagesSent;
+            final long started = sendStartedNanos;
+            return new SessionStats(
+                    session.getId(),
+                    channel.name,
+                    connectedAt,
+                    sent,
+                    bytesSent,
+                    dropped,
+                    depth,
+                    Duration.ofNanos(sent == 0 ? 0 : sendNanosTotal / sent),
+                    Duration.ofNanos(sendNanosMax),
+                    started == 0 ? null : Duration.ofNanos(System.nanoTime() - started)
+            );
+        }
+
+        // Called with the queue lock held and the queue full.
+        private void makeRoom(final OutboundMessage incoming) {
+            if (overflowPolicy == OverflowPolicy.COALESCE && incoming.coalesceKey() != null) {
+                final Iterator<OutboundMessage> queued = queue.iterator();
+                while (queued.hasNext()) {
+                    if (incoming.coalesceKey().equals(queued.next().coalesceKey())) {
+                        queued.remove();
+                        messagesDropped++;
+                        channel.coalesced.increment();
+                        return;
+                    }
+                }
+            }
+            queue.pollFirst();
+            messagesDropped++;
+            channel.droppedOldest.increment();
+        }
+
+        private void drain() {
+            while (true) {
+                final OutboundMessage next;
+                synchronized (queue) {
+                    next = queue.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                final long started = System.nanoTime();
+                sendStartedNanos = started;
+                try {
+                    session.sendMessage(next.message());
+                } catch (final Exception e) {
+                    sendStartedNanos = 0;
+                    channel.sendFailed.increment();
+                    channel.evictedSendFailed.increment();
+                    log.debug("Dropping WebSocket session {} after failed send", session.getId(), e);
+                    synchronized (queue) {
+                        queue.clear();
+                        draining = false;
+                    }
+                    disconnect(CloseStatus.SERVER_ERROR);
+                    return;
+                }
+                final long finished = System.nanoTime();
+                sendStartedNanos = 0;
+                recordSent(next, finished - started, finished);
+            }
+        }
+
+        private void recordSent(final OutboundMessage message, final long sendNanos, final long finished) {
+            messagesSent++;
+            bytesSent += message.bytes();
+            sendNanosTotal += sendNanos;
+            if (sendNanos > sendNanosMax) {
+                sendNanosMax = sendNanos;
+            }
+            channel.bytesSent.increment(message.bytes());
+            channel.delivery.record(finished - message.broadcastNanos(), TimeUnit.NANOSECONDS);
+            channel.send.record(sendNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void disconnect(final CloseStatus status) {
+            channel.outboxes.remove(session);
+            try {
+                session.close(status);
+            } catch (final Exception ignored) {
+                // already closing
+            }
+        }
+    }
+}
@@ -1,34 +1,32 @@
 package com.skateboard.podcast.standard.service.container.websocket;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skateboard.podcast.feed.service.application.dto.PostEvent;
 import com.skateboard.podcast.feed.service.application.port.out.FeedEventPublisher;
+import com.skateboard.podcast.web.realtime.RealtimeMessageEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Component
 public class WebSocketFeedEventPublisher implements FeedEventPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(WebSocketFeedEventPublisher.class);
-    private static final int VERSION = 1;
 
     private final FeedWebSocketHandler feedHandler;
     private final EventsWebSocketHandler eventsHandler;
-    private final ObjectMapper objectMapper;
+    private final RealtimeMessageEncoder encoder;
 
     public WebSocketFeedEventPublisher(
             final FeedWebSocketHandler feedHandler,
             final EventsWebSocketHandler eventsHandler,
-            final ObjectMapper objectMapper
+            final RealtimeMessageEncoder encoder
     ) {
         this.feedHandler = feedHandler;
         this.eventsHandler = eventsHandler;
-        this.objectMapper = objectMapper;
+        this.encoder = encoder;
     }
 
     @Override
@@ -36,31 +34,28 @@ public class WebSocketFeedEventPublisher implements FeedEventPublisher {
         if (event == null) {
             return;
         }
-        final Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("postId", event.postId().toString());
-        payload.put("slug", event.slug());
-        payload.put("updatedAt", event.updatedAt().toString());
-
-        broadcast(event.type(), payload);
+        broadcast(
+                event.type(),
+                WebSocketFanout.itemKey(event.type(), event.postId()),
+                RealtimeMessageEncoder.itemPayload(
+                        "postId", event.postId(), event.slug(), event.updatedAt())
+        );
     }
 
     @Override
     public void publishFeedUpdated(final Instant updatedAt) {
-        final Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("updatedAt", (updatedAt == null ? Instant.now() : updatedAt).toString());
-        broadcast("feed.updated", payload);
+        broadcastUpdated("feed.updated", updatedAt);
+    }
+
+    private void broadcastUpdated(final String type, final Instant updatedAt) {
+        broadcast(type, WebSocketFanout.aggregateKey(type), RealtimeMessageEncoder.updatedPayload(updatedAt));
     }
 
-    private void broadcast(final String type, final Map<String, Object> payload) {
-        final Map<String, Object> message = new LinkedHashMap<>();
-        message.put("type", type);
-        message.put("version", VERSION);
-        message.put("timestamp", Instant.now().toString());
-        message.put("payload", payload);
+    private void broadcast(final String type, final String coalesceKey, final Map<String, Object> payload) {
         try {
-            final String encoded = objectMapper.writeValueAsString(message);
-            feedHandler.broadcast(encoded);
-            eventsHandler.broadcast(encoded);
+            final String encoded = encoder.encode(type, payload);
+            feedHandler.broadcast(coalesceKey, encoded);
+            eventsHandler.broadcast(coalesceKey, encoded);
         } catch (final Exception e) {
             log.warn("Failed to publish feed event {}", type, e);
         }
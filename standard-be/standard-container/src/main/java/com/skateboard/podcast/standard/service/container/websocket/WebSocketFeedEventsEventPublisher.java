@@ -1,34 +1,32 @@
 package com.skateboard.podcast.standard.service.container.websocket;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skateboard.podcast.feed.service.events.application.dto.FeedEventEvent;
 import com.skateboard.podcast.feed.service.events.application.port.out.FeedEventsEventPublisher;
 import com.skateboard.podcast.appconfig.service.application.port.out.AppConfigEventPublisher;
 import com.skateboard.podcast.appconfig.service.application.port.out.NavigationConfigEventPublisher;
 import com.skateboard.podcast.settings.service.application.port.out.SettingsConfigEventPublisher;
+import com.skateboard.podcast.web.realtime.RealtimeMessageEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Component
 public class WebSocketFeedEventsEventPublisher implements FeedEventsEventPublisher, AppConfigEventPublisher, NavigationConfigEventPublisher, SettingsConfigEventPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(WebSocketFeedEventsEventPublisher.class);
-    private static final int VERSION = 1;
 
     private final EventsWebSocketHandler handler;
-    private final ObjectMapper objectMapper;
+    private final RealtimeMessageEncoder encoder;
 
     public WebSocketFeedEventsEventPublisher(
             final EventsWebSocketHandler handler,
-            final ObjectMapper objectMapper
+            final RealtimeMessageEncoder encoder
     ) {
         this.handler = handler;
-        this.objectMapper = objectMapper;
+        this.encoder = encoder;
     }
 
     @Override
@@ -36,50 +34,41 @@ public class WebSocketFeedEventsEventPublisher implements FeedEventsEventPublish
         if (event == null) {
             return;
         }
-        final Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("eventId", event.eventId().toString());
-        payload.put("slug", event.slug());
-        payload.put("updatedAt", event.updatedAt().toString());
-
-        broadcast(event.type(), payload);
+        broadcast(
+                event.type(),
+                WebSocketFanout.itemKey(event.type(), event.eventId()),
+                RealtimeMessageEncoder.itemPayload(
+                        "eventId", event.eventId(), event.slug(), event.updatedAt())
+        );
     }
 
     @Override
     public void publishEventsUpdated(final Instant updatedAt) {
-        final Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("updatedAt", (updatedAt == null ? Instant.now() : updatedAt).toString());
-        broadcast("events.updated", payload);
+        broadcastUpdated("events.updated", updatedAt);
     }
 
     @Override
     public void publishConfigUpdated(final Instant updatedAt) {
-        final Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("updatedAt", (updatedAt == null ? Instant.now() : updatedAt).toString());
-        broadcast("config.updated", payload);
+        broadcastUpdated("config.updated", updatedAt);
     }
 
     @Override
     public void publishNavigationUpdated(final Instant updatedAt) {
-        final Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("updatedAt", (updatedAt == null ? Instant.now() : updatedAt).toString());
-        broadcast("navigation.updated", payload);
+        broadcastUpdated("navigation.updated", updatedAt);
     }
 
     @Override
     public void publishSettingsUpdated(final Instant updatedAt) {
-        final Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("updatedAt", (updatedAt == null ? Instant.now() : updatedAt).toString());
-        broadcast("settings.updated", payload);
+        broadcastUpdated("settings.updated", updatedAt);
+    }
+
+    private void broadcastUpdated(final String type, final Instant updatedAt) {
+        broadcast(type, WebSocketFanout.aggregateKey(type), RealtimeMessageEncoder.updatedPayload(updatedAt));
     }
 
-    private void broadcast(final String type, final Map<String, Object> payload) {
-        final Map<String, Object> message = new LinkedHashMap<>();
-        message.put("type", type);
-        message.put("version", VERSION);
-        message.put("timestamp", Instant.now().toString());
-        message.put("payload", payload);
+    private void broadcast(final String type, final String coalesceKey, final Map<String, Object> payload) {
         try {
-            handler.broadcast(objectMapper.writeValueAsString(message));
+            handler.broadcast(coalesceKey, encoder.encode(type, payload));
         } catch (final Exception e) {
             log.warn("Failed to publish event {}", type, e);
         }
@@ -0,0 +1,20 @@
+-- Support the refresh-token purge. A purged token can still be named as the successor of an older
+-- row; that row is already revoked, so the link is cleared instead of blocking the delete.
+ALTER TABLE refresh_tokens
+    DROP CONSTRAINT IF EXISTS fk_replaced_by;
+
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT fk_replaced_by
+        FOREIGN KEY (replaced_by_token_id) REFERENCES refresh_tokens(id) ON DELETE SET NULL;
+
+-- Without this every deleted row scans the table for referencing rows.
+CREATE INDEX idx_refresh_replaced_by
+    ON refresh_tokens(replaced_by_token_id)
+    WHERE replaced_by_token_id IS NOT NULL;
+
+CREATE INDEX idx_refresh_expires_at
+    ON refresh_tokens(expires_at);
+
+CREATE INDEX idx_refresh_revoked_at
+    ON refresh_tokens(revoked_at)
+    WHERE revoked_at IS NOT NULL;
@@ -0,0 +1,6 @@
+-- Last feed_changes version each realtime relay has published, so a restart resumes from it.
+CREATE TABLE feed_relay_offsets (
+                                    consumer   VARCHAR(100) PRIMARY KEY,
+                                    version    BIGINT NOT NULL,
+                                    updated_at TIMESTAMPTZ NOT NULL
+);
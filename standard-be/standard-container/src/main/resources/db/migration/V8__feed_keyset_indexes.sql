@@ -0,0 +1,7 @@
+CREATE INDEX idx_posts_published_feed_keyset
+    ON posts ((COALESCE(published_at, updated_at)) DESC, id DESC)
+    WHERE status = 'PUBLISHED';
+
+CREATE INDEX idx_events_published_feed_keyset
+    ON events ((COALESCE(start_at, updated_at)) DESC, id DESC)
+    WHERE status = 'PUBLISHED';
@@ -0,0 +1,10 @@
+-- Append-only log behind /public/feed/changes. Writers lock the table for the rest of their
+-- transaction before appending, so versions become visible in commit order.
+CREATE TABLE feed_changes (
+                              version     BIGSERIAL PRIMARY KEY,
+                              item_type   VARCHAR(16) NOT NULL,
+                              item_id     UUID,
+                              slug        VARCHAR(200),
+                              change_type VARCHAR(32) NOT NULL,
+                              changed_at  TIMESTAMPTZ NOT NULL
+);
@@ -0,0 +1,78 @@
+package com.skateboard.podcast.standard.service.container.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgresClusterBusTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    void deliversOtherNodesMessagesOnceAndSkipsItsOwn() throws Exception {
+        final PostgresClusterBus bus = bus();
+        final List<String> received = new ArrayList<>();
+        bus.subscribe(ClusterTopics.APP_CONFIG_UPDATED, received::add);
+
+        final String remote = objectMapper.writeValueAsString(new PostgresClusterBus.Message(
+                "other:1", "other", ClusterTopics.APP_CONFIG_UPDATED, "2024-01-01T00:00:00Z"));
+        bus.receive(remote);
+        bus.receive(remote);
+        bus.publish(ClusterTopics.APP_CONFIG_UPDATED, "2024-01-02T00:00:00Z");
+        bus.receive(publishedPayload(1));
+
+        assertEquals(List.of("2024-01-01T00:00:00Z"), received);
+        assertEquals(1.0, meterRegistry.get("cluster.bus.duplicates").counter().count());
+    }
+
+    @Test
+    void retriesAFailedPublishOnceWithTheSameMessage() {
+        when(jdbcTemplate.queryForList(anyString(), eq("standard_cluster"), anyString()))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"))
+                .thenReturn(List.of());
+        final PostgresClusterBus bus = bus();
+
+        bus.publish(ClusterTopics.FEED_CHANGED, "");
+
+        final ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(2)).queryForList(anyString(), eq("standard_cluster"), payloads.capture());
+        assertEquals(payloads.getAllValues().get(0), payloads.getAllValues().get(1));
+    }
+
+    private PostgresClusterBus bus() {
+        return new PostgresClusterBus(
+                jdbcTemplate,
+                () -> {
+                    throw new IllegalStateException("listener not started in tests");
+                },
+                objectMapper,
+                meterRegistry,
+                true,
+                "standard_cluster",
+                Duration.ofMillis(10)
+        );
+    }
+
+    private String publishedPayload(final int count) {
+        final ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(count)).queryForList(anyString(), eq("standard_cluster"), payload.capture());
+        return payload.getValue();
+    }
+}
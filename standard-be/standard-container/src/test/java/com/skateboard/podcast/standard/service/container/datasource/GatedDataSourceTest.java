@@ -0,0 +1,90 @@
+package com.skateboard.podcast.standard.service.container.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GatedDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void closingTheConnectionReturnsItsPermitOnce() throws Exception {
+        final Connection pooled = mock(Connection.class);
+        final GatedDataSource gate = new GatedDataSource(
+                dataSource(pooled), 1, 0, Duration.ofMillis(50), meterRegistry
+        );
+
+        final Connection first = gate.getConnection();
+        assertEquals(1.0, gauge("db.gate.active"));
+        first.close();
+        first.close();
+        assertEquals(0.0, gauge("db.gate.active"));
+
+        try (Connection ignored = gate.getConnection()) {
+            assertEquals(1.0, gauge("db.gate.active"));
+        }
+        verify(pooled, times(3)).close();
+    }
+
+    @Test
+    void rejectsAtOnceWhenTooManyCallersAreWaiting() throws Exception {
+        final GatedDataSource gate = new GatedDataSource(
+                dataSource(mock(Connection.class)), 1, 0, Duration.ofSeconds(5), meterRegistry
+        );
+
+        try (Connection ignored = gate.getConnection()) {
+            assertThrows(DatabaseBusyException.class, gate::getConnection);
+        }
+        assertEquals(1.0, rejected("saturated"));
+    }
+
+    @Test
+    void rejectsWhenNoPermitFreesUpWithinTheTimeout() throws Exception {
+        final GatedDataSource gate = new GatedDataSource(
+                dataSource(mock(Connection.class)), 1, 10, Duration.ofMillis(50), meterRegistry
+        );
+
+        try (Connection ignored = gate.getConnection()) {
+            assertThrows(DatabaseBusyException.class, gate::getConnection);
+        }
+        assertEquals(1.0, rejected("timeout"));
+        assertEquals(0.0, gauge("db.gate.active"));
+    }
+
+    @Test
+    void failedCheckoutDoesNotLeakAPermit() throws Exception {
+        final DataSource failing = mock(DataSource.class);
+        when(failing.getConnection()).thenThrow(new SQLException("pool closed"));
+        final GatedDataSource gate = new GatedDataSource(failing, 1, 0, Duration.ofMillis(50), meterRegistry);
+
+        assertThrows(SQLException.class, gate::getConnection);
+
+        assertEquals(0.0, gauge("db.gate.active"));
+    }
+
+    private double gauge(final String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double rejected(final String reason) {
+        return meterRegistry.get("db.gate.rejected").tag("reason", reason).counter().count();
+    }
+
+    private static DataSource dataSource(final Connection connection) throws Exception {
+        final DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
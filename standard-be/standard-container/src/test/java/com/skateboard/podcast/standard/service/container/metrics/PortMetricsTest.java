@@ -0,0 +1,77 @@
+package com.skateboard.podcast.standard.service.container.metrics;
+
+import com.skateboard.podcast.domain.exception.ValidationException;
+import com.skateboard.podcast.iam.service.application.port.out.PasswordHasher;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PortMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void timesEachCallByPortOperationAndOutcome() {
+        final PortMetrics portMetrics = new PortMetrics(meterRegistry, true, false);
+        final PasswordHasher hasher = portMetrics.outbound(PasswordHasher.class, new FakePasswordHasher());
+
+        assertEquals("hashed:secret", hasher.hash("secret"));
+        assertTrue(hasher.matches("secret", "hashed:secret"));
+        assertTrue(hasher.matches("secret", "hashed:secret"));
+
+        assertEquals(1, timer("hash", "success", "none").count());
+        assertEquals(2, timer("matches", "success", "none").count());
+    }
+
+    @Test
+    void failedCallIsTimedAndTheOriginalExceptionRethrown() {
+        final PortMetrics portMetrics = new PortMetrics(meterRegistry, true, false);
+        final PasswordHasher hasher = portMetrics.outbound(PasswordHasher.class, new FakePasswordHasher());
+
+        final ValidationException thrown = assertThrows(ValidationException.class, () -> hasher.hash(""));
+
+        assertEquals("password required", thrown.getMessage());
+        assertEquals(1, timer("hash", "error", "ValidationException").count());
+    }
+
+    @Test
+    void disabledOrAlreadyTimedPortsAreReturnedAsIs() {
+        final PasswordHasher target = new FakePasswordHasher();
+        assertSame(target, new PortMetrics(meterRegistry, false, false).outbound(PasswordHasher.class, target));
+
+        final PortMetrics portMetrics = new PortMetrics(meterRegistry, true, false);
+        final PasswordHasher timed = portMetrics.outbound(PasswordHasher.class, target);
+        assertSame(timed, portMetrics.outbound(PasswordHasher.class, timed));
+    }
+
+    private Timer timer(final String operation, final String outcome, final String exception) {
+        return meterRegistry.get(PortMetrics.METRIC_NAME)
+                .tag("direction", "out")
+                .tag("port", "PasswordHasher")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .timer();
+    }
+
+    private static final class FakePasswordHasher implements PasswordHasher {
+
+        @Override
+        public String hash(final String rawPassword) {
+            if (rawPassword.isEmpty()) {
+                throw new ValidationException("password required");
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(final String rawPassword, final String hash) {
+            return hash.equals("hashed:" + rawPassword);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.skateboard.podcast.standard.service.container.security;
+
+import com.skateboard.podcast.iam.service.dataaccess.crypto.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VerifiedAccessTokenCacheTest {
+
+    private final TokenService tokenService =
+            new TokenService(3600, "issuer", 900, "secretsecretsecretsecretsecret12", "pepper");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void repeatVerificationIsServedFromCache() {
+        final VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(tokenService, meterRegistry, 10);
+        final UUID userId = UUID.randomUUID();
+        final String token = tokenService.createAccessToken(userId, "USER", "user@example.com");
+
+        assertEquals(userId, cache.verify(token).orElseThrow().userId());
+        assertEquals(userId, cache.verify(token).orElseThrow().userId());
+
+        assertEquals(1.0, counter("hit"));
+        assertEquals(1.0, counter("miss"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void tamperedTokenSharingASignatureIsNotServedFromCache() {
+        final VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(tokenService, meterRegistry, 10);
+        final String token = tokenService.createAccessToken(UUID.randomUUID(), "USER", "user@example.com");
+        cache.verify(token);
+
+        assertTrue(cache.verify("x" + token).isEmpty());
+        assertEquals(0.0, counter("hit"));
+    }
+
+    @Test
+    void revokingAUserRejectsTheirEarlierTokens() {
+        final VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(tokenService, meterRegistry, 10);
+        final UUID userId = UUID.randomUUID();
+        final UUID otherUserId = UUID.randomUUID();
+        final String token = tokenService.createAccessToken(userId, "USER", "user@example.com");
+        final String otherToken = tokenService.createAccessToken(otherUserId, "USER", "other@example.com");
+        cache.verify(token);
+        cache.verify(otherToken);
+
+        cache.revokeAccessTokens(userId, Instant.now().plusSeconds(1));
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.verify(token).isEmpty());
+        assertEquals(otherUserId, cache.verify(otherToken).orElseThrow().userId());
+    }
+
+    @Test
+    void revokingAUserRejectsTokensIssuedInTheSameSecond() {
+        final VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(tokenService, meterRegistry, 10);
+        final UUID userId = UUID.randomUUID();
+        final String token = tokenService.createAccessToken(userId, "USER", "user@example.com");
+        final Instant issuedAt = cache.verify(token).orElseThrow().issuedAt();
+
+        cache.revokeAccessTokens(userId, issuedAt.plusMillis(500));
+
+        assertTrue(cache.verify(token).isEmpty());
+    }
+
+    @Test
+    void loggingInAgainInTheSecondOfARevocationIsAccepted() throws Exception {
+        final VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(tokenService, meterRegistry, 10);
+        final UUID userId = UUID.randomUUID();
+        // Leave room for the revocation and the new login to fall in the same second.
+        while (Instant.now().getNano() > 900_000_000) {
+            Thread.onSpinWait();
+        }
+        final String revokedToken = tokenService.createAccessToken(userId, "USER", "user@example.com");
+        final Instant revokedAt = Instant.now();
+        cache.revokeAccessTokens(userId, revokedAt);
+        Thread.sleep(2);
+
+        final String newToken = tokenService.createAccessToken(userId, "USER", "user@example.com");
+        final TokenService.AccessTokenClaims claims = cache.verify(newToken).orElseThrow();
+
+        assertEquals(revokedAt.getEpochSecond(), claims.issuedAt().getEpochSecond());
+        assertEquals(userId, claims.userId());
+        assertTrue(cache.verify(revokedToken).isEmpty());
+    }
+
+    @Test
+    void evictsOldestBeyondCapacity() {
+        final VerifiedAccessTokenCache cache = new VerifiedAccessTokenCache(tokenService, meterRegistry, 2);
+        for (int i = 0; i < 3; i++) {
+            cache.verify(tokenService.createAccessToken(UUID.randomUUID(), "USER", "user" + i + "@example.com"));
+        }
+
+        assertEquals(2, cache.size());
+    }
+
+    private double counter(final String result) {
+        return meterRegistry.get("auth.token.cache").tag("result", result).counter().count();
+    }
+}
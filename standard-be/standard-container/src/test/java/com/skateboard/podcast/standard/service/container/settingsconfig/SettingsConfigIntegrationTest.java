@@ -94,6 +94,28 @@ class SettingsConfigIntegrationTest {
         assertEquals("pt", after.getBody().getLanguageConfig().getDefaultLanguage().getCode());
     }
 
+    @Test
+    void publicSettingsConfig_revalidatesWithEtag() {
+        final ResponseEntity<AdminSettingsConfig> initial = restTemplate.getForEntity(
+                url("/public/settings-config"),
+                AdminSettingsConfig.class
+        );
+        final String etag = initial.getHeaders().getETag();
+        assertNotNull(etag);
+        assertNotNull(initial.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED));
+
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        final ResponseEntity<String> revalidated = restTemplate.exchange(
+                url("/public/settings-config"),
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class
+        );
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+        assertEquals(etag, revalidated.getHeaders().getETag());
+    }
+
     private AdminSettingsConfig sampleConfig() {
         final SettingsAuthMethods authMethods = new SettingsAuthMethods()
                 .google(true)
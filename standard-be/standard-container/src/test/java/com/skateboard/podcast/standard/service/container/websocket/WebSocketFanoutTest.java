@@ -0,0 +1,174 @@
+package com.skateboard.podcast.standard.service.container.websocket;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebSocketFanoutTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void encodesOnceAndDeliversToEverySession() throws Exception {
+        final WebSocketFanout fanout = new WebSocketFanout(meterRegistry, 8, WebSocketFanout.OverflowPolicy.COALESCE);
+        final WebSocketSession first = openSession("1");
+        final WebSocketSession second = openSession("2");
+        fanout.register("feed", first);
+        fanout.register("feed", second);
+
+        fanout.broadcast("feed", WebSocketFanout.aggregateKey("feed.updated"), "{\"type\":\"feed.updated\"}");
+
+        final ArgumentCaptor<WebSocketMessage<?>> toFirst = messageCaptor();
+        final ArgumentCaptor<WebSocketMessage<?>> toSecond = messageCaptor();
+        verify(first, timeout(1000)).sendMessage(toFirst.capture());
+        verify(second, timeout(1000)).sendMessage(toSecond.capture());
+        assertSame(toFirst.getValue(), toSecond.getValue());
+        assertEquals(2, fanout.sessionCount("feed"));
+    }
+
+    @Test
+    void coalescesAggregatesByTypeAndItemsOnlyPerItemWhenFull() throws Exception {
+        final WebSocketFanout fanout = new WebSocketFanout(meterRegistry, 2, WebSocketFanout.OverflowPolicy.COALESCE);
+        final WebSocketSession session = openSession("1");
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        blockFirstSend(session, sending, release);
+        fanout.register("events", session);
+
+        fanout.broadcast("events", WebSocketFanout.itemKey("event.published", "a"), "first");
+        sending.await(1, TimeUnit.SECONDS);
+        fanout.broadcast("events", WebSocketFanout.itemKey("event.published", "b"), "second");
+        fanout.broadcast("events", WebSocketFanout.aggregateKey("events.updated"), "third");
+        // Replaces "third": only the latest aggregate notice matters.
+        fanout.broadcast("events", WebSocketFanout.aggregateKey("events.updated"), "fourth");
+        // A different item never replaces "second", so the oldest is dropped instead.
+        fanout.broadcast("events", WebSocketFanout.itemKey("event.published", "c"), "fifth");
+        // Replaces "fifth", which is about the same item.
+        fanout.broadcast("events", WebSocketFanout.itemKey("event.published", "c"), "sixth");
+        release.countDown();
+
+        final ArgumentCaptor<WebSocketMessage<?>> sent = messageCaptor();
+        verify(session, timeout(1000).times(3)).sendMessage(sent.capture());
+        final List<WebSocketMessage<?>> messages = sent.getAllValues();
+        assertEquals("first", ((TextMessage) messages.get(0)).getPayload());
+        assertEquals("fourth", ((TextMessage) messages.get(1)).getPayload());
+        assertEquals("sixth", ((TextMessage) messages.get(2)).getPayload());
+        assertEquals(2.0, dropped("events", "coalesced"));
+        assertEquals(1.0, dropped("events", "drop_oldest"));
+    }
+
+    @Test
+    void disconnectsSessionThatFallsBehind() throws Exception {
+        final WebSocketFanout fanout = new WebSocketFanout(meterRegistry, 1, WebSocketFanout.OverflowPolicy.DISCONNECT);
+        final WebSocketSession session = openSession("1");
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        blockFirstSend(session, sending, release);
+        fanout.register("feed", session);
+
+        fanout.broadcast("feed", null, "first");
+        sending.await(1, TimeUnit.SECONDS);
+        fanout.broadcast("feed", null, "second");
+        fanout.broadcast("feed", null, "third");
+
+        verify(session, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        release.countDown();
+        assertEquals(0, fanout.sessionCount("feed"));
+        assertEquals(1.0, dropped("feed", "disconnected"));
+        verify(session, times(1)).sendMessage(any());
+    }
+
+    @Test
+    void reportsTheSessionStuckInAWriteAsSlowestAndCountsBytesSent() throws Exception {
+        final WebSocketFanout fanout = new WebSocketFanout(meterRegistry, 8, WebSocketFanout.OverflowPolicy.COALESCE);
+        final WebSocketSession fast = openSession("fast");
+        final WebSocketSession slow = openSession("slow");
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        blockFirstSend(slow, sending, release);
+        fanout.register("feed", fast);
+        fanout.register("feed", slow);
+
+        fanout.broadcast("feed", null, "{\"title\":\"caf\u00e9\"}");
+        sending.await(1, TimeUnit.SECONDS);
+        verify(fast, timeout(1000)).sendMessage(any());
+
+        final List<WebSocketFanout.SessionStats> slowest = fanout.slowestSessions("feed", 1);
+        assertEquals(1, slowest.size());
+        assertEquals("slow", slowest.get(0).id());
+        assertNotNull(slowest.get(0).inFlight());
+
+        release.countDown();
+        verify(slow, timeout(1000)).sendMessage(any());
+        awaitSends("feed", 2);
+        assertEquals(34.0, meterRegistry.get("websocket.outbound.bytes").tag("channel", "feed").counter().count());
+        for (final WebSocketFanout.SessionStats stats : fanout.slowestSessions(null, 10)) {
+            assertEquals(1, stats.messagesSent());
+            assertEquals(17, stats.bytesSent());
+        }
+    }
+
+    private void awaitSends(final String channel, final long expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (sendTimer(channel).count() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, sendTimer(channel).count());
+    }
+
+    private Timer sendTimer(final String channel) {
+        return meterRegistry.get("websocket.outbound.send").tag("channel", channel).timer();
+    }
+
+    private double dropped(final String channel, final String reason) {
+        return meterRegistry.get("websocket.outbound.dropped")
+                .tag("channel", channel)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    private static WebSocketSession openSession(final String id) {
+        final WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getId()).thenReturn(id);
+        return session;
+    }
+
+    private static void blockFirstSend(
+            final WebSocketSession session,
+            final CountDownLatch sending,
+            final CountDownLatch release
+    ) throws Exception {
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return null;
+        }).doAnswer(invocation -> null).when(session).sendMessage(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<WebSocketMessage<?>> messageCaptor() {
+        return ArgumentCaptor.forClass((Class<WebSocketMessage<?>>) (Class<?>) WebSocketMessage.class);
+    }
+}
@@ -3,6 +3,7 @@ package com.skateboard.podcast.standard.service.container.websocket;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skateboard.podcast.feed.service.application.dto.PostEvent;
+import com.skateboard.podcast.web.realtime.RealtimeMessageEncoder;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -14,6 +15,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -29,8 +31,8 @@ class WebSocketFeedEventPublisherTest {
     @Test
     void publishPostEvent_emitsExpectedJson() throws Exception {
         final ObjectMapper objectMapper = new ObjectMapper();
-        final WebSocketFeedEventPublisher publisher =
-                new WebSocketFeedEventPublisher(feedHandler, eventsHandler, objectMapper);
+        final WebSocketFeedEventPublisher publisher = new WebSocketFeedEventPublisher(
+                feedHandler, eventsHandler, new RealtimeMessageEncoder(objectMapper));
 
         final UUID postId = UUID.randomUUID();
         final PostEvent event = new PostEvent(
@@ -43,8 +45,8 @@ class WebSocketFeedEventPublisherTest {
         publisher.publishPostEvent(event);
 
         final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        verify(feedHandler, times(1)).broadcast(captor.capture());
-        verify(eventsHandler, times(1)).broadcast(captor.capture());
+        verify(feedHandler, times(1)).broadcast(eq("post.updated:" + postId), captor.capture());
+        verify(eventsHandler, times(1)).broadcast(eq("post.updated:" + postId), captor.capture());
 
         final JsonNode json = objectMapper.readTree(captor.getValue());
         assertEquals("post.updated", json.get("type").asText());
@@ -58,15 +60,15 @@ class WebSocketFeedEventPublisherTest {
     @Test
     void publishFeedUpdated_emitsExpectedJson() throws Exception {
         final ObjectMapper objectMapper = new ObjectMapper();
-        final WebSocketFeedEventPublisher publisher =
-                new WebSocketFeedEventPublisher(feedHandler, eventsHandler, objectMapper);
+        final WebSocketFeedEventPublisher publisher = new WebSocketFeedEventPublisher(
+                feedHandler, eventsHandler, new RealtimeMessageEncoder(objectMapper));
 
         final Instant updatedAt = Instant.parse("2024-02-01T10:00:00Z");
         publisher.publishFeedUpdated(updatedAt);
 
         final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        verify(feedHandler, times(1)).broadcast(captor.capture());
-        verify(eventsHandler, times(1)).broadcast(captor.capture());
+        verify(feedHandler, times(1)).broadcast(eq("feed.updated"), captor.capture());
+        verify(eventsHandler, times(1)).broadcast(eq("feed.updated"), captor.capture());
 
         final JsonNode json = objectMapper.readTree(captor.getValue());
         assertEquals("feed.updated", json.get("type").asText());